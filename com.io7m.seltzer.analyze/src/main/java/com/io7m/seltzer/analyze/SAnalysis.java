@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.analyze;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The result of analyzing one or more error logs.
+ *
+ * @param lines          The number of non-empty lines read
+ * @param malformedLines The number of lines that could not be parsed
+ * @param errorCodes     The number of errors per error code
+ * @param attributes     The number of errors per attribute value, per
+ *                       attribute name
+ * @param timeBuckets    The number of errors per time bucket, keyed by the
+ *                       start of each bucket
+ * @param exceptionTypes The number of errors per exception type
+ *
+ * @since 1.4.0
+ */
+
+public record SAnalysis(
+  long lines,
+  long malformedLines,
+  Map<String, Long> errorCodes,
+  Map<String, Map<String, Long>> attributes,
+  SortedMap<Instant, Long> timeBuckets,
+  Map<String, Long> exceptionTypes)
+{
+  /**
+   * The result of analyzing one or more error logs.
+   *
+   * @param lines          The number of non-empty lines read
+   * @param malformedLines The number of lines that could not be parsed
+   * @param errorCodes     The number of errors per error code
+   * @param attributes     The number of errors per attribute value, per
+   *                       attribute name
+   * @param timeBuckets    The number of errors per time bucket, keyed by the
+   *                       start of each bucket
+   * @param exceptionTypes The number of errors per exception type
+   */
+
+  public SAnalysis
+  {
+    errorCodes = Map.copyOf(errorCodes);
+    exceptionTypes = Map.copyOf(exceptionTypes);
+
+    final var attributesCopy = new LinkedHashMap<String, Map<String, Long>>();
+    for (final var entry : attributes.entrySet()) {
+      attributesCopy.put(entry.getKey(), Map.copyOf(entry.getValue()));
+    }
+    attributes = Collections.unmodifiableMap(attributesCopy);
+
+    timeBuckets = Collections.unmodifiableSortedMap(
+      new TreeMap<>(Objects.requireNonNull(timeBuckets, "timeBuckets")));
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.analyze;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The counts accumulated by a single thread. Accumulators are not
+ * thread-safe; each thread fills its own, and the accumulators are merged
+ * once all threads have finished.
+ */
+
+final class SAnalysisAccumulator
+{
+  private final SAnalyzerConfiguration configuration;
+  private final long bucketMillis;
+  private final HashMap<String, long[]> errorCodes;
+  private final HashMap<String, HashMap<String, long[]>> attributes;
+  private final HashMap<Long, long[]> timeBuckets;
+  private final HashMap<String, long[]> exceptionTypes;
+  private long lines;
+  private long malformed;
+
+  SAnalysisAccumulator(
+    final SAnalyzerConfiguration inConfiguration)
+  {
+    this.configuration = inConfiguration;
+    this.bucketMillis = inConfiguration.timeBucket().toMillis();
+    this.errorCodes = new HashMap<>();
+    this.attributes = new HashMap<>();
+    this.timeBuckets = new HashMap<>();
+    this.exceptionTypes = new HashMap<>();
+  }
+
+  private static <K> void increment(
+    final Map<K, long[]> counts,
+    final K key,
+    final long amount)
+  {
+    counts.computeIfAbsent(key, k -> new long[1])[0] += amount;
+  }
+
+  void addMalformed()
+  {
+    ++this.lines;
+    ++this.malformed;
+  }
+
+  void add(
+    final String errorCode,
+    final List<String> names,
+    final List<String> values,
+    final String exceptionType)
+  {
+    ++this.lines;
+    increment(this.errorCodes, errorCode, 1L);
+
+    final var timeAttribute = this.configuration.timeAttribute();
+    for (int index = 0; index < names.size(); ++index) {
+      final var name = names.get(index);
+      final var value = values.get(index);
+      this.addAttribute(name, value, 1L);
+
+      if (name.equals(timeAttribute)) {
+        this.addTime(value);
+      }
+    }
+
+    if (exceptionType != null) {
+      increment(this.exceptionTypes, exceptionType, 1L);
+    }
+  }
+
+  private void addAttribute(
+    final String name,
+    final String value,
+    final long amount)
+  {
+    final var values =
+      this.attributes.computeIfAbsent(name, k -> new HashMap<>());
+
+    final var existing = values.get(value);
+    if (existing != null) {
+      existing[0] += amount;
+      return;
+    }
+
+    if (values.size() < this.configuration.maximumAttributeValues()) {
+      values.put(value, new long[]{amount});
+    } else {
+      increment(values, SAnalyzerConfiguration.OTHER_VALUES, amount);
+    }
+  }
+
+  private void addTime(
+    final String value)
+  {
+    final long millis;
+    try {
+      millis = Instant.parse(value).toEpochMilli();
+    } catch (final DateTimeParseException | ArithmeticException e) {
+      return;
+    }
+
+    final var bucket =
+      Math.floorDiv(millis, this.bucketMillis) * this.bucketMillis;
+    increment(this.timeBuckets, Long.valueOf(bucket), 1L);
+  }
+
+  void merge(
+    final SAnalysisAccumulator other)
+  {
+    this.lines += other.lines;
+    this.malformed += other.malformed;
+
+    for (final var entry : other.errorCodes.entrySet()) {
+      increment(this.errorCodes, entry.getKey(), entry.getValue()[0]);
+    }
+    for (final var entry : other.exceptionTypes.entrySet()) {
+      increment(this.exceptionTypes, entry.getKey(), entry.getValue()[0]);
+    }
+    for (final var entry : other.timeBuckets.entrySet()) {
+      increment(this.timeBuckets, entry.getKey(), entry.getValue()[0]);
+    }
+    for (final var entry : other.attributes.entrySet()) {
+      for (final var value : entry.getValue().entrySet()) {
+        this.addAttribute(entry.getKey(), value.getKey(), value.getValue()[0]);
+      }
+    }
+  }
+
+  SAnalysis finish()
+  {
+    final var attributeCounts = new HashMap<String, Map<String, Long>>();
+    for (final var entry : this.attributes.entrySet()) {
+      attributeCounts.put(entry.getKey(), counts(entry.getValue()));
+    }
+
+    final var times = new TreeMap<Instant, Long>();
+    for (final var entry : this.timeBuckets.entrySet()) {
+      times.put(
+        Instant.ofEpochMilli(entry.getKey().longValue()),
+        Long.valueOf(entry.getValue()[0])
+      );
+    }
+
+    return new SAnalysis(
+      this.lines,
+      this.malformed,
+      counts(this.errorCodes),
+      attributeCounts,
+      times,
+      counts(this.exceptionTypes)
+    );
+  }
+
+  private static Map<String, Long> counts(
+    final Map<String, long[]> counts)
+  {
+    final var result = new HashMap<String, Long>(counts.size() * 2);
+    for (final var entry : counts.entrySet()) {
+      result.put(entry.getKey(), Long.valueOf(entry.getValue()[0]));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.analyze;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The command-line entry point for the log analyzer.
+ *
+ * @since 1.4.0
+ */
+
+public final class SAnalyzeMain
+{
+  private static final String USAGE = """
+    usage: seltzer-analyze [options] file ...
+
+      --threads <count>          The number of threads to use
+      --bucket <duration>        The ISO-8601 width of time buckets (PT1M)
+      --time-attribute <name>    The attribute holding error times (ErrorTime)
+      --top <count>              The number of entries to list per table (20)
+    """;
+
+  private SAnalyzeMain()
+  {
+
+  }
+
+  /**
+   * The command-line entry point.
+   *
+   * @param args The command-line arguments
+   */
+
+  public static void main(
+    final String[] args)
+  {
+    final var status = run(args, System.out, System.err);
+    if (status != 0) {
+      System.exit(status);
+    }
+  }
+
+  /**
+   * Run the analyzer.
+   *
+   * @param args The command-line arguments
+   * @param out  The stream to which the report is written
+   * @param err  The stream to which errors are written
+   *
+   * @return The exit status
+   */
+
+  public static int run(
+    final String[] args,
+    final PrintStream out,
+    final PrintStream err)
+  {
+    final var defaults = SAnalyzerConfiguration.ofDefaults();
+    var threads = defaults.threads();
+    var bucket = defaults.timeBucket();
+    var timeAttribute = defaults.timeAttribute();
+    var top = 20;
+    final var files = new ArrayList<Path>();
+
+    try {
+      final var arguments = List.of(args).iterator();
+      while (arguments.hasNext()) {
+        final var arg = arguments.next();
+        switch (arg) {
+          case "--threads" -> threads = Integer.parseInt(argument(arguments, arg));
+          case "--bucket" -> bucket = Duration.parse(argument(arguments, arg));
+          case "--time-attribute" -> timeAttribute = argument(arguments, arg);
+          case "--top" -> top = Integer.parseInt(argument(arguments, arg));
+          default -> {
+            if (arg.startsWith("--")) {
+              throw new IllegalArgumentException("Unrecognized option: " + arg);
+            }
+            files.add(Path.of(arg));
+          }
+        }
+      }
+      if (files.isEmpty()) {
+        throw new IllegalArgumentException("No files specified");
+      }
+
+      final var configuration =
+        new SAnalyzerConfiguration(
+          threads,
+          defaults.chunkSize(),
+          defaults.maximumLineLength(),
+          timeAttribute,
+          bucket,
+          defaults.maximumAttributeValues()
+        );
+
+      report(out, SAnalyzer.analyze(configuration, files), top);
+      return 0;
+    } catch (final IllegalArgumentException | DateTimeParseException e) {
+      err.println("error: " + e.getMessage());
+      err.print(USAGE);
+      return 1;
+    } catch (final IOException e) {
+      err.println("error: " + e.getMessage());
+      return 2;
+    }
+  }
+
+  private static String argument(
+    final Iterator<String> arguments,
+    final String option)
+  {
+    if (!arguments.hasNext()) {
+      throw new IllegalArgumentException(
+        "Option %s requires an argument".formatted(option));
+    }
+    return arguments.next();
+  }
+
+  private static void report(
+    final PrintStream out,
+    final SAnalysis analysis,
+    final int top)
+  {
+    out.printf("Lines: %d%n", Long.valueOf(analysis.lines()));
+    out.printf("Malformed lines: %d%n", Long.valueOf(analysis.malformedLines()));
+
+    table(out, "Error codes", analysis.errorCodes(), top);
+
+    final var attributes = new HashMap<String, Long>();
+    for (final var entry : analysis.attributes().entrySet()) {
+      for (final var value : entry.getValue().entrySet()) {
+        attributes.put(entry.getKey() + "=" + value.getKey(), value.getValue());
+      }
+    }
+    table(out, "Attributes", attributes, top);
+    table(out, "Exception types", analysis.exceptionTypes(), top);
+
+    out.println();
+    out.println("Time buckets:");
+    for (final var entry : analysis.timeBuckets().entrySet()) {
+      out.printf("  %12d  %s%n", entry.getValue(), entry.getKey());
+    }
+  }
+
+  private static void table(
+    final PrintStream out,
+    final String title,
+    final Map<String, Long> counts,
+    final int top)
+  {
+    out.println();
+    out.println(title + ":");
+
+    final List<Map.Entry<String, Long>> entries =
+      new ArrayList<>(counts.entrySet());
+    entries.sort(
+      Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+        .thenComparing(Map.Entry.comparingByKey())
+    );
+
+    for (final var entry : entries.subList(0, Math.min(top, entries.size()))) {
+      out.printf("  %12d  %s%n", entry.getValue(), entry.getKey());
+    }
+  }
+}
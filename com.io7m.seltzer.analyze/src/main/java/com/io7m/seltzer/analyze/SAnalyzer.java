@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.analyze;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * <p>An analyzer of JSON-lines error logs.</p>
+ *
+ * <p>Log files are memory-mapped and split into chunks on line boundaries.
+ * A fixed number of threads take chunks from a shared queue and accumulate
+ * counts into their own private maps, which are merged once every chunk has
+ * been processed.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SAnalyzer
+{
+  private SAnalyzer()
+  {
+
+  }
+
+  private record Chunk(
+    FileChannel channel,
+    long start,
+    long end)
+  {
+
+  }
+
+  /**
+   * Analyze the given log files.
+   *
+   * @param configuration The configuration
+   * @param files         The log files
+   *
+   * @return The analysis
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static SAnalysis analyze(
+    final SAnalyzerConfiguration configuration,
+    final List<Path> files)
+    throws IOException
+  {
+    Objects.requireNonNull(configuration, "configuration");
+    Objects.requireNonNull(files, "files");
+
+    final var channels = new LinkedHashMap<Path, FileChannel>();
+    try {
+      final var chunks = new ConcurrentLinkedQueue<Chunk>();
+      for (final var file : files) {
+        final var channel = FileChannel.open(file, READ);
+        channels.put(file, channel);
+        split(configuration, channel, chunks);
+      }
+      return analyzeChunks(configuration, chunks);
+    } finally {
+      IOException failure = null;
+      for (final var channel : channels.values()) {
+        try {
+          channel.close();
+        } catch (final IOException e) {
+          if (failure == null) {
+            failure = e;
+          } else {
+            failure.addSuppressed(e);
+          }
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    }
+  }
+
+  private static void split(
+    final SAnalyzerConfiguration configuration,
+    final FileChannel channel,
+    final ConcurrentLinkedQueue<Chunk> chunks)
+    throws IOException
+  {
+    final var size = channel.size();
+    final var chunkSize = configuration.chunkSize();
+    for (long start = 0L; start < size; start += chunkSize) {
+      chunks.add(new Chunk(channel, start, Math.min(size, start + chunkSize)));
+    }
+  }
+
+  private static SAnalysis analyzeChunks(
+    final SAnalyzerConfiguration configuration,
+    final ConcurrentLinkedQueue<Chunk> chunks)
+    throws IOException
+  {
+    final var threads =
+      Math.max(1, Math.min(configuration.threads(), chunks.size()));
+    final var executor =
+      Executors.newFixedThreadPool(threads);
+
+    try {
+      final var futures = new ArrayList<Future<SAnalysisAccumulator>>(threads);
+      for (int index = 0; index < threads; ++index) {
+        futures.add(executor.submit(() -> {
+          final var accumulator = new SAnalysisAccumulator(configuration);
+          final var parser = new SJSONLineParser();
+          while (true) {
+            final var chunk = chunks.poll();
+            if (chunk == null) {
+              return accumulator;
+            }
+            processChunk(configuration, chunk, parser, accumulator);
+          }
+        }));
+      }
+
+      final var result = new SAnalysisAccumulator(configuration);
+      for (final var future : futures) {
+        result.merge(future.get());
+      }
+      return result.finish();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException io) {
+        throw io;
+      }
+      throw new IOException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /*
+   * A chunk owns every line that starts within [start, end). The mapping
+   * begins one byte before the chunk so that a line starting exactly at the
+   * chunk boundary can be recognized, and extends past the end by the
+   * maximum line length (plus the newline) so that the final line can be
+   * read in full. Any line that does not fit is too long.
+   */
+
+  private static void processChunk(
+    final SAnalyzerConfiguration configuration,
+    final Chunk chunk,
+    final SJSONLineParser parser,
+    final SAnalysisAccumulator accumulator)
+    throws IOException
+  {
+    final var channel = chunk.channel();
+    final var size = channel.size();
+    final var maximumLine = configuration.maximumLineLength();
+    final var base = Math.max(0L, chunk.start() - 1L);
+    final var length =
+      Math.min(size - base, chunk.end() - base + maximumLine + 1L);
+    final MappedByteBuffer buffer =
+      channel.map(FileChannel.MapMode.READ_ONLY, base, length);
+
+    final int limit = buffer.limit();
+    final int end = (int) (chunk.end() - base);
+
+    int position = 0;
+    if (chunk.start() > 0L) {
+      position = lineEnd(buffer, 0, limit) + 1;
+    }
+
+    while (position < end && position < limit) {
+      final int lineEnd = lineEnd(buffer, position, limit);
+      if (lineEnd - position > maximumLine
+          || lineEnd == limit && base + limit < size) {
+        throw new IOException(
+          "Line at offset %d is too long".formatted(base + position));
+      }
+
+      int contentEnd = lineEnd;
+      if (contentEnd > position && buffer.get(contentEnd - 1) == '\r') {
+        --contentEnd;
+      }
+      if (contentEnd > position) {
+        parser.parse(buffer, position, contentEnd, accumulator);
+      }
+      position = lineEnd + 1;
+    }
+  }
+
+  private static int lineEnd(
+    final MappedByteBuffer buffer,
+    final int start,
+    final int limit)
+  {
+    int position = start;
+    while (position < limit && buffer.get(position) != '\n') {
+      ++position;
+    }
+    return position;
+  }
+}
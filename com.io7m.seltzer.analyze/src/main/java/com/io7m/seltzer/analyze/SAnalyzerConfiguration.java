@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.analyze;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration for an analysis.
+ *
+ * @param threads                The number of threads used to analyze logs
+ * @param chunkSize              The nominal size in bytes of the chunks into
+ *                               which log files are split
+ * @param maximumLineLength      The maximum length in bytes of a line;
+ *                               longer lines cause the analysis to fail
+ * @param timeAttribute          The attribute holding the ISO-8601 time of
+ *                               each error
+ * @param timeBucket             The width of each time bucket
+ * @param maximumAttributeValues The maximum number of distinct values
+ *                               counted per attribute; further values are
+ *                               counted as {@link #OTHER_VALUES}. The
+ *                               values retained are those seen first by
+ *                               each thread, and so may vary between runs
+ *                               when more than one thread is used
+ *
+ * @since 1.4.0
+ */
+
+public record SAnalyzerConfiguration(
+  int threads,
+  long chunkSize,
+  int maximumLineLength,
+  String timeAttribute,
+  Duration timeBucket,
+  int maximumAttributeValues)
+{
+  /**
+   * The name under which attribute values beyond the maximum number of
+   * distinct values are counted.
+   */
+
+  public static final String OTHER_VALUES = "(other)";
+
+  /**
+   * The configuration for an analysis.
+   *
+   * @param threads                The number of threads used to analyze logs
+   * @param chunkSize              The nominal size in bytes of the chunks into
+   *                               which log files are split
+   * @param maximumLineLength      The maximum length in bytes of a line;
+   *                               longer lines cause the analysis to fail
+   * @param timeAttribute          The attribute holding the ISO-8601 time of
+   *                               each error
+   * @param timeBucket             The width of each time bucket
+   * @param maximumAttributeValues The maximum number of distinct values
+   *                               counted per attribute
+   */
+
+  public SAnalyzerConfiguration
+  {
+    Objects.requireNonNull(timeAttribute, "timeAttribute");
+    Objects.requireNonNull(timeBucket, "timeBucket");
+
+    if (threads <= 0) {
+      throw new IllegalArgumentException(
+        "Thread count %d must be positive".formatted(threads)
+      );
+    }
+    if (chunkSize <= 0L || chunkSize > Integer.MAX_VALUE / 2) {
+      throw new IllegalArgumentException(
+        "Chunk size %d must be in the range [1, %d]"
+          .formatted(chunkSize, Integer.MAX_VALUE / 2)
+      );
+    }
+    if (maximumLineLength <= 0 || maximumLineLength > Integer.MAX_VALUE / 2 - 1) {
+      throw new IllegalArgumentException(
+        "Maximum line length %d must be in the range [1, %d]"
+          .formatted(maximumLineLength, Integer.MAX_VALUE / 2 - 1)
+      );
+    }
+    if (timeBucket.toMillis() <= 0L) {
+      throw new IllegalArgumentException(
+        "Time bucket %s must be at least one millisecond".formatted(timeBucket)
+      );
+    }
+    if (maximumAttributeValues <= 0) {
+      throw new IllegalArgumentException(
+        "Maximum attribute values %d must be positive"
+          .formatted(maximumAttributeValues)
+      );
+    }
+  }
+
+  /**
+   * A configuration using one thread per available processor, 64MiB chunks,
+   * a 1MiB maximum line length, one-minute time buckets read from the
+   * {@code ErrorTime} attribute, and at most 10000 distinct values per
+   * attribute.
+   *
+   * @return A configuration
+   */
+
+  public static SAnalyzerConfiguration ofDefaults()
+  {
+    return new SAnalyzerConfiguration(
+      Runtime.getRuntime().availableProcessors(),
+      64L * 1024L * 1024L,
+      1024 * 1024,
+      "ErrorTime",
+      Duration.ofMinutes(1L),
+      10_000
+    );
+  }
+}
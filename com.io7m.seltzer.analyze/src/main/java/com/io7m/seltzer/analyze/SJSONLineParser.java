@@ -0,0 +1,322 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.analyze;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+/**
+ * <p>A minimal parser for JSON-lines error records, operating directly on
+ * the bytes of a (typically memory-mapped) buffer. Only the members needed
+ * for analysis are decoded; all other members are skipped.</p>
+ *
+ * <p>Parsers are not thread-safe, and reuse their internal storage between
+ * lines.</p>
+ */
+
+final class SJSONLineParser
+{
+  private final StringBuilder text;
+  private final ArrayList<String> attributeNames;
+  private final ArrayList<String> attributeValues;
+  private ByteBuffer buffer;
+  private int position;
+  private int end;
+  private String errorCode;
+  private String exceptionType;
+
+  SJSONLineParser()
+  {
+    this.text = new StringBuilder(128);
+    this.attributeNames = new ArrayList<>();
+    this.attributeValues = new ArrayList<>();
+  }
+
+  void parse(
+    final ByteBuffer inBuffer,
+    final int start,
+    final int inEnd,
+    final SAnalysisAccumulator accumulator)
+  {
+    this.buffer = inBuffer;
+    this.position = start;
+    this.end = inEnd;
+    this.errorCode = null;
+    this.exceptionType = null;
+    this.attributeNames.clear();
+    this.attributeValues.clear();
+
+    try {
+      this.parseRecord();
+      if (this.errorCode == null) {
+        throw new IllegalArgumentException("Missing error code");
+      }
+    } catch (final IllegalArgumentException e) {
+      accumulator.addMalformed();
+      return;
+    }
+
+    accumulator.add(
+      this.errorCode,
+      this.attributeNames,
+      this.attributeValues,
+      this.exceptionType
+    );
+  }
+
+  private void parseRecord()
+  {
+    this.skipWhitespace();
+    this.expect('{');
+    this.skipWhitespace();
+    if (this.peek() == '}') {
+      ++this.position;
+      return;
+    }
+
+    while (true) {
+      final var key = this.parseString();
+      this.skipWhitespace();
+      this.expect(':');
+      this.skipWhitespace();
+
+      switch (key) {
+        case "errorCode" -> this.errorCode = this.parseString();
+        case "attributes" -> this.parseAttributes();
+        case "exception" -> this.parseException();
+        default -> this.skipValue();
+      }
+
+      if (!this.nextMember()) {
+        return;
+      }
+    }
+  }
+
+  private boolean nextMember()
+  {
+    this.skipWhitespace();
+    final var c = this.next();
+    if (c == ',') {
+      this.skipWhitespace();
+      return true;
+    }
+    if (c == '}') {
+      return false;
+    }
+    throw new IllegalArgumentException("Expected ',' or '}'");
+  }
+
+  private void parseAttributes()
+  {
+    this.expect('{');
+    this.skipWhitespace();
+    if (this.peek() == '}') {
+      ++this.position;
+      return;
+    }
+
+    while (true) {
+      final var key = this.parseString();
+      this.skipWhitespace();
+      this.expect(':');
+      this.skipWhitespace();
+
+      if (this.peek() == '"') {
+        this.attributeNames.add(key);
+        this.attributeValues.add(this.parseString());
+      } else {
+        this.skipValue();
+      }
+
+      if (!this.nextMember()) {
+        return;
+      }
+    }
+  }
+
+  private void parseException()
+  {
+    this.expect('{');
+    this.skipWhitespace();
+    if (this.peek() == '}') {
+      ++this.position;
+      return;
+    }
+
+    while (true) {
+      final var key = this.parseString();
+      this.skipWhitespace();
+      this.expect(':');
+      this.skipWhitespace();
+
+      if ("type".equals(key)) {
+        this.exceptionType = this.parseString();
+      } else {
+        this.skipValue();
+      }
+
+      if (!this.nextMember()) {
+        return;
+      }
+    }
+  }
+
+  private void skipValue()
+  {
+    final var c = this.peek();
+    switch (c) {
+      case '"' -> this.parseString();
+      case '{', '[' -> this.skipNested();
+      default -> {
+        while (this.position < this.end) {
+          final var d = this.peek();
+          if (d == ',' || d == '}' || d == ']' || isWhitespace(d)) {
+            return;
+          }
+          ++this.position;
+        }
+      }
+    }
+  }
+
+  private void skipNested()
+  {
+    int depth = 0;
+    while (this.position < this.end) {
+      final var c = this.peek();
+      if (c == '"') {
+        this.parseString();
+        continue;
+      }
+      ++this.position;
+      if (c == '{' || c == '[') {
+        ++depth;
+      } else if (c == '}' || c == ']') {
+        --depth;
+        if (depth == 0) {
+          return;
+        }
+      }
+    }
+    throw new IllegalArgumentException("Unterminated value");
+  }
+
+  private String parseString()
+  {
+    this.expect('"');
+    this.text.setLength(0);
+
+    while (true) {
+      final int b = this.next() & 0xff;
+      if (b == '"') {
+        return this.text.toString();
+      }
+      if (b == '\\') {
+        this.parseEscape();
+      } else if (b < 0x80) {
+        this.text.append((char) b);
+      } else if ((b & 0xe0) == 0xc0) {
+        this.text.append((char) (((b & 0x1f) << 6) | this.continuation()));
+      } else if ((b & 0xf0) == 0xe0) {
+        final int high = (b & 0x0f) << 12;
+        final int middle = this.continuation() << 6;
+        this.text.append((char) (high | middle | this.continuation()));
+      } else if ((b & 0xf8) == 0xf0) {
+        final int high = (b & 0x07) << 18;
+        final int upper = this.continuation() << 12;
+        final int middle = this.continuation() << 6;
+        this.text.appendCodePoint(high | upper | middle | this.continuation());
+      } else {
+        throw new IllegalArgumentException("Malformed UTF-8");
+      }
+    }
+  }
+
+  private void parseEscape()
+  {
+    final var c = this.next();
+    switch (c) {
+      case '"' -> this.text.append('"');
+      case '\\' -> this.text.append('\\');
+      case '/' -> this.text.append('/');
+      case 'b' -> this.text.append('\b');
+      case 'f' -> this.text.append('\f');
+      case 'n' -> this.text.append('\n');
+      case 'r' -> this.text.append('\r');
+      case 't' -> this.text.append('\t');
+      case 'u' -> {
+        int value = 0;
+        for (int index = 0; index < 4; ++index) {
+          final var digit = Character.digit(this.next(), 16);
+          if (digit < 0) {
+            throw new IllegalArgumentException("Malformed escape");
+          }
+          value = (value << 4) | digit;
+        }
+        this.text.append((char) value);
+      }
+      default -> throw new IllegalArgumentException("Malformed escape");
+    }
+  }
+
+  private int continuation()
+  {
+    final int b = this.next() & 0xff;
+    if ((b & 0xc0) != 0x80) {
+      throw new IllegalArgumentException("Malformed UTF-8");
+    }
+    return b & 0x3f;
+  }
+
+  private static boolean isWhitespace(
+    final char c)
+  {
+    return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+  }
+
+  private void skipWhitespace()
+  {
+    while (this.position < this.end && isWhitespace(this.peek())) {
+      ++this.position;
+    }
+  }
+
+  private void expect(
+    final char c)
+  {
+    if (this.next() != c) {
+      throw new IllegalArgumentException("Expected '%c'".formatted(c));
+    }
+  }
+
+  private char peek()
+  {
+    if (this.position >= this.end) {
+      throw new IllegalArgumentException("Unexpected end of line");
+    }
+    return (char) (this.buffer.get(this.position) & 0xff);
+  }
+
+  private char next()
+  {
+    final var c = this.peek();
+    ++this.position;
+    return c;
+  }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>A function that flattens records and JavaBeans into attributes.</p>
+ *
+ * <p>The components of a record (or the getters of a bean) become
+ * attributes whose names are the capitalized component names, prepended
+ * with the configured prefix. Components that are themselves records or
+ * beans are flattened recursively up to the configured maximum depth, with
+ * nested names separated by {@code .}; beyond that depth, and for any
+ * other types, the value's {@code toString()} is used. Numeric, boolean,
+ * {@link Instant}, and {@link Path} values are stored as typed attributes.
+ * Null and empty {@link Optional} values are omitted.</p>
+ *
+ * <p>Accessors are discovered once per class and cached as method
+ * handles.</p>
+ *
+ * @see SAttributes
+ * @since 1.4.0
+ */
+
+public final class SAttributeFlattener
+{
+  private static final SAttributeFlattener STANDARD =
+    builder().build();
+
+  private final MethodHandles.Lookup lookup;
+  private final String prefix;
+  private final int maximumDepth;
+  private final ClassValue<Shape> shapes;
+
+  private SAttributeFlattener(
+    final MethodHandles.Lookup inLookup,
+    final String inPrefix,
+    final int inMaximumDepth)
+  {
+    this.lookup =
+      inLookup;
+    this.prefix =
+      inPrefix;
+    this.maximumDepth =
+      inMaximumDepth;
+    this.shapes =
+      new ClassValue<>()
+      {
+        @Override
+        protected Shape computeValue(
+          final Class<?> type)
+        {
+          return SAttributeFlattener.this.shapeOf(type);
+        }
+      };
+  }
+
+  /**
+   * The standard flattener uses {@link MethodHandles#publicLookup()}, so it
+   * can flatten only public types in exported packages. It uses no prefix
+   * and a maximum depth of 3.
+   *
+   * @return The standard flattener
+   */
+
+  public static SAttributeFlattener standard()
+  {
+    return STANDARD;
+  }
+
+  /**
+   * @return A new flattener builder
+   */
+
+  public static Builder builder()
+  {
+    return new Builder();
+  }
+
+  /**
+   * Flatten the given value into attributes.
+   *
+   * @param value The value
+   *
+   * @return The attributes
+   */
+
+  public SAttributes flatten(
+    final Object value)
+  {
+    final var target = SAttributes.builder();
+    this.flattenInto(value, target);
+    return target.build();
+  }
+
+  /**
+   * Flatten the given value into the given attribute builder.
+   *
+   * @param value  The value
+   * @param target The attribute builder
+   */
+
+  public void flattenInto(
+    final Object value,
+    final SAttributes.Builder target)
+  {
+    Objects.requireNonNull(value, "value");
+    Objects.requireNonNull(target, "target");
+
+    final var shape = this.shapes.get(value.getClass());
+    if (shape.accessors.isEmpty()) {
+      final var name = this.prefix.isEmpty() ? "Value" : this.prefix;
+      this.putValue(target, name, value, this.maximumDepth);
+      return;
+    }
+    this.putComponents(target, this.prefix, value, shape, 1);
+  }
+
+  private void putComponents(
+    final SAttributes.Builder target,
+    final String keyPrefix,
+    final Object value,
+    final Shape shape,
+    final int depth)
+  {
+    for (final var accessor : shape.accessors) {
+      final var key = keyPrefix + accessor.name;
+      try {
+        switch (accessor.kind) {
+          case LONG -> {
+            target.withAttribute(key, (long) accessor.handle.invokeExact(value));
+          }
+          case INT -> {
+            target.withAttribute(key, (int) accessor.handle.invokeExact(value));
+          }
+          case DOUBLE -> {
+            target.withAttribute(key, (double) accessor.handle.invokeExact(value));
+          }
+          case BOOLEAN -> {
+            target.withAttribute(key, (boolean) accessor.handle.invokeExact(value));
+          }
+          case OBJECT -> {
+            this.putValue(
+              target,
+              key,
+              (Object) accessor.handle.invokeExact(value),
+              depth);
+          }
+        }
+      } catch (final RuntimeException | Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  private void putValue(
+    final SAttributes.Builder target,
+    final String key,
+    final Object value,
+    final int depth)
+  {
+    if (value == null) {
+      return;
+    }
+    if (value instanceof Optional) {
+      ((Optional<?>) value).ifPresent(x -> {
+        this.putValue(target, key, x, depth);
+      });
+      return;
+    }
+    if (putLeaf(target, key, value)) {
+      return;
+    }
+
+    final var shape = this.shapes.get(value.getClass());
+    if (depth < this.maximumDepth && !shape.accessors.isEmpty()) {
+      this.putComponents(target, key + ".", value, shape, depth + 1);
+      return;
+    }
+    target.withAttribute(key, value.toString());
+  }
+
+  private static boolean putLeaf(
+    final SAttributes.Builder target,
+    final String key,
+    final Object value)
+  {
+    if (value instanceof CharSequence) {
+      target.withAttribute(key, value.toString());
+    } else if (value instanceof Long || value instanceof Short || value instanceof Byte) {
+      target.withAttribute(key, ((Number) value).longValue());
+    } else if (value instanceof Integer) {
+      target.withAttribute(key, ((Integer) value).intValue());
+    } else if (value instanceof Double || value instanceof Float) {
+      target.withAttribute(key, ((Number) value).doubleValue());
+    } else if (value instanceof Boolean) {
+      target.withAttribute(key, ((Boolean) value).booleanValue());
+    } else if (value instanceof Instant) {
+      target.withAttribute(key, (Instant) value);
+    } else if (value instanceof Path) {
+      target.withAttribute(key, (Path) value);
+    } else if (value instanceof Enum) {
+      target.withAttribute(key, ((Enum<?>) value).name());
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private Shape shapeOf(
+    final Class<?> type)
+  {
+    if (type.isArray() || type.isPrimitive() || isPlatformType(type)) {
+      return Shape.OPAQUE;
+    }
+
+    try {
+      final List<Method> methods;
+      if (type.isRecord()) {
+        methods = new ArrayList<>();
+        for (final var component : type.getRecordComponents()) {
+          methods.add(component.getAccessor());
+        }
+      } else {
+        methods = getters(type);
+      }
+
+      final var accessors = new ArrayList<Accessor>(methods.size());
+      for (final var method : methods) {
+        accessors.add(this.accessorOf(type, method));
+      }
+      return new Shape(List.copyOf(accessors));
+    } catch (final IllegalAccessException | SecurityException e) {
+      return Shape.OPAQUE;
+    }
+  }
+
+  private static boolean isPlatformType(
+    final Class<?> type)
+  {
+    final var name = type.getName();
+    return name.startsWith("java.") || name.startsWith("javax.");
+  }
+
+  private static List<Method> getters(
+    final Class<?> type)
+  {
+    final var results = new ArrayList<Method>();
+    for (final var method : type.getMethods()) {
+      if (propertyName(method) != null) {
+        results.add(method);
+      }
+    }
+    results.sort(Comparator.comparing(SAttributeFlattener::propertyName));
+    return results;
+  }
+
+  private static String propertyName(
+    final Method method)
+  {
+    if (Modifier.isStatic(method.getModifiers())
+      || method.getParameterCount() != 0
+      || method.getDeclaringClass() == Object.class) {
+      return null;
+    }
+
+    final var name = method.getName();
+    final var returnType = method.getReturnType();
+    if (name.startsWith("get") && name.length() > 3 && returnType != void.class) {
+      return name.substring(3);
+    }
+    if (name.startsWith("is") && name.length() > 2 && returnType == boolean.class) {
+      return name.substring(2);
+    }
+    return null;
+  }
+
+  private Accessor accessorOf(
+    final Class<?> type,
+    final Method method)
+    throws IllegalAccessException
+  {
+    final var name =
+      type.isRecord() ? capitalize(method.getName()) : propertyName(method);
+    final var returnType =
+      method.getReturnType();
+    final var handle =
+      this.lookup.unreflect(method);
+
+    final AccessorKind kind;
+    final Class<?> adapted;
+    if (returnType == long.class || returnType == short.class || returnType == byte.class) {
+      kind = AccessorKind.LONG;
+      adapted = long.class;
+    } else if (returnType == int.class) {
+      kind = AccessorKind.INT;
+      adapted = int.class;
+    } else if (returnType == double.class || returnType == float.class) {
+      kind = AccessorKind.DOUBLE;
+      adapted = double.class;
+    } else if (returnType == boolean.class) {
+      kind = AccessorKind.BOOLEAN;
+      adapted = boolean.class;
+    } else {
+      kind = AccessorKind.OBJECT;
+      adapted = Object.class;
+    }
+
+    return new Accessor(
+      name,
+      kind,
+      handle.asType(MethodType.methodType(adapted, Object.class))
+    );
+  }
+
+  private static String capitalize(
+    final String name)
+  {
+    return name.substring(0, 1).toUpperCase(Locale.ROOT) + name.substring(1);
+  }
+
+  private enum AccessorKind
+  {
+    LONG,
+    INT,
+    DOUBLE,
+    BOOLEAN,
+    OBJECT
+  }
+
+  private record Accessor(
+    String name,
+    AccessorKind kind,
+    MethodHandle handle)
+  {
+
+  }
+
+  private record Shape(
+    List<Accessor> accessors)
+  {
+    private static final Shape OPAQUE = new Shape(List.of());
+  }
+
+  /**
+   * A mutable flattener builder.
+   */
+
+  public static final class Builder
+  {
+    private MethodHandles.Lookup lookup;
+    private String prefix;
+    private int maximumDepth;
+
+    private Builder()
+    {
+      this.lookup = MethodHandles.publicLookup();
+      this.prefix = "";
+      this.maximumDepth = 3;
+    }
+
+    /**
+     * Set the lookup used to access record components and getters. Pass
+     * {@code MethodHandles.lookup()} from a module to allow flattening the
+     * types that the module can access.
+     *
+     * @param newLookup The lookup
+     *
+     * @return this
+     */
+
+    public Builder withLookup(
+      final MethodHandles.Lookup newLookup)
+    {
+      this.lookup = Objects.requireNonNull(newLookup, "lookup");
+      return this;
+    }
+
+    /**
+     * Set the prefix prepended to all attribute names.
+     *
+     * @param newPrefix The prefix
+     *
+     * @return this
+     */
+
+    public Builder withPrefix(
+      final String newPrefix)
+    {
+      this.prefix = Objects.requireNonNull(newPrefix, "prefix");
+      return this;
+    }
+
+    /**
+     * Set the maximum depth of nested values that will be flattened. A
+     * depth of 1 flattens only the components of the outermost value.
+     *
+     * @param depth The depth
+     *
+     * @return this
+     */
+
+    public Builder withMaximumDepth(
+      final int depth)
+    {
+      if (depth < 1) {
+        throw new IllegalArgumentException(
+          "Maximum depth %d must be at least 1".formatted(depth)
+        );
+      }
+      this.maximumDepth = depth;
+      return this;
+    }
+
+    /**
+     * @return A flattener based on all the given values
+     */
+
+    public SAttributeFlattener build()
+    {
+      return new SAttributeFlattener(
+        this.lookup,
+        this.prefix,
+        this.maximumDepth
+      );
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+/**
+ * The kinds of values stored in typed attributes.
+ *
+ * @see SAttributes
+ * @since 1.4.0
+ */
+
+public enum SAttributeKind
+{
+  /**
+   * A string value.
+   */
+
+  STRING,
+
+  /**
+   * A {@code long} value.
+   */
+
+  LONG,
+
+  /**
+   * An {@code int} value.
+   */
+
+  INT,
+
+  /**
+   * A {@code double} value.
+   */
+
+  DOUBLE,
+
+  /**
+   * A {@code boolean} value.
+   */
+
+  BOOLEAN,
+
+  /**
+   * An {@link java.time.Instant} value.
+   */
+
+  INSTANT,
+
+  /**
+   * A {@link java.nio.file.Path} value.
+   */
+
+  PATH,
+
+  /**
+   * An {@link SErrorId} value.
+   */
+
+  ERROR_ID;
+
+  private static final SAttributeKind[] VALUES = values();
+
+  static SAttributeKind ofOrdinal(
+    final int ordinal)
+  {
+    return VALUES[ordinal];
+  }
+}
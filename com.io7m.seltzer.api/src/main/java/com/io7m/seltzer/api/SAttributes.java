@@ -0,0 +1,699 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * <p>An immutable map of attributes whose values retain their original
+ * types.</p>
+ *
+ * <p>Primitive values are stored unboxed and unformatted, and are converted
+ * to strings only when they are first read through the {@link Map}
+ * interface. Typed accessors such as {@link #longValue(String)} return the
+ * original values without parsing. The map is ordered by attribute name.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SAttributes extends AbstractMap<String, String>
+{
+  private static final SAttributes EMPTY =
+    new SAttributes(new String[0], new byte[0], new long[0], new Object[0]);
+
+  private final String[] names;
+  private final byte[] kinds;
+  private final long[] primitives;
+  private final Object[] references;
+  private String[] rendered;
+  private Set<Map.Entry<String, String>> entries;
+
+  private SAttributes(
+    final String[] inNames,
+    final byte[] inKinds,
+    final long[] inPrimitives,
+    final Object[] inReferences)
+  {
+    this.names = inNames;
+    this.kinds = inKinds;
+    this.primitives = inPrimitives;
+    this.references = inReferences;
+  }
+
+  /**
+   * @return The empty attribute map
+   */
+
+  public static SAttributes empty()
+  {
+    return EMPTY;
+  }
+
+  /**
+   * @return A new mutable attribute builder
+   */
+
+  public static Builder builder()
+  {
+    return new Builder();
+  }
+
+  /**
+   * Create a builder with space for the given number of attributes. If
+   * exactly {@code capacity} attributes are added, the builder never grows
+   * its storage, and the built map shares that storage.
+   *
+   * @param capacity The expected number of attributes
+   *
+   * @return A new mutable attribute builder
+   */
+
+  public static Builder builder(
+    final int capacity)
+  {
+    if (capacity < 0) {
+      throw new IllegalArgumentException(
+        "Capacity %d must be non-negative".formatted(capacity)
+      );
+    }
+    if (capacity == 0) {
+      return new Builder();
+    }
+    return new Builder(capacity);
+  }
+
+  /**
+   * Copy the given attributes. If {@code attributes} is already an instance
+   * of {@link SAttributes}, it is returned as-is.
+   *
+   * @param attributes The attributes
+   *
+   * @return An immutable attribute map
+   */
+
+  public static SAttributes copyOf(
+    final Map<String, String> attributes)
+  {
+    if (attributes instanceof SAttributes) {
+      return (SAttributes) attributes;
+    }
+    return builder().withAttributes(attributes).build();
+  }
+
+  private int indexOf(
+    final Object name)
+  {
+    if (!(name instanceof String)) {
+      return -1;
+    }
+    return Math.max(-1, Arrays.binarySearch(this.names, name));
+  }
+
+  private String render(
+    final int index)
+  {
+    if (this.kinds[index] == SAttributeKind.STRING.ordinal()) {
+      return (String) this.references[index];
+    }
+
+    var cache = this.rendered;
+    if (cache == null) {
+      cache = new String[this.names.length];
+      this.rendered = cache;
+    }
+
+    final var existing = cache[index];
+    if (existing != null) {
+      return existing;
+    }
+
+    final var value = this.primitives[index];
+    final var text = switch (SAttributeKind.ofOrdinal(this.kinds[index])) {
+      case LONG, INT -> Long.toString(value);
+      case DOUBLE -> Double.toString(Double.longBitsToDouble(value));
+      case BOOLEAN -> Boolean.toString(value != 0L);
+      case STRING, INSTANT, PATH, ERROR_ID ->
+        this.references[index].toString();
+    };
+
+    /*
+     * Rendering is idempotent, so racing threads may at worst render the
+     * same value twice.
+     */
+
+    cache[index] = text;
+    return text;
+  }
+
+  private boolean isKind(
+    final int index,
+    final SAttributeKind kind)
+  {
+    return index >= 0 && this.kinds[index] == kind.ordinal();
+  }
+
+  @Override
+  public int size()
+  {
+    return this.names.length;
+  }
+
+  @Override
+  public boolean containsKey(
+    final Object name)
+  {
+    return this.indexOf(name) >= 0;
+  }
+
+  @Override
+  public String get(
+    final Object name)
+  {
+    final var index = this.indexOf(name);
+    return index >= 0 ? this.render(index) : null;
+  }
+
+  @Override
+  public Set<Map.Entry<String, String>> entrySet()
+  {
+    if (this.entries == null) {
+      this.entries = new EntrySet();
+    }
+    return this.entries;
+  }
+
+  /**
+   * @param name The attribute name
+   *
+   * @return The kind of the attribute value, if the attribute exists
+   */
+
+  public Optional<SAttributeKind> kind(
+    final String name)
+  {
+    final var index = this.indexOf(name);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(SAttributeKind.ofOrdinal(this.kinds[index]));
+  }
+
+  /**
+   * @param name The attribute name
+   *
+   * @return The value of the attribute, if it exists and is a {@code long}
+   * or {@code int}
+   */
+
+  public OptionalLong longValue(
+    final String name)
+  {
+    final var index = this.indexOf(name);
+    if (this.isKind(index, SAttributeKind.LONG)
+      || this.isKind(index, SAttributeKind.INT)) {
+      return OptionalLong.of(this.primitives[index]);
+    }
+    return OptionalLong.empty();
+  }
+
+  /**
+   * @param name The attribute name
+   *
+   * @return The value of the attribute, if it exists and is an {@code int}
+   */
+
+  public OptionalInt intValue(
+    final String name)
+  {
+    final var index = this.indexOf(name);
+    if (this.isKind(index, SAttributeKind.INT)) {
+      return OptionalInt.of((int) this.primitives[index]);
+    }
+    return OptionalInt.empty();
+  }
+
+  /**
+   * @param name The attribute name
+   *
+   * @return The value of the attribute, if it exists and is a
+   * {@code double}
+   */
+
+  public OptionalDouble doubleValue(
+    final String name)
+  {
+    final var index = this.indexOf(name);
+    if (this.isKind(index, SAttributeKind.DOUBLE)) {
+      return OptionalDouble.of(Double.longBitsToDouble(this.primitives[index]));
+    }
+    return OptionalDouble.empty();
+  }
+
+  /**
+   * @param name The attribute name
+   *
+   * @return The value of the attribute, if it exists and is a
+   * {@code boolean}
+   */
+
+  public Optional<Boolean> booleanValue(
+    final String name)
+  {
+    final var index = this.indexOf(name);
+    if (this.isKind(index, SAttributeKind.BOOLEAN)) {
+      return Optional.of(Boolean.valueOf(this.primitives[index] != 0L));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @param name The attribute name
+   *
+   * @return The value of the attribute, if it exists and is an
+   * {@link Instant}
+   */
+
+  public Optional<Instant> instantValue(
+    final String name)
+  {
+    final var index = this.indexOf(name);
+    if (this.isKind(index, SAttributeKind.INSTANT)) {
+      return Optional.of((Instant) this.references[index]);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @param name The attribute name
+   *
+   * @return The value of the attribute, if it exists and is a {@link Path}
+   */
+
+  public Optional<Path> pathValue(
+    final String name)
+  {
+    final var index = this.indexOf(name);
+    if (this.isKind(index, SAttributeKind.PATH)) {
+      return Optional.of((Path) this.references[index]);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @param name The attribute name
+   *
+   * @return The value of the attribute, if it exists and is an
+   * {@link SErrorId}
+   */
+
+  public Optional<SErrorId> errorIdValue(
+    final String name)
+  {
+    final var index = this.indexOf(name);
+    if (this.isKind(index, SAttributeKind.ERROR_ID)) {
+      return Optional.of((SErrorId) this.references[index]);
+    }
+    return Optional.empty();
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<String, String>>
+  {
+    EntrySet()
+    {
+
+    }
+
+    @Override
+    public int size()
+    {
+      return SAttributes.this.names.length;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, String>> iterator()
+    {
+      return new EntryIterator();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<String, String>>
+  {
+    private int index;
+
+    EntryIterator()
+    {
+
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return this.index < SAttributes.this.names.length;
+    }
+
+    @Override
+    public Map.Entry<String, String> next()
+    {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      final var current = this.index;
+      ++this.index;
+      return Map.entry(
+        SAttributes.this.names[current],
+        SAttributes.this.render(current)
+      );
+    }
+  }
+
+  /**
+   * A mutable attribute builder. Adding an attribute with the same name as
+   * an existing attribute replaces the existing attribute.
+   */
+
+  public static final class Builder
+  {
+    private String[] names;
+    private byte[] kinds;
+    private long[] primitives;
+    private Object[] references;
+    private int count;
+    private boolean shared;
+
+    private Builder()
+    {
+      this.names = EMPTY.names;
+      this.kinds = EMPTY.kinds;
+      this.primitives = EMPTY.primitives;
+      this.references = EMPTY.references;
+    }
+
+    private Builder(
+      final int capacity)
+    {
+      this.names = new String[capacity];
+      this.kinds = new byte[capacity];
+      this.primitives = new long[capacity];
+      this.references = new Object[capacity];
+    }
+
+    private Builder put(
+      final String name,
+      final SAttributeKind kind,
+      final long primitive,
+      final Object reference)
+    {
+      Objects.requireNonNull(name, "name");
+
+      if (this.shared) {
+        this.unshare();
+      }
+
+      var index = Arrays.binarySearch(this.names, 0, this.count, name);
+      if (index < 0) {
+        index = -index - 1;
+        this.insert(index);
+      }
+
+      this.names[index] = name;
+      this.kinds[index] = (byte) kind.ordinal();
+      this.primitives[index] = primitive;
+      this.references[index] = reference;
+      return this;
+    }
+
+    private void unshare()
+    {
+      this.names = this.names.clone();
+      this.kinds = this.kinds.clone();
+      this.primitives = this.primitives.clone();
+      this.references = this.references.clone();
+      this.shared = false;
+    }
+
+    private void insert(
+      final int index)
+    {
+      if (this.count == this.names.length) {
+        final var capacity = Math.max(1, this.count * 2);
+        this.names = Arrays.copyOf(this.names, capacity);
+        this.kinds = Arrays.copyOf(this.kinds, capacity);
+        this.primitives = Arrays.copyOf(this.primitives, capacity);
+        this.references = Arrays.copyOf(this.references, capacity);
+      }
+
+      final var moved = this.count - index;
+      System.arraycopy(this.names, index, this.names, index + 1, moved);
+      System.arraycopy(this.kinds, index, this.kinds, index + 1, moved);
+      System.arraycopy(
+        this.primitives, index, this.primitives, index + 1, moved);
+      System.arraycopy(
+        this.references, index, this.references, index + 1, moved);
+      ++this.count;
+    }
+
+    /**
+     * Add a string attribute.
+     *
+     * @param name  The name
+     * @param value The value
+     *
+     * @return this
+     */
+
+    public Builder withAttribute(
+      final String name,
+      final String value)
+    {
+      return this.put(
+        name,
+        SAttributeKind.STRING,
+        0L,
+        Objects.requireNonNull(value, "value")
+      );
+    }
+
+    /**
+     * Add a {@code long} attribute.
+     *
+     * @param name  The name
+     * @param value The value
+     *
+     * @return this
+     */
+
+    public Builder withAttribute(
+      final String name,
+      final long value)
+    {
+      return this.put(name, SAttributeKind.LONG, value, null);
+    }
+
+    /**
+     * Add an {@code int} attribute.
+     *
+     * @param name  The name
+     * @param value The value
+     *
+     * @return this
+     */
+
+    public Builder withAttribute(
+      final String name,
+      final int value)
+    {
+      return this.put(name, SAttributeKind.INT, (long) value, null);
+    }
+
+    /**
+     * Add a {@code double} attribute.
+     *
+     * @param name  The name
+     * @param value The value
+     *
+     * @return this
+     */
+
+    public Builder withAttribute(
+      final String name,
+      final double value)
+    {
+      return this.put(
+        name,
+        SAttributeKind.DOUBLE,
+        Double.doubleToRawLongBits(value),
+        null
+      );
+    }
+
+    /**
+     * Add a {@code boolean} attribute.
+     *
+     * @param name  The name
+     * @param value The value
+     *
+     * @return this
+     */
+
+    public Builder withAttribute(
+      final String name,
+      final boolean value)
+    {
+      return this.put(name, SAttributeKind.BOOLEAN, value ? 1L : 0L, null);
+    }
+
+    /**
+     * Add an {@link Instant} attribute.
+     *
+     * @param name  The name
+     * @param value The value
+     *
+     * @return this
+     */
+
+    public Builder withAttribute(
+      final String name,
+      final Instant value)
+    {
+      return this.put(
+        name,
+        SAttributeKind.INSTANT,
+        0L,
+        Objects.requireNonNull(value, "value")
+      );
+    }
+
+    /**
+     * Add a {@link Path} attribute.
+     *
+     * @param name  The name
+     * @param value The value
+     *
+     * @return this
+     */
+
+    public Builder withAttribute(
+      final String name,
+      final Path value)
+    {
+      return this.put(
+        name,
+        SAttributeKind.PATH,
+        0L,
+        Objects.requireNonNull(value, "value")
+      );
+    }
+
+    /**
+     * Add an {@link SErrorId} attribute.
+     *
+     * @param name  The name
+     * @param value The value
+     *
+     * @return this
+     */
+
+    public Builder withAttribute(
+      final String name,
+      final SErrorId value)
+    {
+      return this.put(
+        name,
+        SAttributeKind.ERROR_ID,
+        0L,
+        Objects.requireNonNull(value, "value")
+      );
+    }
+
+    /**
+     * Add all the given attributes. If {@code attributes} is an instance of
+     * {@link SAttributes}, the attribute types are preserved.
+     *
+     * @param attributes The attributes
+     *
+     * @return this
+     */
+
+    public Builder withAttributes(
+      final Map<String, String> attributes)
+    {
+      if (attributes instanceof SAttributes) {
+        final var typed = (SAttributes) attributes;
+        for (int index = 0; index < typed.names.length; ++index) {
+          this.put(
+            typed.names[index],
+            SAttributeKind.ofOrdinal(typed.kinds[index]),
+            typed.primitives[index],
+            typed.references[index]
+          );
+        }
+        return this;
+      }
+
+      for (final var entry : attributes.entrySet()) {
+        this.withAttribute(entry.getKey(), entry.getValue());
+      }
+      return this;
+    }
+
+    /**
+     * @return An immutable attribute map based on all the given values
+     */
+
+    public SAttributes build()
+    {
+      if (this.count == 0) {
+        return EMPTY;
+      }
+
+      /*
+       * If the arrays are exactly full, hand them to the attribute map
+       * directly and copy them if this builder is modified again.
+       */
+
+      if (this.count == this.names.length) {
+        this.shared = true;
+        return new SAttributes(
+          this.names,
+          this.kinds,
+          this.primitives,
+          this.references
+        );
+      }
+      return new SAttributes(
+        Arrays.copyOf(this.names, this.count),
+        Arrays.copyOf(this.kinds, this.count),
+        Arrays.copyOf(this.primitives, this.count),
+        Arrays.copyOf(this.references, this.count)
+      );
+    }
+  }
+}
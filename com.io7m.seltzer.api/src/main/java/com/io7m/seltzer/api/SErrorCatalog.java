@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Marks an interface or enum as a catalog of error codes. Each field or
+ * enum constant of the type annotated with {@link SErrorCode} declares one
+ * error code.</p>
+ *
+ * <p>The {@code com.io7m.seltzer.processor} annotation processor generates a
+ * factory class in the same package as the catalog, containing one static
+ * factory method per declared error code.</p>
+ *
+ * @since 1.4.0
+ */
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface SErrorCatalog
+{
+  /**
+   * @return The simple name of the generated factory class, or the empty
+   * string to use the name of the catalog followed by {@code Factory}
+   */
+
+  String factoryName() default "";
+
+  /**
+   * @return The simple name of a generated {@code SIOException} subclass, or
+   * the empty string if no exception class should be generated
+   */
+
+  String exceptionName() default "";
+}
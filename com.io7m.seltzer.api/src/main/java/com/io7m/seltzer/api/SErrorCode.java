@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Declares an error code within an {@link SErrorCatalog}.</p>
+ *
+ * <p>Message and remediation templates may refer to declared attributes
+ * using {@code {Name}} placeholders, and a literal brace is written as
+ * two consecutive braces. Every placeholder must name a declared
+ * attribute.</p>
+ *
+ * @since 1.4.0
+ */
+
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface SErrorCode
+{
+  /**
+   * @return The error code, or the empty string to use the value of the
+   * annotated field if it is a string constant, or otherwise the name of
+   * the field in lowercase with underscores replaced by hyphens
+   */
+
+  String code() default "";
+
+  /**
+   * @return The message template
+   */
+
+  String message();
+
+  /**
+   * @return The remediating action template, or the empty string if there is
+   * no remediating action
+   */
+
+  String remediation() default "";
+
+  /**
+   * @return The names of the attributes required by the error
+   */
+
+  String[] attributes() default {};
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * <p>A router that dispatches structured errors to handlers based on the
+ * string form of their error codes.</p>
+ *
+ * <p>A router is built from a set of <i>exact</i> rules, each of which
+ * matches a single error code, and <i>prefix</i> rules, each of which matches
+ * every error code beginning with a given prefix. An exact rule takes
+ * precedence over any prefix rule, and a longer prefix takes precedence over
+ * a shorter one. Errors matched by no rule are routed to the default
+ * handler. Hierarchical codes such as {@code error-io-eof-header} can
+ * therefore be routed with rules such as {@code error-io-} and
+ * {@code error-io-eof-}.</p>
+ *
+ * <p>The rules are compiled into an immutable trie held in flat arrays.
+ * Routing an error examines each character of its code at most once, and
+ * does not allocate as long as the {@code toString()} method of the error
+ * code does not allocate (as is the case for {@link String} codes). Routers
+ * are safe to use from multiple threads.</p>
+ *
+ * @param <C> The type of error codes
+ * @param <H> The type of handlers
+ *
+ * @since 1.4.0
+ */
+
+public final class SErrorCodeRouter<C, H>
+{
+  private static final int NONE = -1;
+
+  private final Object[] handlers;
+  private final int[] edgeStart;
+  private final char[] edgeLabels;
+  private final int[] edgeTargets;
+  private final int[] prefixHandlers;
+  private final int[] exactHandlers;
+
+  private SErrorCodeRouter(
+    final Object[] inHandlers,
+    final int[] inEdgeStart,
+    final char[] inEdgeLabels,
+    final int[] inEdgeTargets,
+    final int[] inPrefixHandlers,
+    final int[] inExactHandlers)
+  {
+    this.handlers = inHandlers;
+    this.edgeStart = inEdgeStart;
+    this.edgeLabels = inEdgeLabels;
+    this.edgeTargets = inEdgeTargets;
+    this.prefixHandlers = inPrefixHandlers;
+    this.exactHandlers = inExactHandlers;
+  }
+
+  /**
+   * Create a new builder.
+   *
+   * @param defaultHandler The handler for errors that match no rule
+   * @param <C>            The type of error codes
+   * @param <H>            The type of handlers
+   *
+   * @return A new builder
+   */
+
+  public static <C, H> Builder<C, H> builder(
+    final H defaultHandler)
+  {
+    return new Builder<>(
+      Objects.requireNonNull(defaultHandler, "defaultHandler")
+    );
+  }
+
+  /**
+   * Route the given error.
+   *
+   * @param error The error
+   *
+   * @return The handler for the error
+   */
+
+  public H route(
+    final SStructuredErrorType<? extends C> error)
+  {
+    Objects.requireNonNull(error, "error");
+    return this.routeCode(error.errorCode().toString());
+  }
+
+  /**
+   * Route the given error code.
+   *
+   * @param code The string form of an error code
+   *
+   * @return The handler for the error code
+   */
+
+  @SuppressWarnings("unchecked")
+  public H routeCode(
+    final CharSequence code)
+  {
+    Objects.requireNonNull(code, "code");
+
+    var node = 0;
+    var best = this.prefixHandlers[0];
+    final var length = code.length();
+
+    for (int index = 0; index < length; ++index) {
+      node = this.child(node, code.charAt(index));
+      if (node == NONE) {
+        return (H) this.handlers[best];
+      }
+      final var prefix = this.prefixHandlers[node];
+      if (prefix != NONE) {
+        best = prefix;
+      }
+    }
+
+    final var exact = this.exactHandlers[node];
+    if (exact != NONE) {
+      return (H) this.handlers[exact];
+    }
+    return (H) this.handlers[best];
+  }
+
+  private int child(
+    final int node,
+    final char label)
+  {
+    var low = this.edgeStart[node];
+    var high = this.edgeStart[node + 1] - 1;
+
+    while (low <= high) {
+      final var middle = (low + high) >>> 1;
+      final var existing = this.edgeLabels[middle];
+      if (existing < label) {
+        low = middle + 1;
+      } else if (existing > label) {
+        high = middle - 1;
+      } else {
+        return this.edgeTargets[middle];
+      }
+    }
+    return NONE;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[SErrorCodeRouter %d nodes, %d handlers]",
+      Integer.valueOf(this.prefixHandlers.length),
+      Integer.valueOf(this.handlers.length)
+    );
+  }
+
+  private static final class Node
+  {
+    private final TreeMap<Character, Node> children;
+    private int prefixHandler;
+    private int exactHandler;
+    private int index;
+
+    Node()
+    {
+      this.children = new TreeMap<>();
+      this.prefixHandler = NONE;
+      this.exactHandler = NONE;
+    }
+  }
+
+  /**
+   * A mutable builder for routers.
+   *
+   * @param <C> The type of error codes
+   * @param <H> The type of handlers
+   */
+
+  public static final class Builder<C, H>
+  {
+    private final ArrayList<Object> handlers;
+    private final Node root;
+    private int nodes;
+
+    private Builder(
+      final H defaultHandler)
+    {
+      this.handlers = new ArrayList<>();
+      this.handlers.add(defaultHandler);
+      this.root = new Node();
+      this.root.prefixHandler = 0;
+      this.nodes = 1;
+    }
+
+    private Node nodeFor(
+      final String text)
+    {
+      var node = this.root;
+      final var length = text.length();
+      for (int index = 0; index < length; ++index) {
+        final var label = Character.valueOf(text.charAt(index));
+        var next = node.children.get(label);
+        if (next == null) {
+          next = new Node();
+          node.children.put(label, next);
+          ++this.nodes;
+        }
+        node = next;
+      }
+      return node;
+    }
+
+    private int handlerIndex(
+      final H handler)
+    {
+      this.handlers.add(Objects.requireNonNull(handler, "handler"));
+      return this.handlers.size() - 1;
+    }
+
+    /**
+     * Route errors with the given code to the given handler. Exact rules
+     * take precedence over prefix rules.
+     *
+     * @param code    The error code
+     * @param handler The handler
+     *
+     * @return this
+     *
+     * @throws IllegalArgumentException If an exact rule already exists for
+     *                                  the code
+     */
+
+    public Builder<C, H> withExact(
+      final C code,
+      final H handler)
+      throws IllegalArgumentException
+    {
+      Objects.requireNonNull(code, "code");
+      Objects.requireNonNull(handler, "handler");
+
+      final var text = code.toString();
+      final var node = this.nodeFor(text);
+      if (node.exactHandler != NONE) {
+        throw new IllegalArgumentException(
+          "An exact rule already exists for the code '%s'".formatted(text)
+        );
+      }
+      node.exactHandler = this.handlerIndex(handler);
+      return this;
+    }
+
+    /**
+     * Route errors with codes beginning with the given prefix to the given
+     * handler, unless a rule with a longer prefix or an exact rule matches.
+     * A rule with an empty prefix replaces the default handler.
+     *
+     * @param prefix  The code prefix
+     * @param handler The handler
+     *
+     * @return this
+     *
+     * @throws IllegalArgumentException If a rule already exists for the
+     *                                  prefix
+     */
+
+    public Builder<C, H> withPrefix(
+      final String prefix,
+      final H handler)
+      throws IllegalArgumentException
+    {
+      Objects.requireNonNull(prefix, "prefix");
+      Objects.requireNonNull(handler, "handler");
+
+      final var node = this.nodeFor(prefix);
+      final var existing = prefix.isEmpty() ? 0 : NONE;
+      if (node.prefixHandler != existing) {
+        throw new IllegalArgumentException(
+          "A prefix rule already exists for the prefix '%s'".formatted(prefix)
+        );
+      }
+      node.prefixHandler = this.handlerIndex(handler);
+      return this;
+    }
+
+    /**
+     * @return A router compiled from the rules given so far
+     */
+
+    public SErrorCodeRouter<C, H> build()
+    {
+      final var order = new ArrayList<Node>(this.nodes);
+      final var queue = new ArrayDeque<Node>();
+      queue.add(this.root);
+      while (!queue.isEmpty()) {
+        final var node = queue.remove();
+        node.index = order.size();
+        order.add(node);
+        queue.addAll(node.children.values());
+      }
+
+      final var count = order.size();
+      final var edgeStart = new int[count + 1];
+      final var edgeLabels = new char[count - 1];
+      final var edgeTargets = new int[count - 1];
+      final var prefixHandlers = new int[count];
+      final var exactHandlers = new int[count];
+
+      /*
+       * Nodes are numbered in breadth-first order, so that the root is
+       * node 0 and the edges of each node occupy a contiguous range of
+       * the edge arrays, sorted by label.
+       */
+
+      var edge = 0;
+      for (final var node : order) {
+        edgeStart[node.index] = edge;
+        prefixHandlers[node.index] = node.prefixHandler;
+        exactHandlers[node.index] = node.exactHandler;
+        for (final var entry : node.children.entrySet()) {
+          edgeLabels[edge] = entry.getKey().charValue();
+          edgeTargets[edge] = entry.getValue().index;
+          ++edge;
+        }
+      }
+      edgeStart[count] = edge;
+
+      return new SErrorCodeRouter<>(
+        this.handlers.toArray(),
+        edgeStart,
+        edgeLabels,
+        edgeTargets,
+        prefixHandlers,
+        exactHandlers
+      );
+    }
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>A unique identifier for an error instance, in the form of a
+ * <a href="https://github.com/ulid/spec">ULID</a>: a 48-bit timestamp in
+ * milliseconds since the epoch, followed by 80 random bits.</p>
+ *
+ * <p>Identifiers are generated from per-thread state seeded by
+ * {@link ThreadLocalRandom}, and so generation does not contend on a shared
+ * random number generator. Identifiers generated by a single thread are
+ * strictly increasing: an identifier generated within the same millisecond
+ * as the previous identifier (or after the system clock has moved
+ * backwards) increments the random bits of the previous identifier.
+ * Identifiers are unique with overwhelming probability, but they are not
+ * unpredictable, and must not be used as secrets.</p>
+ *
+ * @param mostSignificantBits  The most significant 64 bits
+ * @param leastSignificantBits The least significant 64 bits
+ *
+ * @since 1.4.0
+ */
+
+public record SErrorId(
+  long mostSignificantBits,
+  long leastSignificantBits)
+  implements Comparable<SErrorId>
+{
+  private static final char[] ALPHABET =
+    "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+  private static final byte[] DECODING = decoding();
+  private static final int LENGTH = 26;
+  private static final long MAXIMUM_TIME = (1L << 48) - 1L;
+
+  private static final ThreadLocal<Generator> GENERATORS =
+    ThreadLocal.withInitial(Generator::new);
+
+  private static byte[] decoding()
+  {
+    final var table = new byte[128];
+    Arrays.fill(table, (byte) -1);
+    for (int index = 0; index < ALPHABET.length; ++index) {
+      final var c = ALPHABET[index];
+      table[c] = (byte) index;
+      table[Character.toLowerCase(c)] = (byte) index;
+    }
+
+    /*
+     * Crockford's base 32 decodes commonly confused letters as digits.
+     */
+
+    for (final var c : "Oo".toCharArray()) {
+      table[c] = 0;
+    }
+    for (final var c : "IiLl".toCharArray()) {
+      table[c] = 1;
+    }
+    return table;
+  }
+
+  /**
+   * Generate a new identifier using the current time.
+   *
+   * @return A new identifier
+   */
+
+  public static SErrorId generate()
+  {
+    return GENERATORS.get().next(System.currentTimeMillis());
+  }
+
+  /**
+   * Parse an identifier from its 26 character base 32 form.
+   *
+   * @param text The text
+   *
+   * @return An identifier
+   *
+   * @throws IllegalArgumentException If the text is not a valid identifier
+   */
+
+  public static SErrorId parse(
+    final CharSequence text)
+    throws IllegalArgumentException
+  {
+    Objects.requireNonNull(text, "text");
+
+    if (text.length() != LENGTH) {
+      throw invalid(text);
+    }
+
+    var high = 0L;
+    var low = 0L;
+    for (int index = 0; index < LENGTH; ++index) {
+      final var c = text.charAt(index);
+      final var value = c < DECODING.length ? DECODING[c] : -1;
+      if (value < 0 || (index == 0 && value > 7)) {
+        throw invalid(text);
+      }
+      high = (high << 5) | (low >>> 59);
+      low = (low << 5) | value;
+    }
+    return new SErrorId(high, low);
+  }
+
+  private static IllegalArgumentException invalid(
+    final CharSequence text)
+  {
+    return new IllegalArgumentException(
+      "Invalid error ID '%s'".formatted(text)
+    );
+  }
+
+  /**
+   * @return The time at which the identifier was generated, in milliseconds
+   * since the epoch
+   */
+
+  public long timeMillis()
+  {
+    return this.mostSignificantBits >>> 16;
+  }
+
+  /**
+   * @return The time at which the identifier was generated
+   */
+
+  public Instant time()
+  {
+    return Instant.ofEpochMilli(this.timeMillis());
+  }
+
+  @Override
+  public int compareTo(
+    final SErrorId other)
+  {
+    final var c =
+      Long.compareUnsigned(this.mostSignificantBits, other.mostSignificantBits);
+    if (c != 0) {
+      return c;
+    }
+    return Long.compareUnsigned(
+      this.leastSignificantBits,
+      other.leastSignificantBits
+    );
+  }
+
+  /**
+   * @return The 26 character base 32 form of the identifier
+   */
+
+  @Override
+  public String toString()
+  {
+    final var text = new char[LENGTH];
+    var high = this.mostSignificantBits;
+    var low = this.leastSignificantBits;
+    for (int index = LENGTH - 1; index >= 0; --index) {
+      text[index] = ALPHABET[(int) (low & 31L)];
+      low = (low >>> 5) | (high << 59);
+      high >>>= 5;
+    }
+    return String.valueOf(text);
+  }
+
+  private static final class Generator
+  {
+    private long time;
+    private long high;
+    private long low;
+
+    Generator()
+    {
+      this.time = -1L;
+    }
+
+    SErrorId next(
+      final long now)
+    {
+      final var clamped = Math.min(Math.max(now, 0L), MAXIMUM_TIME);
+      if (clamped > this.time) {
+        final var random = ThreadLocalRandom.current();
+        this.time = clamped;
+        this.high = random.nextLong() & 0xffffL;
+        this.low = random.nextLong();
+      } else {
+        this.increment();
+      }
+      return new SErrorId((this.time << 16) | this.high, this.low);
+    }
+
+    private void increment()
+    {
+      ++this.low;
+      if (this.low != 0L) {
+        return;
+      }
+
+      /*
+       * The 80 random bits have overflowed; borrow a millisecond from the
+       * future in order to remain monotonic.
+       */
+
+      this.high = (this.high + 1L) & 0xffffL;
+      if (this.high == 0L) {
+        this.time = Math.min(this.time + 1L, MAXIMUM_TIME);
+      }
+    }
+  }
+}
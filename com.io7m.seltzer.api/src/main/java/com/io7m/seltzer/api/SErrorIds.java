@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>Functions to attach unique identifiers and timestamps to errors so that
+ * errors can be correlated across logs, journals, and API responses.</p>
+ *
+ * <p>Identifiers are carried as ordinary attributes, and so are written
+ * by every sink that writes attributes. The {@link #ERROR_TIME} attribute
+ * holds the ISO-8601 form of the time at which the identifier was generated.
+ * An error that wraps another identified error may link to it with the
+ * {@link #PARENT_ERROR_ID} attribute.</p>
+ *
+ * <p>When attributes are held in {@link SAttributes}, identifiers and times
+ * are stored unformatted as {@link SAttributeKind#ERROR_ID} and
+ * {@link SAttributeKind#INSTANT} values, and are only rendered as text when
+ * they are first read as strings.</p>
+ *
+ * @see SErrorId
+ * @since 1.4.0
+ */
+
+public final class SErrorIds
+{
+  /**
+   * The unique identifier of an error.
+   */
+
+  public static final String ERROR_ID = "ErrorId";
+
+  /**
+   * The time at which an error was identified.
+   */
+
+  public static final String ERROR_TIME = "ErrorTime";
+
+  /**
+   * The unique identifier of the error that caused an error.
+   */
+
+  public static final String PARENT_ERROR_ID = "ParentErrorId";
+
+  private SErrorIds()
+  {
+
+  }
+
+  /**
+   * @param error The error
+   *
+   * @return The identifier of the given error, if it has a valid one
+   */
+
+  public static Optional<SErrorId> idOf(
+    final SStructuredErrorType<?> error)
+  {
+    Objects.requireNonNull(error, "error");
+    return parseAttribute(error.attributes(), ERROR_ID);
+  }
+
+  /**
+   * @param exception The exception
+   *
+   * @return The identifier of the given exception, if it is a structured
+   * error with a valid identifier
+   */
+
+  public static Optional<SErrorId> idOfException(
+    final Throwable exception)
+  {
+    Objects.requireNonNull(exception, "exception");
+
+    if (exception instanceof SStructuredErrorType<?> error) {
+      return idOf(error);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @param error The error
+   *
+   * @return The identifier of the parent of the given error, if it has a
+   * valid one
+   */
+
+  public static Optional<SErrorId> parentIdOf(
+    final SStructuredErrorType<?> error)
+  {
+    Objects.requireNonNull(error, "error");
+    return parseAttribute(error.attributes(), PARENT_ERROR_ID);
+  }
+
+  private static Optional<SErrorId> parseAttribute(
+    final Map<String, String> attributes,
+    final String name)
+  {
+    if (attributes instanceof SAttributes typed) {
+      final var id = typed.errorIdValue(name);
+      if (id.isPresent()) {
+        return id;
+      }
+    }
+
+    final var text = attributes.get(name);
+    if (text == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(SErrorId.parse(text));
+    } catch (final IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Add a newly generated identifier and timestamp to the given attributes.
+   * This is intended for use with the constructors of exceptions, such as
+   * the {@code SIOException} family, that accept attributes.
+   *
+   * @param attributes The attributes
+   *
+   * @return The given attributes with an identifier and timestamp
+   */
+
+  public static SAttributes identify(
+    final Map<String, String> attributes)
+  {
+    Objects.requireNonNull(attributes, "attributes");
+
+    return identified(attributes, SErrorId.generate())
+      .build();
+  }
+
+  /**
+   * Add a newly generated identifier and timestamp to the given attributes,
+   * along with the identifier of the given parent exception if it has one.
+   * This is intended for use with the constructors of exceptions, such as
+   * the {@code SIOException} family, that accept attributes and causes.
+   *
+   * @param attributes The attributes
+   * @param parent     The parent exception
+   *
+   * @return The given attributes with an identifier and timestamp
+   */
+
+  public static SAttributes identify(
+    final Map<String, String> attributes,
+    final Throwable parent)
+  {
+    Objects.requireNonNull(attributes, "attributes");
+    Objects.requireNonNull(parent, "parent");
+
+    final var builder = identified(attributes, SErrorId.generate());
+    idOfException(parent).ifPresent(id -> {
+      builder.withAttribute(PARENT_ERROR_ID, id);
+    });
+    return builder.build();
+  }
+
+  private static SAttributes.Builder identified(
+    final Map<String, String> attributes,
+    final SErrorId id)
+  {
+    return SAttributes.builder(attributes.size() + 3)
+      .withAttributes(attributes)
+      .withAttribute(ERROR_ID, id)
+      .withAttribute(ERROR_TIME, id.time());
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.nio.file.FileSystemException;
+
+/**
+ * Extract attributes from file system exceptions.
+ */
+
+final class SExceptionAttributeExtractorFileSystem
+  implements SExceptionAttributeExtractorType<FileSystemException>
+{
+  SExceptionAttributeExtractorFileSystem()
+  {
+
+  }
+
+  @Override
+  public Class<FileSystemException> exceptionClass()
+  {
+    return FileSystemException.class;
+  }
+
+  @Override
+  public void extract(
+    final FileSystemException exception,
+    final SAttributes.Builder target,
+    final SExceptionAttributeExtractors extractors)
+  {
+    final var file = exception.getFile();
+    if (file != null) {
+      target.withAttribute(SExceptionAttributeNames.FILE, file);
+    }
+    final var otherFile = exception.getOtherFile();
+    if (otherFile != null) {
+      target.withAttribute(SExceptionAttributeNames.OTHER_FILE, otherFile);
+    }
+    final var reason = exception.getReason();
+    if (reason != null) {
+      target.withAttribute(SExceptionAttributeNames.REASON, reason);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.net.http.HttpTimeoutException;
+
+/**
+ * Extract attributes from HTTP client timeouts. This class must only be
+ * loaded if the {@code java.net.http} module is readable.
+ */
+
+final class SExceptionAttributeExtractorHttpTimeout
+  implements SExceptionAttributeExtractorType<HttpTimeoutException>
+{
+  SExceptionAttributeExtractorHttpTimeout()
+  {
+
+  }
+
+  @Override
+  public Class<HttpTimeoutException> exceptionClass()
+  {
+    return HttpTimeoutException.class;
+  }
+
+  @Override
+  public void extract(
+    final HttpTimeoutException exception,
+    final SAttributes.Builder target,
+    final SExceptionAttributeExtractors extractors)
+  {
+    final var message = exception.getMessage();
+    if (message != null) {
+      target.withAttribute(SExceptionAttributeNames.REASON, message);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.sql.SQLException;
+
+/**
+ * Extract attributes from database exceptions. This class must only be
+ * loaded if the {@code java.sql} module is readable.
+ */
+
+final class SExceptionAttributeExtractorSQL
+  implements SExceptionAttributeExtractorType<SQLException>
+{
+  SExceptionAttributeExtractorSQL()
+  {
+
+  }
+
+  @Override
+  public Class<SQLException> exceptionClass()
+  {
+    return SQLException.class;
+  }
+
+  @Override
+  public void extract(
+    final SQLException exception,
+    final SAttributes.Builder target,
+    final SExceptionAttributeExtractors extractors)
+  {
+    final var state = exception.getSQLState();
+    if (state != null) {
+      target.withAttribute(SExceptionAttributeNames.SQL_STATE, state);
+    }
+    target.withAttribute(
+      SExceptionAttributeNames.SQL_VENDOR_CODE,
+      exception.getErrorCode()
+    );
+  }
+}
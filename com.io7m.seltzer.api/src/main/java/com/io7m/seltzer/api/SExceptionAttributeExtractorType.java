@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import org.osgi.annotation.versioning.ConsumerType;
+
+/**
+ * <p>An extractor of standard attributes from exceptions of a given
+ * type.</p>
+ *
+ * <p>Extractors are discovered using {@link java.util.ServiceLoader} and
+ * applied to exceptions of the given class and all of its subclasses.</p>
+ *
+ * @param <T> The type of exceptions
+ *
+ * @see SExceptionAttributeExtractors
+ * @since 1.4.0
+ */
+
+@ConsumerType
+public interface SExceptionAttributeExtractorType<T extends Throwable>
+{
+  /**
+   * @return The class of exceptions supported by this extractor
+   */
+
+  Class<T> exceptionClass();
+
+  /**
+   * Extract attributes from the given exception.
+   *
+   * @param exception  The exception
+   * @param target     The attribute builder
+   * @param extractors The extractors, for extracting attributes from nested
+   *                   exceptions
+   */
+
+  void extract(
+    T exception,
+    SAttributes.Builder target,
+    SExceptionAttributeExtractors extractors);
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * <p>A set of exception attribute extractors.</p>
+ *
+ * <p>The extractors that apply to a given exception class are resolved once
+ * per class and cached. Extractors for more general exception classes are
+ * applied before extractors for more specific classes, so attributes
+ * produced by the more specific extractors take precedence.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SExceptionAttributeExtractors
+{
+  private static final SExceptionAttributeExtractors STANDARD =
+    builder().build();
+
+  private final List<SExceptionAttributeExtractorType<?>> extractors;
+  private final ClassValue<SExceptionAttributeExtractorType<?>[]> resolved;
+
+  private SExceptionAttributeExtractors(
+    final List<SExceptionAttributeExtractorType<?>> inExtractors)
+  {
+    this.extractors =
+      List.copyOf(inExtractors);
+    this.resolved =
+      new ClassValue<>()
+      {
+        @Override
+        protected SExceptionAttributeExtractorType<?>[] computeValue(
+          final Class<?> type)
+        {
+          return SExceptionAttributeExtractors.this.resolve(type);
+        }
+      };
+  }
+
+  /**
+   * The standard extractors include extractors for
+   * {@link java.nio.file.FileSystemException} and
+   * {@link java.io.UncheckedIOException}, extractors for
+   * {@code java.sql.SQLException} and
+   * {@code java.net.http.HttpTimeoutException} if the respective modules
+   * are available, and all extractors available from
+   * {@link ServiceLoader}.
+   *
+   * @return The standard extractors
+   */
+
+  public static SExceptionAttributeExtractors standard()
+  {
+    return STANDARD;
+  }
+
+  /**
+   * @return A new builder populated with the standard extractors
+   */
+
+  public static Builder builder()
+  {
+    return new Builder();
+  }
+
+  /**
+   * @return The extractors in registration order
+   */
+
+  public List<SExceptionAttributeExtractorType<?>> extractors()
+  {
+    return this.extractors;
+  }
+
+  private SExceptionAttributeExtractorType<?>[] resolve(
+    final Class<?> type)
+  {
+    final var matching = new ArrayList<SExceptionAttributeExtractorType<?>>();
+    for (final var extractor : this.extractors) {
+      if (extractor.exceptionClass().isAssignableFrom(type)) {
+        matching.add(extractor);
+      }
+    }
+    matching.sort(Comparator.comparingInt(e -> depthOf(e.exceptionClass())));
+    return matching.toArray(new SExceptionAttributeExtractorType<?>[0]);
+  }
+
+  private static int depthOf(
+    final Class<?> type)
+  {
+    int depth = 0;
+    for (var c = type; c != null; c = c.getSuperclass()) {
+      ++depth;
+    }
+    return depth;
+  }
+
+  /**
+   * @param exceptionClass The exception class
+   *
+   * @return {@code true} if any extractor applies to the given class
+   */
+
+  public boolean hasExtractors(
+    final Class<? extends Throwable> exceptionClass)
+  {
+    return this.resolved.get(exceptionClass).length > 0;
+  }
+
+  /**
+   * Extract attributes from the given exception into the given builder.
+   *
+   * @param exception The exception
+   * @param target    The attribute builder
+   */
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void extractInto(
+    final Throwable exception,
+    final SAttributes.Builder target)
+  {
+    Objects.requireNonNull(exception, "exception");
+    Objects.requireNonNull(target, "target");
+
+    for (final var extractor : this.resolved.get(exception.getClass())) {
+      ((SExceptionAttributeExtractorType) extractor)
+        .extract(exception, target, this);
+    }
+  }
+
+  /**
+   * Extract attributes from the given exception.
+   *
+   * @param exception The exception
+   *
+   * @return The extracted attributes
+   */
+
+  public SAttributes extract(
+    final Throwable exception)
+  {
+    final var target = SAttributes.builder();
+    this.extractInto(exception, target);
+    return target.build();
+  }
+
+  /**
+   * Combine the attributes extracted from the given exception with the
+   * given attributes. The given attributes take precedence over extracted
+   * attributes. If no extractors apply to the exception, {@code attributes}
+   * is returned as-is. Unless {@code attributes} is an instance of
+   * {@link SAttributes}, it is not inspected here: the extracted attributes
+   * are layered beneath it, so that maps that render themselves lazily are
+   * not rendered until the combined attributes are inspected.
+   *
+   * @param exception  The exception
+   * @param attributes The attributes
+   *
+   * @return The combined attributes
+   */
+
+  public Map<String, String> enrich(
+    final Throwable exception,
+    final Map<String, String> attributes)
+  {
+    Objects.requireNonNull(exception, "exception");
+    Objects.requireNonNull(attributes, "attributes");
+
+    if (this.resolved.get(exception.getClass()).length == 0) {
+      return attributes;
+    }
+
+    final var target = SAttributes.builder();
+    this.extractInto(exception, target);
+
+    if (attributes instanceof SAttributes) {
+      target.withAttributes(attributes);
+      return target.build();
+    }
+    if (attributes.isEmpty()) {
+      return target.build();
+    }
+    return new SLayeredAttributes(attributes, target.build());
+  }
+
+  /**
+   * A mutable builder of extractor sets.
+   */
+
+  public static final class Builder
+  {
+    private final ArrayList<SExceptionAttributeExtractorType<?>> extractors;
+
+    private Builder()
+    {
+      this.extractors = new ArrayList<>();
+      this.extractors.add(new SExceptionAttributeExtractorFileSystem());
+      this.extractors.add(new SExceptionAttributeExtractorUncheckedIO());
+
+      if (isReadable("java.sql")) {
+        this.extractors.add(new SExceptionAttributeExtractorSQL());
+      }
+      if (isReadable("java.net.http")) {
+        this.extractors.add(new SExceptionAttributeExtractorHttpTimeout());
+      }
+
+      final var loader =
+        ServiceLoader.load(
+          SExceptionAttributeExtractorType.class,
+          SExceptionAttributeExtractors.class.getClassLoader()
+        );
+      for (final var extractor : loader) {
+        this.extractors.add(extractor);
+      }
+    }
+
+    private static boolean isReadable(
+      final String name)
+    {
+      final var self = SExceptionAttributeExtractors.class.getModule();
+      return ModuleLayer.boot()
+        .findModule(name)
+        .map(self::canRead)
+        .orElse(Boolean.FALSE)
+        .booleanValue();
+    }
+
+    /**
+     * Add an extractor.
+     *
+     * @param extractor The extractor
+     *
+     * @return this
+     */
+
+    public Builder withExtractor(
+      final SExceptionAttributeExtractorType<?> extractor)
+    {
+      this.extractors.add(Objects.requireNonNull(extractor, "extractor"));
+      return this;
+    }
+
+    /**
+     * Remove all extractors, including the standard extractors.
+     *
+     * @return this
+     */
+
+    public Builder withoutExtractors()
+    {
+      this.extractors.clear();
+      return this;
+    }
+
+    /**
+     * @return An extractor set based on all the given values
+     */
+
+    public SExceptionAttributeExtractors build()
+    {
+      return new SExceptionAttributeExtractors(this.extractors);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+/**
+ * The names of attributes produced by the standard exception attribute
+ * extractors.
+ *
+ * @see SExceptionAttributeExtractors
+ * @since 1.4.0
+ */
+
+public final class SExceptionAttributeNames
+{
+  /**
+   * The file associated with an error.
+   */
+
+  public static final String FILE = "File";
+
+  /**
+   * The other file associated with an error, such as the target of a move.
+   */
+
+  public static final String OTHER_FILE = "OtherFile";
+
+  /**
+   * The underlying reason for an error.
+   */
+
+  public static final String REASON = "Reason";
+
+  /**
+   * The SQLSTATE value of a database error.
+   */
+
+  public static final String SQL_STATE = "SQLState";
+
+  /**
+   * The vendor-specific code of a database error.
+   */
+
+  public static final String SQL_VENDOR_CODE = "SQLVendorCode";
+
+  private SExceptionAttributeNames()
+  {
+
+  }
+}
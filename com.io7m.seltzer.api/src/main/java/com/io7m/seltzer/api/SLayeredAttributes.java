@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable attribute map that layers a set of base attributes over a set
+ * of extracted attributes, without inspecting the base attributes until the
+ * layered map is itself inspected. The base attributes take precedence.
+ */
+
+final class SLayeredAttributes extends AbstractMap<String, String>
+{
+  private final Map<String, String> base;
+  private final SAttributes extracted;
+  private SAttributes merged;
+
+  SLayeredAttributes(
+    final Map<String, String> inBase,
+    final SAttributes inExtracted)
+  {
+    this.base =
+      Objects.requireNonNull(inBase, "base");
+    this.extracted =
+      Objects.requireNonNull(inExtracted, "extracted");
+  }
+
+  private synchronized SAttributes merged()
+  {
+    if (this.merged == null) {
+      this.merged =
+        SAttributes.builder()
+          .withAttributes(this.extracted)
+          .withAttributes(this.base)
+          .build();
+    }
+    return this.merged;
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet()
+  {
+    return this.merged().entrySet();
+  }
+
+  @Override
+  public String get(
+    final Object key)
+  {
+    final var value = this.base.get(key);
+    if (value != null) {
+      return value;
+    }
+    return this.extracted.get(key);
+  }
+
+  @Override
+  public boolean containsKey(
+    final Object key)
+  {
+    return this.base.containsKey(key) || this.extracted.containsKey(key);
+  }
+
+  @Override
+  public int size()
+  {
+    return this.merged().size();
+  }
+}
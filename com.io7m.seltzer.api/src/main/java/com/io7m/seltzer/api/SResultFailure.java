@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A failed result.
+ *
+ * @param failure The error
+ * @param <T>     The type of successful values
+ * @param <C>     The type of error codes
+ *
+ * @since 1.4.0
+ */
+
+public record SResultFailure<T, C>(SStructuredErrorType<C> failure)
+  implements SResultType<T, C>
+{
+  /**
+   * A failed result.
+   *
+   * @param failure The error
+   */
+
+  public SResultFailure
+  {
+    Objects.requireNonNull(failure, "failure");
+  }
+
+  @SuppressWarnings("unchecked")
+  private <U> SResultType<U, C> cast()
+  {
+    return (SResultType<U, C>) (Object) this;
+  }
+
+  @Override
+  public boolean isSuccess()
+  {
+    return false;
+  }
+
+  @Override
+  public <U> SResultType<U, C> map(
+    final Function<? super T, ? extends U> f)
+  {
+    return this.cast();
+  }
+
+  @Override
+  public <U> SResultType<U, C> flatMap(
+    final Function<? super T, SResultType<U, C>> f)
+  {
+    return this.cast();
+  }
+
+  @Override
+  public SResultType<T, C> recover(
+    final Function<? super SStructuredErrorType<C>, ? extends T> f)
+  {
+    return new SResultSuccess<>(
+      Objects.requireNonNull(
+        f.apply(this.failure),
+        "The function passed to recover() returned null."
+      )
+    );
+  }
+
+  @Override
+  public T orElse(
+    final T other)
+  {
+    return other;
+  }
+
+  @Override
+  public <E extends Exception> T orElseThrow(
+    final Function<? super SStructuredErrorType<C>, E> exceptions)
+    throws E
+  {
+    throw exceptions.apply(this.failure);
+  }
+
+  @Override
+  public Optional<T> value()
+  {
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<SStructuredErrorType<C>> error()
+  {
+    return Optional.of(this.failure);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import org.osgi.annotation.versioning.ProviderType;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * <p>The result of an operation that can fail with a structured error,
+ * without throwing exceptions.</p>
+ *
+ * <p>Results are small immutable values. Transforming a failure returns the
+ * same failure instance, and successful results do not escape unless the
+ * caller stores them, so the JIT can usually eliminate their allocation
+ * entirely in hot paths.</p>
+ *
+ * @param <T> The type of successful values
+ * @param <C> The type of error codes
+ *
+ * @since 1.4.0
+ */
+
+@ProviderType
+public sealed interface SResultType<T, C>
+  permits SResultSuccess, SResultFailure
+{
+  /**
+   * @param value The value, which must not be {@code null}
+   * @param <T>   The type of successful values
+   * @param <C>   The type of error codes
+   *
+   * @return A successful result
+   */
+
+  static <T, C> SResultType<T, C> success(
+    final T value)
+  {
+    return new SResultSuccess<>(value);
+  }
+
+  /**
+   * @param error The error
+   * @param <T>   The type of successful values
+   * @param <C>   The type of error codes
+   *
+   * @return A failed result
+   */
+
+  static <T, C> SResultType<T, C> failure(
+    final SStructuredErrorType<C> error)
+  {
+    return new SResultFailure<>(error);
+  }
+
+  /**
+   * @return {@code true} if this result is successful
+   */
+
+  boolean isSuccess();
+
+  /**
+   * Transform the value of a successful result. The transform must not
+   * return {@code null}.
+   *
+   * @param f   The transform
+   * @param <U> The type of the new value
+   *
+   * @return The transformed result, or this failure
+   *
+   * @throws NullPointerException If {@code f} returns {@code null}
+   */
+
+  <U> SResultType<U, C> map(
+    Function<? super T, ? extends U> f);
+
+  /**
+   * Apply a fallible operation to the value of a successful result. The
+   * operation must not return {@code null}.
+   *
+   * @param f   The operation
+   * @param <U> The type of the new value
+   *
+   * @return The result of {@code f}, or this failure
+   *
+   * @throws NullPointerException If {@code f} returns {@code null}
+   */
+
+  <U> SResultType<U, C> flatMap(
+    Function<? super T, SResultType<U, C>> f);
+
+  /**
+   * Produce a value from the error of a failed result. The recovery
+   * function must not return {@code null}.
+   *
+   * @param f The recovery function
+   *
+   * @return This successful result, or the recovered value
+   *
+   * @throws NullPointerException If {@code f} returns {@code null}
+   */
+
+  SResultType<T, C> recover(
+    Function<? super SStructuredErrorType<C>, ? extends T> f);
+
+  /**
+   * @param other The value to return on failure
+   *
+   * @return The successful value, or {@code other}
+   */
+
+  T orElse(T other);
+
+  /**
+   * Return the successful value, or throw the exception produced by
+   * {@code exceptions} for the error. This is intended for converting
+   * results into exceptions at API boundaries.
+   *
+   * @param exceptions A function from errors to exceptions
+   * @param <E>        The type of exceptions
+   *
+   * @return The successful value
+   *
+   * @throws E On failure
+   */
+
+  <E extends Exception> T orElseThrow(
+    Function<? super SStructuredErrorType<C>, E> exceptions)
+    throws E;
+
+  /**
+   * @return The successful value, if any
+   */
+
+  Optional<T> value();
+
+  /**
+   * @return The error, if any
+   */
+
+  Optional<SStructuredErrorType<C>> error();
+}
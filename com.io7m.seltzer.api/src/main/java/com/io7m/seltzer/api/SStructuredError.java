@@ -16,7 +16,8 @@
 
 package com.io7m.seltzer.api;
 
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -102,10 +103,10 @@ public record SStructuredError<C>(
   private static final class Builder<C> implements SStructuredErrorBuilderType<C>
   {
     private final C errorCode;
-    private final HashMap<String, String> attributes;
+    private final SAttributes.Builder attributes;
     private String message;
-    private Optional<String> remediatingAction;
-    private Optional<Throwable> exception;
+    private String remediatingAction;
+    private Throwable exception;
 
     private Builder(
       final C inErrorCode,
@@ -116,11 +117,7 @@ public record SStructuredError<C>(
       this.message =
         Objects.requireNonNull(inMessage, "message");
       this.attributes =
-        new HashMap<>(4);
-      this.remediatingAction =
-        Optional.empty();
-      this.exception =
-        Optional.empty();
+        SAttributes.builder();
     }
 
     @Override
@@ -136,10 +133,78 @@ public record SStructuredError<C>(
       final String name,
       final String value)
     {
-      this.attributes.put(
-        Objects.requireNonNull(name, "name"),
-        Objects.requireNonNull(value, "value")
-      );
+      this.attributes.withAttribute(name, value);
+      return this;
+    }
+
+    @Override
+    public SStructuredErrorBuilderType<C> withAttribute(
+      final String name,
+      final long value)
+    {
+      this.attributes.withAttribute(name, value);
+      return this;
+    }
+
+    @Override
+    public SStructuredErrorBuilderType<C> withAttribute(
+      final String name,
+      final int value)
+    {
+      this.attributes.withAttribute(name, value);
+      return this;
+    }
+
+    @Override
+    public SStructuredErrorBuilderType<C> withAttribute(
+      final String name,
+      final double value)
+    {
+      this.attributes.withAttribute(name, value);
+      return this;
+    }
+
+    @Override
+    public SStructuredErrorBuilderType<C> withAttribute(
+      final String name,
+      final boolean value)
+    {
+      this.attributes.withAttribute(name, value);
+      return this;
+    }
+
+    @Override
+    public SStructuredErrorBuilderType<C> withAttribute(
+      final String name,
+      final Instant value)
+    {
+      this.attributes.withAttribute(name, value);
+      return this;
+    }
+
+    @Override
+    public SStructuredErrorBuilderType<C> withAttribute(
+      final String name,
+      final Path value)
+    {
+      this.attributes.withAttribute(name, value);
+      return this;
+    }
+
+    @Override
+    public SStructuredErrorBuilderType<C> withAttribute(
+      final String name,
+      final SErrorId value)
+    {
+      this.attributes.withAttribute(name, value);
+      return this;
+    }
+
+    @Override
+    public SStructuredErrorBuilderType<C> withAttributes(
+      final Map<String, String> newAttributes)
+    {
+      this.attributes.withAttributes(newAttributes);
       return this;
     }
 
@@ -147,7 +212,8 @@ public record SStructuredError<C>(
     public SStructuredErrorBuilderType<C> withRemediatingAction(
       final String newAction)
     {
-      this.remediatingAction = Optional.of(newAction);
+      this.remediatingAction =
+        Objects.requireNonNull(newAction, "action");
       return this;
     }
 
@@ -155,7 +221,8 @@ public record SStructuredError<C>(
     public SStructuredErrorBuilderType<C> withException(
       final Throwable newException)
     {
-      this.exception = Optional.of(newException);
+      this.exception =
+        Objects.requireNonNull(newException, "exception");
       return this;
     }
 
@@ -166,10 +233,33 @@ public record SStructuredError<C>(
       return c.construct(
         this.errorCode,
         this.message,
-        Map.copyOf(this.attributes),
+        this.buildAttributes(),
+        Optional.ofNullable(this.remediatingAction),
+        Optional.ofNullable(this.exception)
+      );
+    }
+
+    @Override
+    public <T> T buildNullable(
+      final SStructuredErrorNullableConstructorType<C, T> c)
+    {
+      return c.constructNullable(
+        this.errorCode,
+        this.message,
+        this.buildAttributes(),
         this.remediatingAction,
         this.exception
       );
     }
+
+    private Map<String, String> buildAttributes()
+    {
+      final Map<String, String> builtAttributes = this.attributes.build();
+      if (this.exception != null) {
+        return SExceptionAttributeExtractors.standard()
+          .enrich(this.exception, builtAttributes);
+      }
+      return builtAttributes;
+    }
   }
 }
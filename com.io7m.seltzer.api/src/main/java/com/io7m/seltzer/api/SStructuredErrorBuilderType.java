@@ -19,10 +19,17 @@ package com.io7m.seltzer.api;
 
 import org.osgi.annotation.versioning.ConsumerType;
 
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Map;
 
 /**
- * The type of mutable builders that can construct structured errors.
+ * <p>The type of mutable builders that can construct structured errors.</p>
+ *
+ * <p>Implementations that support typed attributes retain the values given
+ * to the typed {@code withAttribute} overloads unformatted, and format them
+ * only when the attribute is read (see {@link SAttributes}). The default
+ * implementations format the values as strings immediately.</p>
  *
  * @param <C> The type of error codes
  */
@@ -54,6 +61,139 @@ public interface SStructuredErrorBuilderType<C>
     String name,
     String value);
 
+  /**
+   * Add an attribute with a {@code long} value.
+   *
+   * @param name  The attribute name
+   * @param value The attribute value
+   *
+   * @return this
+   *
+   * @see SAttributes
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withAttribute(
+    final String name,
+    final long value)
+  {
+    return this.withAttribute(name, Long.toString(value));
+  }
+
+  /**
+   * Add an attribute with an {@code int} value.
+   *
+   * @param name  The attribute name
+   * @param value The attribute value
+   *
+   * @return this
+   *
+   * @see SAttributes
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withAttribute(
+    final String name,
+    final int value)
+  {
+    return this.withAttribute(name, Integer.toString(value));
+  }
+
+  /**
+   * Add an attribute with a {@code double} value.
+   *
+   * @param name  The attribute name
+   * @param value The attribute value
+   *
+   * @return this
+   *
+   * @see SAttributes
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withAttribute(
+    final String name,
+    final double value)
+  {
+    return this.withAttribute(name, Double.toString(value));
+  }
+
+  /**
+   * Add an attribute with a {@code boolean} value.
+   *
+   * @param name  The attribute name
+   * @param value The attribute value
+   *
+   * @return this
+   *
+   * @see SAttributes
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withAttribute(
+    final String name,
+    final boolean value)
+  {
+    return this.withAttribute(name, Boolean.toString(value));
+  }
+
+  /**
+   * Add an attribute with an {@link Instant} value.
+   *
+   * @param name  The attribute name
+   * @param value The attribute value
+   *
+   * @return this
+   *
+   * @see SAttributes
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withAttribute(
+    final String name,
+    final Instant value)
+  {
+    return this.withAttribute(name, value.toString());
+  }
+
+  /**
+   * Add an attribute with a {@link Path} value.
+   *
+   * @param name  The attribute name
+   * @param value The attribute value
+   *
+   * @return this
+   *
+   * @see SAttributes
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withAttribute(
+    final String name,
+    final Path value)
+  {
+    return this.withAttribute(name, value.toString());
+  }
+
+  /**
+   * Add an attribute with an {@link SErrorId} value.
+   *
+   * @param name  The attribute name
+   * @param value The attribute value
+   *
+   * @return this
+   *
+   * @see SAttributes
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withAttribute(
+    final String name,
+    final SErrorId value)
+  {
+    return this.withAttribute(name, value.toString());
+  }
+
   /**
    * Add all the given attributes.
    *
@@ -71,6 +211,112 @@ public interface SStructuredErrorBuilderType<C>
     return this;
   }
 
+  /**
+   * Add the components of the given record (or the properties of the given
+   * bean) as attributes using the standard flattener.
+   *
+   * @param value The value
+   *
+   * @return this
+   *
+   * @see SAttributeFlattener#standard()
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withAttributesOf(
+    final Object value)
+  {
+    return this.withAttributesOf(value, SAttributeFlattener.standard());
+  }
+
+  /**
+   * Add the components of the given record (or the properties of the given
+   * bean) as attributes using the given flattener.
+   *
+   * @param value     The value
+   * @param flattener The flattener
+   *
+   * @return this
+   *
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withAttributesOf(
+    final Object value,
+    final SAttributeFlattener flattener)
+  {
+    return this.withAttributes(flattener.flatten(value));
+  }
+
+  /**
+   * Add a newly generated identifier and timestamp as the
+   * {@link SErrorIds#ERROR_ID} and {@link SErrorIds#ERROR_TIME} attributes.
+   *
+   * @return this
+   *
+   * @see SErrorId#generate()
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withErrorId()
+  {
+    return this.withErrorId(SErrorId.generate());
+  }
+
+  /**
+   * Add the given identifier and its timestamp as the
+   * {@link SErrorIds#ERROR_ID} and {@link SErrorIds#ERROR_TIME} attributes.
+   *
+   * @param id The identifier
+   *
+   * @return this
+   *
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withErrorId(
+    final SErrorId id)
+  {
+    this.withAttribute(SErrorIds.ERROR_ID, id);
+    return this.withAttribute(SErrorIds.ERROR_TIME, id.time());
+  }
+
+  /**
+   * Add the given identifier as the {@link SErrorIds#PARENT_ERROR_ID}
+   * attribute.
+   *
+   * @param id The identifier of the parent error
+   *
+   * @return this
+   *
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withParentErrorId(
+    final SErrorId id)
+  {
+    return this.withAttribute(SErrorIds.PARENT_ERROR_ID, id);
+  }
+
+  /**
+   * Add the identifier of the given exception as the
+   * {@link SErrorIds#PARENT_ERROR_ID} attribute, if the exception is a
+   * structured error with an identifier.
+   *
+   * @param parent The parent exception
+   *
+   * @return this
+   *
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorBuilderType<C> withParentErrorIdOf(
+    final Throwable parent)
+  {
+    SErrorIds.idOfException(parent).ifPresent(this::withParentErrorId);
+    return this;
+  }
+
   /**
    * Update the remediating action.
    *
@@ -110,4 +356,43 @@ public interface SStructuredErrorBuilderType<C>
   {
     return this.build(SStructuredError::new);
   }
+
+  /**
+   * Build a value using a constructor function that accepts nullable values.
+   * Implementations should override this method to avoid allocating
+   * {@link java.util.Optional} values; the default implementation delegates
+   * to {@link #build(SStructuredErrorConstructorType)}.
+   *
+   * @param <T> The type of returned values
+   * @param c   The constructor function
+   *
+   * @return A structured error based on the information so far
+   *
+   * @since 1.4.0
+   */
+
+  default <T> T buildNullable(
+    final SStructuredErrorNullableConstructorType<C, T> c)
+  {
+    return this.build((errorCode, message, attributes, action, exception) -> {
+      return c.constructNullable(
+        errorCode,
+        message,
+        attributes,
+        action.orElse(null),
+        exception.orElse(null)
+      );
+    });
+  }
+
+  /**
+   * @return An immutable compact structured error based on the information so far
+   *
+   * @since 1.4.0
+   */
+
+  default SStructuredErrorCompact<C> buildCompact()
+  {
+    return this.buildNullable(SStructuredErrorCompact::new);
+  }
 }
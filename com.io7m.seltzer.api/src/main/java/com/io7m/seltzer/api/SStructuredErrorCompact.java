@@ -0,0 +1,212 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>A compact structured error value.</p>
+ *
+ * <p>Unlike {@link SStructuredError}, values of this type hold the
+ * remediating action and exception directly as nullable fields, and only
+ * create {@link Optional} values when the respective accessors are called.
+ * Two compact errors are equal if all of their fields are equal.</p>
+ *
+ * <p>Compact errors cache the fingerprint most recently computed for them
+ * by an {@link SStructuredErrorFingerprinter}, so fingerprinting the same
+ * error repeatedly with the same fingerprinter is a field read.</p>
+ *
+ * @param <C> The type of error codes
+ *
+ * @since 1.4.0
+ */
+
+public final class SStructuredErrorCompact<C>
+  implements SStructuredErrorType<C>
+{
+  private final C errorCode;
+  private final String message;
+  private final Map<String, String> attributes;
+  private final String remediatingAction;
+  private final Throwable exception;
+  private SStructuredErrorFingerprinter.Cached fingerprint;
+
+  /**
+   * A compact structured error value.
+   *
+   * @param inErrorCode         The error code
+   * @param inMessage           The error message
+   * @param inAttributes        The error attributes
+   * @param inRemediatingAction The remediating action, or {@code null}
+   * @param inException         The exception, or {@code null}
+   */
+
+  public SStructuredErrorCompact(
+    final C inErrorCode,
+    final String inMessage,
+    final Map<String, String> inAttributes,
+    final String inRemediatingAction,
+    final Throwable inException)
+  {
+    this.errorCode =
+      Objects.requireNonNull(inErrorCode, "errorCode");
+    this.message =
+      Objects.requireNonNull(inMessage, "message");
+    this.attributes =
+      Objects.requireNonNull(inAttributes, "attributes");
+    this.remediatingAction =
+      inRemediatingAction;
+    this.exception =
+      inException;
+  }
+
+  /**
+   * Convert the given error to a compact error. If the error is already
+   * compact, it is returned unchanged.
+   *
+   * @param error The error
+   * @param <C>   The type of error codes
+   *
+   * @return A compact error
+   */
+
+  public static <C> SStructuredErrorCompact<C> of(
+    final SStructuredErrorType<C> error)
+  {
+    Objects.requireNonNull(error, "error");
+
+    if (error instanceof SStructuredErrorCompact<C> compact) {
+      return compact;
+    }
+
+    return new SStructuredErrorCompact<>(
+      error.errorCode(),
+      error.message(),
+      error.attributes(),
+      error.remediatingAction().orElse(null),
+      error.exception().orElse(null)
+    );
+  }
+
+  @Override
+  public C errorCode()
+  {
+    return this.errorCode;
+  }
+
+  @Override
+  public String message()
+  {
+    return this.message;
+  }
+
+  @Override
+  public Map<String, String> attributes()
+  {
+    return this.attributes;
+  }
+
+  @Override
+  public Optional<String> remediatingAction()
+  {
+    return Optional.ofNullable(this.remediatingAction);
+  }
+
+  @Override
+  public Optional<Throwable> exception()
+  {
+    return Optional.ofNullable(this.exception);
+  }
+
+  SStructuredErrorFingerprinter.Cached cachedFingerprint()
+  {
+    return this.fingerprint;
+  }
+
+  void setCachedFingerprint(
+    final SStructuredErrorFingerprinter.Cached cached)
+  {
+    this.fingerprint = cached;
+  }
+
+  /**
+   * @return This error as a {@link SStructuredError} record
+   */
+
+  public SStructuredError<C> toRecord()
+  {
+    return new SStructuredError<>(
+      this.errorCode,
+      this.message,
+      this.attributes,
+      this.remediatingAction(),
+      this.exception()
+    );
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || !Objects.equals(this.getClass(), other.getClass())) {
+      return false;
+    }
+
+    final var that = (SStructuredErrorCompact<?>) other;
+    return Objects.equals(this.errorCode, that.errorCode)
+           && Objects.equals(this.message, that.message)
+           && Objects.equals(this.attributes, that.attributes)
+           && Objects.equals(this.remediatingAction, that.remediatingAction)
+           && Objects.equals(this.exception, that.exception);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(
+      this.errorCode,
+      this.message,
+      this.attributes,
+      this.remediatingAction,
+      this.exception
+    );
+  }
+
+  @Override
+  public String toString()
+  {
+    return new StringBuilder(128)
+      .append("SStructuredErrorCompact[errorCode=")
+      .append(this.errorCode)
+      .append(", message=")
+      .append(this.message)
+      .append(", attributes=")
+      .append(this.attributes)
+      .append(", remediatingAction=")
+      .append(this.remediatingAction)
+      .append(", exception=")
+      .append(this.exception)
+      .append(']')
+      .toString();
+  }
+}
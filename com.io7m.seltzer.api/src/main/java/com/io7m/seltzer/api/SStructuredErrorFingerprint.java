@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+/**
+ * <p>A 64-bit fingerprint of a structured error.</p>
+ *
+ * <p>Fingerprints are cheap to compare and hash, and are stable across JVM
+ * instances for a given {@link SStructuredErrorFingerprinter}
+ * configuration. This makes them suitable as keys for deduplication,
+ * grouping, and cache lookups.</p>
+ *
+ * @param value The fingerprint value
+ *
+ * @see SStructuredErrorFingerprinter
+ * @since 1.4.0
+ */
+
+public record SStructuredErrorFingerprint(
+  long value)
+{
+  /**
+   * @return The fingerprint as 16 hexadecimal digits
+   */
+
+  @Override
+  public String toString()
+  {
+    return "%016x".formatted(Long.valueOf(this.value));
+  }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.api;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * <p>A configurable function from structured errors to stable 64-bit
+ * fingerprints.</p>
+ *
+ * <p>A fingerprint is computed over the string form of the error code, the
+ * message (unless excluded), the attribute names, and the values of any
+ * explicitly selected attributes (or of all attributes, if requested).
+ * Attributes may be excluded entirely, so that (for example) the unique
+ * identifiers added by {@link SErrorIds} do not make every error distinct.
+ * Exceptions are never included, so two errors that differ only in the
+ * identity of their exceptions have the same fingerprint. The order of
+ * attributes does not affect the fingerprint.</p>
+ *
+ * <p>The hash function is fully specified by this class and does not depend
+ * on {@link Object#hashCode()}, and so fingerprints are stable across JVM
+ * instances.</p>
+ *
+ * <p>Fingerprints of {@link SStructuredErrorCompact} errors are computed
+ * once per error and fingerprinter, and are cached on the error. Other
+ * error types are hashed on every call; callers that need to reuse the
+ * fingerprint of such an error should retain the returned
+ * {@link SStructuredErrorFingerprint}.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SStructuredErrorFingerprinter
+{
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final long GOLDEN = 0x9e3779b97f4a7c15L;
+
+  private static final SStructuredErrorFingerprinter STANDARD =
+    builder().build();
+
+  private final long seed;
+  private final boolean includeMessage;
+  private final boolean includeAllValues;
+  private final String[] valueAttributes;
+  private final String[] excludedAttributes;
+
+  private SStructuredErrorFingerprinter(
+    final long inSeed,
+    final boolean inIncludeMessage,
+    final boolean inIncludeAllValues,
+    final String[] inValueAttributes,
+    final String[] inExcludedAttributes)
+  {
+    this.seed = inSeed;
+    this.includeMessage = inIncludeMessage;
+    this.includeAllValues = inIncludeAllValues;
+    this.valueAttributes = inValueAttributes;
+    this.excludedAttributes = inExcludedAttributes;
+  }
+
+  /**
+   * @return A fingerprinter that includes error codes, messages, and
+   * attribute names
+   */
+
+  public static SStructuredErrorFingerprinter standard()
+  {
+    return STANDARD;
+  }
+
+  /**
+   * @return A new builder
+   */
+
+  public static Builder builder()
+  {
+    return new Builder();
+  }
+
+  private static long mix(
+    final long x)
+  {
+    var z = x;
+    z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return z ^ (z >>> 33);
+  }
+
+  private static long hashString(
+    final long seed,
+    final String text)
+  {
+    var h = FNV_OFFSET ^ seed;
+    final var length = text.length();
+    for (int index = 0; index < length; ++index) {
+      h = (h ^ text.charAt(index)) * FNV_PRIME;
+    }
+    return mix(h ^ length);
+  }
+
+  /**
+   * Compute the fingerprint of the given error.
+   *
+   * @param error The error
+   *
+   * @return The fingerprint
+   */
+
+  public SStructuredErrorFingerprint fingerprint(
+    final SStructuredErrorType<?> error)
+  {
+    Objects.requireNonNull(error, "error");
+
+    if (error instanceof SStructuredErrorCompact<?> compact) {
+      final var cached = compact.cachedFingerprint();
+      if (cached != null && cached.fingerprinter() == this) {
+        return cached.fingerprint();
+      }
+      final var computed =
+        new SStructuredErrorFingerprint(this.compute(error));
+      compact.setCachedFingerprint(new Cached(this, computed));
+      return computed;
+    }
+    return new SStructuredErrorFingerprint(this.compute(error));
+  }
+
+  /**
+   * Compute the fingerprint of the given error as a raw value.
+   *
+   * @param error The error
+   *
+   * @return The fingerprint value
+   */
+
+  public long fingerprintValue(
+    final SStructuredErrorType<?> error)
+  {
+    Objects.requireNonNull(error, "error");
+
+    if (error instanceof SStructuredErrorCompact<?>) {
+      return this.fingerprint(error).value();
+    }
+    return this.compute(error);
+  }
+
+  /**
+   * @param name The attribute name
+   *
+   * @return {@code true} if the named attribute is excluded from
+   * fingerprints
+   */
+
+  public boolean isAttributeExcluded(
+    final String name)
+  {
+    Objects.requireNonNull(name, "name");
+    return Arrays.binarySearch(this.excludedAttributes, name) >= 0;
+  }
+
+  private long compute(
+    final SStructuredErrorType<?> error)
+  {
+    var h = mix(this.seed ^ GOLDEN);
+    h = mix(h ^ hashString(this.seed, error.errorCode().toString()));
+
+    if (this.includeMessage) {
+      h = mix(h + hashString(this.seed, error.message()));
+    }
+
+    /*
+     * Attributes are combined with addition so that iteration order
+     * does not matter.
+     */
+
+    var attributes = 0L;
+    var count = 0L;
+    for (final var entry : error.attributes().entrySet()) {
+      final var key = entry.getKey();
+      if (Arrays.binarySearch(this.excludedAttributes, key) >= 0) {
+        continue;
+      }
+      ++count;
+      var entryHash = hashString(this.seed, key);
+      if (this.includeAllValues
+          || Arrays.binarySearch(this.valueAttributes, key) >= 0) {
+        entryHash = mix(entryHash ^ hashString(~this.seed, entry.getValue()));
+      }
+      attributes += entryHash;
+    }
+
+    return mix(h ^ mix(attributes + count));
+  }
+
+  /**
+   * A fingerprint cached on an error, along with the fingerprinter that
+   * computed it. The cache is published without synchronization; the
+   * record's final fields ensure that a thread observing the cache also
+   * observes its contents, and a thread that misses it simply recomputes
+   * the same value.
+   *
+   * @param fingerprinter The fingerprinter
+   * @param fingerprint   The fingerprint
+   */
+
+  record Cached(
+    SStructuredErrorFingerprinter fingerprinter,
+    SStructuredErrorFingerprint fingerprint)
+  {
+
+  }
+
+  /**
+   * A mutable builder for fingerprinters.
+   */
+
+  public static final class Builder
+  {
+    private final TreeSet<String> valueAttributes;
+    private final TreeSet<String> excludedAttributes;
+    private long seed;
+    private boolean includeMessage;
+    private boolean includeAllValues;
+
+    private Builder()
+    {
+      this.valueAttributes = new TreeSet<>();
+      this.excludedAttributes = new TreeSet<>();
+      this.includeMessage = true;
+    }
+
+    /**
+     * Set the seed value. Fingerprints produced with different seeds are
+     * unrelated.
+     *
+     * @param newSeed The seed
+     *
+     * @return this
+     */
+
+    public Builder withSeed(
+      final long newSeed)
+    {
+      this.seed = newSeed;
+      return this;
+    }
+
+    /**
+     * Set whether messages are included in fingerprints. Messages should
+     * be excluded if they contain variable data.
+     *
+     * @param include {@code true} if messages should be included
+     *
+     * @return this
+     */
+
+    public Builder withMessageIncluded(
+      final boolean include)
+    {
+      this.includeMessage = include;
+      return this;
+    }
+
+    /**
+     * Include the value of the named attribute in fingerprints. By default,
+     * only attribute names are included.
+     *
+     * @param name The attribute name
+     *
+     * @return this
+     */
+
+    public Builder withAttributeValue(
+      final String name)
+    {
+      this.valueAttributes.add(Objects.requireNonNull(name, "name"));
+      return this;
+    }
+
+    /**
+     * Include the values of all attributes in fingerprints.
+     *
+     * @return this
+     */
+
+    public Builder withAllAttributeValues()
+    {
+      this.includeAllValues = true;
+      return this;
+    }
+
+    /**
+     * Exclude the named attribute, both name and value, from fingerprints.
+     * Exclusion takes precedence over inclusion of values.
+     *
+     * @param name The attribute name
+     *
+     * @return this
+     */
+
+    public Builder withExcludedAttribute(
+      final String name)
+    {
+      this.excludedAttributes.add(Objects.requireNonNull(name, "name"));
+      return this;
+    }
+
+    /**
+     * Exclude the attributes added by {@link SErrorIds} from fingerprints.
+     *
+     * @return this
+     *
+     * @see #withExcludedAttribute(String)
+     */
+
+    public Builder withErrorIdsExcluded()
+    {
+      this.excludedAttributes.add(SErrorIds.ERROR_ID);
+      this.excludedAttributes.add(SErrorIds.ERROR_TIME);
+      this.excludedAttributes.add(SErrorIds.PARENT_ERROR_ID);
+      return this;
+    }
+
+    /**
+     * @return A fingerprinter based on the configuration so far
+     */
+
+    public SStructuredErrorFingerprinter build()
+    {
+      return new SStructuredErrorFingerprinter(
+        this.seed,
+        this.includeMessage,
+        this.includeAllValues,
+        this.valueAttributes.toArray(new String[0]),
+        this.excludedAttributes.toArray(new String[0])
+      );
+    }
+  }
+}
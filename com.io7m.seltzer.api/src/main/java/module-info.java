@@ -22,6 +22,10 @@ module com.io7m.seltzer.api
 {
   requires static org.osgi.annotation.bundle;
   requires static org.osgi.annotation.versioning;
+  requires static java.net.http;
+  requires static java.sql;
+
+  uses com.io7m.seltzer.api.SExceptionAttributeExtractorType;
 
   exports com.io7m.seltzer.api;
 }
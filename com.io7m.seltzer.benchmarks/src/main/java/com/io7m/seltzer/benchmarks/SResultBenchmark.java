@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.benchmarks;
+
+import com.io7m.seltzer.api.SResultType;
+import com.io7m.seltzer.api.SStructuredErrorCompact;
+import com.io7m.seltzer.io.SIOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Compare failures delivered as {@link SResultType} values against
+ * failures delivered by throwing {@link SIOException}, on a cache lookup
+ * and an input parsing path, for varying proportions of failing
+ * inputs.</p>
+ *
+ * <p>Run with {@code java -cp <class path> org.openjdk.jmh.Main SResultBenchmark}.</p>
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SResultBenchmark
+{
+  private static final int INPUTS = 1024;
+  private static final String ERROR_MISSING = "error-missing";
+  private static final String ERROR_PARSE = "error-parse";
+
+  @Param({"0", "10", "50", "90"})
+  public int failurePercent;
+
+  private HashMap<String, Integer> cache;
+  private String[] keys;
+  private String[] numbers;
+  private int index;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public SResultBenchmark()
+  {
+
+  }
+
+  /**
+   * Create the inputs.
+   */
+
+  @Setup(Level.Trial)
+  public void setup()
+  {
+    final var random = new Random(0x5e17e5L);
+    this.cache = new HashMap<>();
+    this.keys = new String[INPUTS];
+    this.numbers = new String[INPUTS];
+
+    for (int i = 0; i < INPUTS; ++i) {
+      final var fail = random.nextInt(100) < this.failurePercent;
+      final var key = "key-" + i;
+      if (!fail) {
+        this.cache.put(key, Integer.valueOf(i));
+      }
+      this.keys[i] = key;
+      this.numbers[i] = fail ? i + "x" : Integer.toString(i);
+    }
+  }
+
+  private int next()
+  {
+    final var i = this.index;
+    this.index = (i + 1) & (INPUTS - 1);
+    return i;
+  }
+
+  private int lookupOrThrow(
+    final String key)
+    throws SIOException
+  {
+    final var value = this.cache.get(key);
+    if (value == null) {
+      throw new SIOException(
+        "Missing key.",
+        ERROR_MISSING,
+        Map.of("Key", key),
+        Optional.empty()
+      );
+    }
+    return value.intValue();
+  }
+
+  private SResultType<Integer, String> lookupResult(
+    final String key)
+  {
+    final var value = this.cache.get(key);
+    if (value == null) {
+      return SResultType.failure(
+        new SStructuredErrorCompact<>(
+          ERROR_MISSING,
+          "Missing key.",
+          Map.of("Key", key),
+          null,
+          null
+        )
+      );
+    }
+    return SResultType.success(value);
+  }
+
+  private static int parseOrThrow(
+    final String text)
+    throws SIOException
+  {
+    var value = 0;
+    for (int i = 0; i < text.length(); ++i) {
+      final var c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        throw new SIOException(
+          "Invalid digit.",
+          ERROR_PARSE,
+          Map.of("Offset", Integer.toString(i)),
+          Optional.empty()
+        );
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static SResultType<Integer, String> parseResult(
+    final String text)
+  {
+    var value = 0;
+    for (int i = 0; i < text.length(); ++i) {
+      final var c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        return SResultType.failure(
+          new SStructuredErrorCompact<>(
+            ERROR_PARSE,
+            "Invalid digit.",
+            Map.of("Offset", Integer.toString(i)),
+            null,
+            null
+          )
+        );
+      }
+      value = value * 10 + (c - '0');
+    }
+    return SResultType.success(Integer.valueOf(value));
+  }
+
+  /**
+   * @return The looked-up value, or a code derived from the failure
+   */
+
+  @Benchmark
+  public int lookupThrow()
+  {
+    try {
+      return this.lookupOrThrow(this.keys[this.next()]) + 1;
+    } catch (final SIOException e) {
+      return e.errorCode().length();
+    }
+  }
+
+  /**
+   * @return The looked-up value, or a code derived from the failure
+   */
+
+  @Benchmark
+  public int lookupResult()
+  {
+    final var result =
+      this.lookupResult(this.keys[this.next()])
+        .map(v -> Integer.valueOf(v.intValue() + 1));
+
+    if (result.isSuccess()) {
+      return result.orElse(Integer.valueOf(0)).intValue();
+    }
+    return result.error().orElseThrow().errorCode().length();
+  }
+
+  /**
+   * @return The parsed value, or a code derived from the failure
+   */
+
+  @Benchmark
+  public int parseThrow()
+  {
+    try {
+      return parseOrThrow(this.numbers[this.next()]) + 1;
+    } catch (final SIOException e) {
+      return e.errorCode().length();
+    }
+  }
+
+  /**
+   * @return The parsed value, or a code derived from the failure
+   */
+
+  @Benchmark
+  public int parseResult()
+  {
+    final var result =
+      parseResult(this.numbers[this.next()])
+        .map(v -> Integer.valueOf(v.intValue() + 1));
+
+    if (result.isSuccess()) {
+      return result.orElse(Integer.valueOf(0)).intValue();
+    }
+    return result.error().orElseThrow().errorCode().length();
+  }
+}
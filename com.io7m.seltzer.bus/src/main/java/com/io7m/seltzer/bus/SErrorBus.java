@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.bus;
+
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * <p>A bus that publishes structured errors to any number of subscribers.</p>
+ *
+ * <p>Publishing an error never blocks: the error is enqueued into the
+ * bounded buffer of each subscriber, and is delivered asynchronously
+ * according to the demand signalled by that subscriber. If the buffer of a
+ * subscriber is full, the error is dropped for that subscriber only, so
+ * slow subscribers cannot stall either the publisher or other subscribers.
+ * </p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SErrorBus
+  implements Flow.Publisher<SStructuredErrorType<?>>, AutoCloseable
+{
+  private final SubmissionPublisher<SStructuredErrorType<?>> publisher;
+  private final LongAdder published;
+  private final LongAdder dropped;
+  private final BiPredicate<Flow.Subscriber<? super SStructuredErrorType<?>>, SStructuredErrorType<?>> onDrop;
+
+  private SErrorBus(
+    final SErrorBusConfiguration configuration)
+  {
+    this.publisher =
+      new SubmissionPublisher<>(
+        configuration.executor(),
+        configuration.bufferCapacity()
+      );
+    this.published =
+      new LongAdder();
+    this.dropped =
+      new LongAdder();
+    this.onDrop = (subscriber, error) -> {
+      this.dropped.increment();
+      return false;
+    };
+  }
+
+  /**
+   * Create a new error bus.
+   *
+   * @param configuration The configuration
+   *
+   * @return A new error bus
+   */
+
+  public static SErrorBus create(
+    final SErrorBusConfiguration configuration)
+  {
+    Objects.requireNonNull(configuration, "configuration");
+    return new SErrorBus(configuration);
+  }
+
+  /**
+   * Publish an error to all current subscribers without blocking. Errors
+   * published to a closed bus are dropped.
+   *
+   * @param error The error
+   *
+   * @return {@code true} if the error was enqueued for every subscriber
+   */
+
+  public boolean publish(
+    final SStructuredErrorType<?> error)
+  {
+    Objects.requireNonNull(error, "error");
+
+    this.published.increment();
+    if (this.publisher.isClosed()) {
+      this.dropped.increment();
+      return false;
+    }
+
+    try {
+      return this.publisher.offer(error, this.onDrop) >= 0;
+    } catch (final IllegalStateException e) {
+      this.dropped.increment();
+      return false;
+    }
+  }
+
+  @Override
+  public void subscribe(
+    final Flow.Subscriber<? super SStructuredErrorType<?>> subscriber)
+  {
+    this.publisher.subscribe(
+      Objects.requireNonNull(subscriber, "subscriber"));
+  }
+
+  /**
+   * Subscribe a consumer that processes every error it receives.
+   *
+   * @param consumer The consumer
+   *
+   * @return A future that completes when the bus is closed
+   */
+
+  public CompletableFuture<Void> consume(
+    final Consumer<? super SStructuredErrorType<?>> consumer)
+  {
+    return this.publisher.consume(
+      Objects.requireNonNull(consumer, "consumer"));
+  }
+
+  /**
+   * @return The number of errors published
+   */
+
+  public long publishedCount()
+  {
+    return this.published.sum();
+  }
+
+  /**
+   * @return The number of times an error was dropped for a subscriber
+   */
+
+  public long droppedCount()
+  {
+    return this.dropped.sum();
+  }
+
+  /**
+   * @return The current number of subscribers
+   */
+
+  public int subscriberCount()
+  {
+    return this.publisher.getNumberOfSubscribers();
+  }
+
+  /**
+   * @return An estimate of the largest number of errors buffered but not
+   * yet consumed by any subscriber
+   */
+
+  public int estimateMaximumLag()
+  {
+    return this.publisher.estimateMaximumLag();
+  }
+
+  /**
+   * @return {@code true} if the bus is closed
+   */
+
+  public boolean isClosed()
+  {
+    return this.publisher.isClosed();
+  }
+
+  /**
+   * Close the bus. Errors already buffered are delivered to subscribers,
+   * after which subscribers are completed.
+   */
+
+  @Override
+  public void close()
+  {
+    this.publisher.close();
+  }
+}
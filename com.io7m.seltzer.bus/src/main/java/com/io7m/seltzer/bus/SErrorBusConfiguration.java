@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.bus;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The configuration for an error bus.
+ *
+ * @param executor       The executor used to deliver errors to subscribers
+ * @param bufferCapacity The maximum number of undelivered errors buffered
+ *                       per subscriber; this must be a power of two no
+ *                       greater than 2^30, because the underlying
+ *                       {@link java.util.concurrent.SubmissionPublisher}
+ *                       would otherwise silently round it up
+ *
+ * @since 1.4.0
+ */
+
+public record SErrorBusConfiguration(
+  Executor executor,
+  int bufferCapacity)
+{
+  private static final int MAXIMUM_BUFFER_CAPACITY = 1 << 30;
+
+  /**
+   * The configuration for an error bus.
+   *
+   * @param executor       The executor used to deliver errors to subscribers
+   * @param bufferCapacity The maximum number of undelivered errors buffered
+   *                       per subscriber; this must be a power of two no
+   *                       greater than 2^30
+   */
+
+  public SErrorBusConfiguration
+  {
+    Objects.requireNonNull(executor, "executor");
+
+    if (bufferCapacity <= 0
+        || bufferCapacity > MAXIMUM_BUFFER_CAPACITY
+        || Integer.bitCount(bufferCapacity) != 1) {
+      throw new IllegalArgumentException(
+        "Buffer capacity %d must be a power of two in the range [1, %d]"
+          .formatted(bufferCapacity, MAXIMUM_BUFFER_CAPACITY)
+      );
+    }
+  }
+
+  /**
+   * A configuration that delivers errors using the common fork/join pool,
+   * with the default {@link Flow} buffer size.
+   *
+   * @return A configuration
+   */
+
+  public static SErrorBusConfiguration ofDefaults()
+  {
+    return new SErrorBusConfiguration(
+      ForkJoinPool.commonPool(),
+      Flow.defaultBufferSize()
+    );
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import com.io7m.seltzer.api.SExceptionAttributeNames;
+
+/**
+ * The standard names of attributes attached to I/O errors.
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOAttributeNames
+{
+  /**
+   * The file involved in an operation.
+   */
+
+  public static final String FILE =
+    SExceptionAttributeNames.FILE;
+
+  /**
+   * The other file involved in an operation (such as the target of a move).
+   */
+
+  public static final String OTHER_FILE =
+    SExceptionAttributeNames.OTHER_FILE;
+
+  /**
+   * A reason given by the underlying platform.
+   */
+
+  public static final String REASON =
+    SExceptionAttributeNames.REASON;
+
+  /**
+   * The channel involved in an operation.
+   */
+
+  public static final String CHANNEL = "Channel";
+
+  /**
+   * The position within a file or stream at which an operation started.
+   */
+
+  public static final String POSITION = "Position";
+
+  /**
+   * The number of bytes an operation requested.
+   */
+
+  public static final String BYTES_REQUESTED = "BytesRequested";
+
+  /**
+   * The number of bytes an operation actually transferred.
+   */
+
+  public static final String BYTES_TRANSFERRED = "BytesTransferred";
+
+  /**
+   * The number of bytes an operation expected to transfer.
+   */
+
+  public static final String BYTES_EXPECTED = "BytesExpected";
+
+  /**
+   * The number of bytes an operation received before failing.
+   */
+
+  public static final String BYTES_RECEIVED = "BytesReceived";
+
+  /**
+   * The offset at which an operation failed.
+   */
+
+  public static final String OFFSET = "Offset";
+
+  /**
+   * The offset of the first byte of a captured window of buffer contents.
+   */
+
+  public static final String BUFFER_WINDOW_OFFSET = "BufferWindowOffset";
+
+  /**
+   * A captured window of buffer contents, rendered as hexadecimal bytes.
+   */
+
+  public static final String BUFFER_WINDOW = "BufferWindow";
+
+  private SIOAttributeNames()
+  {
+
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import com.io7m.seltzer.api.SAttributes;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable attribute map that refers to a window of a buffer, and only
+ * renders the window as text when the attributes are first inspected.
+ */
+
+final class SIOBufferContextAttributes extends AbstractMap<String, String>
+{
+  private static final char[] HEX =
+    "0123456789abcdef".toCharArray();
+
+  private final Map<String, String> base;
+  private final long offset;
+  private final long windowOffset;
+  private final int windowStart;
+  private final int windowLength;
+  private final int size;
+  private ByteBuffer buffer;
+  private byte[] detached;
+  private Map<String, String> rendered;
+
+  SIOBufferContextAttributes(
+    final Map<String, String> inBase,
+    final ByteBuffer inBuffer,
+    final long inBaseOffset,
+    final int inIndex,
+    final int inWindow)
+  {
+    this.base =
+      copyBase(inBase);
+    this.buffer =
+      inBuffer;
+    this.offset =
+      inBaseOffset + inIndex;
+
+    final var half = inWindow / 2;
+    final var start = Math.max(0, inIndex - half);
+    final var end = Math.min(inBuffer.limit(), start + inWindow);
+    this.windowStart = start;
+    this.windowLength = Math.max(0, end - start);
+    this.windowOffset = inBaseOffset + start;
+    this.size = this.base.size() + missing(this.base);
+  }
+
+  /**
+   * Typed attributes are immutable and render themselves lazily; copying
+   * them would force rendering.
+   */
+
+  private static Map<String, String> copyBase(
+    final Map<String, String> base)
+  {
+    if (base instanceof SAttributes) {
+      return base;
+    }
+    return Map.copyOf(base);
+  }
+
+  /**
+   * The rendered attributes replace any base attributes with the buffer
+   * context names, so only the names absent from the base add to the size.
+   */
+
+  private static int missing(
+    final Map<String, String> base)
+  {
+    var count = 0;
+    if (!base.containsKey(SIOAttributeNames.OFFSET)) {
+      ++count;
+    }
+    if (!base.containsKey(SIOAttributeNames.BUFFER_WINDOW_OFFSET)) {
+      ++count;
+    }
+    if (!base.containsKey(SIOAttributeNames.BUFFER_WINDOW)) {
+      ++count;
+    }
+    return count;
+  }
+
+  synchronized void detach()
+  {
+    if (this.buffer != null && this.rendered == null) {
+      final var data = new byte[this.windowLength];
+      this.buffer.get(this.windowStart, data, 0, this.windowLength);
+      this.detached = data;
+    }
+    this.buffer = null;
+  }
+
+  private synchronized Map<String, String> rendered()
+  {
+    if (this.rendered == null) {
+      final var data = this.windowBytes();
+      final var m = new HashMap<String, String>(this.base.size() + 3);
+      m.putAll(this.base);
+      m.put(SIOAttributeNames.OFFSET, Long.toString(this.offset));
+      m.put(
+        SIOAttributeNames.BUFFER_WINDOW_OFFSET,
+        Long.toString(this.windowOffset)
+      );
+      m.put(SIOAttributeNames.BUFFER_WINDOW, hex(data));
+      this.rendered = Map.copyOf(m);
+      this.buffer = null;
+      this.detached = null;
+    }
+    return this.rendered;
+  }
+
+  private byte[] windowBytes()
+  {
+    if (this.detached != null) {
+      return this.detached;
+    }
+    final var data = new byte[this.windowLength];
+    this.buffer.get(this.windowStart, data, 0, this.windowLength);
+    return data;
+  }
+
+  private static String hex(
+    final byte[] data)
+  {
+    if (data.length == 0) {
+      return "";
+    }
+
+    final var text = new char[(data.length * 3) - 1];
+    var t = 0;
+    for (int index = 0; index < data.length; ++index) {
+      if (index > 0) {
+        text[t] = ' ';
+        ++t;
+      }
+      final var b = data[index] & 0xff;
+      text[t] = HEX[b >>> 4];
+      text[t + 1] = HEX[b & 0xf];
+      t += 2;
+    }
+    return String.valueOf(text);
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet()
+  {
+    return this.rendered().entrySet();
+  }
+
+  @Override
+  public String get(
+    final Object key)
+  {
+    return this.rendered().get(key);
+  }
+
+  @Override
+  public boolean containsKey(
+    final Object key)
+  {
+    return this.rendered().containsKey(key);
+  }
+
+  @Override
+  public int size()
+  {
+    return this.size;
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>A scope within which the contents of a buffer may be referenced by
+ * error attributes.</p>
+ *
+ * <p>Decoders can use {@link #attributes(int)} to produce attributes that
+ * describe a position in the buffer along with a window of surrounding
+ * bytes. The returned attributes initially refer to the buffer directly;
+ * the window is copied out of the buffer only when the scope is closed (such
+ * as when an exception escapes a {@code try}-with-resources block), and is
+ * rendered as text only when the attributes are first inspected. The scope
+ * refers to the attributes it produces only weakly, so attributes that are
+ * discarded within the scope (such as those of an exception that is caught
+ * and handled) are never copied. Scopes are not thread-safe, but the
+ * attributes they produce are.</p>
+ *
+ * <pre>
+ * try (var scope = SIOBufferScope.open(buffer, streamOffset, 64)) {
+ *   ...
+ *   throw new SEOFException("Truncated header.", code, scope.attributes(index));
+ * }
+ * </pre>
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOBufferScope implements AutoCloseable
+{
+  private final ByteBuffer buffer;
+  private final long baseOffset;
+  private final int window;
+  private ArrayList<WeakReference<SIOBufferContextAttributes>> contexts;
+  private int expungeAt;
+
+  private SIOBufferScope(
+    final ByteBuffer inBuffer,
+    final long inBaseOffset,
+    final int inWindow)
+  {
+    this.buffer =
+      Objects.requireNonNull(inBuffer, "buffer");
+    this.baseOffset =
+      inBaseOffset;
+
+    if (inWindow < 0) {
+      throw new IllegalArgumentException(
+        "Window size %d must be non-negative".formatted(inWindow)
+      );
+    }
+    this.window = inWindow;
+    this.expungeAt = 16;
+  }
+
+  /**
+   * Open a scope for the given buffer.
+   *
+   * @param buffer     The buffer
+   * @param baseOffset The offset within the stream of index 0 of the buffer
+   * @param window     The maximum number of bytes captured around a position
+   *
+   * @return A new scope
+   */
+
+  public static SIOBufferScope open(
+    final ByteBuffer buffer,
+    final long baseOffset,
+    final int window)
+  {
+    return new SIOBufferScope(buffer, baseOffset, window);
+  }
+
+  /**
+   * Produce attributes that refer to the given buffer index.
+   *
+   * @param index The buffer index
+   *
+   * @return A set of attributes
+   *
+   * @see #attributes(int, Map)
+   */
+
+  public Map<String, String> attributes(
+    final int index)
+  {
+    return this.attributes(index, Map.of());
+  }
+
+  /**
+   * Produce attributes that refer to the given buffer index. The resulting
+   * attributes contain the given base attributes, along with
+   * {@link SIOAttributeNames#OFFSET},
+   * {@link SIOAttributeNames#BUFFER_WINDOW_OFFSET}, and
+   * {@link SIOAttributeNames#BUFFER_WINDOW}.
+   *
+   * @param index      The buffer index
+   * @param attributes The base attributes
+   *
+   * @return A set of attributes
+   */
+
+  public Map<String, String> attributes(
+    final int index,
+    final Map<String, String> attributes)
+  {
+    Objects.checkIndex(index, this.buffer.limit() + 1);
+
+    if (this.contexts == null) {
+      this.contexts = new ArrayList<>(1);
+    }
+
+    final var context =
+      new SIOBufferContextAttributes(
+        attributes,
+        this.buffer,
+        this.baseOffset,
+        index,
+        this.window
+      );
+
+    this.track(context);
+    return context;
+  }
+
+  private void track(
+    final SIOBufferContextAttributes context)
+  {
+    /*
+     * Drop the references to discarded attributes whenever the list has
+     * doubled in size, so that a long-lived scope stays bounded by the
+     * number of attributes that are still reachable.
+     */
+
+    if (this.contexts.size() >= this.expungeAt) {
+      this.contexts.removeIf(reference -> reference.get() == null);
+      this.expungeAt = Math.max(16, this.contexts.size() * 2);
+    }
+    this.contexts.add(new WeakReference<>(context));
+  }
+
+  @Override
+  public void close()
+  {
+    if (this.contexts != null) {
+      for (final var reference : this.contexts) {
+        final var context = reference.get();
+        if (context != null) {
+          context.detach();
+        }
+      }
+      this.contexts.clear();
+    }
+  }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A registry of canonical, preallocated exception instances.</p>
+ *
+ * <p>Canonical exceptions are intended for control-flow failures that carry
+ * no variable data, such as reading from a closed stream. Exactly one
+ * instance is registered per error code, and that instance can be thrown
+ * repeatedly without allocating. Canonical instances do not capture stack
+ * traces, reject attempts to set a cause or a stack trace, and have
+ * suppression disabled: {@link Throwable#addSuppressed(Throwable)} has no
+ * effect on them, so a shared instance thrown from a {@code try}-with-resources
+ * statement does not accumulate suppressed exceptions.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOCanonicalExceptions
+{
+  private static final ConcurrentHashMap<String, SIOException> EXCEPTIONS =
+    new ConcurrentHashMap<>();
+
+  private SIOCanonicalExceptions()
+  {
+
+  }
+
+  /**
+   * Register (or retrieve) the canonical end-of-file exception for the given
+   * error code.
+   *
+   * @param errorCode         The error code
+   * @param message           The message
+   * @param remediatingAction The remediating action
+   *
+   * @return The canonical exception
+   *
+   * @throws IllegalStateException If the error code is already registered
+   *                               with a different exception
+   */
+
+  public static SEOFException eof(
+    final String errorCode,
+    final String message,
+    final Optional<String> remediatingAction)
+    throws IllegalStateException
+  {
+    return (SEOFException) register(
+      CanonicalEOFException.class,
+      new CanonicalEOFException(message, errorCode, remediatingAction)
+    );
+  }
+
+  /**
+   * Register (or retrieve) the canonical closed channel exception for the
+   * given error code.
+   *
+   * @param errorCode         The error code
+   * @param message           The message
+   * @param remediatingAction The remediating action
+   *
+   * @return The canonical exception
+   *
+   * @throws IllegalStateException If the error code is already registered
+   *                               with a different exception
+   */
+
+  public static SClosedChannelException closedChannel(
+    final String errorCode,
+    final String message,
+    final Optional<String> remediatingAction)
+    throws IllegalStateException
+  {
+    return (SClosedChannelException) register(
+      CanonicalClosedChannelException.class,
+      new CanonicalClosedChannelException(message, errorCode, remediatingAction)
+    );
+  }
+
+  /**
+   * Register (or retrieve) the canonical I/O exception for the given error
+   * code.
+   *
+   * @param errorCode         The error code
+   * @param message           The message
+   * @param remediatingAction The remediating action
+   *
+   * @return The canonical exception
+   *
+   * @throws IllegalStateException If the error code is already registered
+   *                               with a different exception
+   */
+
+  public static SIOException ioException(
+    final String errorCode,
+    final String message,
+    final Optional<String> remediatingAction)
+    throws IllegalStateException
+  {
+    return register(
+      CanonicalIOException.class,
+      new CanonicalIOException(message, errorCode, remediatingAction)
+    );
+  }
+
+  /**
+   * Find the canonical exception registered for the given error code.
+   *
+   * @param errorCode The error code
+   *
+   * @return The canonical exception, if any
+   */
+
+  public static Optional<SIOException> find(
+    final String errorCode)
+  {
+    Objects.requireNonNull(errorCode, "errorCode");
+    return Optional.ofNullable(EXCEPTIONS.get(errorCode));
+  }
+
+  /**
+   * @param exception The exception
+   *
+   * @return {@code true} if the given exception is a canonical instance
+   */
+
+  public static boolean isCanonical(
+    final Throwable exception)
+  {
+    return exception instanceof CanonicalEOFException
+           || exception instanceof CanonicalClosedChannelException
+           || exception instanceof CanonicalIOException;
+  }
+
+  private static SIOException register(
+    final Class<? extends SIOException> kind,
+    final SIOException created)
+  {
+    var existing = EXCEPTIONS.get(created.errorCode());
+    if (existing == null) {
+      final var canonical = withoutSuppression(created);
+      existing = EXCEPTIONS.putIfAbsent(created.errorCode(), canonical);
+      if (existing == null) {
+        return canonical;
+      }
+    }
+
+    final var same =
+      existing.getClass() == kind
+      && Objects.equals(existing.getMessage(), created.getMessage())
+      && Objects.equals(existing.remediatingAction(), created.remediatingAction());
+
+    if (!same) {
+      throw new IllegalStateException(
+        "A different canonical exception is already registered for error code '%s'"
+          .formatted(created.errorCode())
+      );
+    }
+    return existing;
+  }
+
+  /*
+   * IOException offers no constructor that disables suppression, and
+   * Throwable.addSuppressed is final. However, the serialized form of
+   * Throwable specifies that an exception read with a null
+   * suppressedExceptions field has suppression disabled. A copy of the
+   * exception is therefore made, once, by writing it with the (empty,
+   * sentinel) suppression list replaced by null and reading it back.
+   */
+
+  private static SIOException withoutSuppression(
+    final SIOException exception)
+  {
+    try {
+      final var bytes = new ByteArrayOutputStream();
+      try (var output = new SuppressionDisablingOutputStream(bytes)) {
+        output.writeObject(exception);
+      }
+      try (var input = new ObjectInputStream(
+        new ByteArrayInputStream(bytes.toByteArray()))) {
+        return (SIOException) input.readObject();
+      }
+    } catch (final IOException | ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static IllegalStateException errorCause()
+  {
+    return new IllegalStateException(
+      "Canonical exceptions cannot be assigned causes.");
+  }
+
+  private static UnsupportedOperationException errorStackTrace()
+  {
+    return new UnsupportedOperationException(
+      "Canonical exceptions cannot be assigned stack traces.");
+  }
+
+  private static final class SuppressionDisablingOutputStream
+    extends ObjectOutputStream
+  {
+    SuppressionDisablingOutputStream(
+      final OutputStream output)
+      throws IOException
+    {
+      super(output);
+      this.enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(
+      final Object object)
+    {
+      if (object == Collections.emptyList()) {
+        return null;
+      }
+      if (object instanceof Optional<?> optional) {
+        return new SerializedOptional(optional.orElse(null));
+      }
+      return object;
+    }
+  }
+
+  /**
+   * {@link Optional} is not serializable, so the remediating action is
+   * carried across the copy in this form.
+   *
+   * @param value The optional value
+   */
+
+  private record SerializedOptional(Object value)
+    implements Serializable
+  {
+    @Serial
+    private Object readResolve()
+    {
+      return Optional.ofNullable(this.value);
+    }
+  }
+
+  private static final class CanonicalEOFException extends SEOFException
+  {
+    CanonicalEOFException(
+      final String message,
+      final String inErrorCode,
+      final Optional<String> inRemediatingAction)
+    {
+      super(message, inErrorCode, Map.of(), inRemediatingAction);
+    }
+
+    @Override
+    public Throwable fillInStackTrace()
+    {
+      return this;
+    }
+
+    @Override
+    public Throwable initCause(
+      final Throwable cause)
+    {
+      throw errorCause();
+    }
+
+    @Override
+    public void setStackTrace(
+      final StackTraceElement[] stackTrace)
+    {
+      throw errorStackTrace();
+    }
+  }
+
+  private static final class CanonicalClosedChannelException
+    extends SClosedChannelException
+  {
+    CanonicalClosedChannelException(
+      final String message,
+      final String inErrorCode,
+      final Optional<String> inRemediatingAction)
+    {
+      super(message, inErrorCode, Map.of(), inRemediatingAction);
+    }
+
+    @Override
+    public Throwable fillInStackTrace()
+    {
+      return this;
+    }
+
+    @Override
+    public Throwable initCause(
+      final Throwable cause)
+    {
+      throw errorCause();
+    }
+
+    @Override
+    public void setStackTrace(
+      final StackTraceElement[] stackTrace)
+    {
+      throw errorStackTrace();
+    }
+  }
+
+  private static final class CanonicalIOException extends SIOException
+  {
+    CanonicalIOException(
+      final String message,
+      final String inErrorCode,
+      final Optional<String> inRemediatingAction)
+    {
+      super(message, inErrorCode, Map.of(), inRemediatingAction);
+    }
+
+    @Override
+    public Throwable fillInStackTrace()
+    {
+      return this;
+    }
+
+    @Override
+    public Throwable initCause(
+      final Throwable cause)
+    {
+      throw errorCause();
+    }
+
+    @Override
+    public void setStackTrace(
+      final StackTraceElement[] stackTrace)
+    {
+      throw errorStackTrace();
+    }
+  }
+}
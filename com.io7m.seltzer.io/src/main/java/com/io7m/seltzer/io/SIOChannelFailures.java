@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.HashMap;
+
+/**
+ * Functions to construct exceptions for failed channel operations.
+ */
+
+final class SIOChannelFailures
+{
+  private SIOChannelFailures()
+  {
+
+  }
+
+  static SIOException failure(
+    final SIOExceptionTranslator translator,
+    final IOException exception,
+    final Object channel,
+    final String file,
+    final long position,
+    final long requested,
+    final long transferred)
+  {
+    final var attributes = new HashMap<String, String>(8);
+    attributes.put(SIOAttributeNames.CHANNEL, channel.toString());
+    if (file != null) {
+      attributes.put(SIOAttributeNames.FILE, file);
+    }
+    if (position >= 0L) {
+      attributes.put(SIOAttributeNames.POSITION, Long.toString(position));
+    }
+    if (requested >= 0L) {
+      attributes.put(
+        SIOAttributeNames.BYTES_REQUESTED,
+        Long.toString(requested)
+      );
+    }
+    if (transferred >= 0L) {
+      attributes.put(
+        SIOAttributeNames.BYTES_TRANSFERRED,
+        Long.toString(transferred)
+      );
+    }
+    return translator.translate(exception, attributes);
+  }
+
+  static long positionOf(
+    final SeekableByteChannel channel)
+  {
+    try {
+      return channel.position();
+    } catch (final IOException e) {
+      return -1L;
+    }
+  }
+}
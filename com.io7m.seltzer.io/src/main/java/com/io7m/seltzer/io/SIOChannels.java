@@ -0,0 +1,347 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>Functions to transfer exact numbers of bytes to and from channels.</p>
+ *
+ * <p>The functions operate directly on the given buffers and perform no
+ * intermediate copying. The transfer functions use
+ * {@link FileChannel#transferTo(long, long, WritableByteChannel)} and
+ * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}, and so
+ * benefit from any zero-copy support provided by the platform.</p>
+ *
+ * <p>All functions expect channels to be in blocking mode. A premature end of
+ * stream is reported as an {@link SEOFException} carrying
+ * {@link SIOAttributeNames#BYTES_EXPECTED},
+ * {@link SIOAttributeNames#BYTES_RECEIVED}, and
+ * {@link SIOAttributeNames#OFFSET} attributes. For channels that have no
+ * notion of position, the offset is relative to the start of the
+ * operation.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOChannels
+{
+  private static final String UNEXPECTED_EOF =
+    "Unexpected end of stream.";
+
+  private SIOChannels()
+  {
+
+  }
+
+  private static SEOFException unexpectedEOF(
+    final long expected,
+    final long received,
+    final long offset)
+  {
+    return new SEOFException(
+      UNEXPECTED_EOF,
+      SIOErrorCodes.ERROR_IO_EOF,
+      Map.of(
+        SIOAttributeNames.BYTES_EXPECTED,
+        Long.toString(expected),
+        SIOAttributeNames.BYTES_RECEIVED,
+        Long.toString(received),
+        SIOAttributeNames.OFFSET,
+        Long.toString(offset)
+      )
+    );
+  }
+
+  private static long remaining(
+    final ByteBuffer[] buffers)
+  {
+    var total = 0L;
+    for (final var buffer : buffers) {
+      total += buffer.remaining();
+    }
+    return total;
+  }
+
+  /**
+   * Read from the channel until the buffer is full.
+   *
+   * @param channel The channel
+   * @param buffer  The buffer
+   *
+   * @throws SEOFException If the channel reaches the end of the stream first
+   * @throws IOException   On errors
+   */
+
+  public static void readFully(
+    final ReadableByteChannel channel,
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(buffer, "buffer");
+
+    final var expected = buffer.remaining();
+    var received = 0;
+    while (received < expected) {
+      final var r = channel.read(buffer);
+      if (r < 0) {
+        throw unexpectedEOF(expected, received, received);
+      }
+      received += r;
+    }
+  }
+
+  /**
+   * Read from the channel at the given position until the buffer is full.
+   * The position of the channel is not changed.
+   *
+   * @param channel  The channel
+   * @param buffer   The buffer
+   * @param position The file position
+   *
+   * @throws SEOFException If the channel reaches the end of the file first
+   * @throws IOException   On errors
+   */
+
+  public static void readFully(
+    final FileChannel channel,
+    final ByteBuffer buffer,
+    final long position)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(buffer, "buffer");
+
+    final var expected = buffer.remaining();
+    var received = 0;
+    while (received < expected) {
+      final var r = channel.read(buffer, position + received);
+      if (r < 0) {
+        throw unexpectedEOF(expected, received, position + received);
+      }
+      received += r;
+    }
+  }
+
+  /**
+   * Read from the channel until all the buffers are full.
+   *
+   * @param channel The channel
+   * @param buffers The buffers
+   *
+   * @throws SEOFException If the channel reaches the end of the stream first
+   * @throws IOException   On errors
+   */
+
+  public static void readFully(
+    final ScatteringByteChannel channel,
+    final ByteBuffer[] buffers)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(buffers, "buffers");
+
+    final var expected = remaining(buffers);
+    var received = 0L;
+    var first = 0;
+    while (received < expected) {
+      while (!buffers[first].hasRemaining()) {
+        ++first;
+      }
+
+      final var r = channel.read(buffers, first, buffers.length - first);
+      if (r < 0L) {
+        throw unexpectedEOF(expected, received, received);
+      }
+      received += r;
+    }
+  }
+
+  /**
+   * Write the entire contents of the buffer to the channel.
+   *
+   * @param channel The channel
+   * @param buffer  The buffer
+   *
+   * @throws IOException On errors
+   */
+
+  public static void writeFully(
+    final WritableByteChannel channel,
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(buffer, "buffer");
+
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * Write the entire contents of the buffer to the channel at the given
+   * position. The position of the channel is not changed.
+   *
+   * @param channel  The channel
+   * @param buffer   The buffer
+   * @param position The file position
+   *
+   * @throws IOException On errors
+   */
+
+  public static void writeFully(
+    final FileChannel channel,
+    final ByteBuffer buffer,
+    final long position)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(buffer, "buffer");
+
+    var offset = position;
+    while (buffer.hasRemaining()) {
+      offset += channel.write(buffer, offset);
+    }
+  }
+
+  /**
+   * Write the entire contents of all the buffers to the channel.
+   *
+   * @param channel The channel
+   * @param buffers The buffers
+   *
+   * @throws IOException On errors
+   */
+
+  public static void writeFully(
+    final GatheringByteChannel channel,
+    final ByteBuffer[] buffers)
+    throws IOException
+  {
+    Objects.requireNonNull(channel, "channel");
+    Objects.requireNonNull(buffers, "buffers");
+
+    final var expected = remaining(buffers);
+    var written = 0L;
+    var first = 0;
+    while (written < expected) {
+      while (!buffers[first].hasRemaining()) {
+        ++first;
+      }
+      written += channel.write(buffers, first, buffers.length - first);
+    }
+  }
+
+  /**
+   * Transfer exactly {@code count} bytes from the source file, starting at
+   * {@code position}, to the target channel.
+   *
+   * @param source   The source file
+   * @param position The position in the source file
+   * @param count    The number of bytes
+   * @param target   The target channel
+   *
+   * @throws SEOFException If the source file ends before {@code count}
+   *                       bytes have been transferred
+   * @throws IOException   On errors
+   */
+
+  public static void transferFully(
+    final FileChannel source,
+    final long position,
+    final long count,
+    final WritableByteChannel target)
+    throws IOException
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    var transferred = 0L;
+    while (transferred < count) {
+      final var offset = position + transferred;
+      final var r =
+        source.transferTo(offset, count - transferred, target);
+
+      if (r == 0L && offset >= source.size()) {
+        throw unexpectedEOF(count, transferred, offset);
+      }
+      transferred += r;
+    }
+  }
+
+  /**
+   * Transfer exactly {@code count} bytes from the source channel to the
+   * target file, starting at {@code position}. The position must not be
+   * greater than the current size of the target file, because
+   * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}
+   * transfers nothing in that case.
+   *
+   * @param source   The source channel
+   * @param target   The target file
+   * @param position The position in the target file
+   * @param count    The number of bytes
+   *
+   * @throws IllegalArgumentException If {@code position} is greater than the
+   *                                  size of the target file
+   * @throws SEOFException            If the source channel ends before
+   *                                  {@code count} bytes have been
+   *                                  transferred
+   * @throws IOException              On errors
+   */
+
+  public static void transferFully(
+    final ReadableByteChannel source,
+    final FileChannel target,
+    final long position,
+    final long count)
+    throws IOException
+  {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+
+    final var size = target.size();
+    if (position > size) {
+      throw new IllegalArgumentException(
+        "Position %d is beyond the end of the target file (size %d)"
+          .formatted(Long.valueOf(position), Long.valueOf(size))
+      );
+    }
+
+    var transferred = 0L;
+    while (transferred < count) {
+      final var offset = position + transferred;
+      final var r =
+        target.transferFrom(source, offset, count - transferred);
+
+      if (r == 0L) {
+        throw unexpectedEOF(count, transferred, offset);
+      }
+      transferred += r;
+    }
+  }
+}
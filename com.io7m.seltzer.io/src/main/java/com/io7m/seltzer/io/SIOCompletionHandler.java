@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.CompletionHandler;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>A completion handler that completes a future, translating failures
+ * into structured I/O exceptions.</p>
+ *
+ * <p>The handler records the channel, position, and buffer involved in an
+ * operation, but only converts these to attributes when the operation
+ * fails. Failures that arrive wrapped in a
+ * {@link java.util.concurrent.CompletionException} or
+ * {@link java.util.concurrent.ExecutionException} are unwrapped once before
+ * being translated, and no wrapper exceptions are created. The translated
+ * exception itself records a stack trace when it is constructed, because
+ * {@link java.io.IOException} offers no constructor that disables stack
+ * trace capture. If translation fails, the future completes exceptionally
+ * with the exception raised by the translator.</p>
+ *
+ * @param <V> The type of results
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOCompletionHandler<V>
+  implements CompletionHandler<V, Object>
+{
+  private final SIOExceptionTranslator translator;
+  private final CompletableFuture<V> future;
+  private final Object channel;
+  private final ByteBuffer buffer;
+  private final long position;
+  private final int requested;
+
+  private SIOCompletionHandler(
+    final SIOExceptionTranslator inTranslator,
+    final Object inChannel,
+    final ByteBuffer inBuffer,
+    final long inPosition)
+  {
+    this.translator =
+      Objects.requireNonNull(inTranslator, "translator");
+    this.channel =
+      Objects.requireNonNull(inChannel, "channel");
+    this.buffer =
+      inBuffer;
+    this.position =
+      inPosition;
+    this.requested =
+      inBuffer == null ? -1 : inBuffer.remaining();
+    this.future =
+      new CompletableFuture<>();
+  }
+
+  /**
+   * Create a handler for an operation on the given channel.
+   *
+   * @param translator The exception translator
+   * @param channel    The channel
+   * @param buffer     The buffer used in the operation
+   * @param position   The position at which the operation starts, or
+   *                   {@code -1} if the channel has no notion of position
+   * @param <V>        The type of results
+   *
+   * @return A new handler
+   */
+
+  public static <V> SIOCompletionHandler<V> create(
+    final SIOExceptionTranslator translator,
+    final Object channel,
+    final ByteBuffer buffer,
+    final long position)
+  {
+    Objects.requireNonNull(buffer, "buffer");
+    return new SIOCompletionHandler<>(translator, channel, buffer, position);
+  }
+
+  /**
+   * Create a handler for an operation on the given channel that does not
+   * involve a buffer.
+   *
+   * @param translator The exception translator
+   * @param channel    The channel
+   * @param <V>        The type of results
+   *
+   * @return A new handler
+   */
+
+  public static <V> SIOCompletionHandler<V> create(
+    final SIOExceptionTranslator translator,
+    final Object channel)
+  {
+    return new SIOCompletionHandler<>(translator, channel, null, -1L);
+  }
+
+  /**
+   * @return The future that will be completed by this handler
+   */
+
+  public CompletableFuture<V> future()
+  {
+    return this.future;
+  }
+
+  @Override
+  public void completed(
+    final V result,
+    final Object attachment)
+  {
+    this.future.complete(result);
+  }
+
+  @Override
+  public void failed(
+    final Throwable exception,
+    final Object attachment)
+  {
+    final var attributes = new HashMap<String, String>(8);
+    attributes.put(SIOAttributeNames.CHANNEL, this.channel.toString());
+    if (this.position >= 0L) {
+      attributes.put(
+        SIOAttributeNames.POSITION,
+        Long.toString(this.position)
+      );
+    }
+    if (this.buffer != null) {
+      attributes.put(
+        SIOAttributeNames.BYTES_REQUESTED,
+        Integer.toString(this.requested)
+      );
+      attributes.put(
+        SIOAttributeNames.BYTES_TRANSFERRED,
+        Integer.toString(this.requested - this.buffer.remaining())
+      );
+    }
+
+    try {
+      this.future.completeExceptionally(
+        this.translator.translate(SIOFutures.unwrap(exception), attributes)
+      );
+    } catch (final RuntimeException | Error e) {
+      this.future.completeExceptionally(e);
+    }
+  }
+}
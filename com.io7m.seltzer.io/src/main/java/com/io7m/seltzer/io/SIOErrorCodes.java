@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+/**
+ * The standard error codes used for I/O errors.
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOErrorCodes
+{
+  /**
+   * A general I/O error.
+   */
+
+  public static final String ERROR_IO = "error-io";
+
+  /**
+   * An unexpected end of file or stream.
+   */
+
+  public static final String ERROR_IO_EOF = "error-io-eof";
+
+  /**
+   * An operation was attempted on a closed channel.
+   */
+
+  public static final String ERROR_IO_CLOSED = "error-io-closed";
+
+  /**
+   * A file or other resource did not exist.
+   */
+
+  public static final String ERROR_IO_NOT_FOUND = "error-io-not-found";
+
+  /**
+   * Access to a file or other resource was denied.
+   */
+
+  public static final String ERROR_IO_ACCESS_DENIED = "error-io-access-denied";
+
+  /**
+   * An I/O operation timed out.
+   */
+
+  public static final String ERROR_IO_TIMEOUT = "error-io-timeout";
+
+  private SIOErrorCodes()
+  {
+
+  }
+}
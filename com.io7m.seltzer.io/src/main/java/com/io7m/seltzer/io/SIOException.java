@@ -17,6 +17,8 @@
 
 package com.io7m.seltzer.io;
 
+import com.io7m.seltzer.api.SAttributes;
+import com.io7m.seltzer.api.SExceptionAttributeExtractors;
 import com.io7m.seltzer.api.SStructuredErrorExceptionType;
 
 import java.io.IOException;
@@ -64,7 +66,7 @@ public class SIOException
     this.errorCode =
       Objects.requireNonNull(inErrorCode, "errorCode");
     this.attributes =
-      Map.copyOf(inAttributes);
+      enrichAttributes(cause, inAttributes);
     this.remediatingAction =
       Objects.requireNonNull(inRemediatingAction, "remediatingAction");
   }
@@ -89,7 +91,7 @@ public class SIOException
     this.errorCode =
       Objects.requireNonNull(inErrorCode, "errorCode");
     this.attributes =
-      Map.copyOf(inAttributes);
+      copyAttributes(inAttributes);
     this.remediatingAction =
       Objects.requireNonNull(inRemediatingAction, "remediatingAction");
   }
@@ -119,7 +121,7 @@ public class SIOException
     this.errorCode =
       Objects.requireNonNull(inErrorCode, "errorCode");
     this.attributes =
-      Map.copyOf(inAttributes);
+      enrichAttributes(cause, inAttributes);
     this.remediatingAction =
       Objects.requireNonNull(inRemediatingAction, "remediatingAction");
   }
@@ -224,6 +226,29 @@ public class SIOException
     this(message, inErrorCode, inAttributes, Optional.empty());
   }
 
+  private static Map<String, String> enrichAttributes(
+    final Throwable cause,
+    final Map<String, String> attributes)
+  {
+    return SExceptionAttributeExtractors.standard()
+      .enrich(cause, copyAttributes(attributes));
+  }
+
+  private static Map<String, String> copyAttributes(
+    final Map<String, String> attributes)
+  {
+    /*
+     * Buffer context attributes and typed attributes are immutable and
+     * render themselves lazily; copying them here would force rendering.
+     */
+
+    if (attributes instanceof SIOBufferContextAttributes
+      || attributes instanceof SAttributes) {
+      return attributes;
+    }
+    return Map.copyOf(attributes);
+  }
+
   @Override
   public final String errorCode()
   {
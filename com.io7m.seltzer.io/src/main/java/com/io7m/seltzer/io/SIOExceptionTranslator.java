@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.InterruptedByTimeoutException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.NoSuchFileException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>A translator from arbitrary exceptions to structured I/O exceptions.</p>
+ *
+ * <p>Rules are registered per exception class. When an exception is
+ * translated, the rule registered for the most specific superclass of the
+ * exception is used. Rule resolution happens once per exception class and
+ * the result is cached, so translation itself is a single lookup.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOExceptionTranslator
+{
+  private static final SIOExceptionTranslator STANDARD =
+    builder().build();
+
+  private final Map<Class<?>, SIOExceptionTranslatorRuleType<?>> rules;
+  private final ClassValue<SIOExceptionTranslatorRuleType<Throwable>> dispatch;
+
+  private SIOExceptionTranslator(
+    final Map<Class<?>, SIOExceptionTranslatorRuleType<?>> inRules)
+  {
+    this.rules =
+      Map.copyOf(inRules);
+    this.dispatch =
+      new ClassValue<>()
+      {
+        @Override
+        protected SIOExceptionTranslatorRuleType<Throwable> computeValue(
+          final Class<?> type)
+        {
+          return SIOExceptionTranslator.this.resolve(type);
+        }
+      };
+  }
+
+  /**
+   * @return A translator with the standard set of rules
+   */
+
+  public static SIOExceptionTranslator standard()
+  {
+    return STANDARD;
+  }
+
+  /**
+   * Create a new builder. The builder is populated with the standard set
+   * of rules, any of which may be replaced.
+   *
+   * @return A new builder
+   */
+
+  public static Builder builder()
+  {
+    return new Builder();
+  }
+
+  @SuppressWarnings("unchecked")
+  private SIOExceptionTranslatorRuleType<Throwable> resolve(
+    final Class<?> type)
+  {
+    for (var c = type; c != null; c = c.getSuperclass()) {
+      final var rule = this.rules.get(c);
+      if (rule != null) {
+        return (SIOExceptionTranslatorRuleType<Throwable>) rule;
+      }
+    }
+    throw new IllegalStateException(
+      "No rule available for class %s".formatted(type)
+    );
+  }
+
+  /**
+   * Translate the given exception. If the exception is already a structured
+   * I/O exception, it is returned as-is by the standard rules.
+   *
+   * @param exception The exception
+   *
+   * @return A structured exception
+   */
+
+  public SIOException translate(
+    final Throwable exception)
+  {
+    return this.translate(exception, Map.of());
+  }
+
+  /**
+   * Translate the given exception, attaching the given attributes. If the
+   * exception is already a structured I/O exception, it is returned as-is by
+   * the standard rules and the attributes are ignored.
+   *
+   * @param exception  The exception
+   * @param attributes The extra attributes
+   *
+   * @return A structured exception
+   */
+
+  public SIOException translate(
+    final Throwable exception,
+    final Map<String, String> attributes)
+  {
+    Objects.requireNonNull(exception, "exception");
+    Objects.requireNonNull(attributes, "attributes");
+
+    return this.dispatch.get(exception.getClass())
+      .translate(exception, new HashMap<>(attributes));
+  }
+
+  /**
+   * A mutable builder for translators.
+   */
+
+  public static final class Builder
+  {
+    private final HashMap<Class<?>, SIOExceptionTranslatorRuleType<?>> rules;
+
+    private Builder()
+    {
+      this.rules = new HashMap<>();
+
+      this.withRule(Throwable.class, (e, a) -> {
+        return new SIOException(e, SIOErrorCodes.ERROR_IO, a, Optional.empty());
+      });
+      this.withRule(SIOException.class, (e, a) -> e);
+      this.withRule(EOFException.class, (e, a) -> {
+        return new SEOFException(
+          e, SIOErrorCodes.ERROR_IO_EOF, a, Optional.empty());
+      });
+      this.withRule(ClosedChannelException.class, (e, a) -> {
+        return new SClosedChannelException(
+          e, SIOErrorCodes.ERROR_IO_CLOSED, a, Optional.empty());
+      });
+      this.withRule(FileNotFoundException.class, (e, a) -> {
+        return new SNoSuchFileException(
+          e, SIOErrorCodes.ERROR_IO_NOT_FOUND, a, Optional.empty());
+      });
+      this.withRule(NoSuchFileException.class, (e, a) -> {
+        return new SNoSuchFileException(
+          e, SIOErrorCodes.ERROR_IO_NOT_FOUND, a, Optional.empty());
+      });
+      this.withRule(AccessDeniedException.class, (e, a) -> {
+        return new SAccessDeniedException(
+          e, SIOErrorCodes.ERROR_IO_ACCESS_DENIED, a, Optional.empty());
+      });
+      this.withRule(SocketTimeoutException.class, Builder::timeout);
+      this.withRule(InterruptedByTimeoutException.class, Builder::timeout);
+      this.withRule(TimeoutException.class, Builder::timeout);
+    }
+
+    private static SIOException timeout(
+      final Throwable e,
+      final Map<String, String> a)
+    {
+      return new STimeoutException(
+        e, SIOErrorCodes.ERROR_IO_TIMEOUT, a, Optional.empty());
+    }
+
+    /**
+     * Register a rule for the given exception class, replacing any existing
+     * rule for exactly that class.
+     *
+     * @param clazz The exception class
+     * @param rule  The rule
+     * @param <T>   The type of exceptions
+     *
+     * @return this
+     */
+
+    public <T extends Throwable> Builder withRule(
+      final Class<T> clazz,
+      final SIOExceptionTranslatorRuleType<? super T> rule)
+    {
+      this.rules.put(
+        Objects.requireNonNull(clazz, "clazz"),
+        Objects.requireNonNull(rule, "rule")
+      );
+      return this;
+    }
+
+    /**
+     * @return A translator based on the rules so far
+     */
+
+    public SIOExceptionTranslator build()
+    {
+      return new SIOExceptionTranslator(this.rules);
+    }
+  }
+}
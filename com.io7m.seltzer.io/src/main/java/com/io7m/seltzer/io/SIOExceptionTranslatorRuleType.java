@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import org.osgi.annotation.versioning.ConsumerType;
+
+import java.util.Map;
+
+/**
+ * A rule that translates exceptions of a given type into structured
+ * I/O exceptions.
+ *
+ * @param <T> The type of exceptions
+ *
+ * @since 1.4.0
+ */
+
+@ConsumerType
+@FunctionalInterface
+public interface SIOExceptionTranslatorRuleType<T extends Throwable>
+{
+  /**
+   * Translate an exception.
+   *
+   * @param exception  The exception
+   * @param attributes A mutable map of attributes that will be attached to
+   *                   the resulting exception. Rules may add extra attributes.
+   *
+   * @return A structured exception
+   */
+
+  SIOException translate(
+    T exception,
+    Map<String, String> attributes);
+}
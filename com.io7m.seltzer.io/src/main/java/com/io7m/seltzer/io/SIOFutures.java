@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>Functions to adapt asynchronous I/O operations and futures such that
+ * failures are delivered as structured I/O exceptions.</p>
+ *
+ * <p>All functions use the {@link SIOExceptionTranslator#standard()}
+ * translator. Use {@link SIOCompletionHandler} directly to use a different
+ * translator.</p>
+ *
+ * <p>The adapters create no wrapper exceptions of their own. The structured
+ * exception produced by the translator is an ordinary exception, and so
+ * records a stack trace when it is constructed; {@link java.io.IOException}
+ * offers no constructor that disables stack trace capture. If translation
+ * itself fails, the returned future completes exceptionally with the
+ * exception raised by the translator.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOFutures
+{
+  private SIOFutures()
+  {
+
+  }
+
+  /**
+   * Remove a single level of {@link CompletionException} or
+   * {@link ExecutionException} wrapping from the given exception.
+   *
+   * @param exception The exception
+   *
+   * @return The wrapped exception, or {@code exception} if it is not a wrapper
+   */
+
+  public static Throwable unwrap(
+    final Throwable exception)
+  {
+    Objects.requireNonNull(exception, "exception");
+
+    if (exception instanceof CompletionException
+      || exception instanceof ExecutionException) {
+      final var cause = exception.getCause();
+      if (cause != null) {
+        return cause;
+      }
+    }
+    return exception;
+  }
+
+  /**
+   * Read from the given channel.
+   *
+   * @param channel  The channel
+   * @param buffer   The buffer
+   * @param position The file position
+   *
+   * @return The operation in progress
+   *
+   * @see AsynchronousFileChannel#read(ByteBuffer, long, Object, java.nio.channels.CompletionHandler)
+   */
+
+  public static CompletableFuture<Integer> read(
+    final AsynchronousFileChannel channel,
+    final ByteBuffer buffer,
+    final long position)
+  {
+    final var handler =
+      SIOCompletionHandler.<Integer>create(
+        SIOExceptionTranslator.standard(), channel, buffer, position);
+    channel.read(buffer, position, null, handler);
+    return handler.future();
+  }
+
+  /**
+   * Write to the given channel.
+   *
+   * @param channel  The channel
+   * @param buffer   The buffer
+   * @param position The file position
+   *
+   * @return The operation in progress
+   *
+   * @see AsynchronousFileChannel#write(ByteBuffer, long, Object, java.nio.channels.CompletionHandler)
+   */
+
+  public static CompletableFuture<Integer> write(
+    final AsynchronousFileChannel channel,
+    final ByteBuffer buffer,
+    final long position)
+  {
+    final var handler =
+      SIOCompletionHandler.<Integer>create(
+        SIOExceptionTranslator.standard(), channel, buffer, position);
+    channel.write(buffer, position, null, handler);
+    return handler.future();
+  }
+
+  /**
+   * Read from the given channel.
+   *
+   * @param channel The channel
+   * @param buffer  The buffer
+   *
+   * @return The operation in progress
+   *
+   * @see AsynchronousSocketChannel#read(ByteBuffer, Object, java.nio.channels.CompletionHandler)
+   */
+
+  public static CompletableFuture<Integer> read(
+    final AsynchronousSocketChannel channel,
+    final ByteBuffer buffer)
+  {
+    final var handler =
+      SIOCompletionHandler.<Integer>create(
+        SIOExceptionTranslator.standard(), channel, buffer, -1L);
+    channel.read(buffer, null, handler);
+    return handler.future();
+  }
+
+  /**
+   * Write to the given channel.
+   *
+   * @param channel The channel
+   * @param buffer  The buffer
+   *
+   * @return The operation in progress
+   *
+   * @see AsynchronousSocketChannel#write(ByteBuffer, Object, java.nio.channels.CompletionHandler)
+   */
+
+  public static CompletableFuture<Integer> write(
+    final AsynchronousSocketChannel channel,
+    final ByteBuffer buffer)
+  {
+    final var handler =
+      SIOCompletionHandler.<Integer>create(
+        SIOExceptionTranslator.standard(), channel, buffer, -1L);
+    channel.write(buffer, null, handler);
+    return handler.future();
+  }
+
+  /**
+   * Adapt the given stage such that the returned future completes
+   * exceptionally with a structured I/O exception if the stage fails. If
+   * the failure cannot be translated, the future completes exceptionally
+   * with the exception raised during translation.
+   *
+   * @param stage      The stage
+   * @param attributes The attributes attached to any failure
+   * @param <T>        The type of results
+   *
+   * @return A new future
+   */
+
+  public static <T> CompletableFuture<T> structured(
+    final CompletionStage<T> stage,
+    final Map<String, String> attributes)
+  {
+    Objects.requireNonNull(stage, "stage");
+    Objects.requireNonNull(attributes, "attributes");
+
+    final var result = new CompletableFuture<T>();
+    stage.whenComplete((value, exception) -> {
+      if (exception == null) {
+        result.complete(value);
+        return;
+      }
+
+      try {
+        result.completeExceptionally(
+          SIOExceptionTranslator.standard()
+            .translate(unwrap(exception), attributes)
+        );
+      } catch (final RuntimeException | Error e) {
+        result.completeExceptionally(e);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Wait for the given future, translating any failure into a structured
+   * I/O exception.
+   *
+   * @param future The future
+   * @param <T>    The type of results
+   *
+   * @return The result
+   *
+   * @throws SIOException         On failure
+   * @throws InterruptedException If the calling thread is interrupted
+   */
+
+  public static <T> T await(
+    final Future<T> future)
+    throws SIOException, InterruptedException
+  {
+    Objects.requireNonNull(future, "future");
+
+    try {
+      return future.get();
+    } catch (final ExecutionException e) {
+      throw SIOExceptionTranslator.standard().translate(unwrap(e));
+    }
+  }
+
+  /**
+   * Wait for the given future, translating any failure into a structured
+   * I/O exception. A timeout is delivered as an {@link STimeoutException}.
+   *
+   * @param future  The future
+   * @param timeout The timeout
+   * @param unit    The timeout unit
+   * @param <T>     The type of results
+   *
+   * @return The result
+   *
+   * @throws SIOException         On failure
+   * @throws InterruptedException If the calling thread is interrupted
+   */
+
+  public static <T> T await(
+    final Future<T> future,
+    final long timeout,
+    final TimeUnit unit)
+    throws SIOException, InterruptedException
+  {
+    Objects.requireNonNull(future, "future");
+    Objects.requireNonNull(unit, "unit");
+
+    try {
+      return future.get(timeout, unit);
+    } catch (final ExecutionException | TimeoutException e) {
+      throw SIOExceptionTranslator.standard().translate(unwrap(e));
+    }
+  }
+}
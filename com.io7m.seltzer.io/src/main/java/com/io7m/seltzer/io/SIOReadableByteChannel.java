@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * <p>A readable channel that delegates to an existing channel, translating
+ * any failures into structured I/O exceptions.</p>
+ *
+ * <p>Successful operations do not allocate or acquire locks. The position
+ * reported in errors is the number of bytes that have been read through
+ * this channel.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOReadableByteChannel implements ReadableByteChannel
+{
+  private final ReadableByteChannel delegate;
+  private final SIOExceptionTranslator translator;
+  private final String file;
+  private long position;
+
+  private SIOReadableByteChannel(
+    final ReadableByteChannel inDelegate,
+    final SIOExceptionTranslator inTranslator,
+    final String inFile)
+  {
+    this.delegate =
+      Objects.requireNonNull(inDelegate, "delegate");
+    this.translator =
+      Objects.requireNonNull(inTranslator, "translator");
+    this.file =
+      inFile;
+  }
+
+  /**
+   * Decorate the given channel.
+   *
+   * @param delegate The underlying channel
+   *
+   * @return A decorated channel
+   */
+
+  public static SIOReadableByteChannel wrap(
+    final ReadableByteChannel delegate)
+  {
+    return new SIOReadableByteChannel(
+      delegate, SIOExceptionTranslator.standard(), null);
+  }
+
+  /**
+   * Decorate the given channel.
+   *
+   * @param delegate   The underlying channel
+   * @param translator The exception translator
+   * @param file       The file underlying the channel
+   *
+   * @return A decorated channel
+   */
+
+  public static SIOReadableByteChannel wrap(
+    final ReadableByteChannel delegate,
+    final SIOExceptionTranslator translator,
+    final Path file)
+  {
+    return new SIOReadableByteChannel(
+      delegate, translator, file.toString());
+  }
+
+  /**
+   * @return The underlying channel
+   */
+
+  public ReadableByteChannel delegate()
+  {
+    return this.delegate;
+  }
+
+  @Override
+  public int read(
+    final ByteBuffer dst)
+    throws SIOException
+  {
+    final var requested = dst.remaining();
+    try {
+      final var r = this.delegate.read(dst);
+      if (r > 0) {
+        this.position += r;
+      }
+      return r;
+    } catch (final IOException e) {
+      throw SIOChannelFailures.failure(
+        this.translator,
+        e,
+        this.delegate,
+        this.file,
+        this.position,
+        requested,
+        requested - dst.remaining()
+      );
+    }
+  }
+
+  @Override
+  public boolean isOpen()
+  {
+    return this.delegate.isOpen();
+  }
+
+  @Override
+  public void close()
+    throws SIOException
+  {
+    try {
+      this.delegate.close();
+    } catch (final IOException e) {
+      throw SIOChannelFailures.failure(
+        this.translator, e, this.delegate, this.file, -1L, -1L, -1L);
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return "[SIOReadableByteChannel %s]".formatted(this.delegate);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import com.io7m.seltzer.api.SResultType;
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.util.Objects;
+
+/**
+ * Functions to convert results into structured I/O exceptions at API
+ * boundaries.
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOResults
+{
+  private SIOResults()
+  {
+
+  }
+
+  /**
+   * Convert an error into an I/O exception. If the error is already an
+   * {@link SIOException}, it is returned as-is.
+   *
+   * @param error The error
+   *
+   * @return An I/O exception
+   */
+
+  public static SIOException toException(
+    final SStructuredErrorType<?> error)
+  {
+    Objects.requireNonNull(error, "error");
+
+    if (error instanceof SIOException) {
+      return (SIOException) error;
+    }
+
+    final var exception = error.exception();
+    if (exception.isPresent()) {
+      return new SIOException(
+        error.message(),
+        exception.get(),
+        error.errorCode().toString(),
+        error.attributes(),
+        error.remediatingAction()
+      );
+    }
+
+    return new SIOException(
+      error.message(),
+      error.errorCode().toString(),
+      error.attributes(),
+      error.remediatingAction()
+    );
+  }
+
+  /**
+   * Return the value of a successful result, or throw the error of a failed
+   * result as an I/O exception.
+   *
+   * @param result The result
+   * @param <T>    The type of successful values
+   * @param <C>    The type of error codes
+   *
+   * @return The successful value
+   *
+   * @throws SIOException On failure
+   * @see #toException(SStructuredErrorType)
+   */
+
+  public static <T, C> T orElseThrow(
+    final SResultType<T, C> result)
+    throws SIOException
+  {
+    Objects.requireNonNull(result, "result");
+    return result.orElseThrow(SIOResults::toException);
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * <p>A seekable channel that delegates to an existing channel, translating
+ * any failures into structured I/O exceptions.</p>
+ *
+ * <p>Successful operations do not allocate or acquire locks. The channel
+ * position is only queried when an operation fails.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SIOSeekableByteChannel implements SeekableByteChannel
+{
+  private final SeekableByteChannel delegate;
+  private final SIOExceptionTranslator translator;
+  private final String file;
+
+  private SIOSeekableByteChannel(
+    final SeekableByteChannel inDelegate,
+    final SIOExceptionTranslator inTranslator,
+    final String inFile)
+  {
+    this.delegate =
+      Objects.requireNonNull(inDelegate, "delegate");
+    this.translator =
+      Objects.requireNonNull(inTranslator, "translator");
+    this.file =
+      inFile;
+  }
+
+  /**
+   * Decorate the given channel.
+   *
+   * @param delegate The underlying channel
+   *
+   * @return A decorated channel
+   */
+
+  public static SIOSeekableByteChannel wrap(
+    final SeekableByteChannel delegate)
+  {
+    return new SIOSeekableByteChannel(
+      delegate, SIOExceptionTranslator.standard(), null);
+  }
+
+  /**
+   * Decorate the given channel.
+   *
+   * @param delegate   The underlying channel
+   * @param translator The exception translator
+   * @param file       The file underlying the channel
+   *
+   * @return A decorated channel
+   */
+
+  public static SIOSeekableByteChannel wrap(
+    final SeekableByteChannel delegate,
+    final SIOExceptionTranslator translator,
+    final Path file)
+  {
+    return new SIOSeekableByteChannel(
+      delegate, translator, file.toString());
+  }
+
+  /**
+   * @return The underlying channel
+   */
+
+  public SeekableByteChannel delegate()
+  {
+    return this.delegate;
+  }
+
+  private SIOException failure(
+    final IOException e,
+    final long requested,
+    final long transferred)
+  {
+    var position = SIOChannelFailures.positionOf(this.delegate);
+    if (position >= 0L && transferred > 0L) {
+      position -= transferred;
+    }
+
+    return SIOChannelFailures.failure(
+      this.translator,
+      e,
+      this.delegate,
+      this.file,
+      position,
+      requested,
+      transferred
+    );
+  }
+
+  @Override
+  public int read(
+    final ByteBuffer dst)
+    throws SIOException
+  {
+    final var requested = dst.remaining();
+    try {
+      return this.delegate.read(dst);
+    } catch (final IOException e) {
+      throw this.failure(e, requested, requested - dst.remaining());
+    }
+  }
+
+  @Override
+  public int write(
+    final ByteBuffer src)
+    throws SIOException
+  {
+    final var requested = src.remaining();
+    try {
+      return this.delegate.write(src);
+    } catch (final IOException e) {
+      throw this.failure(e, requested, requested - src.remaining());
+    }
+  }
+
+  @Override
+  public long position()
+    throws SIOException
+  {
+    try {
+      return this.delegate.position();
+    } catch (final IOException e) {
+      throw this.failure(e, -1L, -1L);
+    }
+  }
+
+  @Override
+  public SIOSeekableByteChannel position(
+    final long newPosition)
+    throws SIOException
+  {
+    try {
+      this.delegate.position(newPosition);
+      return this;
+    } catch (final IOException e) {
+      throw SIOChannelFailures.failure(
+        this.translator, e, this.delegate, this.file, newPosition, -1L, -1L);
+    }
+  }
+
+  @Override
+  public long size()
+    throws SIOException
+  {
+    try {
+      return this.delegate.size();
+    } catch (final IOException e) {
+      throw this.failure(e, -1L, -1L);
+    }
+  }
+
+  @Override
+  public SIOSeekableByteChannel truncate(
+    final long size)
+    throws SIOException
+  {
+    try {
+      this.delegate.truncate(size);
+      return this;
+    } catch (final IOException e) {
+      throw this.failure(e, -1L, -1L);
+    }
+  }
+
+  @Override
+  public boolean isOpen()
+  {
+    return this.delegate.isOpen();
+  }
+
+  @Override
+  public void close()
+    throws SIOException
+  {
+    try {
+      this.delegate.close();
+    } catch (final IOException e) {
+      throw SIOChannelFailures.failure(
+        this.translator, e, this.delegate, this.file, -1L, -1L, -1L);
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return "[SIOSeekableByteChannel %s]".formatted(this.delegate);
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.io;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A convenient extension of the standard {@link java.nio.file.NoSuchFileException} class.
+ *
+ * @since 1.4.0
+ */
+
+public class SNoSuchFileException extends SIOException
+{
+  /**
+   * Construct an exception.
+   *
+   * @param cause               The cause
+   * @param inErrorCode         The error code
+   * @param inAttributes        The attributes
+   * @param inRemediatingAction The remediating action
+   */
+
+  public SNoSuchFileException(
+    final Throwable cause,
+    final String inErrorCode,
+    final Map<String, String> inAttributes,
+    final Optional<String> inRemediatingAction)
+  {
+    super(cause, inErrorCode, inAttributes, inRemediatingAction);
+  }
+
+  /**
+   * Construct an exception.
+   *
+   * @param cause               The cause
+   * @param inErrorCode         The error code
+   * @param inRemediatingAction The remediating action
+   */
+
+  public SNoSuchFileException(
+    final Throwable cause,
+    final String inErrorCode,
+    final Optional<String> inRemediatingAction)
+  {
+    super(cause, inErrorCode, inRemediatingAction);
+  }
+
+  /**
+   * Construct an exception.
+   *
+   * @param message             The message
+   * @param cause               The cause
+   * @param inErrorCode         The error code
+   */
+
+  public SNoSuchFileException(
+    final String message,
+    final Throwable cause,
+    final String inErrorCode)
+  {
+    super(message, cause, inErrorCode);
+  }
+
+  /**
+   * Construct an exception.
+   *
+   * @param message             The message
+   * @param cause               The cause
+   * @param inErrorCode         The error code
+   * @param inAttributes        The attributes
+   */
+
+  public SNoSuchFileException(
+    final String message,
+    final Throwable cause,
+    final String inErrorCode,
+    final Map<String, String> inAttributes)
+  {
+    super(message, cause, inErrorCode, inAttributes);
+  }
+
+  /**
+   * Construct an exception.
+   *
+   * @param message             The message
+   * @param cause               The cause
+   * @param inErrorCode         The error code
+   * @param inAttributes        The attributes
+   * @param inRemediatingAction The remediating action
+   */
+
+  public SNoSuchFileException(
+    final String message,
+    final Throwable cause,
+    final String inErrorCode,
+    final Map<String, String> inAttributes,
+    final Optional<String> inRemediatingAction)
+  {
+    super(message, cause, inErrorCode, inAttributes, inRemediatingAction);
+  }
+
+  /**
+   * Construct an exception.
+   *
+   * @param message             The message
+   * @param cause               The cause
+   * @param inErrorCode         The error code
+   * @param inRemediatingAction The remediating action
+   */
+
+  public SNoSuchFileException(
+    final String message,
+    final Throwable cause,
+    final String inErrorCode,
+    final Optional<String> inRemediatingAction)
+  {
+    super(message, cause, inErrorCode, inRemediatingAction);
+  }
+
+  /**
+   * Construct an exception.
+   *
+   * @param message             The message
+   * @param inErrorCode         The error code
+   * @param inAttributes        The attributes
+   * @param inRemediatingAction The remediating action
+   */
+
+  public SNoSuchFileException(
+    final String message,
+    final String inErrorCode,
+    final Map<String, String> inAttributes,
+    final Optional<String> inRemediatingAction)
+  {
+    super(message, inErrorCode, inAttributes, inRemediatingAction);
+  }
+
+  /**
+   * Construct an exception.
+   *
+   * @param message             The message
+   * @param inErrorCode         The error code
+   * @param inRemediatingAction The remediating action
+   */
+
+  public SNoSuchFileException(
+    final String message,
+    final String inErrorCode,
+    final Optional<String> inRemediatingAction)
+  {
+    super(message, inErrorCode, inRemediatingAction);
+  }
+
+  /**
+   * Construct an exception.
+   *
+   * @param message      The message
+   * @param inErrorCode  The error code
+   * @param inAttributes The attributes
+   */
+
+  public SNoSuchFileException(
+    final String message,
+    final String inErrorCode,
+    final Map<String, String> inAttributes)
+  {
+    this(message, inErrorCode, inAttributes, Optional.empty());
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Functions to write JSON strings directly into byte buffers as UTF-8.</p>
+ *
+ * <p>This class holds the only definition of how characters are escaped in
+ * JSON strings; {@link SJSONLinesEncoder} uses the same escapes when
+ * encoding to text.</p>
+ */
+
+final class SJSONBytes
+{
+  private static final String[] ESCAPES =
+    escapes();
+  private static final byte[][] ESCAPE_BYTES =
+    escapeBytes();
+
+  private SJSONBytes()
+  {
+
+  }
+
+  private static String[] escapes()
+  {
+    final var hex = "0123456789abcdef";
+    final var escapes = new String[0x80];
+    for (int c = 0; c < 0x20; ++c) {
+      escapes[c] = "\\u00" + hex.charAt(c >> 4) + hex.charAt(c & 0xf);
+    }
+    escapes['"'] = "\\\"";
+    escapes['\\'] = "\\\\";
+    escapes['\n'] = "\\n";
+    escapes['\r'] = "\\r";
+    escapes['\t'] = "\\t";
+    escapes['\b'] = "\\b";
+    escapes['\f'] = "\\f";
+    return escapes;
+  }
+
+  private static byte[][] escapeBytes()
+  {
+    final var bytes = new byte[ESCAPES.length][];
+    for (int c = 0; c < ESCAPES.length; ++c) {
+      if (ESCAPES[c] != null) {
+        bytes[c] = ESCAPES[c].getBytes(StandardCharsets.US_ASCII);
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * @param c The character
+   *
+   * @return The escape sequence for the character, or {@code null} if the
+   * character may appear unescaped in a JSON string
+   */
+
+  static String escape(
+    final char c)
+  {
+    return c < 0x80 ? ESCAPES[c] : null;
+  }
+
+  static void putASCII(
+    final ByteBuffer target,
+    final String text)
+  {
+    final int length = text.length();
+    for (int index = 0; index < length; ++index) {
+      target.put((byte) text.charAt(index));
+    }
+  }
+
+  static void putString(
+    final ByteBuffer target,
+    final String text)
+  {
+    target.put((byte) '"');
+
+    final int length = text.length();
+    int index = 0;
+    while (index < length) {
+      final char c = text.charAt(index);
+
+      if (c < 0x80) {
+        putASCIIChar(target, c);
+        ++index;
+        continue;
+      }
+
+      if (c < 0x800) {
+        target.put((byte) (0xc0 | (c >> 6)));
+        target.put((byte) (0x80 | (c & 0x3f)));
+        ++index;
+        continue;
+      }
+
+      if (Character.isHighSurrogate(c)
+          && index + 1 < length
+          && Character.isLowSurrogate(text.charAt(index + 1))) {
+        final int cp = Character.toCodePoint(c, text.charAt(index + 1));
+        target.put((byte) (0xf0 | (cp >> 18)));
+        target.put((byte) (0x80 | ((cp >> 12) & 0x3f)));
+        target.put((byte) (0x80 | ((cp >> 6) & 0x3f)));
+        target.put((byte) (0x80 | (cp & 0x3f)));
+        index += 2;
+        continue;
+      }
+
+      final char r = Character.isSurrogate(c) ? '\ufffd' : c;
+      target.put((byte) (0xe0 | (r >> 12)));
+      target.put((byte) (0x80 | ((r >> 6) & 0x3f)));
+      target.put((byte) (0x80 | (r & 0x3f)));
+      ++index;
+    }
+
+    target.put((byte) '"');
+  }
+
+  private static void putASCIIChar(
+    final ByteBuffer target,
+    final char c)
+  {
+    final var escape = ESCAPE_BYTES[c];
+    if (escape == null) {
+      target.put((byte) c);
+    } else {
+      target.put(escape);
+    }
+  }
+}
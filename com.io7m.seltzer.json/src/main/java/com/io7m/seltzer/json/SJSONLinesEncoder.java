@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.json;
+
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>Functions to encode structured errors as single-line JSON objects,
+ * suitable for JSON-lines files.</p>
+ *
+ * <p>Each error is encoded as an object with the fields {@code errorCode},
+ * {@code message}, {@code attributes}, and, if present,
+ * {@code remediatingAction} and {@code exception}. The exception, if any, is
+ * encoded as an object with fields {@code type} and, if present,
+ * {@code message}.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SJSONLinesEncoder
+{
+  private SJSONLinesEncoder()
+  {
+
+  }
+
+  /**
+   * Encode an error as a JSON line, including the terminating newline.
+   *
+   * @param error The error
+   *
+   * @return The encoded line
+   */
+
+  public static String encodeLine(
+    final SStructuredErrorType<?> error)
+  {
+    final var text = new StringBuilder(256);
+    encode(error, text);
+    text.append('\n');
+    return text.toString();
+  }
+
+  /**
+   * Encode an error as a UTF-8 JSON line, including the terminating newline,
+   * into the given buffer at the buffer's current position. The bytes are
+   * identical to those of {@link #encodeLine(SStructuredErrorType)} encoded
+   * as UTF-8, with unpaired surrogates replaced by U+FFFD. If the buffer
+   * does not have sufficient space, the buffer's position is restored and
+   * {@link BufferOverflowException} is raised.
+   *
+   * @param error  The error
+   * @param target The target buffer
+   *
+   * @return The number of bytes written
+   *
+   * @throws BufferOverflowException If the buffer is too small
+   */
+
+  public static int encodeLine(
+    final SStructuredErrorType<?> error,
+    final ByteBuffer target)
+    throws BufferOverflowException
+  {
+    Objects.requireNonNull(error, "error");
+    Objects.requireNonNull(target, "target");
+
+    final int start = target.position();
+    try {
+      encodeBytes(error, target);
+      target.put((byte) '\n');
+    } catch (final BufferOverflowException e) {
+      target.position(start);
+      throw e;
+    }
+    return target.position() - start;
+  }
+
+  private static void encodeBytes(
+    final SStructuredErrorType<?> error,
+    final ByteBuffer output)
+  {
+    SJSONBytes.putASCII(output, "{\"errorCode\":");
+    SJSONBytes.putString(output, error.errorCode().toString());
+    SJSONBytes.putASCII(output, ",\"message\":");
+    SJSONBytes.putString(output, error.message());
+    SJSONBytes.putASCII(output, ",\"attributes\":{");
+
+    boolean first = true;
+    for (final var entry : error.attributes().entrySet()) {
+      if (!first) {
+        output.put((byte) ',');
+      }
+      first = false;
+      SJSONBytes.putString(output, entry.getKey());
+      output.put((byte) ':');
+      SJSONBytes.putString(output, entry.getValue());
+    }
+    output.put((byte) '}');
+
+    final var action = error.remediatingAction();
+    if (action.isPresent()) {
+      SJSONBytes.putASCII(output, ",\"remediatingAction\":");
+      SJSONBytes.putString(output, action.get());
+    }
+
+    final var exception = error.exception();
+    if (exception.isPresent()) {
+      final var ex = exception.get();
+      SJSONBytes.putASCII(output, ",\"exception\":{\"type\":");
+      SJSONBytes.putString(output, ex.getClass().getName());
+      final var exMessage = ex.getMessage();
+      if (exMessage != null) {
+        SJSONBytes.putASCII(output, ",\"message\":");
+        SJSONBytes.putString(output, exMessage);
+      }
+      output.put((byte) '}');
+    }
+    output.put((byte) '}');
+  }
+
+  /**
+   * Encode an error as a JSON object, without a terminating newline.
+   *
+   * @param error  The error
+   * @param output The output
+   */
+
+  public static void encode(
+    final SStructuredErrorType<?> error,
+    final StringBuilder output)
+  {
+    Objects.requireNonNull(error, "error");
+    Objects.requireNonNull(output, "output");
+
+    output.append("{\"errorCode\":");
+    encodeString(error.errorCode().toString(), output);
+    output.append(",\"message\":");
+    encodeString(error.message(), output);
+    output.append(",\"attributes\":{");
+
+    boolean first = true;
+    for (final var entry : error.attributes().entrySet()) {
+      if (!first) {
+        output.append(',');
+      }
+      first = false;
+      encodeString(entry.getKey(), output);
+      output.append(':');
+      encodeString(entry.getValue(), output);
+    }
+    output.append('}');
+
+    final var action = error.remediatingAction();
+    if (action.isPresent()) {
+      output.append(",\"remediatingAction\":");
+      encodeString(action.get(), output);
+    }
+
+    final var exception = error.exception();
+    if (exception.isPresent()) {
+      final var ex = exception.get();
+      output.append(",\"exception\":{\"type\":");
+      encodeString(ex.getClass().getName(), output);
+      final var exMessage = ex.getMessage();
+      if (exMessage != null) {
+        output.append(",\"message\":");
+        encodeString(exMessage, output);
+      }
+      output.append('}');
+    }
+    output.append('}');
+  }
+
+  /**
+   * Encode a string as a quoted, escaped JSON string.
+   *
+   * @param text   The string
+   * @param output The output
+   */
+
+  public static void encodeString(
+    final String text,
+    final StringBuilder output)
+  {
+    output.append('"');
+
+    final int length = text.length();
+    int start = 0;
+    for (int index = 0; index < length; ++index) {
+      final var escape = SJSONBytes.escape(text.charAt(index));
+      if (escape == null) {
+        continue;
+      }
+
+      output.append(text, start, index);
+      output.append(escape);
+      start = index + 1;
+    }
+
+    output.append(text, start, length);
+    output.append('"');
+  }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.json;
+
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * <p>A sink that appends structured errors to a file as JSON lines.</p>
+ *
+ * <p>Writers enqueue errors, and one of the waiting writers becomes the
+ * leader. The leader encodes every error enqueued so far as UTF-8 directly
+ * into a single reusable direct buffer, and writes the buffer with as few
+ * {@code write} calls as possible, followed by at most one {@code force}.
+ * A line too large for the buffer is encoded into a temporary heap buffer
+ * and written on its own. Writers enqueuing errors while the leader is
+ * writing are batched into the next write. A call to
+ * {@link #write(SStructuredErrorType)} returns once the error has been
+ * written (and forced, if configured). Errors must therefore not be
+ * modified until the call returns.</p>
+ *
+ * <p>The file is rotated before a batch is written if it has exceeded the
+ * configured size or age. Rotated files are renamed by appending an
+ * increasing numeric suffix to the file name.</p>
+ *
+ * <p>If a write fails for any reason, including unchecked exceptions raised
+ * while rotating or encoding, the lines in the failed batch are not counted
+ * as written, the sink becomes unusable, and all pending and subsequent
+ * writes fail.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SJSONLinesFileSink implements AutoCloseable
+{
+  private final SJSONLinesFileSinkConfiguration configuration;
+  private final ReentrantLock lock;
+  private final Condition flushedCondition;
+  private final ByteBuffer buffer;
+  private ArrayList<SStructuredErrorType<?>> pending;
+  private ArrayList<SStructuredErrorType<?>> spare;
+  private long enqueued;
+  private long flushed;
+  private long batches;
+  private boolean flushing;
+  private boolean closed;
+  private Throwable failure;
+  private FileChannel channel;
+  private long fileSize;
+  private Instant fileOpened;
+  private int rotationIndex;
+
+  private SJSONLinesFileSink(
+    final SJSONLinesFileSinkConfiguration inConfiguration,
+    final FileChannel inChannel,
+    final long inFileSize)
+  {
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.channel =
+      Objects.requireNonNull(inChannel, "channel");
+    this.fileSize =
+      inFileSize;
+    this.fileOpened =
+      inConfiguration.clock().instant();
+    this.lock =
+      new ReentrantLock();
+    this.flushedCondition =
+      this.lock.newCondition();
+    this.buffer =
+      ByteBuffer.allocateDirect(inConfiguration.bufferSize());
+    this.pending =
+      new ArrayList<>();
+    this.spare =
+      new ArrayList<>();
+  }
+
+  /**
+   * Open a sink. The file is created if it does not exist, and is appended
+   * to if it does.
+   *
+   * @param configuration The configuration
+   *
+   * @return A new sink
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public static SJSONLinesFileSink open(
+    final SJSONLinesFileSinkConfiguration configuration)
+    throws IOException
+  {
+    Objects.requireNonNull(configuration, "configuration");
+
+    final var channel = openChannel(configuration.file());
+    return new SJSONLinesFileSink(configuration, channel, channel.size());
+  }
+
+  private static FileChannel openChannel(
+    final Path file)
+    throws IOException
+  {
+    return FileChannel.open(file, CREATE, WRITE, APPEND);
+  }
+
+  /**
+   * Write an error to the file. The method returns when the error has been
+   * written as part of a batch.
+   *
+   * @param error The error
+   *
+   * @throws IOException On I/O errors
+   */
+
+  public void write(
+    final SStructuredErrorType<?> error)
+    throws IOException
+  {
+    Objects.requireNonNull(error, "error");
+
+    this.lock.lock();
+    try {
+      if (this.closed) {
+        throw new IOException("Sink is closed.");
+      }
+      this.checkFailure();
+
+      this.pending.add(error);
+      final var ticket = ++this.enqueued;
+
+      while (this.flushed < ticket) {
+        this.checkFailure();
+        if (this.flushing) {
+          this.flushedCondition.awaitUninterruptibly();
+        } else {
+          this.flushAsLeader();
+        }
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void checkFailure()
+    throws IOException
+  {
+    if (this.failure != null) {
+      throw new IOException("A previous write to the sink failed.", this.failure);
+    }
+  }
+
+  /*
+   * Called with the lock held. The lock is released while the batch is
+   * written, and reacquired before returning.
+   */
+
+  private void flushAsLeader()
+  {
+    final var batch = this.pending;
+    final var end = this.enqueued;
+    this.pending = this.spare;
+    this.flushing = true;
+    this.lock.unlock();
+
+    /*
+     * Any failure, checked or not, must be recorded: otherwise the waiting
+     * writers would see the batch as written when it was lost.
+     */
+
+    Throwable error = null;
+    try {
+      this.writeBatch(batch);
+    } catch (final IOException | RuntimeException | Error e) {
+      error = e;
+    } finally {
+      batch.clear();
+      this.lock.lock();
+      this.spare = batch;
+      this.flushing = false;
+      ++this.batches;
+      if (error == null) {
+        this.flushed = end;
+      } else {
+        this.failure = error;
+      }
+      this.flushedCondition.signalAll();
+    }
+  }
+
+  private void writeBatch(
+    final ArrayList<SStructuredErrorType<?>> batch)
+    throws IOException
+  {
+    this.rotateIfNecessary();
+
+    for (final var error : batch) {
+      try {
+        SJSONLinesEncoder.encodeLine(error, this.buffer);
+        continue;
+      } catch (final BufferOverflowException e) {
+        this.drain();
+      }
+      try {
+        SJSONLinesEncoder.encodeLine(error, this.buffer);
+      } catch (final BufferOverflowException e) {
+        this.writeLarge(error);
+      }
+    }
+
+    this.drain();
+    if (this.configuration.force()) {
+      this.channel.force(false);
+    }
+  }
+
+  /*
+   * Encode a line that does not fit into the (empty) direct buffer into a
+   * heap buffer that is grown until the line fits.
+   */
+
+  private void writeLarge(
+    final SStructuredErrorType<?> error)
+    throws IOException
+  {
+    var size = this.buffer.capacity();
+    while (true) {
+      size = Math.multiplyExact(size, 2);
+      final var large = ByteBuffer.allocate(size);
+      try {
+        SJSONLinesEncoder.encodeLine(error, large);
+      } catch (final BufferOverflowException e) {
+        continue;
+      }
+      large.flip();
+      while (large.hasRemaining()) {
+        this.fileSize += this.channel.write(large);
+      }
+      return;
+    }
+  }
+
+  private void drain()
+    throws IOException
+  {
+    this.buffer.flip();
+    while (this.buffer.hasRemaining()) {
+      this.fileSize += this.channel.write(this.buffer);
+    }
+    this.buffer.clear();
+  }
+
+  private void rotateIfNecessary()
+    throws IOException
+  {
+    final var now =
+      this.configuration.clock().instant();
+    final var age =
+      this.fileOpened.plus(this.configuration.maximumFileAge());
+
+    final var tooLarge =
+      this.fileSize >= this.configuration.maximumFileSize();
+    final var tooOld =
+      this.fileSize > 0L && !now.isBefore(age);
+
+    if (!tooLarge && !tooOld) {
+      return;
+    }
+
+    final var file = this.configuration.file();
+    this.channel.close();
+
+    Path target;
+    do {
+      ++this.rotationIndex;
+      target = file.resolveSibling(
+        "%s.%d".formatted(file.getFileName(), this.rotationIndex)
+      );
+    } while (Files.exists(target));
+
+    Files.move(file, target);
+    this.channel = openChannel(file);
+    this.fileSize = this.channel.size();
+    this.fileOpened = now;
+  }
+
+  /**
+   * @return The number of batches written so far
+   */
+
+  public long batchCount()
+  {
+    this.lock.lock();
+    try {
+      return this.batches;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * @return The number of lines written so far
+   */
+
+  public long lineCount()
+  {
+    this.lock.lock();
+    try {
+      return this.flushed;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Close the sink. Any lines already enqueued are written before the file
+   * is closed.
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    this.lock.lock();
+    try {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+
+      while (this.flushing) {
+        this.flushedCondition.awaitUninterruptibly();
+      }
+      if (!this.pending.isEmpty() && this.failure == null) {
+        this.flushAsLeader();
+      }
+      this.channel.close();
+      this.checkFailure();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.json;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration for a JSON-lines file sink.
+ *
+ * @param file            The file to which errors are written
+ * @param maximumFileSize The size in bytes at which the file is rotated
+ * @param maximumFileAge  The age at which the file is rotated
+ * @param force           {@code true} if each batch of writes should be
+ *                        forced to the storage device
+ * @param bufferSize      The size in bytes of the direct write buffer
+ * @param clock           The clock used to determine file ages
+ *
+ * @since 1.4.0
+ */
+
+public record SJSONLinesFileSinkConfiguration(
+  Path file,
+  long maximumFileSize,
+  Duration maximumFileAge,
+  boolean force,
+  int bufferSize,
+  Clock clock)
+{
+  /**
+   * The configuration for a JSON-lines file sink.
+   *
+   * @param file            The file to which errors are written
+   * @param maximumFileSize The size in bytes at which the file is rotated
+   * @param maximumFileAge  The age at which the file is rotated
+   * @param force           {@code true} if each batch of writes should be
+   *                        forced to the storage device
+   * @param bufferSize      The size in bytes of the direct write buffer
+   * @param clock           The clock used to determine file ages
+   */
+
+  public SJSONLinesFileSinkConfiguration
+  {
+    Objects.requireNonNull(file, "file");
+    Objects.requireNonNull(maximumFileAge, "maximumFileAge");
+    Objects.requireNonNull(clock, "clock");
+
+    if (maximumFileSize <= 0L) {
+      throw new IllegalArgumentException(
+        "Maximum file size %d must be positive".formatted(maximumFileSize)
+      );
+    }
+    if (maximumFileAge.isNegative() || maximumFileAge.isZero()) {
+      throw new IllegalArgumentException(
+        "Maximum file age %s must be positive".formatted(maximumFileAge)
+      );
+    }
+    if (bufferSize < 64) {
+      throw new IllegalArgumentException(
+        "Buffer size %d must be at least 64".formatted(bufferSize)
+      );
+    }
+  }
+
+  /**
+   * A configuration that writes to the given file, rotating files daily or
+   * when they reach 64MiB, and that does not force writes.
+   *
+   * @param file The file
+   *
+   * @return A configuration
+   */
+
+  public static SJSONLinesFileSinkConfiguration ofFile(
+    final Path file)
+  {
+    return new SJSONLinesFileSinkConfiguration(
+      file,
+      64L * 1024L * 1024L,
+      Duration.ofDays(1L),
+      false,
+      64 * 1024,
+      Clock.systemUTC()
+    );
+  }
+}
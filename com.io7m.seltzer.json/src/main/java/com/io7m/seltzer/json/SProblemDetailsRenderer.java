@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.json;
+
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.net.URI;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A renderer of structured errors as RFC 9457 problem details
+ * ({@code application/problem+json}) documents.</p>
+ *
+ * <p>The error code selects a {@link SProblemType}, which supplies the
+ * {@code type}, {@code title}, and {@code status} members. The message is
+ * rendered as the {@code detail} member. The error code, remediating action,
+ * and attributes are rendered as the extension members {@code errorCode},
+ * {@code remediatingAction}, and {@code attributes}, respectively.</p>
+ *
+ * <p>The members that depend only on the error code are encoded as UTF-8
+ * once per error code and cached, and the remaining members are encoded
+ * directly into the target buffer.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SProblemDetailsRenderer
+{
+  /**
+   * The media type of problem details documents.
+   */
+
+  public static final String CONTENT_TYPE = "application/problem+json";
+
+  private static final int MAXIMUM_CACHED_PREFIXES = 1024;
+
+  private final Map<Object, SProblemType> types;
+  private final SProblemType defaultType;
+  private final ConcurrentHashMap<Object, byte[]> prefixes;
+
+  private SProblemDetailsRenderer(
+    final Map<Object, SProblemType> inTypes,
+    final SProblemType inDefaultType)
+  {
+    this.types =
+      Map.copyOf(inTypes);
+    this.defaultType =
+      Objects.requireNonNull(inDefaultType, "defaultType");
+    this.prefixes =
+      new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @return A new renderer builder
+   */
+
+  public static Builder builder()
+  {
+    return new Builder();
+  }
+
+  /**
+   * @param errorCode The error code
+   *
+   * @return The problem type used for the given error code
+   */
+
+  public SProblemType problemType(
+    final Object errorCode)
+  {
+    Objects.requireNonNull(errorCode, "errorCode");
+    return this.types.getOrDefault(errorCode, this.defaultType);
+  }
+
+  /**
+   * @param error The error
+   *
+   * @return The HTTP status code for the given error
+   */
+
+  public int status(
+    final SStructuredErrorType<?> error)
+  {
+    return this.problemType(error.errorCode()).status();
+  }
+
+  /**
+   * Render the given error into the given buffer, starting at the buffer's
+   * current position. If the buffer does not have sufficient space, the
+   * buffer's position is restored and {@link BufferOverflowException} is
+   * thrown.
+   *
+   * @param error  The error
+   * @param target The target buffer
+   *
+   * @return The number of bytes written
+   *
+   * @throws BufferOverflowException If the buffer is too small
+   */
+
+  public int render(
+    final SStructuredErrorType<?> error,
+    final ByteBuffer target)
+    throws BufferOverflowException
+  {
+    Objects.requireNonNull(error, "error");
+    Objects.requireNonNull(target, "target");
+
+    final int start = target.position();
+    try {
+      target.put(this.prefix(error.errorCode()));
+
+      SJSONBytes.putASCII(target, ",\"detail\":");
+      SJSONBytes.putString(target, error.message());
+
+      final var action = error.remediatingAction();
+      if (action.isPresent()) {
+        SJSONBytes.putASCII(target, ",\"remediatingAction\":");
+        SJSONBytes.putString(target, action.get());
+      }
+
+      SJSONBytes.putASCII(target, ",\"attributes\":{");
+      boolean first = true;
+      for (final var entry : error.attributes().entrySet()) {
+        if (!first) {
+          target.put((byte) ',');
+        }
+        first = false;
+        SJSONBytes.putString(target, entry.getKey());
+        target.put((byte) ':');
+        SJSONBytes.putString(target, entry.getValue());
+      }
+      target.put((byte) '}');
+      target.put((byte) '}');
+    } catch (final BufferOverflowException e) {
+      target.position(start);
+      throw e;
+    }
+    return target.position() - start;
+  }
+
+  /**
+   * Render the given error to a new byte array.
+   *
+   * @param error The error
+   *
+   * @return The rendered document
+   */
+
+  public byte[] render(
+    final SStructuredErrorType<?> error)
+  {
+    int size = 1024;
+    while (true) {
+      final var buffer = ByteBuffer.allocate(size);
+      try {
+        final var written = this.render(error, buffer);
+        final var result = new byte[written];
+        buffer.flip();
+        buffer.get(result);
+        return result;
+      } catch (final BufferOverflowException e) {
+        size = Math.multiplyExact(size, 2);
+      }
+    }
+  }
+
+  private byte[] prefix(
+    final Object errorCode)
+  {
+    final var existing = this.prefixes.get(errorCode);
+    if (existing != null) {
+      return existing;
+    }
+
+    final var created = this.encodePrefix(errorCode);
+    if (this.prefixes.size() < MAXIMUM_CACHED_PREFIXES) {
+      this.prefixes.putIfAbsent(errorCode, created);
+    }
+    return created;
+  }
+
+  private byte[] encodePrefix(
+    final Object errorCode)
+  {
+    final var type = this.problemType(errorCode);
+    final var code = errorCode.toString();
+    final var title = type.title();
+    final var uri = type.type().toString();
+
+    final var buffer =
+      ByteBuffer.allocate(64 + 6 * (code.length() + title.length() + uri.length()));
+
+    SJSONBytes.putASCII(buffer, "{\"type\":");
+    SJSONBytes.putString(buffer, uri);
+    SJSONBytes.putASCII(buffer, ",\"title\":");
+    SJSONBytes.putString(buffer, title);
+    SJSONBytes.putASCII(buffer, ",\"status\":");
+    SJSONBytes.putASCII(buffer, Integer.toString(type.status()));
+    SJSONBytes.putASCII(buffer, ",\"errorCode\":");
+    SJSONBytes.putString(buffer, code);
+
+    final var result = new byte[buffer.position()];
+    buffer.flip();
+    buffer.get(result);
+    return result;
+  }
+
+  /**
+   * A builder of renderers.
+   */
+
+  public static final class Builder
+  {
+    private final HashMap<Object, SProblemType> types;
+    private SProblemType defaultType;
+
+    private Builder()
+    {
+      this.types =
+        new HashMap<>();
+      this.defaultType =
+        new SProblemType(URI.create("about:blank"), "Internal Server Error", 500);
+    }
+
+    /**
+     * Set the problem type used for the given error code.
+     *
+     * @param errorCode The error code
+     * @param type      The problem type
+     *
+     * @return this
+     */
+
+    public Builder withProblemType(
+      final Object errorCode,
+      final SProblemType type)
+    {
+      this.types.put(
+        Objects.requireNonNull(errorCode, "errorCode"),
+        Objects.requireNonNull(type, "type")
+      );
+      return this;
+    }
+
+    /**
+     * Set the problem type used for error codes that have no specific
+     * problem type. The default is {@code about:blank} with status 500.
+     *
+     * @param type The problem type
+     *
+     * @return this
+     */
+
+    public Builder withDefaultProblemType(
+      final SProblemType type)
+    {
+      this.defaultType = Objects.requireNonNull(type, "type");
+      return this;
+    }
+
+    /**
+     * @return A renderer
+     */
+
+    public SProblemDetailsRenderer build()
+    {
+      return new SProblemDetailsRenderer(this.types, this.defaultType);
+    }
+  }
+}
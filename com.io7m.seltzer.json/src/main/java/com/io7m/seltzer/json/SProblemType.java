@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.json;
+
+import java.net.URI;
+import java.util.Objects;
+
+/**
+ * An RFC 9457 problem type.
+ *
+ * @param type   The problem type URI
+ * @param title  A short, human-readable summary of the problem type
+ * @param status The HTTP status code
+ *
+ * @since 1.4.0
+ */
+
+public record SProblemType(
+  URI type,
+  String title,
+  int status)
+{
+  /**
+   * An RFC 9457 problem type.
+   *
+   * @param type   The problem type URI
+   * @param title  A short, human-readable summary of the problem type
+   * @param status The HTTP status code
+   */
+
+  public SProblemType
+  {
+    Objects.requireNonNull(type, "type");
+    Objects.requireNonNull(title, "title");
+
+    if (status < 100 || status > 599) {
+      throw new IllegalArgumentException(
+        "Status %d must be in the range [100, 599]".formatted(status)
+      );
+    }
+  }
+}
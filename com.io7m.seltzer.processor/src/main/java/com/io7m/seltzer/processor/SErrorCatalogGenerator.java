@@ -0,0 +1,388 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.processor;
+
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The generator of factory and exception sources.
+ */
+
+final class SErrorCatalogGenerator
+{
+  private SErrorCatalogGenerator()
+  {
+
+  }
+
+  static String generateFactory(
+    final SErrorCatalogModel catalog)
+  {
+    final var out = new StringBuilder(4096);
+    header(out, catalog);
+
+    out.append("import com.io7m.seltzer.api.SAttributes;\n");
+    out.append("import com.io7m.seltzer.api.SStructuredError;\n\n");
+    out.append("import java.util.Objects;\n");
+    out.append("import java.util.Optional;\n\n");
+
+    out.append("/**\n");
+    out.append(" * Factory methods for the errors declared in {@link ")
+      .append(catalog.catalogName())
+      .append("}.\n");
+    out.append(" * Generated by com.io7m.seltzer.processor; do not edit.\n");
+    out.append(" */\n\n");
+    out.append("public final class ").append(catalog.factoryName()).append('\n');
+    out.append("{\n");
+
+    for (final var code : catalog.codes()) {
+      final var remediation = code.remediation();
+      if (remediation.isPresent() && remediation.get().isConstant()) {
+        out.append("  private static final Optional<String> ")
+          .append(remediationConstant(code))
+          .append(" =\n    Optional.of(")
+          .append(expression(remediation.get(), code.parameters()))
+          .append(");\n\n");
+      }
+    }
+
+    out.append("  private ").append(catalog.factoryName()).append("()\n");
+    out.append("  {\n\n  }\n");
+
+    for (final var code : catalog.codes()) {
+      generateErrorMethod(out, code);
+    }
+
+    final var exceptionName = catalog.exceptionName();
+    if (exceptionName.isPresent()) {
+      for (final var code : catalog.codes()) {
+        generateExceptionMethod(out, exceptionName.get(), code, false);
+        generateExceptionMethod(out, exceptionName.get(), code, true);
+      }
+    }
+
+    out.append("}\n");
+    return out.toString();
+  }
+
+  static String generateException(
+    final SErrorCatalogModel catalog,
+    final String exceptionName)
+  {
+    final var out = new StringBuilder(2048);
+    header(out, catalog);
+
+    out.append("import com.io7m.seltzer.io.SIOException;\n\n");
+    out.append("import java.util.Map;\n");
+    out.append("import java.util.Optional;\n\n");
+
+    out.append("/**\n");
+    out.append(" * The exception type for the errors declared in {@link ")
+      .append(catalog.catalogName())
+      .append("}.\n");
+    out.append(" * Generated by com.io7m.seltzer.processor; do not edit.\n");
+    out.append(" */\n\n");
+    out.append("public final class ").append(exceptionName).append(" extends SIOException\n");
+    out.append("{\n");
+    out.append("  private static final long serialVersionUID = 1L;\n\n");
+
+    out.append("  /**\n   * Construct an exception.\n   *\n");
+    out.append("   * @param message           The message\n");
+    out.append("   * @param errorCode         The error code\n");
+    out.append("   * @param attributes        The attributes\n");
+    out.append("   * @param remediatingAction The remediating action\n   */\n\n");
+    out.append("  public ").append(exceptionName).append("(\n");
+    out.append("    final String message,\n");
+    out.append("    final String errorCode,\n");
+    out.append("    final Map<String, String> attributes,\n");
+    out.append("    final Optional<String> remediatingAction)\n");
+    out.append("  {\n");
+    out.append("    super(message, errorCode, attributes, remediatingAction);\n");
+    out.append("  }\n\n");
+
+    out.append("  /**\n   * Construct an exception.\n   *\n");
+    out.append("   * @param message           The message\n");
+    out.append("   * @param cause             The cause\n");
+    out.append("   * @param errorCode         The error code\n");
+    out.append("   * @param attributes        The attributes\n");
+    out.append("   * @param remediatingAction The remediating action\n   */\n\n");
+    out.append("  public ").append(exceptionName).append("(\n");
+    out.append("    final String message,\n");
+    out.append("    final Throwable cause,\n");
+    out.append("    final String errorCode,\n");
+    out.append("    final Map<String, String> attributes,\n");
+    out.append("    final Optional<String> remediatingAction)\n");
+    out.append("  {\n");
+    out.append("    super(message, cause, errorCode, attributes, remediatingAction);\n");
+    out.append("  }\n");
+    out.append("}\n");
+    return out.toString();
+  }
+
+  private static void header(
+    final StringBuilder out,
+    final SErrorCatalogModel catalog)
+  {
+    if (!catalog.packageName().isEmpty()) {
+      out.append("package ").append(catalog.packageName()).append(";\n\n");
+    }
+  }
+
+  private static void generateErrorMethod(
+    final StringBuilder out,
+    final SErrorCatalogModel.Code code)
+  {
+    out.append('\n');
+    methodDocumentation(out, code, false);
+    out.append("  public static SStructuredError<String> ")
+      .append(code.methodName());
+    parameterList(out, code, false);
+    out.append("  {\n");
+    requireNonNull(out, code);
+    out.append("    return new SStructuredError<>(\n");
+    constructorArguments(out, code);
+    out.append(",\n      Optional.empty()\n    );\n  }\n");
+  }
+
+  private static void generateExceptionMethod(
+    final StringBuilder out,
+    final String exceptionName,
+    final SErrorCatalogModel.Code code,
+    final boolean withCause)
+  {
+    out.append('\n');
+    methodDocumentation(out, code, withCause);
+    out.append("  public static ")
+      .append(exceptionName)
+      .append(' ')
+      .append(code.methodName())
+      .append("Exception");
+    parameterList(out, code, withCause);
+    out.append("  {\n");
+    requireNonNull(out, code);
+    if (withCause) {
+      out.append("    Objects.requireNonNull(cause, \"cause\");\n");
+    }
+
+    final var message = expression(code.message(), code.parameters());
+    out.append("    return new ").append(exceptionName).append("(\n");
+    out.append("      ").append(message).append(",\n");
+    if (withCause) {
+      out.append("      cause,\n");
+    }
+    out.append("      ").append(literal(code.code())).append(",\n");
+    out.append("      ").append(attributes(code)).append(",\n");
+    out.append("      ").append(remediation(code)).append('\n');
+    out.append("    );\n  }\n");
+  }
+
+  private static void methodDocumentation(
+    final StringBuilder out,
+    final SErrorCatalogModel.Code code,
+    final boolean withCause)
+  {
+    out.append("  /**\n");
+    out.append("   * Create a <code>")
+      .append(documentation(code.code()))
+      .append("</code> error.\n");
+    out.append("   *\n");
+    for (final var entry : code.parameters().entrySet()) {
+      out.append("   * @param ")
+        .append(entry.getValue())
+        .append(" The value of the <code>")
+        .append(documentation(entry.getKey()))
+        .append("</code> attribute\n");
+    }
+    if (withCause) {
+      out.append("   * @param cause The cause\n");
+    }
+    out.append("   *\n");
+    out.append("   * @return The error\n");
+    out.append("   */\n\n");
+  }
+
+  private static void parameterList(
+    final StringBuilder out,
+    final SErrorCatalogModel.Code code,
+    final boolean withCause)
+  {
+    final var parameters = new ArrayList<String>();
+    for (final var name : code.parameters().values()) {
+      parameters.add("    final String " + name);
+    }
+    if (withCause) {
+      parameters.add("    final Throwable cause");
+    }
+
+    if (parameters.isEmpty()) {
+      out.append("()\n");
+      return;
+    }
+    out.append("(\n");
+    out.append(String.join(",\n", parameters));
+    out.append(")\n");
+  }
+
+  private static void requireNonNull(
+    final StringBuilder out,
+    final SErrorCatalogModel.Code code)
+  {
+    for (final var name : code.parameters().values()) {
+      out.append("    Objects.requireNonNull(")
+        .append(name)
+        .append(", ")
+        .append(literal(name))
+        .append(");\n");
+    }
+  }
+
+  private static void constructorArguments(
+    final StringBuilder out,
+    final SErrorCatalogModel.Code code)
+  {
+    out.append("      ").append(literal(code.code())).append(",\n");
+    out.append("      ")
+      .append(expression(code.message(), code.parameters()))
+      .append(",\n");
+    out.append("      ").append(attributes(code)).append(",\n");
+    out.append("      ").append(remediation(code));
+  }
+
+  /*
+   * Attributes are added in sorted order so that each insertion appends to
+   * the pre-sized storage.
+   */
+
+  private static String attributes(
+    final SErrorCatalogModel.Code code)
+  {
+    final var parameters = code.parameters();
+    if (parameters.isEmpty()) {
+      return "SAttributes.empty()";
+    }
+
+    final var names = new ArrayList<>(parameters.keySet());
+    names.sort(String::compareTo);
+
+    final var text = new StringBuilder(128);
+    text.append("SAttributes.builder(").append(names.size()).append(')');
+    for (final var name : names) {
+      text.append("\n        .withAttribute(")
+        .append(literal(name))
+        .append(", ")
+        .append(parameters.get(name))
+        .append(')');
+    }
+    text.append("\n        .build()");
+    return text.toString();
+  }
+
+  private static String remediation(
+    final SErrorCatalogModel.Code code)
+  {
+    final Optional<SErrorTemplate> remediation = code.remediation();
+    if (remediation.isEmpty()) {
+      return "Optional.empty()";
+    }
+    if (remediation.get().isConstant()) {
+      return remediationConstant(code);
+    }
+    return "Optional.of(%s)".formatted(
+      expression(remediation.get(), code.parameters()));
+  }
+
+  private static String remediationConstant(
+    final SErrorCatalogModel.Code code)
+  {
+    return "REMEDIATION_" + code.fieldName().toUpperCase(Locale.ROOT);
+  }
+
+  private static String expression(
+    final SErrorTemplate template,
+    final Map<String, String> parameters)
+  {
+    final var parts = template.parts();
+    if (parts.isEmpty()) {
+      return "\"\"";
+    }
+
+    final var terms = new ArrayList<String>();
+    for (final var part : parts) {
+      if (part instanceof SErrorTemplate.Text text) {
+        terms.add(literal(text.text()));
+      } else if (part instanceof SErrorTemplate.Attribute attribute) {
+        terms.add(parameters.get(attribute.name()));
+      }
+    }
+
+    if (terms.size() == 1) {
+      return terms.get(0);
+    }
+    return String.join(" + ", terms);
+  }
+
+  static String literal(
+    final String text)
+  {
+    final var out = new StringBuilder(text.length() + 2);
+    out.append('"');
+    for (int index = 0; index < text.length(); ++index) {
+      final char c = text.charAt(index);
+      switch (c) {
+        case '"' -> out.append("\\\"");
+        case '\\' -> out.append("\\\\");
+        case '\n' -> out.append("\\n");
+        case '\r' -> out.append("\\r");
+        case '\t' -> out.append("\\t");
+        default -> {
+          if (c < 0x20 || c > 0x7e) {
+            out.append("\\u%04x".formatted((int) c));
+          } else {
+            out.append(c);
+          }
+        }
+      }
+    }
+    out.append('"');
+    return out.toString();
+  }
+
+  private static String documentation(
+    final String text)
+  {
+    final var out = new StringBuilder(text.length());
+    for (int index = 0; index < text.length(); ++index) {
+      final char c = text.charAt(index);
+      switch (c) {
+        case '*', '/', '@', '{', '}', '<', '>', '&', '\\' ->
+          out.append("&#").append((int) c).append(';');
+        default -> {
+          if (c < 0x20) {
+            out.append(' ');
+          } else {
+            out.append(c);
+          }
+        }
+      }
+    }
+    return out.toString();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A validated error catalog.
+ *
+ * @param packageName   The package name
+ * @param catalogName   The simple name of the catalog type
+ * @param factoryName   The simple name of the generated factory
+ * @param exceptionName The simple name of the generated exception, if any
+ * @param codes         The error codes
+ */
+
+record SErrorCatalogModel(
+  String packageName,
+  String catalogName,
+  String factoryName,
+  Optional<String> exceptionName,
+  List<Code> codes)
+{
+  SErrorCatalogModel
+  {
+    Objects.requireNonNull(packageName, "packageName");
+    Objects.requireNonNull(catalogName, "catalogName");
+    Objects.requireNonNull(factoryName, "factoryName");
+    Objects.requireNonNull(exceptionName, "exceptionName");
+    codes = List.copyOf(codes);
+  }
+
+  /**
+   * A validated error code.
+   *
+   * @param fieldName   The name of the declaring field
+   * @param methodName  The name of the generated factory method
+   * @param code        The error code
+   * @param message     The message template
+   * @param remediation The remediation template, if any
+   * @param parameters  The attribute names, in declaration order, mapped to
+   *                    parameter names
+   */
+
+  record Code(
+    String fieldName,
+    String methodName,
+    String code,
+    SErrorTemplate message,
+    Optional<SErrorTemplate> remediation,
+    Map<String, String> parameters)
+  {
+    Code
+    {
+      Objects.requireNonNull(fieldName, "fieldName");
+      Objects.requireNonNull(methodName, "methodName");
+      Objects.requireNonNull(code, "code");
+      Objects.requireNonNull(message, "message");
+      Objects.requireNonNull(remediation, "remediation");
+      Objects.requireNonNull(parameters, "parameters");
+    }
+  }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.processor;
+
+import com.io7m.seltzer.api.SErrorCatalog;
+import com.io7m.seltzer.api.SErrorCode;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>An annotation processor that generates typed error factories from
+ * types annotated with {@link SErrorCatalog}.</p>
+ *
+ * <p>For each catalog, a factory class is generated containing one static
+ * method per {@link SErrorCode}, with one {@code String} parameter per
+ * declared attribute. Templates are compiled to string concatenations, and
+ * attributes are stored in pre-sized storage, so that constructing an error
+ * involves no reflection and no template parsing at run time. Templates
+ * that refer to undeclared attributes are rejected at compile time.</p>
+ *
+ * @since 1.4.0
+ */
+
+@SupportedAnnotationTypes({
+  "com.io7m.seltzer.api.SErrorCatalog",
+  "com.io7m.seltzer.api.SErrorCode"
+})
+public final class SErrorCatalogProcessor extends AbstractProcessor
+{
+  private int errors;
+
+  /**
+   * Construct a processor.
+   */
+
+  public SErrorCatalogProcessor()
+  {
+
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion()
+  {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+    final Set<? extends TypeElement> annotations,
+    final RoundEnvironment round)
+  {
+    for (final var element : round.getElementsAnnotatedWith(SErrorCode.class)) {
+      final var enclosing = element.getEnclosingElement();
+      if (enclosing.getAnnotation(SErrorCatalog.class) == null) {
+        this.error(
+          element,
+          "Error codes must be declared in a type annotated with @SErrorCatalog"
+        );
+      }
+    }
+
+    for (final var element : round.getElementsAnnotatedWith(SErrorCatalog.class)) {
+      final var kind = element.getKind();
+      if (kind != ElementKind.INTERFACE && kind != ElementKind.ENUM) {
+        this.error(element, "Error catalogs must be interfaces or enums");
+        continue;
+      }
+      this.processCatalog((TypeElement) element);
+    }
+    return true;
+  }
+
+  private void processCatalog(
+    final TypeElement type)
+  {
+    final var errorsBefore = this.errors;
+
+    final var annotation =
+      type.getAnnotation(SErrorCatalog.class);
+    final var packageName =
+      this.processingEnv.getElementUtils()
+        .getPackageOf(type)
+        .getQualifiedName()
+        .toString();
+    final var catalogName =
+      type.getSimpleName().toString();
+
+    final var factoryName =
+      annotation.factoryName().isEmpty()
+        ? catalogName + "Factory"
+        : annotation.factoryName();
+    this.checkClassName(type, "Factory", factoryName);
+
+    final Optional<String> exceptionName =
+      annotation.exceptionName().isEmpty()
+        ? Optional.empty()
+        : Optional.of(annotation.exceptionName());
+    exceptionName.ifPresent(name -> {
+      this.checkClassName(type, "Exception", name);
+      if (name.equals(factoryName)) {
+        this.error(type, "The exception and factory names must differ");
+      }
+    });
+
+    final var codes = this.processCodes(type, exceptionName.isPresent());
+    if (this.errors != errorsBefore) {
+      return;
+    }
+
+    final var catalog =
+      new SErrorCatalogModel(packageName, catalogName, factoryName, exceptionName, codes);
+
+    this.write(type, catalog, factoryName, SErrorCatalogGenerator.generateFactory(catalog));
+    if (exceptionName.isPresent()) {
+      final var name = exceptionName.get();
+      this.write(type, catalog, name, SErrorCatalogGenerator.generateException(catalog, name));
+    }
+  }
+
+  private void checkClassName(
+    final TypeElement type,
+    final String kind,
+    final String name)
+  {
+    if (!SourceVersion.isName(name) || name.contains(".")) {
+      this.error(type, "%s name '%s' is not a valid class name".formatted(kind, name));
+    }
+  }
+
+  private List<SErrorCatalogModel.Code> processCodes(
+    final TypeElement type,
+    final boolean withExceptions)
+  {
+    final var codes = new ArrayList<SErrorCatalogModel.Code>();
+    final var codeValues = new HashSet<String>();
+    final var methodNames = new HashSet<String>();
+
+    for (final var member : type.getEnclosedElements()) {
+      final var codeAnnotation = member.getAnnotation(SErrorCode.class);
+      if (codeAnnotation == null) {
+        continue;
+      }
+
+      final var code = this.processCode((VariableElement) member, codeAnnotation);
+      if (code.isEmpty()) {
+        continue;
+      }
+
+      final var c = code.get();
+      if (!codeValues.add(c.code())) {
+        this.error(member, "Error code '%s' is declared more than once".formatted(c.code()));
+      }
+
+      final var names = new ArrayList<String>();
+      names.add(c.methodName());
+      if (withExceptions) {
+        names.add(c.methodName() + "Exception");
+      }
+      for (final var name : names) {
+        if (!methodNames.add(name)) {
+          this.error(member, "Factory method name '%s' is not unique".formatted(name));
+        }
+      }
+      codes.add(c);
+    }
+    return codes;
+  }
+
+  private Optional<SErrorCatalogModel.Code> processCode(
+    final VariableElement field,
+    final SErrorCode annotation)
+  {
+    final var errorsBefore = this.errors;
+    final var fieldName = field.getSimpleName().toString();
+
+    var code = annotation.code();
+    if (code.isEmpty()) {
+      if (field.getConstantValue() instanceof String constant) {
+        code = constant;
+      } else {
+        code = fieldName.toLowerCase(Locale.ROOT).replace('_', '-');
+      }
+    }
+
+    final var parameters =
+      this.processAttributes(field, annotation.attributes());
+    final var message =
+      this.parseTemplate(field, "message", annotation.message(), parameters.keySet());
+
+    Optional<SErrorTemplate> remediation = Optional.empty();
+    if (!annotation.remediation().isEmpty()) {
+      remediation =
+        this.parseTemplate(field, "remediation", annotation.remediation(), parameters.keySet());
+    }
+
+    if (this.errors != errorsBefore) {
+      return Optional.empty();
+    }
+
+    return Optional.of(new SErrorCatalogModel.Code(
+      fieldName,
+      methodName(fieldName),
+      code,
+      message.orElseThrow(),
+      remediation,
+      parameters
+    ));
+  }
+
+  private LinkedHashMap<String, String> processAttributes(
+    final VariableElement field,
+    final String[] attributes)
+  {
+    final var parameters = new LinkedHashMap<String, String>();
+    final var parameterNames = new HashSet<String>();
+    parameterNames.add("cause");
+
+    for (final var attribute : attributes) {
+      if (attribute.isEmpty()) {
+        this.error(field, "Attribute names must be non-empty");
+        continue;
+      }
+      if (parameters.containsKey(attribute)) {
+        this.error(field, "Attribute '%s' is declared more than once".formatted(attribute));
+        continue;
+      }
+
+      final var parameter = parameterName(attribute);
+      if (!parameterNames.add(parameter)) {
+        this.error(
+          field,
+          "Attribute '%s' yields the parameter name '%s', which is already in use"
+            .formatted(attribute, parameter)
+        );
+        continue;
+      }
+      parameters.put(attribute, parameter);
+    }
+    return parameters;
+  }
+
+  private Optional<SErrorTemplate> parseTemplate(
+    final Element element,
+    final String name,
+    final String text,
+    final Set<String> attributes)
+  {
+    final SErrorTemplate template;
+    try {
+      template = SErrorTemplate.parse(text);
+    } catch (final IllegalArgumentException e) {
+      this.error(element, "Invalid %s template: %s".formatted(name, e.getMessage()));
+      return Optional.empty();
+    }
+
+    for (final var attribute : template.attributes()) {
+      if (!attributes.contains(attribute)) {
+        this.error(
+          element,
+          "The %s template refers to the undeclared attribute '%s'"
+            .formatted(name, attribute)
+        );
+      }
+    }
+    return Optional.of(template);
+  }
+
+  private void write(
+    final TypeElement type,
+    final SErrorCatalogModel catalog,
+    final String name,
+    final String text)
+  {
+    final var qualified =
+      catalog.packageName().isEmpty()
+        ? name
+        : catalog.packageName() + "." + name;
+
+    try {
+      final var file =
+        this.processingEnv.getFiler().createSourceFile(qualified, type);
+      try (var writer = file.openWriter()) {
+        writer.write(text);
+      }
+    } catch (final IOException e) {
+      this.error(type, "Unable to write %s: %s".formatted(qualified, e.getMessage()));
+    }
+  }
+
+  private void error(
+    final Element element,
+    final String message)
+  {
+    ++this.errors;
+    this.processingEnv.getMessager()
+      .printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  static String methodName(
+    final String fieldName)
+  {
+    final String name;
+    if (fieldName.indexOf('_') >= 0
+        || fieldName.equals(fieldName.toUpperCase(Locale.ROOT))) {
+      final var text = new StringBuilder(fieldName.length());
+      for (final var part : fieldName.toLowerCase(Locale.ROOT).split("_")) {
+        if (part.isEmpty()) {
+          continue;
+        }
+        if (text.isEmpty()) {
+          text.append(part);
+        } else {
+          text.append(Character.toUpperCase(part.charAt(0)));
+          text.append(part, 1, part.length());
+        }
+      }
+      name = text.isEmpty() ? "error" : text.toString();
+    } else {
+      name = Character.toLowerCase(fieldName.charAt(0)) + fieldName.substring(1);
+    }
+    return SourceVersion.isKeyword(name) ? name + "_" : name;
+  }
+
+  static String parameterName(
+    final String attribute)
+  {
+    final var text = new StringBuilder(attribute.length() + 1);
+    for (int index = 0; index < attribute.length(); ++index) {
+      final char c = attribute.charAt(index);
+      text.append(Character.isJavaIdentifierPart(c) ? c : '_');
+    }
+
+    text.setCharAt(0, Character.toLowerCase(text.charAt(0)));
+    if (!Character.isJavaIdentifierStart(text.charAt(0))) {
+      text.insert(0, '_');
+    }
+
+    final var name = text.toString();
+    return SourceVersion.isKeyword(name) ? name + "_" : name;
+  }
+}
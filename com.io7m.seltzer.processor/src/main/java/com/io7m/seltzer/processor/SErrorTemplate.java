@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A parsed message or remediation template.
+ *
+ * @param parts The template parts
+ */
+
+record SErrorTemplate(List<PartType> parts)
+{
+  SErrorTemplate
+  {
+    parts = List.copyOf(parts);
+  }
+
+  /**
+   * A part of a template.
+   */
+
+  sealed interface PartType
+  {
+
+  }
+
+  /**
+   * Literal text.
+   *
+   * @param text The text
+   */
+
+  record Text(String text) implements PartType
+  {
+    Text
+    {
+      Objects.requireNonNull(text, "text");
+    }
+  }
+
+  /**
+   * A reference to an attribute.
+   *
+   * @param name The attribute name
+   */
+
+  record Attribute(String name) implements PartType
+  {
+    Attribute
+    {
+      Objects.requireNonNull(name, "name");
+    }
+  }
+
+  static SErrorTemplate parse(
+    final String text)
+    throws IllegalArgumentException
+  {
+    final var parts = new ArrayList<PartType>();
+    final var literal = new StringBuilder();
+    final int length = text.length();
+
+    int index = 0;
+    while (index < length) {
+      final char c = text.charAt(index);
+      final boolean doubled =
+        index + 1 < length && text.charAt(index + 1) == c;
+
+      if (c == '{' && !doubled) {
+        flushText(parts, literal);
+        index = parsePlaceholder(text, index, parts);
+        continue;
+      }
+
+      if (c == '}' && !doubled) {
+        throw new IllegalArgumentException(
+          "Unmatched '}' at offset %d".formatted(index)
+        );
+      }
+
+      literal.append(c);
+      index += doubled && (c == '{' || c == '}') ? 2 : 1;
+    }
+
+    flushText(parts, literal);
+    return new SErrorTemplate(parts);
+  }
+
+  private static void flushText(
+    final ArrayList<PartType> parts,
+    final StringBuilder literal)
+  {
+    if (!literal.isEmpty()) {
+      parts.add(new Text(literal.toString()));
+      literal.setLength(0);
+    }
+  }
+
+  private static int parsePlaceholder(
+    final String text,
+    final int start,
+    final ArrayList<PartType> parts)
+  {
+    final int end = text.indexOf('}', start + 1);
+    if (end < 0) {
+      throw new IllegalArgumentException(
+        "Unterminated placeholder at offset %d".formatted(start)
+      );
+    }
+
+    final var name = text.substring(start + 1, end);
+    if (name.isEmpty() || name.indexOf('{') >= 0) {
+      throw new IllegalArgumentException(
+        "Malformed placeholder at offset %d".formatted(start)
+      );
+    }
+    parts.add(new Attribute(name));
+    return end + 1;
+  }
+
+  Set<String> attributes()
+  {
+    final var names = new TreeSet<String>();
+    for (final var part : this.parts) {
+      if (part instanceof Attribute attribute) {
+        names.add(attribute.name());
+      }
+    }
+    return names;
+  }
+
+  boolean isConstant()
+  {
+    return this.attributes().isEmpty();
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.retry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A lock-free circuit breaker for a single error code.</p>
+ *
+ * <p>The whole state of the breaker is held in a single atomic value: a
+ * non-negative value is the number of consecutive failures recorded while
+ * the breaker is closed, {@code -1} denotes a half-open breaker, and any
+ * other negative value is the negated time in milliseconds at which an open
+ * breaker will permit a trial retry.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SCircuitBreaker
+{
+  private static final long HALF_OPEN = -1L;
+
+  private final String code;
+  private final int threshold;
+  private final long openMillis;
+  private final Clock clock;
+  private final AtomicLong state;
+  private final LongAdder trips;
+  private final LongAdder rejections;
+
+  /**
+   * Create a circuit breaker.
+   *
+   * @param inCode         The error code
+   * @param inThreshold    The number of consecutive failures that open the
+   *                       breaker
+   * @param inOpenDuration The time for which the breaker stays open
+   * @param inClock        The clock
+   */
+
+  public SCircuitBreaker(
+    final String inCode,
+    final int inThreshold,
+    final Duration inOpenDuration,
+    final Clock inClock)
+  {
+    this.code =
+      Objects.requireNonNull(inCode, "code");
+    this.clock =
+      Objects.requireNonNull(inClock, "clock");
+    this.openMillis =
+      Objects.requireNonNull(inOpenDuration, "openDuration").toMillis();
+
+    if (inThreshold <= 0) {
+      throw new IllegalArgumentException(
+        "Threshold %d must be positive".formatted(inThreshold)
+      );
+    }
+
+    this.threshold = inThreshold;
+    this.state = new AtomicLong(0L);
+    this.trips = new LongAdder();
+    this.rejections = new LongAdder();
+  }
+
+  private long openState()
+  {
+    return -Math.max(2L, this.clock.millis() + this.openMillis);
+  }
+
+  /**
+   * Request permission to retry. Closed breakers always grant permission.
+   * Once the open duration of an open breaker has elapsed, permission is
+   * granted to exactly one caller and the breaker becomes half-open.
+   *
+   * @return {@code true} if a retry is permitted
+   */
+
+  public boolean tryAcquire()
+  {
+    return this.acquire() != Acquisition.REJECTED;
+  }
+
+  /**
+   * Request permission to retry, as {@link #tryAcquire()} does.
+   *
+   * @return The kind of permission granted
+   */
+
+  Acquisition acquire()
+  {
+    while (true) {
+      final var current = this.state.get();
+      if (current >= 0L) {
+        return Acquisition.PERMITTED;
+      }
+      if (current == HALF_OPEN || this.clock.millis() < -current) {
+        this.rejections.increment();
+        return Acquisition.REJECTED;
+      }
+      if (this.state.compareAndSet(current, HALF_OPEN)) {
+        return Acquisition.TRIAL;
+      }
+    }
+  }
+
+  /**
+   * Record a success. This closes a half-open breaker and resets the count
+   * of consecutive failures of a closed breaker. Open breakers are
+   * unaffected.
+   */
+
+  public void recordSuccess()
+  {
+    while (true) {
+      final var current = this.state.get();
+      if (current == 0L || current < HALF_OPEN) {
+        return;
+      }
+      if (this.state.compareAndSet(current, 0L)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Record a failure. This opens a half-open breaker, and opens a closed
+   * breaker if the number of consecutive failures reaches the threshold.
+   */
+
+  public void recordFailure()
+  {
+    while (true) {
+      final var current = this.state.get();
+      if (current < HALF_OPEN) {
+        return;
+      }
+
+      final long next;
+      if (current == HALF_OPEN || current + 1L >= this.threshold) {
+        next = this.openState();
+      } else {
+        next = current + 1L;
+      }
+
+      if (this.state.compareAndSet(current, next)) {
+        if (next < 0L) {
+          this.trips.increment();
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Abandon a trial retry that failed for an unrelated reason, or that was
+   * never completed. A half-open breaker is opened again, as the trial did
+   * not show that the breaker can close. This must only be called by the
+   * holder of the trial.
+   */
+
+  void abandon()
+  {
+    final var next = this.openState();
+    if (this.state.compareAndSet(HALF_OPEN, next)) {
+      this.trips.increment();
+    }
+  }
+
+  /**
+   * @return The error code
+   */
+
+  public String code()
+  {
+    return this.code;
+  }
+
+  /**
+   * @return The current state
+   */
+
+  public SCircuitBreakerState state()
+  {
+    final var current = this.state.get();
+    if (current >= 0L) {
+      return SCircuitBreakerState.CLOSED;
+    }
+    if (current == HALF_OPEN) {
+      return SCircuitBreakerState.HALF_OPEN;
+    }
+    return SCircuitBreakerState.OPEN;
+  }
+
+  /**
+   * @return The number of consecutive failures recorded while closed
+   */
+
+  public long consecutiveFailures()
+  {
+    return Math.max(0L, this.state.get());
+  }
+
+  /**
+   * @return The number of times the breaker has opened
+   */
+
+  public long tripCount()
+  {
+    return this.trips.sum();
+  }
+
+  /**
+   * @return The number of retries the breaker has rejected
+   */
+
+  public long rejectedCount()
+  {
+    return this.rejections.sum();
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[SCircuitBreaker %s %s]",
+      this.code,
+      this.state()
+    );
+  }
+
+  /**
+   * The kinds of permission granted by {@link #acquire()}.
+   */
+
+  enum Acquisition
+  {
+    /**
+     * The retry was rejected.
+     */
+
+    REJECTED,
+
+    /**
+     * The breaker is closed, and the retry is permitted.
+     */
+
+    PERMITTED,
+
+    /**
+     * The retry is the single trial of a half-open breaker. The holder
+     * must record a success or failure, or abandon the trial.
+     */
+
+    TRIAL
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.retry;
+
+/**
+ * The classes into which failures are sorted by a retry policy.
+ *
+ * @since 1.4.0
+ */
+
+public enum SRetryClass
+{
+  /**
+   * The failure is transient, and the operation may be retried.
+   */
+
+  RETRYABLE,
+
+  /**
+   * The failure is permanent (such as a validation error), and the
+   * operation must not be retried.
+   */
+
+  NON_RETRYABLE,
+
+  /**
+   * The failure is transient, but indicates that a dependency may be
+   * failing. The operation may be retried, but failures are counted by the
+   * circuit breaker for the error code, and retries stop once the breaker
+   * opens.
+   */
+
+  TRIP_BREAKER
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.retry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration for a retry policy.
+ *
+ * @param maximumAttempts     The maximum number of attempts, including the
+ *                            first
+ * @param initialDelay        The upper bound of the delay before the first
+ *                            retry
+ * @param maximumDelay        The upper bound of the delay before any retry
+ * @param breakerThreshold    The number of consecutive failures with a given
+ *                            error code that open the breaker for the code
+ * @param breakerOpenDuration The time for which an open breaker rejects
+ *                            retries before permitting a trial retry
+ * @param clock               The clock used by circuit breakers
+ *
+ * @since 1.4.0
+ */
+
+public record SRetryConfiguration(
+  int maximumAttempts,
+  Duration initialDelay,
+  Duration maximumDelay,
+  int breakerThreshold,
+  Duration breakerOpenDuration,
+  Clock clock)
+{
+  /**
+   * The configuration for a retry policy.
+   *
+   * @param maximumAttempts     The maximum number of attempts, including the
+   *                            first
+   * @param initialDelay        The upper bound of the delay before the first
+   *                            retry
+   * @param maximumDelay        The upper bound of the delay before any retry
+   * @param breakerThreshold    The number of consecutive failures with a
+   *                            given error code that open the breaker for
+   *                            the code
+   * @param breakerOpenDuration The time for which an open breaker rejects
+   *                            retries before permitting a trial retry
+   * @param clock               The clock used by circuit breakers
+   */
+
+  public SRetryConfiguration
+  {
+    Objects.requireNonNull(initialDelay, "initialDelay");
+    Objects.requireNonNull(maximumDelay, "maximumDelay");
+    Objects.requireNonNull(breakerOpenDuration, "breakerOpenDuration");
+    Objects.requireNonNull(clock, "clock");
+
+    if (maximumAttempts <= 0) {
+      throw new IllegalArgumentException(
+        "Maximum attempts %d must be positive".formatted(maximumAttempts)
+      );
+    }
+    if (initialDelay.isNegative()) {
+      throw new IllegalArgumentException(
+        "Initial delay %s must be non-negative".formatted(initialDelay)
+      );
+    }
+    if (maximumDelay.compareTo(initialDelay) < 0) {
+      throw new IllegalArgumentException(
+        "Maximum delay %s must be at least the initial delay %s"
+          .formatted(maximumDelay, initialDelay)
+      );
+    }
+    if (breakerThreshold <= 0) {
+      throw new IllegalArgumentException(
+        "Breaker threshold %d must be positive".formatted(breakerThreshold)
+      );
+    }
+    if (breakerOpenDuration.isNegative() || breakerOpenDuration.isZero()) {
+      throw new IllegalArgumentException(
+        "Breaker open duration %s must be positive"
+          .formatted(breakerOpenDuration)
+      );
+    }
+  }
+
+  /**
+   * A configuration that makes at most three attempts, with retry delays
+   * starting at 100 milliseconds and bounded by ten seconds, and that opens
+   * breakers for 30 seconds after five consecutive failures.
+   *
+   * @return A configuration
+   */
+
+  public static SRetryConfiguration ofDefaults()
+  {
+    return new SRetryConfiguration(
+      3,
+      Duration.ofMillis(100L),
+      Duration.ofSeconds(10L),
+      5,
+      Duration.ofSeconds(30L),
+      Clock.systemUTC()
+    );
+  }
+}
@@ -0,0 +1,524 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.retry;
+
+import com.io7m.seltzer.api.SErrorCodeRouter;
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A policy that retries operations based on the error codes of the
+ * structured errors with which they fail.</p>
+ *
+ * <p>Failures are classified by error code using a router compiled from the
+ * rules given to the builder (see {@link SErrorCodeRouter}). Exceptions that
+ * are not structured errors (see {@link SStructuredErrorType}) are given a
+ * single configured class, and {@link InterruptedException} is never
+ * retried. Retries are delayed by a random duration between zero and an
+ * exponentially increasing bound ("full jitter"), so that clients that fail
+ * together do not retry together.</p>
+ *
+ * <p>Each error code classified as {@link SRetryClass#TRIP_BREAKER} has a
+ * circuit breaker. Breakers gate retries rather than first attempts: once a
+ * breaker has opened, failures with its error code are no longer retried
+ * until the breaker permits a trial retry, and so retries stop adding load
+ * to a failing dependency. The first attempt of an operation is always
+ * made.</p>
+ *
+ * <p>Policies are safe to use from multiple threads.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SRetryPolicy
+{
+  private final SRetryConfiguration configuration;
+  private final SErrorCodeRouter<Object, SRetryClass> router;
+  private final SRetryClass unstructuredClass;
+  private final ConcurrentHashMap<String, SCircuitBreaker> breakers;
+  private final LongAdder attempts;
+  private final LongAdder retries;
+  private final LongAdder failures;
+  private final LongAdder rejections;
+
+  private SRetryPolicy(
+    final SRetryConfiguration inConfiguration,
+    final SErrorCodeRouter<Object, SRetryClass> inRouter,
+    final SRetryClass inUnstructuredClass)
+  {
+    this.configuration = inConfiguration;
+    this.router = inRouter;
+    this.unstructuredClass = inUnstructuredClass;
+    this.breakers = new ConcurrentHashMap<>();
+    this.attempts = new LongAdder();
+    this.retries = new LongAdder();
+    this.failures = new LongAdder();
+    this.rejections = new LongAdder();
+  }
+
+  /**
+   * Create a new builder.
+   *
+   * @param configuration The configuration
+   *
+   * @return A new builder
+   */
+
+  public static Builder builder(
+    final SRetryConfiguration configuration)
+  {
+    return new Builder(
+      Objects.requireNonNull(configuration, "configuration")
+    );
+  }
+
+  private static String codeOf(
+    final Throwable exception)
+  {
+    if (exception instanceof SStructuredErrorType<?> error) {
+      return error.errorCode().toString();
+    }
+    return exception.getClass().getName();
+  }
+
+  /**
+   * Classify the given exception.
+   *
+   * @param exception The exception
+   *
+   * @return The class of the exception
+   */
+
+  public SRetryClass classify(
+    final Throwable exception)
+  {
+    Objects.requireNonNull(exception, "exception");
+
+    if (exception instanceof InterruptedException) {
+      return SRetryClass.NON_RETRYABLE;
+    }
+    if (exception instanceof SStructuredErrorType<?> error) {
+      return this.router.route(error);
+    }
+    return this.unstructuredClass;
+  }
+
+  /**
+   * Compute a delay to be used before the given retry. The delay is chosen
+   * uniformly between zero and the initial delay doubled for each previous
+   * retry, bounded by the maximum delay.
+   *
+   * @param retry The retry number, starting at 1
+   *
+   * @return A delay
+   */
+
+  public Duration delayFor(
+    final int retry)
+  {
+    if (retry <= 0) {
+      throw new IllegalArgumentException(
+        "Retry %d must be positive".formatted(retry)
+      );
+    }
+    return Duration.ofNanos(this.delayNanosFor(retry));
+  }
+
+  private long delayNanosFor(
+    final int retry)
+  {
+    final var initial = this.configuration.initialDelay().toNanos();
+    final var maximum = this.configuration.maximumDelay().toNanos();
+    final var shift = Math.min(retry - 1, 62);
+
+    final long bound;
+    if (initial > (maximum >>> shift)) {
+      bound = maximum;
+    } else {
+      bound = initial << shift;
+    }
+    return ThreadLocalRandom.current().nextLong(bound + 1L);
+  }
+
+  /**
+   * Execute the given operation, retrying it according to this policy.
+   *
+   * @param operation The operation
+   * @param <T>       The type of results
+   *
+   * @return The result of the first successful attempt
+   *
+   * @throws Exception The exception raised by the last attempt, or an
+   *                   {@link InterruptedException} if the current thread is
+   *                   interrupted while waiting to retry
+   */
+
+  public <T> T execute(
+    final SRetryOperationType<T> operation)
+    throws Exception
+  {
+    Objects.requireNonNull(operation, "operation");
+
+    /*
+     * The breaker that permitted the current retry, and whether that
+     * permission was the breaker's single half-open trial. A trial that is
+     * neither succeeded nor failed must be abandoned on every other exit
+     * (interruption, or an Error raised by the operation), or the breaker
+     * would stay half-open and reject all retries forever.
+     */
+
+    SCircuitBreaker held = null;
+    boolean trial = false;
+    try {
+      var attempt = 1;
+      while (true) {
+        this.attempts.increment();
+
+        final Exception failure;
+        try {
+          final var result = operation.execute(attempt);
+          if (held != null) {
+            held.recordSuccess();
+            trial = false;
+          }
+          return result;
+        } catch (final Exception e) {
+          failure = e;
+        }
+
+        final var retryClass = this.classify(failure);
+        final var breaker =
+          this.recordFailure(failure, retryClass, held, trial);
+        held = null;
+        trial = false;
+
+        final var acquisition =
+          this.acquireRetry(failure, retryClass, attempt, breaker);
+        held = breaker;
+        trial = acquisition == SCircuitBreaker.Acquisition.TRIAL;
+        this.retries.increment();
+
+        try {
+          TimeUnit.NANOSECONDS.sleep(this.delayNanosFor(attempt));
+        } catch (final InterruptedException ie) {
+          ie.addSuppressed(failure);
+          this.failures.increment();
+          throw ie;
+        }
+        ++attempt;
+      }
+    } finally {
+      if (trial) {
+        held.abandon();
+      }
+    }
+  }
+
+  /**
+   * Record a failure against its breaker, if any, and conclude any trial
+   * retry held for a different breaker.
+   *
+   * @return The breaker for the failure, if any
+   */
+
+  private SCircuitBreaker recordFailure(
+    final Exception exception,
+    final SRetryClass retryClass,
+    final SCircuitBreaker held,
+    final boolean trial)
+  {
+    SCircuitBreaker breaker = null;
+    if (retryClass == SRetryClass.TRIP_BREAKER) {
+      breaker = this.breakerFor(codeOf(exception));
+      breaker.recordFailure();
+    }
+    if (trial && held != breaker) {
+      held.abandon();
+    }
+    return breaker;
+  }
+
+  /**
+   * Decide whether the operation may be retried.
+   *
+   * @return The permission granted by the breaker, if any
+   *
+   * @throws Exception The given exception, if the operation may not be
+   *                   retried
+   */
+
+  private SCircuitBreaker.Acquisition acquireRetry(
+    final Exception exception,
+    final SRetryClass retryClass,
+    final int attempt,
+    final SCircuitBreaker breaker)
+    throws Exception
+  {
+    if (retryClass == SRetryClass.NON_RETRYABLE
+        || attempt >= this.configuration.maximumAttempts()) {
+      this.failures.increment();
+      throw exception;
+    }
+    if (breaker == null) {
+      return SCircuitBreaker.Acquisition.PERMITTED;
+    }
+
+    final var acquisition = breaker.acquire();
+    if (acquisition == SCircuitBreaker.Acquisition.REJECTED) {
+      this.rejections.increment();
+      this.failures.increment();
+      throw exception;
+    }
+    return acquisition;
+  }
+
+  private SCircuitBreaker breakerFor(
+    final String code)
+  {
+    final var existing = this.breakers.get(code);
+    if (existing != null) {
+      return existing;
+    }
+    return this.breakers.computeIfAbsent(code, c -> {
+      return new SCircuitBreaker(
+        c,
+        this.configuration.breakerThreshold(),
+        this.configuration.breakerOpenDuration(),
+        this.configuration.clock()
+      );
+    });
+  }
+
+  /**
+   * @param code The error code
+   *
+   * @return The circuit breaker for the given error code, if any failures
+   * with the code have been recorded
+   */
+
+  public Optional<SCircuitBreaker> breaker(
+    final String code)
+  {
+    return Optional.ofNullable(this.breakers.get(code));
+  }
+
+  /**
+   * @return A read-only view of the circuit breakers by error code
+   */
+
+  public Map<String, SCircuitBreaker> breakers()
+  {
+    return Collections.unmodifiableMap(this.breakers);
+  }
+
+  /**
+   * @return A snapshot of the states of the circuit breakers by error code
+   */
+
+  public SortedMap<String, SCircuitBreakerState> breakerStates()
+  {
+    final var states = new TreeMap<String, SCircuitBreakerState>();
+    for (final var breaker : this.breakers.values()) {
+      states.put(breaker.code(), breaker.state());
+    }
+    return states;
+  }
+
+  /**
+   * @return The number of attempts made, including first attempts
+   */
+
+  public long attemptCount()
+  {
+    return this.attempts.sum();
+  }
+
+  /**
+   * @return The number of retries made
+   */
+
+  public long retryCount()
+  {
+    return this.retries.sum();
+  }
+
+  /**
+   * @return The number of operations that failed after all permitted
+   * attempts
+   */
+
+  public long failureCount()
+  {
+    return this.failures.sum();
+  }
+
+  /**
+   * @return The number of retries rejected by open circuit breakers
+   */
+
+  public long rejectedRetryCount()
+  {
+    return this.rejections.sum();
+  }
+
+  /**
+   * A mutable builder for retry policies. Unless otherwise specified, all
+   * failures are classified as {@link SRetryClass#NON_RETRYABLE}.
+   */
+
+  public static final class Builder
+  {
+    private final SRetryConfiguration configuration;
+    private final TreeMap<String, SRetryClass> prefixes;
+    private final TreeMap<String, SRetryClass> exacts;
+    private SRetryClass defaultClass;
+    private SRetryClass unstructuredClass;
+
+    private Builder(
+      final SRetryConfiguration inConfiguration)
+    {
+      this.configuration = inConfiguration;
+      this.prefixes = new TreeMap<>();
+      this.exacts = new TreeMap<>();
+      this.defaultClass = SRetryClass.NON_RETRYABLE;
+      this.unstructuredClass = SRetryClass.NON_RETRYABLE;
+    }
+
+    private static void put(
+      final TreeMap<String, SRetryClass> rules,
+      final String text,
+      final SRetryClass retryClass)
+    {
+      Objects.requireNonNull(text, "text");
+      Objects.requireNonNull(retryClass, "retryClass");
+
+      if (rules.containsKey(text)) {
+        throw new IllegalArgumentException(
+          "A rule already exists for '%s'".formatted(text)
+        );
+      }
+      rules.put(text, retryClass);
+    }
+
+    /**
+     * Classify errors with codes beginning with the given prefix.
+     *
+     * @param prefix     The code prefix
+     * @param retryClass The class
+     *
+     * @return this
+     *
+     * @throws IllegalArgumentException If a rule already exists for the
+     *                                  prefix
+     */
+
+    public Builder withPrefix(
+      final String prefix,
+      final SRetryClass retryClass)
+      throws IllegalArgumentException
+    {
+      put(this.prefixes, prefix, retryClass);
+      return this;
+    }
+
+    /**
+     * Classify errors with the given code.
+     *
+     * @param code       The error code
+     * @param retryClass The class
+     *
+     * @return this
+     *
+     * @throws IllegalArgumentException If a rule already exists for the
+     *                                  code
+     */
+
+    public Builder withExact(
+      final String code,
+      final SRetryClass retryClass)
+      throws IllegalArgumentException
+    {
+      put(this.exacts, code, retryClass);
+      return this;
+    }
+
+    /**
+     * Set the class of structured errors that match no rule.
+     *
+     * @param retryClass The class
+     *
+     * @return this
+     */
+
+    public Builder withDefault(
+      final SRetryClass retryClass)
+    {
+      this.defaultClass = Objects.requireNonNull(retryClass, "retryClass");
+      return this;
+    }
+
+    /**
+     * Set the class of exceptions that are not structured errors. The
+     * circuit breakers for such exceptions are keyed by class name.
+     *
+     * @param retryClass The class
+     *
+     * @return this
+     */
+
+    public Builder withUnstructured(
+      final SRetryClass retryClass)
+    {
+      this.unstructuredClass =
+        Objects.requireNonNull(retryClass, "retryClass");
+      return this;
+    }
+
+    /**
+     * @return A policy built from the rules given so far
+     */
+
+    public SRetryPolicy build()
+    {
+      final var routerBuilder =
+        SErrorCodeRouter.<Object, SRetryClass>builder(this.defaultClass);
+      for (final var entry : this.prefixes.entrySet()) {
+        routerBuilder.withPrefix(entry.getKey(), entry.getValue());
+      }
+      for (final var entry : this.exacts.entrySet()) {
+        routerBuilder.withExact(entry.getKey(), entry.getValue());
+      }
+      return new SRetryPolicy(
+        this.configuration,
+        routerBuilder.build(),
+        this.unstructuredClass
+      );
+    }
+  }
+}
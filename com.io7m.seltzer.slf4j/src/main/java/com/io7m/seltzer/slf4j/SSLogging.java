@@ -17,11 +17,15 @@
 
 package com.io7m.seltzer.slf4j;
 
+import com.io7m.seltzer.api.SErrorIds;
 import com.io7m.seltzer.api.SStructuredErrorType;
 import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
 import org.slf4j.event.Level;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Functions to log structured errors to SLF4J.
@@ -40,6 +44,11 @@ public final class SSLogging
    * included as {@code ErrorCode} and {@code RemediatingAction} MDC values,
    * respectively.</p>
    *
+   * <p>Error identifiers (see {@link SErrorIds}) are included along with the
+   * other attributes. If the error's exception is a structured error with an
+   * identifier, and the error does not already name a parent, the exception's
+   * identifier is included as the {@code ParentErrorId} MDC value.</p>
+   *
    * @param log   The logger
    * @param level The level
    * @param error The error
@@ -171,6 +180,15 @@ public final class SSLogging
     final SStructuredErrorType<?> error,
     final MessageStyle style)
   {
+    /*
+     * Return before touching the error at all when the level is disabled,
+     * so that disabled logging calls do not allocate.
+     */
+
+    if (!log.isEnabledForLevel(level)) {
+      return;
+    }
+
     final var exceptionOpt =
       error.exception();
 
@@ -187,6 +205,7 @@ public final class SSLogging
     for (final var entry : attributes.entrySet()) {
       eventBuilder.addKeyValue(entry.getKey(), entry.getValue());
     }
+    addParentErrorId(eventBuilder, attributes, exceptionOpt);
     eventBuilder.addKeyValue(codeName, error.errorCode().toString());
 
     error.remediatingAction()
@@ -210,6 +229,30 @@ public final class SSLogging
     }
   }
 
+  /**
+   * Link an error to the error that caused it, if the cause is an
+   * identified structured error and the error does not already name a
+   * parent.
+   */
+
+  private static void addParentErrorId(
+    final LoggingEventBuilder eventBuilder,
+    final Map<String, String> attributes,
+    final Optional<Throwable> exceptionOpt)
+  {
+    if (exceptionOpt.isEmpty()
+        || attributes.containsKey(SErrorIds.PARENT_ERROR_ID)) {
+      return;
+    }
+
+    if (exceptionOpt.get() instanceof SStructuredErrorType<?> parent) {
+      final var parentId = parent.attributes().get(SErrorIds.ERROR_ID);
+      if (parentId != null) {
+        eventBuilder.addKeyValue(SErrorIds.PARENT_ERROR_ID, parentId);
+      }
+    }
+  }
+
   /**
    * The message style used when exceptions are included in events.
    *
@@ -0,0 +1,535 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.store;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * <p>A compressed bitmap of non-negative integers.</p>
+ *
+ * <p>The integer space is split into chunks of 2^16 values keyed by the
+ * upper 16 bits of each value. Each chunk is stored as a sorted array of
+ * the lower 16 bits while it is sparse, and as a fixed 8KiB bit set once
+ * it holds more than 4096 values.</p>
+ */
+
+final class SStructuredErrorBitmap
+{
+  private static final int ARRAY_MAXIMUM = 4096;
+  private static final int WORDS = 1024;
+
+  private int[] keys;
+  private Container[] containers;
+  private int size;
+
+  SStructuredErrorBitmap()
+  {
+    this.keys = new int[4];
+    this.containers = new Container[4];
+  }
+
+  /**
+   * @param a The left bitmap
+   * @param b The right bitmap
+   *
+   * @return The intersection of {@code a} and {@code b}
+   */
+
+  static SStructuredErrorBitmap and(
+    final SStructuredErrorBitmap a,
+    final SStructuredErrorBitmap b)
+  {
+    final var result = new SStructuredErrorBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < a.size && j < b.size) {
+      final var ka = a.keys[i];
+      final var kb = b.keys[j];
+      if (ka < kb) {
+        ++i;
+      } else if (kb < ka) {
+        ++j;
+      } else {
+        final var c = a.containers[i].and(b.containers[j]);
+        if (c != null) {
+          result.append(ka, c);
+        }
+        ++i;
+        ++j;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param a The left bitmap
+   * @param b The right bitmap
+   *
+   * @return The union of {@code a} and {@code b}
+   */
+
+  static SStructuredErrorBitmap or(
+    final SStructuredErrorBitmap a,
+    final SStructuredErrorBitmap b)
+  {
+    final var result = new SStructuredErrorBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < a.size || j < b.size) {
+      final var ka = i < a.size ? a.keys[i] : Integer.MAX_VALUE;
+      final var kb = j < b.size ? b.keys[j] : Integer.MAX_VALUE;
+      if (ka < kb) {
+        result.append(ka, a.containers[i].copy());
+        ++i;
+      } else if (kb < ka) {
+        result.append(kb, b.containers[j].copy());
+        ++j;
+      } else {
+        result.append(ka, a.containers[i].or(b.containers[j]));
+        ++i;
+        ++j;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param a The left bitmap
+   * @param b The right bitmap
+   *
+   * @return The number of values in the intersection of {@code a} and
+   * {@code b}
+   */
+
+  static long andCardinality(
+    final SStructuredErrorBitmap a,
+    final SStructuredErrorBitmap b)
+  {
+    long count = 0L;
+    int i = 0;
+    int j = 0;
+    while (i < a.size && j < b.size) {
+      final var ka = a.keys[i];
+      final var kb = b.keys[j];
+      if (ka < kb) {
+        ++i;
+      } else if (kb < ka) {
+        ++j;
+      } else {
+        count += a.containers[i].andCardinality(b.containers[j]);
+        ++i;
+        ++j;
+      }
+    }
+    return count;
+  }
+
+  private void append(
+    final int key,
+    final Container container)
+  {
+    this.insertContainer(this.size, key, container);
+  }
+
+  private void insertContainer(
+    final int index,
+    final int key,
+    final Container container)
+  {
+    if (this.size == this.keys.length) {
+      final var capacity = this.keys.length * 2;
+      this.keys = Arrays.copyOf(this.keys, capacity);
+      this.containers = Arrays.copyOf(this.containers, capacity);
+    }
+    System.arraycopy(
+      this.keys, index, this.keys, index + 1, this.size - index);
+    System.arraycopy(
+      this.containers, index, this.containers, index + 1, this.size - index);
+    this.keys[index] = key;
+    this.containers[index] = container;
+    ++this.size;
+  }
+
+  /**
+   * Add a value.
+   *
+   * @param value The value
+   */
+
+  void add(
+    final int value)
+  {
+    final var high = value >>> 16;
+    var index = Arrays.binarySearch(this.keys, 0, this.size, high);
+    if (index < 0) {
+      index = -index - 1;
+      this.insertContainer(index, high, new Container());
+    }
+    this.containers[index].add((char) (value & 0xffff));
+  }
+
+  /**
+   * Remove a value.
+   *
+   * @param value The value
+   */
+
+  void remove(
+    final int value)
+  {
+    final var high = value >>> 16;
+    final var index = Arrays.binarySearch(this.keys, 0, this.size, high);
+    if (index < 0) {
+      return;
+    }
+
+    final var container = this.containers[index];
+    container.remove((char) (value & 0xffff));
+    if (container.cardinality == 0) {
+      System.arraycopy(
+        this.keys, index + 1, this.keys, index, this.size - index - 1);
+      System.arraycopy(
+        this.containers,
+        index + 1,
+        this.containers,
+        index,
+        this.size - index - 1);
+      --this.size;
+      this.containers[this.size] = null;
+    }
+  }
+
+  /**
+   * @param value The value
+   *
+   * @return {@code true} if the bitmap contains {@code value}
+   */
+
+  boolean contains(
+    final int value)
+  {
+    final var high = value >>> 16;
+    final var index = Arrays.binarySearch(this.keys, 0, this.size, high);
+    return index >= 0 && this.containers[index].contains((char) (value & 0xffff));
+  }
+
+  /**
+   * @return The number of values in the bitmap
+   */
+
+  long cardinality()
+  {
+    long count = 0L;
+    for (int index = 0; index < this.size; ++index) {
+      count += this.containers[index].cardinality;
+    }
+    return count;
+  }
+
+  /**
+   * @return {@code true} if the bitmap is empty
+   */
+
+  boolean isEmpty()
+  {
+    return this.size == 0;
+  }
+
+  /**
+   * Apply {@code consumer} to each value in ascending order, stopping early
+   * if {@code consumer} returns {@code false}.
+   *
+   * @param consumer The consumer
+   */
+
+  void forEach(
+    final IntPredicate consumer)
+  {
+    for (int index = 0; index < this.size; ++index) {
+      if (!this.containers[index].forEach(this.keys[index] << 16, consumer)) {
+        return;
+      }
+    }
+  }
+
+  private static final class Container
+  {
+    private char[] values;
+    private long[] words;
+    private int cardinality;
+
+    Container()
+    {
+      this.values = new char[4];
+    }
+
+    private Container(
+      final char[] inValues,
+      final long[] inWords,
+      final int inCardinality)
+    {
+      this.values = inValues;
+      this.words = inWords;
+      this.cardinality = inCardinality;
+    }
+
+    private static Container ofWords(
+      final long[] words,
+      final int cardinality)
+    {
+      if (cardinality == 0) {
+        return null;
+      }
+      if (cardinality > ARRAY_MAXIMUM) {
+        return new Container(null, words, cardinality);
+      }
+
+      final var values = new char[cardinality];
+      int count = 0;
+      for (int index = 0; index < WORDS; ++index) {
+        long word = words[index];
+        while (word != 0L) {
+          values[count] = (char) ((index << 6) + Long.numberOfTrailingZeros(word));
+          ++count;
+          word &= word - 1L;
+        }
+      }
+      return new Container(values, null, cardinality);
+    }
+
+    private long[] toWords()
+    {
+      if (this.words != null) {
+        return this.words.clone();
+      }
+
+      final var result = new long[WORDS];
+      for (int index = 0; index < this.cardinality; ++index) {
+        final var v = this.values[index];
+        result[v >>> 6] |= 1L << v;
+      }
+      return result;
+    }
+
+    Container copy()
+    {
+      return new Container(
+        this.values == null ? null : this.values.clone(),
+        this.words == null ? null : this.words.clone(),
+        this.cardinality
+      );
+    }
+
+    boolean contains(
+      final char value)
+    {
+      if (this.words != null) {
+        return (this.words[value >>> 6] & (1L << value)) != 0L;
+      }
+      return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+    }
+
+    void add(
+      final char value)
+    {
+      if (this.words != null) {
+        final var before = this.words[value >>> 6];
+        final var after = before | (1L << value);
+        this.words[value >>> 6] = after;
+        this.cardinality += before == after ? 0 : 1;
+        return;
+      }
+
+      final var index =
+        Arrays.binarySearch(this.values, 0, this.cardinality, value);
+      if (index >= 0) {
+        return;
+      }
+
+      if (this.cardinality == ARRAY_MAXIMUM) {
+        this.words = this.toWords();
+        this.values = null;
+        this.add(value);
+        return;
+      }
+
+      final var insert = -index - 1;
+      if (this.cardinality == this.values.length) {
+        this.values = Arrays.copyOf(
+          this.values,
+          Math.min(ARRAY_MAXIMUM, this.values.length * 2)
+        );
+      }
+      System.arraycopy(
+        this.values, insert, this.values, insert + 1, this.cardinality - insert);
+      this.values[insert] = value;
+      ++this.cardinality;
+    }
+
+    void remove(
+      final char value)
+    {
+      if (this.words != null) {
+        final var before = this.words[value >>> 6];
+        final var after = before & ~(1L << value);
+        this.words[value >>> 6] = after;
+        this.cardinality -= before == after ? 0 : 1;
+        return;
+      }
+
+      final var index =
+        Arrays.binarySearch(this.values, 0, this.cardinality, value);
+      if (index >= 0) {
+        System.arraycopy(
+          this.values,
+          index + 1,
+          this.values,
+          index,
+          this.cardinality - index - 1);
+        --this.cardinality;
+      }
+    }
+
+    Container and(
+      final Container other)
+    {
+      if (this.words != null && other.words != null) {
+        final var result = new long[WORDS];
+        int count = 0;
+        for (int index = 0; index < WORDS; ++index) {
+          result[index] = this.words[index] & other.words[index];
+          count += Long.bitCount(result[index]);
+        }
+        return ofWords(result, count);
+      }
+
+      final var array = this.words == null ? this : other;
+      final var filter = this.words == null ? other : this;
+      final var result = new char[Math.min(array.cardinality, filter.cardinality)];
+      int count = 0;
+      for (int index = 0; index < array.cardinality; ++index) {
+        final var v = array.values[index];
+        if (filter.contains(v)) {
+          result[count] = v;
+          ++count;
+        }
+      }
+      return count == 0 ? null : new Container(result, null, count);
+    }
+
+    long andCardinality(
+      final Container other)
+    {
+      if (this.words != null && other.words != null) {
+        long count = 0L;
+        for (int index = 0; index < WORDS; ++index) {
+          count += Long.bitCount(this.words[index] & other.words[index]);
+        }
+        return count;
+      }
+
+      final var array = this.words == null ? this : other;
+      final var filter = this.words == null ? other : this;
+      long count = 0L;
+      for (int index = 0; index < array.cardinality; ++index) {
+        if (filter.contains(array.values[index])) {
+          ++count;
+        }
+      }
+      return count;
+    }
+
+    Container or(
+      final Container other)
+    {
+      if (this.words == null
+        && other.words == null
+        && this.cardinality + other.cardinality <= ARRAY_MAXIMUM) {
+        return this.orArrays(other);
+      }
+
+      final var result = this.toWords();
+      if (other.words != null) {
+        for (int index = 0; index < WORDS; ++index) {
+          result[index] |= other.words[index];
+        }
+      } else {
+        for (int index = 0; index < other.cardinality; ++index) {
+          final var v = other.values[index];
+          result[v >>> 6] |= 1L << v;
+        }
+      }
+
+      int count = 0;
+      for (int index = 0; index < WORDS; ++index) {
+        count += Long.bitCount(result[index]);
+      }
+      return ofWords(result, count);
+    }
+
+    private Container orArrays(
+      final Container other)
+    {
+      final var result = new char[this.cardinality + other.cardinality];
+      int i = 0;
+      int j = 0;
+      int count = 0;
+      while (i < this.cardinality || j < other.cardinality) {
+        final int a = i < this.cardinality ? this.values[i] : Integer.MAX_VALUE;
+        final int b = j < other.cardinality ? other.values[j] : Integer.MAX_VALUE;
+        if (a <= b) {
+          result[count] = (char) a;
+          ++i;
+          j += a == b ? 1 : 0;
+        } else {
+          result[count] = (char) b;
+          ++j;
+        }
+        ++count;
+      }
+      return new Container(result, null, count);
+    }
+
+    boolean forEach(
+      final int base,
+      final IntPredicate consumer)
+    {
+      if (this.words == null) {
+        for (int index = 0; index < this.cardinality; ++index) {
+          if (!consumer.test(base | this.values[index])) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      for (int index = 0; index < WORDS; ++index) {
+        long word = this.words[index];
+        while (word != 0L) {
+          final var low = (index << 6) + Long.numberOfTrailingZeros(word);
+          if (!consumer.test(base | low)) {
+            return false;
+          }
+          word &= word - 1L;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,572 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.store;
+
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * <p>An index over a collection of errors.</p>
+ *
+ * <p>Each error added to the index is assigned a dense integer identifier.
+ * The identifiers of removed errors are reused by later additions, so the
+ * memory used by the index is bounded by the largest number of errors that
+ * it has held at any one time, rather than by the number of errors ever
+ * added. The index maintains a compressed bitmap of identifiers per error code,
+ * per attribute name, and per attribute name and value. Queries are
+ * evaluated as intersections and unions of bitmaps, smallest first, and
+ * grouped counts are computed in parallel across the available cores for
+ * large result sets.</p>
+ *
+ * <p>The index is safe for use from multiple threads. Queries may run
+ * concurrently with each other; additions and removals are exclusive.
+ * Additions and removals made on behalf of an {@link SStructuredErrorStore}
+ * never wait for the index lock: they are queued, and the queue is applied
+ * by whichever thread next finds the lock free, and at the latest by the
+ * next query, so that queries always observe every update queued before
+ * they started.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SStructuredErrorIndex
+{
+  private static final long PARALLEL_THRESHOLD = 65536L;
+
+  private final ReentrantReadWriteLock lock;
+  private final ConcurrentLinkedQueue<Update> pending;
+  private final ArrayList<SStructuredErrorType<?>> errors;
+  private final SStructuredErrorBitmap live;
+  private int[] free;
+  private int freeCount;
+  private final TreeMap<String, SStructuredErrorBitmap> byCode;
+  private final HashMap<String, SStructuredErrorBitmap> byName;
+  private final HashMap<String, HashMap<String, SStructuredErrorBitmap>> byValue;
+
+  private SStructuredErrorIndex()
+  {
+    this.lock =
+      new ReentrantReadWriteLock();
+    this.pending =
+      new ConcurrentLinkedQueue<>();
+    this.errors =
+      new ArrayList<>();
+    this.live =
+      new SStructuredErrorBitmap();
+    this.free =
+      new int[16];
+    this.freeCount =
+      0;
+    this.byCode =
+      new TreeMap<>();
+    this.byName =
+      new HashMap<>();
+    this.byValue =
+      new HashMap<>();
+  }
+
+  /**
+   * @return A new empty index
+   */
+
+  public static SStructuredErrorIndex create()
+  {
+    return new SStructuredErrorIndex();
+  }
+
+  /**
+   * Add an error to the index. The error is assigned the identifier of a
+   * previously removed error, if there is one.
+   *
+   * @param error The error
+   *
+   * @return The identifier assigned to the error
+   */
+
+  public int add(
+    final SStructuredErrorType<?> error)
+  {
+    Objects.requireNonNull(error, "error");
+
+    final var writeLock = this.lock.writeLock();
+    writeLock.lock();
+    try {
+      this.applyPendingLocked();
+      return this.addLocked(error);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private int addLocked(
+    final SStructuredErrorType<?> error)
+  {
+    final int id;
+    if (this.freeCount > 0) {
+      --this.freeCount;
+      id = this.free[this.freeCount];
+      this.errors.set(id, error);
+    } else {
+      id = this.errors.size();
+      this.errors.add(error);
+    }
+    this.live.add(id);
+
+    this.byCode.computeIfAbsent(
+      error.errorCode().toString(),
+      k -> new SStructuredErrorBitmap()
+    ).add(id);
+
+    for (final var entry : error.attributes().entrySet()) {
+      final var name = entry.getKey();
+      this.byName.computeIfAbsent(name, k -> new SStructuredErrorBitmap())
+        .add(id);
+      this.byValue.computeIfAbsent(name, k -> new HashMap<>())
+        .computeIfAbsent(entry.getValue(), k -> new SStructuredErrorBitmap())
+        .add(id);
+    }
+    return id;
+  }
+
+  /**
+   * Remove an error from the index. The identifier of the error may be
+   * assigned to a subsequently added error.
+   *
+   * @param id The identifier of the error
+   */
+
+  public void remove(
+    final int id)
+  {
+    final var writeLock = this.lock.writeLock();
+    writeLock.lock();
+    try {
+      this.applyPendingLocked();
+      this.removeLocked(id);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private void removeLocked(
+    final int id)
+  {
+    if (id < 0 || id >= this.errors.size()) {
+      return;
+    }
+    final var error = this.errors.get(id);
+    if (error == null) {
+      return;
+    }
+
+    this.errors.set(id, null);
+    this.live.remove(id);
+    this.release(id);
+    removeFrom(this.byCode, error.errorCode().toString(), id);
+
+    for (final var entry : error.attributes().entrySet()) {
+      final var name = entry.getKey();
+      removeFrom(this.byName, name, id);
+
+      final var values = this.byValue.get(name);
+      removeFrom(values, entry.getValue(), id);
+      if (values.isEmpty()) {
+        this.byValue.remove(name);
+      }
+    }
+  }
+
+  /**
+   * Queue the addition of an error. The error is assigned an identifier,
+   * recorded in the returned handle, when the addition is applied.
+   *
+   * @param error The error
+   *
+   * @return The handle of the queued addition
+   */
+
+  Handle addLater(
+    final SStructuredErrorType<?> error)
+  {
+    final var handle = new Handle(error);
+    this.pending.add(new Update(handle, true));
+    this.tryApplyPending();
+    return handle;
+  }
+
+  /**
+   * Queue the removal of an error previously queued with
+   * {@link #addLater(SStructuredErrorType)}.
+   *
+   * @param handle The handle of the addition
+   */
+
+  void removeLater(
+    final Handle handle)
+  {
+    this.pending.add(new Update(handle, false));
+    this.tryApplyPending();
+  }
+
+  private void tryApplyPending()
+  {
+    final var writeLock = this.lock.writeLock();
+    if (writeLock.tryLock()) {
+      try {
+        this.applyPendingLocked();
+      } finally {
+        writeLock.unlock();
+      }
+    }
+  }
+
+  private void applyPending()
+  {
+    if (this.pending.isEmpty()) {
+      return;
+    }
+
+    final var writeLock = this.lock.writeLock();
+    writeLock.lock();
+    try {
+      this.applyPendingLocked();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private void applyPendingLocked()
+  {
+    while (true) {
+      final var update = this.pending.poll();
+      if (update == null) {
+        return;
+      }
+      final var handle = update.handle;
+      if (update.addition) {
+        handle.id = this.addLocked(handle.error);
+      } else {
+        this.removeLocked(handle.id);
+        handle.id = -1;
+      }
+    }
+  }
+
+  private void release(
+    final int id)
+  {
+    if (this.freeCount == this.free.length) {
+      this.free = Arrays.copyOf(this.free, this.free.length * 2);
+    }
+    this.free[this.freeCount] = id;
+    ++this.freeCount;
+  }
+
+  private static void removeFrom(
+    final Map<String, SStructuredErrorBitmap> map,
+    final String key,
+    final int id)
+  {
+    final var bitmap = map.get(key);
+    bitmap.remove(id);
+    if (bitmap.isEmpty()) {
+      map.remove(key);
+    }
+  }
+
+  /**
+   * @return The number of errors in the index
+   */
+
+  public long size()
+  {
+    this.applyPending();
+
+    final var readLock = this.lock.readLock();
+    readLock.lock();
+    try {
+      return this.live.cardinality();
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * @param id The identifier of the error
+   *
+   * @return The error with the given identifier, if it is in the index
+   */
+
+  public Optional<SStructuredErrorType<?>> get(
+    final int id)
+  {
+    this.applyPending();
+
+    final var readLock = this.lock.readLock();
+    readLock.lock();
+    try {
+      if (id < 0 || id >= this.errors.size()) {
+        return Optional.empty();
+      }
+      return Optional.ofNullable(this.errors.get(id));
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * @param query The query
+   *
+   * @return The number of errors matching the query
+   */
+
+  public long count(
+    final SStructuredErrorQuery query)
+  {
+    Objects.requireNonNull(query, "query");
+
+    this.applyPending();
+
+    final var readLock = this.lock.readLock();
+    readLock.lock();
+    try {
+      return this.evaluate(query).cardinality();
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * @param query The query
+   * @param limit The maximum number of errors to return
+   *
+   * @return The errors matching the query, in ascending identifier order
+   */
+
+  public List<SStructuredErrorType<?>> find(
+    final SStructuredErrorQuery query,
+    final int limit)
+  {
+    Objects.requireNonNull(query, "query");
+
+    this.applyPending();
+
+    final var readLock = this.lock.readLock();
+    readLock.lock();
+    try {
+      final var results = new ArrayList<SStructuredErrorType<?>>();
+      this.evaluate(query).forEach(id -> {
+        if (results.size() >= limit) {
+          return false;
+        }
+        results.add(this.errors.get(id));
+        return true;
+      });
+      return List.copyOf(results);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * @param query The query
+   *
+   * @return The number of errors matching the query, grouped by error code
+   */
+
+  public Map<String, Long> countByCode(
+    final SStructuredErrorQuery query)
+  {
+    Objects.requireNonNull(query, "query");
+
+    this.applyPending();
+
+    final var readLock = this.lock.readLock();
+    readLock.lock();
+    try {
+      return groupCounts(this.evaluate(query), this.byCode);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * @param query The query
+   * @param name  The attribute name
+   *
+   * @return The number of errors matching the query, grouped by the value
+   * of the given attribute
+   */
+
+  public Map<String, Long> countByAttribute(
+    final SStructuredErrorQuery query,
+    final String name)
+  {
+    Objects.requireNonNull(query, "query");
+    Objects.requireNonNull(name, "name");
+
+    this.applyPending();
+
+    final var readLock = this.lock.readLock();
+    readLock.lock();
+    try {
+      final var values = this.byValue.get(name);
+      if (values == null) {
+        return Map.of();
+      }
+      return groupCounts(this.evaluate(query), values);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private static Map<String, Long> groupCounts(
+    final SStructuredErrorBitmap matching,
+    final Map<String, SStructuredErrorBitmap> groups)
+  {
+    if (matching.isEmpty()) {
+      return Map.of();
+    }
+
+    var stream = groups.entrySet().stream();
+    if (matching.cardinality() >= PARALLEL_THRESHOLD) {
+      stream = stream.parallel();
+    }
+
+    return stream
+      .map(e -> Map.entry(
+        e.getKey(),
+        Long.valueOf(SStructuredErrorBitmap.andCardinality(matching, e.getValue()))
+      ))
+      .filter(e -> e.getValue().longValue() > 0L)
+      .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
+  private SStructuredErrorBitmap evaluate(
+    final SStructuredErrorQuery query)
+  {
+    final var terms = new ArrayList<SStructuredErrorBitmap>();
+
+    if (!query.codes().isEmpty()) {
+      terms.add(union(
+        query.codes()
+          .stream()
+          .map(this.byCode::get)
+          .filter(Objects::nonNull)
+          .toList()
+      ));
+    }
+
+    for (final var prefix : query.codePrefixes()) {
+      final var matching = new ArrayList<SStructuredErrorBitmap>();
+      for (final var entry : this.byCode.tailMap(prefix, true).entrySet()) {
+        if (!entry.getKey().startsWith(prefix)) {
+          break;
+        }
+        matching.add(entry.getValue());
+      }
+      terms.add(union(matching));
+    }
+
+    for (final var name : query.attributeKeys()) {
+      terms.add(this.byName.getOrDefault(name, new SStructuredErrorBitmap()));
+    }
+
+    for (final var attribute : query.attributes()) {
+      final var values = this.byValue.getOrDefault(attribute.getKey(), new HashMap<>());
+      terms.add(values.getOrDefault(attribute.getValue(), new SStructuredErrorBitmap()));
+    }
+
+    return intersection(terms);
+  }
+
+  private SStructuredErrorBitmap intersection(
+    final List<SStructuredErrorBitmap> terms)
+  {
+    if (terms.isEmpty()) {
+      return this.live;
+    }
+
+    final var ordered = new ArrayList<>(terms);
+    ordered.sort(Comparator.comparingLong(SStructuredErrorBitmap::cardinality));
+
+    var result = ordered.get(0);
+    for (int index = 1; index < ordered.size() && !result.isEmpty(); ++index) {
+      result = SStructuredErrorBitmap.and(result, ordered.get(index));
+    }
+    return result;
+  }
+
+  private static SStructuredErrorBitmap union(
+    final Collection<SStructuredErrorBitmap> bitmaps)
+  {
+    if (bitmaps.size() == 1) {
+      return bitmaps.iterator().next();
+    }
+
+    var stream = bitmaps.stream();
+    if (bitmaps.size() > 8) {
+      stream = stream.parallel();
+    }
+    return stream.reduce(
+      new SStructuredErrorBitmap(),
+      SStructuredErrorBitmap::or,
+      SStructuredErrorBitmap::or
+    );
+  }
+
+  /**
+   * An addition queued on behalf of a store.
+   */
+
+  static final class Handle
+  {
+    private final SStructuredErrorType<?> error;
+    private int id;
+
+    Handle(
+      final SStructuredErrorType<?> inError)
+    {
+      this.error = Objects.requireNonNull(inError, "error");
+      this.id = -1;
+    }
+  }
+
+  private record Update(
+    Handle handle,
+    boolean addition)
+  {
+    private Update
+    {
+      Objects.requireNonNull(handle, "handle");
+    }
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A query over an error index. A query matches an error if the error
+ * matches every criterion in the query; a query with no criteria matches
+ * every error.
+ *
+ * @param codes         The error codes, one of which must match exactly
+ *                      (if non-empty)
+ * @param codePrefixes  The error code prefixes, each of which must match
+ * @param attributeKeys The attribute names that must be present
+ * @param attributes    The attribute names and values that must match
+ *
+ * @since 1.4.0
+ */
+
+public record SStructuredErrorQuery(
+  List<String> codes,
+  List<String> codePrefixes,
+  List<String> attributeKeys,
+  List<Map.Entry<String, String>> attributes)
+{
+  private static final SStructuredErrorQuery ALL =
+    new SStructuredErrorQuery(List.of(), List.of(), List.of(), List.of());
+
+  /**
+   * A query over an error index.
+   *
+   * @param codes         The error codes, one of which must match exactly
+   *                      (if non-empty)
+   * @param codePrefixes  The error code prefixes, each of which must match
+   * @param attributeKeys The attribute names that must be present
+   * @param attributes    The attribute names and values that must match
+   */
+
+  public SStructuredErrorQuery
+  {
+    codes = List.copyOf(codes);
+    codePrefixes = List.copyOf(codePrefixes);
+    attributeKeys = List.copyOf(attributeKeys);
+    attributes = List.copyOf(attributes);
+  }
+
+  /**
+   * @return A query that matches every error
+   */
+
+  public static SStructuredErrorQuery all()
+  {
+    return ALL;
+  }
+
+  /**
+   * @return A new query builder
+   */
+
+  public static Builder builder()
+  {
+    return new Builder();
+  }
+
+  /**
+   * A mutable query builder.
+   */
+
+  public static final class Builder
+  {
+    private final ArrayList<String> codes;
+    private final ArrayList<String> codePrefixes;
+    private final ArrayList<String> attributeKeys;
+    private final ArrayList<Map.Entry<String, String>> attributes;
+
+    private Builder()
+    {
+      this.codes = new ArrayList<>();
+      this.codePrefixes = new ArrayList<>();
+      this.attributeKeys = new ArrayList<>();
+      this.attributes = new ArrayList<>();
+    }
+
+    /**
+     * Match errors with the given code. If this method is called more than
+     * once, errors matching any of the given codes are matched.
+     *
+     * @param code The error code
+     *
+     * @return this
+     */
+
+    public Builder withCode(
+      final String code)
+    {
+      this.codes.add(Objects.requireNonNull(code, "code"));
+      return this;
+    }
+
+    /**
+     * Match errors with codes starting with the given prefix.
+     *
+     * @param prefix The error code prefix
+     *
+     * @return this
+     */
+
+    public Builder withCodePrefix(
+      final String prefix)
+    {
+      this.codePrefixes.add(Objects.requireNonNull(prefix, "prefix"));
+      return this;
+    }
+
+    /**
+     * Match errors that have an attribute with the given name.
+     *
+     * @param name The attribute name
+     *
+     * @return this
+     */
+
+    public Builder withAttributePresent(
+      final String name)
+    {
+      this.attributeKeys.add(Objects.requireNonNull(name, "name"));
+      return this;
+    }
+
+    /**
+     * Match errors that have an attribute with the given name and value.
+     *
+     * @param name  The attribute name
+     * @param value The attribute value
+     *
+     * @return this
+     */
+
+    public Builder withAttribute(
+      final String name,
+      final String value)
+    {
+      this.attributes.add(Map.entry(
+        Objects.requireNonNull(name, "name"),
+        Objects.requireNonNull(value, "value")
+      ));
+      return this;
+    }
+
+    /**
+     * @return A query based on all the given values
+     */
+
+    public SStructuredErrorQuery build()
+    {
+      return new SStructuredErrorQuery(
+        this.codes,
+        this.codePrefixes,
+        this.attributeKeys,
+        this.attributes
+      );
+    }
+  }
+}
@@ -0,0 +1,616 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.store;
+
+import com.io7m.seltzer.api.SStructuredErrorFingerprint;
+import com.io7m.seltzer.api.SStructuredErrorFingerprinter;
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>A bounded, in-memory store of recently recorded errors.</p>
+ *
+ * <p>Errors are held in a fixed-size ring. Identical errors (those with
+ * equal error codes, messages, and attributes, ignoring any attributes
+ * excluded by the configured fingerprinter) are not stored twice; instead,
+ * the occurrence count and last-seen time of the existing entry are
+ * updated, and the entry retains the first such error recorded.
+ * Fingerprints are used to find candidate entries quickly, but errors with
+ * equal fingerprints that are not identical are stored separately. Entries
+ * are evicted when the ring wraps, when the estimated size of the retained
+ * errors exceeds the configured byte budget (oldest first), and when an
+ * entry has not been seen for longer than the configured maximum age.
+ * Age-based eviction is performed lazily during {@link #snapshot()} and
+ * {@link #evictExpired()}.</p>
+ *
+ * <p>A store may be given an {@link SStructuredErrorIndex}, in which case
+ * each distinct retained error is added to the index and is removed from
+ * it when evicted, so that the index holds exactly the retained errors.
+ * Index updates are queued rather than applied under the index lock, so
+ * queries against the index never delay writers.</p>
+ *
+ * <p>The store is safe for use from multiple threads. Neither writers nor
+ * readers take locks, and writers never wait for readers; readers observe
+ * a weakly consistent view of the ring.</p>
+ *
+ * @since 1.4.0
+ */
+
+public final class SStructuredErrorStore
+{
+  private final SStructuredErrorStoreConfiguration configuration;
+  private final SStructuredErrorIndex index;
+  private final AtomicReferenceArray<Slot> ring;
+  private final ConcurrentHashMap<SlotKey, Slot> slots;
+  private final ConcurrentHashMap<Object, CodeSeen> lastSeenCodes;
+  private final AtomicLong head;
+  private final AtomicLong tail;
+  private final AtomicLong bytes;
+  private final long maximumAgeMillis;
+
+  private SStructuredErrorStore(
+    final SStructuredErrorStoreConfiguration inConfiguration,
+    final SStructuredErrorIndex inIndex)
+  {
+    this.configuration =
+      Objects.requireNonNull(inConfiguration, "configuration");
+    this.index =
+      inIndex;
+    this.ring =
+      new AtomicReferenceArray<>(inConfiguration.maximumEntries());
+    this.slots =
+      new ConcurrentHashMap<>(inConfiguration.maximumEntries());
+    this.lastSeenCodes =
+      new ConcurrentHashMap<>();
+    this.head =
+      new AtomicLong();
+    this.tail =
+      new AtomicLong();
+    this.bytes =
+      new AtomicLong();
+    this.maximumAgeMillis =
+      saturatedMillis(inConfiguration);
+  }
+
+  private static long saturatedMillis(
+    final SStructuredErrorStoreConfiguration inConfiguration)
+  {
+    try {
+      return inConfiguration.maximumAge().toMillis();
+    } catch (final ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * Create a new store.
+   *
+   * @param configuration The store configuration
+   *
+   * @return A new store
+   */
+
+  public static SStructuredErrorStore create(
+    final SStructuredErrorStoreConfiguration configuration)
+  {
+    return new SStructuredErrorStore(configuration, null);
+  }
+
+  /**
+   * Create a new store that keeps the given index in sync with the
+   * retained errors. The index should be empty, and should not be modified
+   * by anything other than the store.
+   *
+   * @param configuration The store configuration
+   * @param index         The index
+   *
+   * @return A new store
+   */
+
+  public static SStructuredErrorStore create(
+    final SStructuredErrorStoreConfiguration configuration,
+    final SStructuredErrorIndex index)
+  {
+    return new SStructuredErrorStore(
+      configuration,
+      Objects.requireNonNull(index, "index")
+    );
+  }
+
+  /**
+   * @return The index kept in sync with the store, if any
+   */
+
+  public Optional<SStructuredErrorIndex> index()
+  {
+    return Optional.ofNullable(this.index);
+  }
+
+  /**
+   * @return The store configuration
+   */
+
+  public SStructuredErrorStoreConfiguration configuration()
+  {
+    return this.configuration;
+  }
+
+  /**
+   * @return The current estimated size in bytes of the retained errors
+   */
+
+  public long estimatedBytes()
+  {
+    return Math.max(0L, this.bytes.get());
+  }
+
+  /**
+   * Record an error. If an identical error is already retained, its
+   * occurrence count is incremented instead of storing the error again.
+   *
+   * @param error The error
+   *
+   * @return The fingerprint of the error
+   */
+
+  public SStructuredErrorFingerprint record(
+    final SStructuredErrorType<?> error)
+  {
+    Objects.requireNonNull(error, "error");
+
+    final var fingerprint =
+      this.configuration.fingerprinter().fingerprint(error);
+    final var now =
+      this.configuration.clock().millis();
+
+    final var key =
+      new SlotKey(this.configuration.fingerprinter(), fingerprint, error);
+    while (true) {
+      final var existing = this.slots.get(key);
+      if (existing != null) {
+        if (existing.observe(now)) {
+          this.lastSeenCodes.computeIfPresent(
+            error.errorCode(),
+            (code, seen) -> seen.observed(now)
+          );
+          return fingerprint;
+        }
+        this.slots.remove(key, existing);
+        continue;
+      }
+
+      final var slot = new Slot(key, now);
+      if (this.slots.putIfAbsent(key, slot) == null) {
+        this.publish(slot);
+        return fingerprint;
+      }
+    }
+  }
+
+  private void publish(
+    final Slot slot)
+  {
+    if (this.index != null) {
+      slot.indexHandle = this.index.addLater(slot.error);
+    }
+    this.lastSeenCodes.compute(
+      slot.error.errorCode(),
+      (code, seen) -> seen == null ? new CodeSeen(slot.firstSeen, 1) : seen.added(slot.firstSeen)
+    );
+    this.bytes.addAndGet(slot.size);
+
+    final var sequence = this.head.getAndIncrement();
+    slot.sequence = sequence;
+
+    /*
+     * A writer holding a later sequence for the same position may have
+     * overtaken this one. Only ever replace an older slot, so that the
+     * slot evicted is always the older of the two.
+     */
+
+    final var position = this.indexOf(sequence);
+    while (true) {
+      final var previous = this.ring.get(position);
+      if (previous != null && previous.sequence > sequence) {
+        this.evict(slot);
+        return;
+      }
+      if (this.ring.compareAndSet(position, previous, slot)) {
+        if (previous != null) {
+          this.evict(previous);
+        }
+        break;
+      }
+    }
+
+    /*
+     * Byte-based eviction may already have passed this sequence before
+     * the slot was placed in the ring.
+     */
+
+    if (sequence < this.tail.get()) {
+      this.evict(slot);
+      return;
+    }
+    this.evictForBytes();
+  }
+
+  private void evictForBytes()
+  {
+    final var capacity = this.ring.length();
+    final var maximum = this.configuration.maximumBytes();
+
+    while (this.bytes.get() > maximum) {
+      final var t = this.tail.get();
+      final var h = this.head.get();
+      if (t >= h) {
+        return;
+      }
+      if (t < h - capacity) {
+        this.tail.compareAndSet(t, h - capacity);
+        continue;
+      }
+      if (this.tail.compareAndSet(t, t + 1L)) {
+        final var slot = this.ring.get(this.indexOf(t));
+        if (slot != null && slot.sequence == t) {
+          this.evict(slot);
+        }
+      }
+    }
+  }
+
+  private void evict(
+    final Slot slot)
+  {
+    if (slot.evict()) {
+      this.bytes.addAndGet(-slot.size);
+      this.slots.remove(slot.key, slot);
+      this.lastSeenCodes.computeIfPresent(
+        slot.error.errorCode(),
+        (code, seen) -> seen.removed()
+      );
+      if (this.index != null) {
+        this.index.removeLater(slot.indexHandle);
+      }
+    }
+  }
+
+  private int indexOf(
+    final long sequence)
+  {
+    return (int) (sequence % (long) this.ring.length());
+  }
+
+  private boolean expired(
+    final Slot slot,
+    final long now)
+  {
+    return now - slot.lastSeen.get() > this.maximumAgeMillis;
+  }
+
+  /**
+   * Evict all entries that have not been seen within the configured
+   * maximum age.
+   */
+
+  public void evictExpired()
+  {
+    this.collect(this.configuration.clock().millis());
+  }
+
+  /**
+   * Take a snapshot of the retained errors, evicting any expired entries.
+   *
+   * @return The retained errors, most recently seen first
+   */
+
+  public List<SStructuredErrorStoreEntry> snapshot()
+  {
+    final var live =
+      this.collect(this.configuration.clock().millis());
+    final var entries =
+      new ArrayList<SStructuredErrorStoreEntry>(live.size());
+
+    for (final var slot : live) {
+      entries.add(slot.toEntry());
+    }
+    entries.sort(
+      Comparator.comparing(SStructuredErrorStoreEntry::lastSeen).reversed()
+    );
+    return List.copyOf(entries);
+  }
+
+  private List<Slot> collect(
+    final long now)
+  {
+    final var h = this.head.get();
+    final var lowest = Math.max(0L, h - (long) this.ring.length());
+    final var live = new ArrayList<Slot>();
+
+    for (long sequence = h - 1L; sequence >= lowest; --sequence) {
+      final var slot = this.ring.get(this.indexOf(sequence));
+      if (slot == null || slot.sequence != sequence || slot.isEvicted()) {
+        continue;
+      }
+      if (this.expired(slot, now)) {
+        this.evict(slot);
+        continue;
+      }
+      live.add(slot);
+    }
+    return live;
+  }
+
+  /**
+   * Find the time at which an error with the given code was last recorded.
+   * Last-seen times are retained for as long as at least one error with
+   * the code is retained.
+   *
+   * @param errorCode The error code
+   *
+   * @return The time, if an error with the code has been recorded
+   */
+
+  public Optional<Instant> lastSeen(
+    final Object errorCode)
+  {
+    Objects.requireNonNull(errorCode, "errorCode");
+    return Optional.ofNullable(this.lastSeenCodes.get(errorCode))
+      .map(seen -> Instant.ofEpochMilli(seen.lastSeen));
+  }
+
+  /**
+   * @return The time at which each retained error code was last seen
+   */
+
+  public Map<Object, Instant> lastSeenByCode()
+  {
+    final var result = new HashMap<Object, Instant>(this.lastSeenCodes.size());
+    this.lastSeenCodes.forEach((code, seen) -> {
+      result.put(code, Instant.ofEpochMilli(seen.lastSeen));
+    });
+    return Map.copyOf(result);
+  }
+
+  private static long estimateSize(
+    final SStructuredErrorType<?> error)
+  {
+    long size = 64L;
+    size += 2L * (long) error.errorCode().toString().length();
+    size += 2L * (long) error.message().length();
+    size += error.remediatingAction()
+      .map(s -> Long.valueOf(2L * (long) s.length()))
+      .orElse(Long.valueOf(0L))
+      .longValue();
+
+    for (final var entry : error.attributes().entrySet()) {
+      size += 32L;
+      size += 2L * (long) entry.getKey().length();
+      size += 2L * (long) entry.getValue().length();
+    }
+    return size;
+  }
+
+  /**
+   * @return {@code true} if the maps are equal when the attributes excluded
+   * by the fingerprinter are ignored
+   */
+
+  private static boolean sameAttributes(
+    final SStructuredErrorFingerprinter fingerprinter,
+    final Map<String, String> x,
+    final Map<String, String> y)
+  {
+    var count = 0;
+    for (final var entry : x.entrySet()) {
+      final var name = entry.getKey();
+      if (fingerprinter.isAttributeExcluded(name)) {
+        continue;
+      }
+      if (!entry.getValue().equals(y.get(name))) {
+        return false;
+      }
+      ++count;
+    }
+    for (final var name : y.keySet()) {
+      if (!fingerprinter.isAttributeExcluded(name)) {
+        --count;
+      }
+    }
+    return count == 0;
+  }
+
+  /**
+   * The key of a slot. Keys hash by fingerprint, but are equal only if
+   * their errors are identical, so that fingerprint collisions never merge
+   * distinct errors. Attributes excluded by the fingerprinter are ignored
+   * by both.
+   */
+
+  private static final class SlotKey
+  {
+    private final SStructuredErrorFingerprinter fingerprinter;
+    private final SStructuredErrorFingerprint fingerprint;
+    private final SStructuredErrorType<?> error;
+
+    SlotKey(
+      final SStructuredErrorFingerprinter inFingerprinter,
+      final SStructuredErrorFingerprint inFingerprint,
+      final SStructuredErrorType<?> inError)
+    {
+      this.fingerprinter = inFingerprinter;
+      this.fingerprint = inFingerprint;
+      this.error = inError;
+    }
+
+    @Override
+    public boolean equals(
+      final Object other)
+    {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof SlotKey)) {
+        return false;
+      }
+      final var key = (SlotKey) other;
+      return this.fingerprint.equals(key.fingerprint)
+             && Objects.equals(this.error.errorCode(), key.error.errorCode())
+             && this.error.message().equals(key.error.message())
+             && sameAttributes(
+        this.fingerprinter,
+        this.error.attributes(),
+        key.error.attributes()
+      );
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return this.fingerprint.hashCode();
+    }
+  }
+
+  /**
+   * The last-seen time of an error code, and the number of retained slots
+   * with that code.
+   */
+
+  private record CodeSeen(
+    long lastSeen,
+    int retained)
+  {
+    CodeSeen observed(
+      final long time)
+    {
+      return new CodeSeen(Math.max(this.lastSeen, time), this.retained);
+    }
+
+    CodeSeen added(
+      final long time)
+    {
+      return new CodeSeen(Math.max(this.lastSeen, time), this.retained + 1);
+    }
+
+    CodeSeen removed()
+    {
+      if (this.retained <= 1) {
+        return null;
+      }
+      return new CodeSeen(this.lastSeen, this.retained - 1);
+    }
+  }
+
+  /**
+   * A retained error. The occurrence count carries the eviction state in
+   * its sign bit, so that an occurrence is never counted against a slot
+   * once it has been evicted.
+   */
+
+  private static final class Slot
+  {
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final SlotKey key;
+    private final SStructuredErrorType<?> error;
+    private final SStructuredErrorFingerprint fingerprint;
+    private final long firstSeen;
+    private final long size;
+    private final AtomicLong lastSeen;
+    private final AtomicLong occurrences;
+    private volatile long sequence;
+    private SStructuredErrorIndex.Handle indexHandle;
+
+    Slot(
+      final SlotKey inKey,
+      final long time)
+    {
+      this.key =
+        inKey;
+      this.error =
+        inKey.error;
+      this.fingerprint =
+        inKey.fingerprint;
+      this.firstSeen =
+        time;
+      this.size =
+        estimateSize(inKey.error);
+      this.lastSeen =
+        new AtomicLong(time);
+      this.occurrences =
+        new AtomicLong(1L);
+      this.sequence =
+        -1L;
+    }
+
+    boolean observe(
+      final long time)
+    {
+      while (true) {
+        final var count = this.occurrences.get();
+        if ((count & EVICTED) != 0L) {
+          return false;
+        }
+        if (this.occurrences.compareAndSet(count, count + 1L)) {
+          this.lastSeen.accumulateAndGet(time, Math::max);
+          return true;
+        }
+      }
+    }
+
+    boolean evict()
+    {
+      while (true) {
+        final var count = this.occurrences.get();
+        if ((count & EVICTED) != 0L) {
+          return false;
+        }
+        if (this.occurrences.compareAndSet(count, count | EVICTED)) {
+          return true;
+        }
+      }
+    }
+
+    boolean isEvicted()
+    {
+      return (this.occurrences.get() & EVICTED) != 0L;
+    }
+
+    SStructuredErrorStoreEntry toEntry()
+    {
+      return new SStructuredErrorStoreEntry(
+        this.error,
+        this.fingerprint,
+        this.occurrences.get() & ~EVICTED,
+        Instant.ofEpochMilli(this.firstSeen),
+        Instant.ofEpochMilli(this.lastSeen.get())
+      );
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.store;
+
+import com.io7m.seltzer.api.SStructuredErrorFingerprinter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration for an error store.
+ *
+ * @param maximumEntries The maximum number of distinct errors retained
+ * @param maximumBytes   The maximum estimated size in bytes of the retained
+ *                       errors
+ * @param maximumAge     The maximum time since an error was last seen
+ *                       before it is evicted
+ * @param clock          The clock used to timestamp errors
+ * @param fingerprinter  The fingerprinter used to find candidate identical
+ *                       errors; candidates are merged only if their codes,
+ *                       messages, and attributes (other than those the
+ *                       fingerprinter excludes) are equal
+ *
+ * @since 1.4.0
+ */
+
+public record SStructuredErrorStoreConfiguration(
+  int maximumEntries,
+  long maximumBytes,
+  Duration maximumAge,
+  Clock clock,
+  SStructuredErrorFingerprinter fingerprinter)
+{
+  private static final SStructuredErrorFingerprinter ALL_VALUES =
+    SStructuredErrorFingerprinter.builder()
+      .withAllAttributeValues()
+      .withErrorIdsExcluded()
+      .build();
+
+  /**
+   * The configuration for an error store.
+   *
+   * @param maximumEntries The maximum number of distinct errors retained
+   * @param maximumBytes   The maximum estimated size in bytes of the retained
+   *                       errors
+   * @param maximumAge     The maximum time since an error was last seen
+   *                       before it is evicted
+   * @param clock          The clock used to timestamp errors
+   * @param fingerprinter  The fingerprinter used to find candidate identical
+   *                       errors; candidates are merged only if their codes,
+   *                       messages, and attributes (other than those the
+   *                       fingerprinter excludes) are equal
+   */
+
+  public SStructuredErrorStoreConfiguration
+  {
+    Objects.requireNonNull(maximumAge, "maximumAge");
+    Objects.requireNonNull(clock, "clock");
+    Objects.requireNonNull(fingerprinter, "fingerprinter");
+
+    if (maximumEntries <= 0) {
+      throw new IllegalArgumentException(
+        "Maximum entries %d must be positive".formatted(maximumEntries)
+      );
+    }
+    if (maximumBytes <= 0L) {
+      throw new IllegalArgumentException(
+        "Maximum bytes %d must be positive".formatted(maximumBytes)
+      );
+    }
+    if (maximumAge.isNegative() || maximumAge.isZero()) {
+      throw new IllegalArgumentException(
+        "Maximum age %s must be positive".formatted(maximumAge)
+      );
+    }
+  }
+
+  /**
+   * A configuration that retains the given number of errors, with no
+   * practical size or age limits, and that fingerprints errors using the
+   * values of all of their attributes other than those added by
+   * {@link com.io7m.seltzer.api.SErrorIds}, so that identified occurrences of
+   * an error are still counted as duplicates.
+   *
+   * @param maximumEntries The maximum number of distinct errors retained
+   *
+   * @return A configuration
+   */
+
+  public static SStructuredErrorStoreConfiguration ofEntries(
+    final int maximumEntries)
+  {
+    return new SStructuredErrorStoreConfiguration(
+      maximumEntries,
+      Long.MAX_VALUE,
+      Duration.ofSeconds(Long.MAX_VALUE),
+      Clock.systemUTC(),
+      ALL_VALUES
+    );
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.store;
+
+import com.io7m.seltzer.api.SStructuredErrorFingerprint;
+import com.io7m.seltzer.api.SStructuredErrorType;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An error retained by a store.
+ *
+ * @param error       The first recorded instance of the error
+ * @param fingerprint The error fingerprint
+ * @param occurrences The number of times an identical error was recorded
+ * @param firstSeen   The time the error was first recorded
+ * @param lastSeen    The time the error was most recently recorded
+ *
+ * @since 1.4.0
+ */
+
+public record SStructuredErrorStoreEntry(
+  SStructuredErrorType<?> error,
+  SStructuredErrorFingerprint fingerprint,
+  long occurrences,
+  Instant firstSeen,
+  Instant lastSeen)
+{
+  /**
+   * An error retained by a store.
+   *
+   * @param error       The first recorded instance of the error
+   * @param fingerprint The error fingerprint
+   * @param occurrences The number of times an identical error was recorded
+   * @param firstSeen   The time the error was first recorded
+   * @param lastSeen    The time the error was most recently recorded
+   */
+
+  public SStructuredErrorStoreEntry
+  {
+    Objects.requireNonNull(error, "error");
+    Objects.requireNonNull(fingerprint, "fingerprint");
+    Objects.requireNonNull(firstSeen, "firstSeen");
+    Objects.requireNonNull(lastSeen, "lastSeen");
+  }
+}
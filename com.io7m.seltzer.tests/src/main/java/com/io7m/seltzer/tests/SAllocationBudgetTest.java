@@ -0,0 +1,408 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SErrorCodeRouter;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorType;
+import com.io7m.seltzer.io.SEOFException;
+import com.io7m.seltzer.io.SIOCanonicalExceptions;
+import com.io7m.seltzer.slf4j.SSLogging;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.AbstractLogger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets for the logging and construction paths. Each operation
+ * is warmed up so that it is compiled, and then the number of bytes
+ * allocated by the current thread over a large number of iterations is
+ * divided by the number of iterations.
+ */
+
+public final class SAllocationBudgetTest
+{
+  private static final int WARMUP = 200_000;
+  private static final int ITERATIONS = 100_000;
+  private static final String MAGIC_FIELD_OFFSET = "jol.magicFieldOffset";
+
+  private static String savedMagicFieldOffset;
+
+  private static com.sun.management.ThreadMXBean THREADS;
+  private static volatile Object SINK;
+
+  private static final SStructuredErrorType<String> ERROR =
+    new SStructuredError<>(
+      "error-x",
+      "An error.",
+      Map.of("A", "1", "B", "2", "C", "3"),
+      Optional.of("Fix it."),
+      Optional.of(new IOException("Broken"))
+    );
+
+  /**
+   * A logger with every level disabled, as when a real logger's threshold is
+   * set above {@code ERROR}. Unlike the NOP logger, it still counts any call
+   * that reaches it, so it shows whether disabled calls return early.
+   */
+
+  private static final class DisabledLogger
+    extends AbstractLogger
+  {
+    private int handled;
+
+    @Override
+    protected String getFullyQualifiedCallerName()
+    {
+      return DisabledLogger.class.getName();
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(
+      final Level level,
+      final Marker marker,
+      final String messagePattern,
+      final Object[] arguments,
+      final Throwable throwable)
+    {
+      ++this.handled;
+    }
+
+    @Override
+    public boolean isTraceEnabled()
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isTraceEnabled(
+      final Marker marker)
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isDebugEnabled()
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isDebugEnabled(
+      final Marker marker)
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isInfoEnabled()
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isInfoEnabled(
+      final Marker marker)
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isWarnEnabled()
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isWarnEnabled(
+      final Marker marker)
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isErrorEnabled()
+    {
+      return false;
+    }
+
+    @Override
+    public boolean isErrorEnabled(
+      final Marker marker)
+    {
+      return false;
+    }
+  }
+
+  /**
+   * An error that counts accesses to its contents.
+   */
+
+  private static final class CountingError
+    implements SStructuredErrorType<String>
+  {
+    private int accesses;
+
+    @Override
+    public String errorCode()
+    {
+      ++this.accesses;
+      return ERROR.errorCode();
+    }
+
+    @Override
+    public String message()
+    {
+      ++this.accesses;
+      return ERROR.message();
+    }
+
+    @Override
+    public Map<String, String> attributes()
+    {
+      ++this.accesses;
+      return ERROR.attributes();
+    }
+
+    @Override
+    public Optional<String> remediatingAction()
+    {
+      ++this.accesses;
+      return ERROR.remediatingAction();
+    }
+
+    @Override
+    public Optional<Throwable> exception()
+    {
+      ++this.accesses;
+      return ERROR.exception();
+    }
+  }
+
+  @BeforeAll
+  public static void setup()
+  {
+    /*
+     * JOL cannot obtain field offsets for record classes without this.
+     */
+
+    savedMagicFieldOffset = System.setProperty(MAGIC_FIELD_OFFSET, "true");
+
+    final var bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    THREADS = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(THREADS.isThreadAllocatedMemorySupported());
+    THREADS.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  @AfterAll
+  public static void tearDown()
+  {
+    if (savedMagicFieldOffset == null) {
+      System.clearProperty(MAGIC_FIELD_OFFSET);
+    } else {
+      System.setProperty(MAGIC_FIELD_OFFSET, savedMagicFieldOffset);
+    }
+  }
+
+  private static double bytesPerOperation(
+    final Runnable operation)
+  {
+    for (int index = 0; index < WARMUP; ++index) {
+      operation.run();
+    }
+
+    final var before = THREADS.getCurrentThreadAllocatedBytes();
+    for (int index = 0; index < ITERATIONS; ++index) {
+      operation.run();
+    }
+    final var after = THREADS.getCurrentThreadAllocatedBytes();
+    return (double) (after - before) / (double) ITERATIONS;
+  }
+
+  private static void checkBudget(
+    final String name,
+    final double budget,
+    final Runnable operation)
+  {
+    final var bytes = bytesPerOperation(operation);
+    assertTrue(
+      bytes <= budget,
+      "%s allocated %.2f bytes/op, exceeding the budget of %.2f"
+        .formatted(name, bytes, budget)
+    );
+  }
+
+  /**
+   * Logging at a disabled level does not allocate, does not reach the
+   * logger, and does not read the error at all.
+   */
+
+  @Test
+  public void testLogMDCDisabled()
+  {
+    final var logger = new DisabledLogger();
+    final var error = new CountingError();
+    checkBudget("logMDC (disabled)", 1.0, () -> {
+      SSLogging.logMDC(logger, Level.ERROR, error);
+    });
+    assertEquals(0, logger.handled);
+    assertEquals(0, error.accesses);
+  }
+
+  /**
+   * Creating an error with only a message allocates only the error. The
+   * budget is the instance size of the error on the running VM.
+   */
+
+  @Test
+  public void testWithMessageOnly()
+  {
+    final var size =
+      ClassLayout.parseClass(SStructuredError.class).instanceSize();
+
+    checkBudget("withMessageOnly", (double) size + 1.0, () -> {
+      SINK = SStructuredError.withMessageOnly("error-x", "An error.");
+    });
+  }
+
+  /**
+   * Building an error allocates a bounded amount per attribute.
+   */
+
+  @Test
+  public void testBuilderAttributes()
+  {
+    for (final var count : new int[]{0, 1, 4, 16}) {
+      final var names = new String[count];
+      for (int index = 0; index < count; ++index) {
+        names[index] = "Attribute" + index;
+      }
+
+      checkBudget(
+        "builder (%d attributes)".formatted(count),
+        256.0 + 112.0 * count,
+        () -> {
+          final var builder =
+            SStructuredError.builder("error-x", "An error.");
+          for (final var name : names) {
+            builder.withAttribute(name, name);
+          }
+          SINK = builder.build();
+        }
+      );
+    }
+  }
+
+  /**
+   * Building an error with typed attributes does not format the values.
+   */
+
+  @Test
+  public void testBuilderTypedAttributes()
+  {
+    for (final var count : new int[]{1, 4, 16}) {
+      final var names = new String[count];
+      for (int index = 0; index < count; ++index) {
+        names[index] = "Attribute" + index;
+      }
+
+      checkBudget(
+        "builder (%d typed attributes)".formatted(count),
+        256.0 + 64.0 * count,
+        () -> {
+          final var builder =
+            SStructuredError.builder("error-x", "An error.");
+          for (int index = 0; index < names.length; ++index) {
+            builder.withAttribute(names[index], 1_000_000_000L + index);
+          }
+          SINK = builder.build();
+        }
+      );
+    }
+  }
+
+  /**
+   * Building a compact error allocates only the builder, attributes, and
+   * the error, and no optional values. The path currently allocates 112
+   * bytes; the budget is deliberately tighter than the 128 bytes that a
+   * single additional {@link Optional} would require.
+   */
+
+  @Test
+  public void testBuilderCompact()
+  {
+    checkBudget("buildCompact", 116.0, () -> {
+      SINK = SStructuredError.builder("error-x", "An error.")
+        .withRemediatingAction("Fix it.")
+        .buildCompact();
+    });
+  }
+
+  /**
+   * Throwing a canonical exception does not allocate.
+   */
+
+  @Test
+  public void testCanonicalThrow()
+  {
+    final var canonical =
+      SIOCanonicalExceptions.eof(
+        "error-budget-eof", "Unexpected EOF.", Optional.empty());
+
+    checkBudget("canonical throw", 1.0, () -> {
+      try {
+        throw canonical;
+      } catch (final SEOFException e) {
+        SINK = e;
+      }
+    });
+  }
+
+  /**
+   * Routing an error does not allocate.
+   */
+
+  @Test
+  public void testRouter()
+  {
+    final var router =
+      SErrorCodeRouter.<String, Level>builder(Level.ERROR)
+        .withPrefix("error-", Level.WARN)
+        .withPrefix("error-x", Level.INFO)
+        .withExact("error-y", Level.DEBUG)
+        .build();
+
+    checkBudget("router", 1.0, () -> {
+      SINK = router.route(ERROR);
+    });
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.analyze.SAnalyzeMain;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SAnalyzeMainTest
+{
+  private record Result(
+    int status,
+    String out,
+    String err)
+  {
+
+  }
+
+  private static Result run(
+    final String... args)
+  {
+    final var out = new ByteArrayOutputStream();
+    final var err = new ByteArrayOutputStream();
+    final var status =
+      SAnalyzeMain.run(
+        args,
+        new PrintStream(out, true, StandardCharsets.UTF_8),
+        new PrintStream(err, true, StandardCharsets.UTF_8)
+      );
+    return new Result(
+      status,
+      out.toString(StandardCharsets.UTF_8),
+      err.toString(StandardCharsets.UTF_8)
+    );
+  }
+
+  /**
+   * Reports are written for valid logs.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testReport(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("errors.jsonl");
+    Files.writeString(file, """
+      {"errorCode":"error-a","message":"A","attributes":{"ErrorTime":"2026-01-01T00:00:30Z"}}
+      {"errorCode":"error-a","message":"A","attributes":{"ErrorTime":"2026-01-01T00:01:30Z"}}
+      {"errorCode":"error-b","message":"B","attributes":{},"exception":{"type":"java.io.IOException"}}
+      """);
+
+    final var result =
+      run("--threads", "2", "--bucket", "PT1H", "--top", "1", file.toString());
+
+    assertEquals(0, result.status(), result.err());
+    assertTrue(result.out().contains("Lines: 3"), result.out());
+    assertTrue(result.out().contains("2  error-a"), result.out());
+    assertTrue(!result.out().contains("error-b"), result.out());
+    assertTrue(result.out().contains("1  java.io.IOException"), result.out());
+    assertTrue(result.out().contains("2  2026-01-01T00:00:00Z"), result.out());
+  }
+
+  /**
+   * Invalid arguments are reported.
+   *
+   * @param directory A temporary directory
+   */
+
+  @Test
+  public void testErrors(
+    final @TempDir Path directory)
+  {
+    assertEquals(1, run().status());
+    assertEquals(1, run("--threads").status());
+    assertEquals(1, run("--unknown", "x").status());
+    assertEquals(1, run("--bucket", "x", "y").status());
+
+    final var missing = run(directory.resolve("nonexistent").toString());
+    assertEquals(2, missing.status());
+    assertTrue(missing.err().startsWith("error: "), missing.err());
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.analyze.SAnalysis;
+import com.io7m.seltzer.analyze.SAnalyzer;
+import com.io7m.seltzer.analyze.SAnalyzerConfiguration;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.json.SJSONLinesEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SAnalyzerTest
+{
+  private static SAnalyzerConfiguration configuration(
+    final int threads,
+    final long chunkSize)
+  {
+    return new SAnalyzerConfiguration(
+      threads,
+      chunkSize,
+      4096,
+      "ErrorTime",
+      Duration.ofMinutes(1L),
+      3
+    );
+  }
+
+  private static Path writeLog(
+    final Path directory)
+    throws IOException
+  {
+    final var text = new StringBuilder();
+    for (int index = 0; index < 1000; ++index) {
+      final var attributes = new TreeMap<String, String>();
+      attributes.put("Index", Integer.toString(index % 5));
+      attributes.put("ErrorTime", Instant.parse("2026-01-01T00:00:00Z")
+        .plusSeconds(index)
+        .toString());
+      attributes.put("Name", "Ünïcödé \"" + (index % 2) + "\"\n");
+
+      final var error =
+        new SStructuredError<>(
+          "error-" + (index % 3),
+          "An error.",
+          attributes,
+          Optional.empty(),
+          index % 4 == 0
+            ? Optional.of(new IOException("x"))
+            : Optional.empty()
+        );
+      text.append(SJSONLinesEncoder.encodeLine(error));
+
+      if (index % 100 == 0) {
+        text.append("{\"message\":\"No code.\"}\r\n");
+        text.append("\n");
+        text.append("not json\n");
+      }
+    }
+
+    final var file = directory.resolve("errors.jsonl");
+    Files.writeString(file, text, StandardCharsets.UTF_8);
+    return file;
+  }
+
+  private static void checkAnalysis(
+    final SAnalysis analysis)
+  {
+    checkTotals(analysis);
+    assertEquals(
+      Map.of("0", 200L, "1", 200L, "2", 200L, SAnalyzerConfiguration.OTHER_VALUES, 400L),
+      analysis.attributes().get("Index")
+    );
+  }
+
+  private static void checkTotals(
+    final SAnalysis analysis)
+  {
+    assertEquals(1020L, analysis.lines());
+    assertEquals(20L, analysis.malformedLines());
+    assertEquals(
+      Map.of("error-0", 334L, "error-1", 333L, "error-2", 333L),
+      analysis.errorCodes()
+    );
+    assertEquals(
+      Map.of("java.io.IOException", 250L),
+      analysis.exceptionTypes()
+    );
+    final var index = analysis.attributes().get("Index");
+    assertTrue(index.size() <= 4);
+    assertEquals(
+      1000L,
+      index.values().stream().mapToLong(Long::longValue).sum()
+    );
+    assertEquals(
+      Map.of("Ünïcödé \"0\"\n", 500L, "Ünïcödé \"1\"\n", 500L),
+      analysis.attributes().get("Name")
+    );
+
+    assertEquals(17, analysis.timeBuckets().size());
+    assertEquals(
+      60L,
+      analysis.timeBuckets().get(Instant.parse("2026-01-01T00:00:00Z"))
+    );
+    assertEquals(
+      40L,
+      analysis.timeBuckets().get(Instant.parse("2026-01-01T00:16:00Z"))
+    );
+  }
+
+  /**
+   * Logs analyzed in a single chunk are counted correctly.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSingleChunk(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = writeLog(directory);
+    checkAnalysis(SAnalyzer.analyze(configuration(1, 1L << 20), List.of(file)));
+  }
+
+  /**
+   * Splitting logs into many small chunks across threads does not change
+   * the results, other than which attribute values are retained.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testManyChunks(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = writeLog(directory);
+    final var size = Files.size(file);
+
+    for (final var chunkSize : new long[]{1L, 7L, 64L, 199L, 4096L, size - 1L}) {
+      checkTotals(SAnalyzer.analyze(configuration(4, chunkSize), List.of(file)));
+    }
+  }
+
+  /**
+   * Multiple files are merged.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testMultipleFiles(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file0 = writeLog(directory);
+    final var file1 = directory.resolve("other.jsonl");
+    Files.copy(file0, file1);
+    Files.writeString(directory.resolve("empty.jsonl"), "");
+
+    final var analysis =
+      SAnalyzer.analyze(
+        configuration(2, 1024L),
+        List.of(file0, file1, directory.resolve("empty.jsonl"))
+      );
+
+    assertEquals(2040L, analysis.lines());
+    assertEquals(668L, analysis.errorCodes().get("error-0"));
+  }
+
+  /**
+   * Lines longer than the maximum line length are rejected whatever the
+   * chunk size, and lines of exactly the maximum length are accepted.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testLineTooLong(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var exact = directory.resolve("exact.jsonl");
+    Files.writeString(exact, "x".repeat(4096) + "\n" + "x".repeat(4096));
+
+    final var tooLong = directory.resolve("long.jsonl");
+    Files.writeString(tooLong, "{}\n" + "x".repeat(4097) + "\n{}\n");
+
+    for (final var chunkSize : new long[]{1L, 64L, 4096L, 1_000_000L}) {
+      assertEquals(
+        2L,
+        SAnalyzer.analyze(configuration(2, chunkSize), List.of(exact)).lines()
+      );
+
+      final var ex =
+        assertThrows(IOException.class, () -> {
+          SAnalyzer.analyze(configuration(2, chunkSize), List.of(tooLong));
+        });
+      assertTrue(ex.getMessage().contains("too long"), ex.getMessage());
+    }
+  }
+
+  /**
+   * Invalid configurations are rejected.
+   */
+
+  @Test
+  public void testConfiguration()
+  {
+    assertThrows(IllegalArgumentException.class, () -> configuration(0, 1L));
+    assertThrows(IllegalArgumentException.class, () -> configuration(1, 0L));
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SAnalyzerConfiguration(1, 1L, 1, "T", Duration.ZERO, 1);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SAnalyzerConfiguration(1, 1L, 0, "T", Duration.ofMinutes(1L), 1);
+    });
+  }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SAttributeFlattener;
+import com.io7m.seltzer.api.SAttributes;
+import com.io7m.seltzer.api.SStructuredError;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SAttributeFlattenerTest
+{
+  public enum Method
+  {
+    GET,
+    PUT
+  }
+
+  public record Address(
+    String host,
+    int port)
+  {
+
+  }
+
+  public record Request(
+    String userId,
+    long size,
+    double ratio,
+    boolean secure,
+    Method method,
+    Address address,
+    Optional<Path> file,
+    Optional<String> missing,
+    Instant time,
+    String nothing)
+  {
+
+  }
+
+  public record Outer(
+    Request request)
+  {
+
+  }
+
+  private record Hidden(
+    int x)
+  {
+
+  }
+
+  public static final class Bean
+  {
+    public Bean()
+    {
+
+    }
+
+    public String getName()
+    {
+      return "bean";
+    }
+
+    public boolean isEnabled()
+    {
+      return true;
+    }
+
+    public int count()
+    {
+      return 23;
+    }
+
+    public static String getStatic()
+    {
+      return "static";
+    }
+  }
+
+  private static Request request()
+  {
+    return new Request(
+      "u1",
+      4096L,
+      0.25,
+      true,
+      Method.PUT,
+      new Address("example.com", 8080),
+      Optional.of(Path.of("/tmp/x")),
+      Optional.empty(),
+      Instant.parse("2026-01-01T00:00:00Z"),
+      null
+    );
+  }
+
+  /**
+   * Records are flattened with typed values and nested names.
+   */
+
+  @Test
+  public void testRecord()
+  {
+    final var attributes =
+      SAttributeFlattener.standard()
+        .flatten(request());
+
+    assertEquals(
+      Map.of(
+        "UserId", "u1",
+        "Size", "4096",
+        "Ratio", "0.25",
+        "Secure", "true",
+        "Method", "PUT",
+        "Address.Host", "example.com",
+        "Address.Port", "8080",
+        "File", "/tmp/x",
+        "Time", "2026-01-01T00:00:00Z"
+      ),
+      attributes
+    );
+
+    assertEquals(OptionalLong.of(4096L), attributes.longValue("Size"));
+    assertEquals(OptionalInt.of(8080), attributes.intValue("Address.Port"));
+    assertEquals(
+      Optional.of(Path.of("/tmp/x")),
+      attributes.pathValue("File")
+    );
+  }
+
+  /**
+   * Prefixes and depth limits are respected.
+   */
+
+  @Test
+  public void testPrefixDepth()
+  {
+    final var flattener =
+      SAttributeFlattener.builder()
+        .withPrefix("Request.")
+        .withMaximumDepth(1)
+        .build();
+
+    final var attributes =
+      flattener.flatten(new Address("example.com", 8080));
+    assertEquals(
+      Map.of("Request.Host", "example.com", "Request.Port", "8080"),
+      attributes
+    );
+
+    final var outer =
+      flattener.flatten(new Outer(request()));
+    assertEquals(1, outer.size());
+    assertEquals(request().toString(), outer.get("Request.Request"));
+
+    final var deeper =
+      SAttributeFlattener.builder()
+        .withMaximumDepth(3)
+        .build()
+        .flatten(new Outer(request()));
+    assertEquals("8080", deeper.get("Request.Address.Port"));
+  }
+
+  /**
+   * Beans are flattened using their getters.
+   */
+
+  @Test
+  public void testBean()
+  {
+    assertEquals(
+      Map.of("Name", "bean", "Enabled", "true"),
+      SAttributeFlattener.standard().flatten(new Bean())
+    );
+  }
+
+  /**
+   * Inaccessible types are rendered as strings unless a suitable lookup is
+   * provided.
+   */
+
+  @Test
+  public void testLookup()
+  {
+    assertEquals(
+      Map.of("Value", "Hidden[x=23]"),
+      SAttributeFlattener.standard().flatten(new Hidden(23))
+    );
+    assertEquals(
+      Map.of("X", "23"),
+      SAttributeFlattener.builder()
+        .withLookup(MethodHandles.lookup())
+        .build()
+        .flatten(new Hidden(23))
+    );
+  }
+
+  /**
+   * Plain values are stored under a single name.
+   */
+
+  @Test
+  public void testPlain()
+  {
+    assertEquals(
+      Map.of("Value", "23"),
+      SAttributeFlattener.standard().flatten(Integer.valueOf(23))
+    );
+    assertEquals(
+      Map.of("Count", "x"),
+      SAttributeFlattener.builder()
+        .withPrefix("Count")
+        .build()
+        .flatten("x")
+    );
+  }
+
+  /**
+   * Error builders accept flattened values.
+   */
+
+  @Test
+  public void testErrorBuilder()
+  {
+    final var error =
+      SStructuredError.builder("error-x", "An error.")
+        .withAttribute("Other", "y")
+        .withAttributesOf(new Address("example.com", 8080))
+        .build();
+
+    final var attributes =
+      assertInstanceOf(SAttributes.class, error.attributes());
+    assertEquals(OptionalInt.of(8080), attributes.intValue("Port"));
+    assertEquals("y", attributes.get("Other"));
+  }
+
+  /**
+   * Invalid depths are rejected.
+   */
+
+  @Test
+  public void testInvalidDepth()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SAttributeFlattener.builder().withMaximumDepth(0);
+    });
+  }
+}
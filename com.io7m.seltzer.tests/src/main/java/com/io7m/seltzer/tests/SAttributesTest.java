@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SAttributeKind;
+import com.io7m.seltzer.api.SAttributes;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.io.SIOException;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SAttributesTest
+{
+  private static final Instant TIME =
+    Instant.parse("2026-01-01T00:00:00Z");
+
+  private static SAttributes typed()
+  {
+    return SAttributes.builder()
+      .withAttribute("Long", 23L)
+      .withAttribute("Int", 17)
+      .withAttribute("Double", 0.5)
+      .withAttribute("Boolean", true)
+      .withAttribute("Instant", TIME)
+      .withAttribute("Path", Path.of("/tmp/x"))
+      .withAttribute("String", "hello")
+      .build();
+  }
+
+  /**
+   * Typed attributes render as strings through the map interface.
+   */
+
+  @Test
+  public void testRendering()
+  {
+    final var expected = new HashMap<String, String>();
+    expected.put("Long", "23");
+    expected.put("Int", "17");
+    expected.put("Double", "0.5");
+    expected.put("Boolean", "true");
+    expected.put("Instant", "2026-01-01T00:00:00Z");
+    expected.put("Path", "/tmp/x");
+    expected.put("String", "hello");
+
+    final var attributes = typed();
+    assertEquals(expected, attributes);
+    assertEquals(attributes, expected);
+    assertEquals(expected.hashCode(), attributes.hashCode());
+    assertEquals(new TreeMap<>(expected).toString(), attributes.toString());
+    assertNull(attributes.get("Nonexistent"));
+    assertNull(attributes.get(Integer.valueOf(23)));
+    assertFalse(attributes.containsKey("Nonexistent"));
+  }
+
+  /**
+   * Typed accessors return original values, and nothing for other kinds.
+   */
+
+  @Test
+  public void testTypedAccessors()
+  {
+    final var attributes = typed();
+    assertEquals(OptionalLong.of(23L), attributes.longValue("Long"));
+    assertEquals(OptionalLong.of(17L), attributes.longValue("Int"));
+    assertEquals(OptionalInt.of(17), attributes.intValue("Int"));
+    assertEquals(OptionalInt.empty(), attributes.intValue("Long"));
+    assertEquals(OptionalDouble.of(0.5), attributes.doubleValue("Double"));
+    assertEquals(Optional.of(Boolean.TRUE), attributes.booleanValue("Boolean"));
+    assertEquals(Optional.of(TIME), attributes.instantValue("Instant"));
+    assertEquals(Optional.of(Path.of("/tmp/x")), attributes.pathValue("Path"));
+
+    assertEquals(OptionalLong.empty(), attributes.longValue("String"));
+    assertEquals(OptionalDouble.empty(), attributes.doubleValue("Long"));
+    assertEquals(Optional.empty(), attributes.booleanValue("Nonexistent"));
+    assertEquals(Optional.empty(), attributes.instantValue("Path"));
+    assertEquals(Optional.empty(), attributes.pathValue("Instant"));
+
+    assertEquals(Optional.of(SAttributeKind.INT), attributes.kind("Int"));
+    assertEquals(Optional.of(SAttributeKind.STRING), attributes.kind("String"));
+    assertEquals(Optional.empty(), attributes.kind("Nonexistent"));
+  }
+
+  /**
+   * Later attributes replace earlier attributes with the same name.
+   */
+
+  @Test
+  public void testReplace()
+  {
+    final var attributes =
+      SAttributes.builder()
+        .withAttribute("A", 1L)
+        .withAttribute("A", "x")
+        .build();
+
+    assertEquals(Map.of("A", "x"), attributes);
+    assertEquals(OptionalLong.empty(), attributes.longValue("A"));
+  }
+
+  /**
+   * Attribute maps cannot be modified.
+   */
+
+  @Test
+  public void testImmutable()
+  {
+    final var attributes = typed();
+    assertThrows(UnsupportedOperationException.class, () -> {
+      attributes.put("A", "B");
+    });
+    assertThrows(UnsupportedOperationException.class, () -> {
+      attributes.remove("Long");
+    });
+    assertThrows(UnsupportedOperationException.class, () -> {
+      attributes.entrySet().iterator().remove();
+    });
+  }
+
+  /**
+   * Copying preserves types and ordinary maps.
+   *
+   * @param map A map
+   */
+
+  @Property
+  public void testCopyOf(
+    @ForAll final Map<String, String> map)
+  {
+    final var copy = SAttributes.copyOf(map);
+    assertEquals(map, copy);
+    assertSame(copy, SAttributes.copyOf(copy));
+
+    final var typed = typed();
+    final var merged =
+      SAttributes.builder()
+        .withAttributes(typed)
+        .build();
+    assertEquals(OptionalLong.of(23L), merged.longValue("Long"));
+  }
+
+  /**
+   * Error builders retain typed attributes, and I/O exceptions do not copy
+   * them.
+   */
+
+  @Test
+  public void testErrorBuilders()
+  {
+    final var error =
+      SStructuredError.builder("error-x", "An error.")
+        .withAttribute("Offset", 4096L)
+        .withAttribute("Port", 8080)
+        .withAttribute("When", TIME)
+        .build();
+
+    final var attributes =
+      assertInstanceOf(SAttributes.class, error.attributes());
+    assertEquals(OptionalLong.of(4096L), attributes.longValue("Offset"));
+    assertEquals(OptionalInt.of(8080), attributes.intValue("Port"));
+    assertEquals("2026-01-01T00:00:00Z", attributes.get("When"));
+
+    final var ex =
+      new SIOException("An error.", "error-x", error.attributes());
+    assertSame(error.attributes(), ex.attributes());
+  }
+
+  /**
+   * Pre-sized builders behave like ordinary builders.
+   */
+
+  @Test
+  public void testBuilderCapacity()
+  {
+    assertThrows(IllegalArgumentException.class, () -> SAttributes.builder(-1));
+    assertSame(SAttributes.empty(), SAttributes.builder(0).build());
+
+    final var builder =
+      SAttributes.builder(2)
+        .withAttribute("A", "1")
+        .withAttribute("B", "2");
+
+    final var first = builder.build();
+    builder.withAttribute("C", "3");
+    assertEquals(Map.of("A", "1", "B", "2"), first);
+    assertEquals(Map.of("A", "1", "B", "2", "C", "3"), builder.build());
+  }
+}
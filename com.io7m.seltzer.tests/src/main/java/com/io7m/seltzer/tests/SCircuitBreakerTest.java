@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.retry.SCircuitBreaker;
+import com.io7m.seltzer.retry.SCircuitBreakerState;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SCircuitBreakerTest
+{
+  private static final class MutableClock extends Clock
+  {
+    private volatile Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Override
+    public ZoneId getZone()
+    {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(
+      final ZoneId zone)
+    {
+      return this;
+    }
+
+    @Override
+    public Instant instant()
+    {
+      return this.now;
+    }
+  }
+
+  /**
+   * Breakers open after the threshold, and close after a successful trial.
+   */
+
+  @Test
+  public void testLifecycle()
+  {
+    final var clock = new MutableClock();
+    final var breaker =
+      new SCircuitBreaker("error-x", 3, Duration.ofSeconds(10L), clock);
+
+    assertEquals(SCircuitBreakerState.CLOSED, breaker.state());
+    breaker.recordFailure();
+    breaker.recordFailure();
+    assertEquals(2L, breaker.consecutiveFailures());
+    breaker.recordSuccess();
+    assertEquals(0L, breaker.consecutiveFailures());
+
+    breaker.recordFailure();
+    breaker.recordFailure();
+    assertTrue(breaker.tryAcquire());
+    breaker.recordFailure();
+    assertEquals(SCircuitBreakerState.OPEN, breaker.state());
+    assertEquals(1L, breaker.tripCount());
+    assertFalse(breaker.tryAcquire());
+
+    breaker.recordSuccess();
+    assertEquals(SCircuitBreakerState.OPEN, breaker.state());
+
+    clock.now = clock.now.plusSeconds(10L);
+    assertTrue(breaker.tryAcquire());
+    assertEquals(SCircuitBreakerState.HALF_OPEN, breaker.state());
+    assertFalse(breaker.tryAcquire());
+    assertEquals(2L, breaker.rejectedCount());
+
+    breaker.recordFailure();
+    assertEquals(SCircuitBreakerState.OPEN, breaker.state());
+    assertEquals(2L, breaker.tripCount());
+
+    clock.now = clock.now.plusSeconds(10L);
+    assertTrue(breaker.tryAcquire());
+    breaker.recordSuccess();
+    assertEquals(SCircuitBreakerState.CLOSED, breaker.state());
+    assertTrue(breaker.tryAcquire());
+  }
+
+  /**
+   * Exactly one thread is permitted a trial once an open breaker expires.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSingleTrial()
+    throws Exception
+  {
+    final var clock = new MutableClock();
+    final var breaker =
+      new SCircuitBreaker("error-x", 1, Duration.ofSeconds(1L), clock);
+
+    breaker.recordFailure();
+    clock.now = clock.now.plusSeconds(1L);
+
+    final var executor = Executors.newFixedThreadPool(8);
+    try {
+      final var tasks = new ArrayList<Callable<Boolean>>();
+      for (int index = 0; index < 64; ++index) {
+        tasks.add(() -> Boolean.valueOf(breaker.tryAcquire()));
+      }
+
+      var permitted = 0;
+      for (final var future : executor.invokeAll(tasks)) {
+        if (future.get().booleanValue()) {
+          ++permitted;
+        }
+      }
+      assertEquals(1, permitted);
+      assertEquals(63L, breaker.rejectedCount());
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+    }
+  }
+
+  /**
+   * Invalid thresholds are rejected.
+   */
+
+  @Test
+  public void testInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SCircuitBreaker("error-x", 0, Duration.ofSeconds(1L), Clock.systemUTC());
+    });
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorType;
+import com.io7m.seltzer.bus.SErrorBus;
+import com.io7m.seltzer.bus.SErrorBusConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(value = 30L, unit = TimeUnit.SECONDS)
+public final class SErrorBusTest
+{
+  private ExecutorService executor;
+
+  private static SStructuredErrorType<?> error(
+    final int index)
+  {
+    return SStructuredError.withMessageOnly("error-" + index, "An error.");
+  }
+
+  @BeforeEach
+  public void setup()
+  {
+    this.executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  public void tearDown()
+    throws InterruptedException
+  {
+    this.executor.shutdown();
+    assertTrue(this.executor.awaitTermination(10L, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Every subscriber receives every error.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testMultipleSubscribers()
+    throws Exception
+  {
+    final var received0 = new ConcurrentLinkedQueue<SStructuredErrorType<?>>();
+    final var received1 = new ConcurrentLinkedQueue<SStructuredErrorType<?>>();
+
+    final SErrorBus bus =
+      SErrorBus.create(new SErrorBusConfiguration(this.executor, 128));
+
+    final var done0 = bus.consume(received0::add);
+    final var done1 = bus.consume(received1::add);
+    assertEquals(2, bus.subscriberCount());
+
+    for (int index = 0; index < 100; ++index) {
+      assertTrue(bus.publish(error(index)));
+    }
+    bus.close();
+
+    done0.get(10L, TimeUnit.SECONDS);
+    done1.get(10L, TimeUnit.SECONDS);
+
+    assertEquals(100, received0.size());
+    assertEquals(100, received1.size());
+    assertEquals(100L, bus.publishedCount());
+    assertEquals(0L, bus.droppedCount());
+  }
+
+  /**
+   * A subscriber that signals no demand does not stall other subscribers.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testSlowSubscriber()
+    throws Exception
+  {
+    final var received = new ConcurrentLinkedQueue<SStructuredErrorType<?>>();
+    final var subscribed = new CountDownLatch(1);
+
+    final SErrorBus bus =
+      SErrorBus.create(new SErrorBusConfiguration(this.executor, 4));
+
+    bus.subscribe(new Flow.Subscriber<>()
+    {
+      @Override
+      public void onSubscribe(
+        final Flow.Subscription subscription)
+      {
+        subscribed.countDown();
+      }
+
+      @Override
+      public void onNext(
+        final SStructuredErrorType<?> item)
+      {
+
+      }
+
+      @Override
+      public void onError(
+        final Throwable throwable)
+      {
+
+      }
+
+      @Override
+      public void onComplete()
+      {
+
+      }
+    });
+
+    final var done = bus.consume(received::add);
+    assertTrue(subscribed.await(10L, TimeUnit.SECONDS));
+
+    int delivered = 0;
+    for (int index = 0; index < 1000; ++index) {
+      if (bus.publish(error(index))) {
+        ++delivered;
+      }
+      while (bus.estimateMaximumLag() > 0 && received.size() < index + 1) {
+        Thread.onSpinWait();
+      }
+    }
+    bus.close();
+    done.get(10L, TimeUnit.SECONDS);
+
+    assertEquals(1000, received.size());
+    assertEquals(1000L, bus.publishedCount());
+    assertTrue(bus.droppedCount() >= 990L);
+    assertTrue(delivered <= 10);
+  }
+
+  /**
+   * Errors published to a closed bus are dropped.
+   */
+
+  @Test
+  public void testClosed()
+  {
+    final SErrorBus bus =
+      SErrorBus.create(new SErrorBusConfiguration(this.executor, 4));
+
+    bus.close();
+    assertTrue(bus.isClosed());
+    assertFalse(bus.publish(error(0)));
+    assertEquals(1L, bus.droppedCount());
+  }
+
+  /**
+   * Invalid configurations are rejected.
+   */
+
+  @Test
+  public void testConfiguration()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SErrorBusConfiguration(this.executor, 0);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SErrorBusConfiguration(this.executor, 100);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SErrorBusConfiguration(this.executor, Integer.MIN_VALUE);
+    });
+    assertEquals(
+      1 << 30,
+      new SErrorBusConfiguration(this.executor, 1 << 30).bufferCapacity()
+    );
+    assertTrue(SErrorBusConfiguration.ofDefaults().bufferCapacity() > 0);
+  }
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SAttributes;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.io.SIOException;
+import com.io7m.seltzer.processor.SErrorCatalogProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SErrorCatalogProcessorTest
+{
+  private record Compilation(
+    boolean success,
+    List<String> errors,
+    Path output)
+  {
+
+  }
+
+  private static final class Source extends SimpleJavaFileObject
+  {
+    private final String text;
+
+    Source(
+      final String name,
+      final String text)
+    {
+      super(URI.create("string:///" + name.replace('.', '/') + ".java"), Kind.SOURCE);
+      this.text = text;
+    }
+
+    @Override
+    public CharSequence getCharContent(
+      final boolean ignoreEncodingErrors)
+    {
+      return this.text;
+    }
+  }
+
+  private static String location(
+    final Class<?> clazz)
+    throws Exception
+  {
+    return Path.of(
+      clazz.getProtectionDomain().getCodeSource().getLocation().toURI()
+    ).toString();
+  }
+
+  private static Compilation compile(
+    final Path directory,
+    final String name,
+    final String text)
+    throws Exception
+  {
+    final var compiler = ToolProvider.getSystemJavaCompiler();
+    final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+    final var output = directory.resolve("classes");
+    Files.createDirectories(output);
+
+    final var classPath =
+      String.join(
+        File.pathSeparator,
+        location(SStructuredError.class),
+        location(SIOException.class)
+      );
+
+    try (var files = compiler.getStandardFileManager(diagnostics, null, null)) {
+      final var task =
+        compiler.getTask(
+          null,
+          files,
+          diagnostics,
+          List.of("-d", output.toString(), "-classpath", classPath),
+          null,
+          List.of(new Source(name, text))
+        );
+      task.setProcessors(List.of(new SErrorCatalogProcessor()));
+      final var success = task.call().booleanValue();
+
+      final var errors = new ArrayList<String>();
+      for (final var diagnostic : diagnostics.getDiagnostics()) {
+        if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+          errors.add(diagnostic.getMessage(null));
+        }
+      }
+      return new Compilation(success, errors, output);
+    }
+  }
+
+  private static Class<?> load(
+    final Compilation compilation,
+    final String name)
+    throws Exception
+  {
+    final var loader =
+      new URLClassLoader(
+        new URL[]{compilation.output().toUri().toURL()},
+        SErrorCatalogProcessorTest.class.getClassLoader()
+      );
+    return loader.loadClass(name);
+  }
+
+  private static void assertFails(
+    final Compilation compilation,
+    final String text)
+  {
+    assertFalse(compilation.success());
+    assertTrue(
+      compilation.errors().stream().anyMatch(e -> e.contains(text)),
+      compilation.errors().toString()
+    );
+  }
+
+  /**
+   * Interface catalogs generate factories and exceptions.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testInterfaceCatalog(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var compilation = compile(directory, "x.y.Errors", """
+      package x.y;
+
+      import com.io7m.seltzer.api.SErrorCatalog;
+      import com.io7m.seltzer.api.SErrorCode;
+
+      @SErrorCatalog(exceptionName = "ErrorsException")
+      public interface Errors
+      {
+        @SErrorCode(
+          message = "File {File} is {{locked}} by {Owner}.",
+          remediation = "Ask {Owner} to release it.",
+          attributes = {"Owner", "File"}
+        )
+        String ERROR_LOCKED = "error-locked";
+
+        @SErrorCode(
+          message = "Everything is \\"broken\\".",
+          remediation = "Try again."
+        )
+        String ERROR_BROKEN = "error-broken";
+      }
+      """);
+
+    assertTrue(compilation.success(), compilation.errors().toString());
+
+    final var factory = load(compilation, "x.y.ErrorsFactory");
+    final var locked =
+      (SStructuredError<?>) factory.getMethod("errorLocked", String.class, String.class)
+        .invoke(null, "alice", "/x");
+
+    assertEquals("error-locked", locked.errorCode());
+    assertEquals("File /x is {locked} by alice.", locked.message());
+    assertEquals(Map.of("File", "/x", "Owner", "alice"), locked.attributes());
+    assertInstanceOf(SAttributes.class, locked.attributes());
+    assertEquals(Optional.of("Ask alice to release it."), locked.remediatingAction());
+    assertEquals(Optional.empty(), locked.exception());
+
+    final var broken0 =
+      (SStructuredError<?>) factory.getMethod("errorBroken").invoke(null);
+    final var broken1 =
+      (SStructuredError<?>) factory.getMethod("errorBroken").invoke(null);
+    assertEquals("Everything is \"broken\".", broken0.message());
+    assertSame(SAttributes.empty(), broken0.attributes());
+    assertSame(broken0.remediatingAction(), broken1.remediatingAction());
+
+    final var cause = new IOException("x");
+    final var exception =
+      (SIOException) factory.getMethod(
+          "errorLockedException", String.class, String.class, Throwable.class)
+        .invoke(null, "alice", "/x", cause);
+    assertEquals("x.y.ErrorsException", exception.getClass().getName());
+    assertEquals("error-locked", exception.errorCode());
+    assertEquals("File /x is {locked} by alice.", exception.getMessage());
+    assertSame(cause, exception.getCause());
+
+    final var noCause =
+      (SIOException) factory.getMethod("errorBrokenException").invoke(null);
+    assertEquals(Optional.of("Try again."), noCause.remediatingAction());
+  }
+
+  /**
+   * Enum catalogs derive codes from constant names.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testEnumCatalog(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var compilation = compile(directory, "Codes", """
+      import com.io7m.seltzer.api.SErrorCatalog;
+      import com.io7m.seltzer.api.SErrorCode;
+
+      @SErrorCatalog(factoryName = "CodeErrors")
+      public enum Codes
+      {
+        @SErrorCode(message = "{Name} not found.", attributes = "Name")
+        NOT_FOUND,
+
+        @SErrorCode(code = "error-custom", message = "Custom {class}.", attributes = "class")
+        Custom
+      }
+      """);
+
+    assertTrue(compilation.success(), compilation.errors().toString());
+
+    final var factory = load(compilation, "CodeErrors");
+    final var notFound =
+      (SStructuredError<?>) factory.getMethod("notFound", String.class)
+        .invoke(null, "x");
+    assertEquals("not-found", notFound.errorCode());
+    assertEquals("x not found.", notFound.message());
+
+    final var custom =
+      (SStructuredError<?>) factory.getMethod("custom", String.class)
+        .invoke(null, "y");
+    assertEquals("error-custom", custom.errorCode());
+    assertEquals(Map.of("class", "y"), custom.attributes());
+  }
+
+  /**
+   * Templates referring to undeclared attributes are rejected.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testUndeclaredAttribute(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    assertFails(compile(directory, "Errors", """
+      import com.io7m.seltzer.api.SErrorCatalog;
+      import com.io7m.seltzer.api.SErrorCode;
+
+      @SErrorCatalog
+      public interface Errors
+      {
+        @SErrorCode(message = "File {File}.", remediation = "Fix {Other}.", attributes = "File")
+        String ERROR_X = "error-x";
+      }
+      """), "undeclared attribute 'Other'");
+  }
+
+  /**
+   * Malformed templates are rejected.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testMalformedTemplate(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    assertFails(compile(directory, "Errors", """
+      import com.io7m.seltzer.api.SErrorCatalog;
+      import com.io7m.seltzer.api.SErrorCode;
+
+      @SErrorCatalog
+      public interface Errors
+      {
+        @SErrorCode(message = "File {File", attributes = "File")
+        String ERROR_X = "error-x";
+      }
+      """), "Unterminated placeholder");
+  }
+
+  /**
+   * Duplicate codes are rejected.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testDuplicateCode(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    assertFails(compile(directory, "Errors", """
+      import com.io7m.seltzer.api.SErrorCatalog;
+      import com.io7m.seltzer.api.SErrorCode;
+
+      @SErrorCatalog
+      public interface Errors
+      {
+        @SErrorCode(message = "X.")
+        String ERROR_X = "error-x";
+
+        @SErrorCode(message = "Y.")
+        String ERROR_Y = "error-x";
+      }
+      """), "declared more than once");
+  }
+
+  /**
+   * Catalogs must be interfaces or enums, and codes must be in catalogs.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testNotCatalog(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    assertFails(compile(directory, "Errors", """
+      import com.io7m.seltzer.api.SErrorCatalog;
+
+      @SErrorCatalog
+      public final class Errors
+      {
+      }
+      """), "must be interfaces or enums");
+
+    assertFails(compile(directory, "Errors", """
+      import com.io7m.seltzer.api.SErrorCode;
+
+      public interface Errors
+      {
+        @SErrorCode(message = "X.")
+        String ERROR_X = "error-x";
+      }
+      """), "annotated with @SErrorCatalog");
+  }
+
+  /**
+   * Generated factories reject null attribute values.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testNullRejected(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var compilation = compile(directory, "Errors", """
+      import com.io7m.seltzer.api.SErrorCatalog;
+      import com.io7m.seltzer.api.SErrorCode;
+
+      @SErrorCatalog
+      public interface Errors
+      {
+        @SErrorCode(message = "File {File}.", attributes = "File")
+        String ERROR_X = "error-x";
+      }
+      """);
+
+    assertTrue(compilation.success(), compilation.errors().toString());
+    final var method =
+      load(compilation, "ErrorsFactory").getMethod("errorX", String.class);
+
+    final var ex =
+      assertThrows(InvocationTargetException.class, () -> {
+        method.invoke(null, new Object[]{null});
+      });
+    assertInstanceOf(NullPointerException.class, ex.getCause());
+  }
+}
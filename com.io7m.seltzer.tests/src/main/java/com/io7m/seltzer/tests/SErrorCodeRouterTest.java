@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SErrorCodeRouter;
+import com.io7m.seltzer.api.SStructuredError;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.CharRange;
+import net.jqwik.api.constraints.Size;
+import net.jqwik.api.constraints.StringLength;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SErrorCodeRouterTest
+{
+  private static SErrorCodeRouter<String, String> router()
+  {
+    return SErrorCodeRouter.<String, String>builder("default")
+      .withPrefix("error-io-", "io")
+      .withPrefix("error-io-eof-", "eof")
+      .withExact("error-io-eof-header", "header")
+      .withExact("error-io", "io-exact")
+      .build();
+  }
+
+  /**
+   * Exact rules and longer prefixes take precedence.
+   */
+
+  @Test
+  public void testRoutes()
+  {
+    final var router = router();
+
+    assertEquals("header", router.routeCode("error-io-eof-header"));
+    assertEquals("eof", router.routeCode("error-io-eof-header-x"));
+    assertEquals("eof", router.routeCode("error-io-eof-"));
+    assertEquals("io", router.routeCode("error-io-eof"));
+    assertEquals("io", router.routeCode("error-io-closed"));
+    assertEquals("io-exact", router.routeCode("error-io"));
+    assertEquals("default", router.routeCode("error-i"));
+    assertEquals("default", router.routeCode("error-iox"));
+    assertEquals("default", router.routeCode(""));
+    assertEquals("default", router.routeCode("other"));
+
+    assertEquals(
+      "header",
+      router.route(SStructuredError.withMessageOnly("error-io-eof-header", "x"))
+    );
+  }
+
+  /**
+   * An empty prefix replaces the default handler.
+   */
+
+  @Test
+  public void testEmptyPrefix()
+  {
+    final var router =
+      SErrorCodeRouter.<String, String>builder("default")
+        .withPrefix("", "everything")
+        .withExact("", "empty")
+        .build();
+
+    assertEquals("everything", router.routeCode("x"));
+    assertEquals("empty", router.routeCode(""));
+  }
+
+  /**
+   * Duplicate rules are rejected.
+   */
+
+  @Test
+  public void testDuplicates()
+  {
+    final var builder =
+      SErrorCodeRouter.<String, String>builder("default")
+        .withPrefix("", "everything")
+        .withPrefix("a", "a")
+        .withExact("a", "a");
+
+    assertThrows(IllegalArgumentException.class, () -> {
+      builder.withPrefix("", "x");
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      builder.withPrefix("a", "x");
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      builder.withExact("a", "x");
+    });
+  }
+
+  /**
+   * Routing agrees with a linear search over the rules.
+   *
+   * @param prefixes A set of prefixes
+   * @param exacts   A set of exact codes
+   * @param codes    The codes to route
+   */
+
+  @Property
+  public void testAgreesWithLinearSearch(
+    final @ForAll @Size(max = 8) Set<@StringLength(max = 4) @CharRange(from = 'a', to = 'c') String> prefixes,
+    final @ForAll @Size(max = 8) Set<@StringLength(max = 4) @CharRange(from = 'a', to = 'c') String> exacts,
+    final @ForAll List<@StringLength(max = 6) @CharRange(from = 'a', to = 'd') String> codes)
+  {
+    final var builder =
+      SErrorCodeRouter.<String, String>builder("default");
+    for (final var prefix : prefixes) {
+      builder.withPrefix(prefix, "prefix:" + prefix);
+    }
+    for (final var exact : exacts) {
+      builder.withExact(exact, "exact:" + exact);
+    }
+    final var router = builder.build();
+
+    for (final var code : codes) {
+      assertEquals(linear(prefixes, exacts, code), router.routeCode(code));
+    }
+  }
+
+  private static String linear(
+    final Set<String> prefixes,
+    final Set<String> exacts,
+    final String code)
+  {
+    if (exacts.contains(code)) {
+      return "exact:" + code;
+    }
+
+    String best = null;
+    for (final var prefix : prefixes) {
+      if (code.startsWith(prefix)) {
+        if (best == null || prefix.length() > best.length()) {
+          best = prefix;
+        }
+      }
+    }
+    return best == null ? "default" : "prefix:" + best;
+  }
+}
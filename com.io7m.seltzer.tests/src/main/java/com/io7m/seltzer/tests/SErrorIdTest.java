@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SErrorId;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SErrorIdTest
+{
+  /**
+   * Identifiers survive a round trip through their string forms.
+   *
+   * @param high The high bits
+   * @param low  The low bits
+   */
+
+  @Property
+  public void testRoundTrip(
+    final @ForAll long high,
+    final @ForAll long low)
+  {
+    final var id = new SErrorId(high, low);
+    final var text = id.toString();
+    assertEquals(26, text.length());
+    assertEquals(id, SErrorId.parse(text));
+    assertEquals(id, SErrorId.parse(text.toLowerCase()));
+  }
+
+  /**
+   * The example from the ULID specification is decoded correctly.
+   */
+
+  @Test
+  public void testSpecificationExample()
+  {
+    final var id = SErrorId.parse("01ARYZ6S41TSV4RRFFQ69G5FAV");
+    assertEquals(1469918176385L, id.timeMillis());
+    assertEquals(Instant.ofEpochMilli(1469918176385L), id.time());
+    assertEquals("01ARYZ6S41TSV4RRFFQ69G5FAV", id.toString());
+
+    assertEquals(
+      new SErrorId(-1L, -1L),
+      SErrorId.parse("7ZZZZZZZZZZZZZZZZZZZZZZZZZ")
+    );
+    assertEquals(
+      SErrorId.parse("0123456789ABCDEFGHJKMNPQRS"),
+      SErrorId.parse("O123456789ABCDEFGHJKMNPQRS")
+    );
+    assertEquals(
+      SErrorId.parse("01ARZ3NDEKTSV4RRFFQ69G5FAV"),
+      SErrorId.parse("0LARZ3NDEKTSV4RRFFQ69G5FAV")
+    );
+  }
+
+  /**
+   * Invalid identifiers are rejected.
+   */
+
+  @Test
+  public void testInvalid()
+  {
+    for (final var text : new String[]{
+      "",
+      "01ARZ3NDEKTSV4RRFFQ69G5FA",
+      "01ARZ3NDEKTSV4RRFFQ69G5FAVX",
+      "80000000000000000000000000",
+      "01ARZ3NDEKTSV4RRFFQ69G5FAU",
+      "01ARZ3NDEKTSV4RRFFQ69G5FAé",
+    }) {
+      assertThrows(IllegalArgumentException.class, () -> SErrorId.parse(text));
+    }
+  }
+
+  /**
+   * Identifiers generated by a thread are strictly increasing, and their
+   * times are close to the current time.
+   */
+
+  @Test
+  public void testMonotonic()
+  {
+    final var before = System.currentTimeMillis();
+    var previous = SErrorId.generate();
+    for (int index = 0; index < 100_000; ++index) {
+      final var next = SErrorId.generate();
+      assertTrue(previous.compareTo(next) < 0, "%s < %s".formatted(previous, next));
+      assertTrue(previous.toString().compareTo(next.toString()) < 0);
+      previous = next;
+    }
+    final var after = System.currentTimeMillis();
+
+    assertTrue(previous.timeMillis() >= before);
+    assertTrue(previous.timeMillis() <= after + 1L);
+  }
+
+  /**
+   * Identifiers generated by many threads are unique.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testUniqueAcrossThreads()
+    throws Exception
+  {
+    final var executor = Executors.newFixedThreadPool(8);
+    try {
+      final var tasks = new ArrayList<Callable<ArrayList<SErrorId>>>();
+      for (int task = 0; task < 8; ++task) {
+        tasks.add(() -> {
+          final var ids = new ArrayList<SErrorId>();
+          for (int index = 0; index < 10_000; ++index) {
+            ids.add(SErrorId.generate());
+          }
+          return ids;
+        });
+      }
+
+      final var all = new HashSet<SErrorId>();
+      for (final var future : executor.invokeAll(tasks)) {
+        all.addAll(future.get());
+      }
+      assertEquals(80_000, all.size());
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+    }
+  }
+}
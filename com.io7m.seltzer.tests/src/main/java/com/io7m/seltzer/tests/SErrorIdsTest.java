@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SAttributeKind;
+import com.io7m.seltzer.api.SAttributes;
+import com.io7m.seltzer.api.SErrorId;
+import com.io7m.seltzer.api.SErrorIds;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.io.SIOException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public final class SErrorIdsTest
+{
+  /**
+   * Builders attach identifiers, timestamps, and parents.
+   */
+
+  @Test
+  public void testBuilder()
+  {
+    final var parent =
+      new SIOException(
+        "Failed.",
+        new IOException(),
+        "error-io",
+        SErrorIds.identify(Map.of("A", "x"))
+      );
+    final var parentId =
+      SErrorIds.idOfException(parent).orElseThrow();
+
+    assertEquals("x", parent.attributes().get("A"));
+    assertEquals(
+      parentId.time().toString(),
+      parent.attributes().get(SErrorIds.ERROR_TIME)
+    );
+    assertEquals(
+      parentId.time(),
+      Instant.parse(parent.attributes().get(SErrorIds.ERROR_TIME))
+    );
+
+    final var id = SErrorId.generate();
+    final var error =
+      SStructuredError.builder("error-wrapped", "Wrapped.")
+        .withErrorId(id)
+        .withParentErrorIdOf(parent)
+        .withException(parent)
+        .build();
+
+    assertEquals(Optional.of(id), SErrorIds.idOf(error));
+    assertEquals(Optional.of(parentId), SErrorIds.parentIdOf(error));
+    assertEquals(Optional.of(id), SErrorIds.idOfException(new SIOException(
+      "Failed.",
+      "error-io",
+      error.attributes(),
+      Optional.empty()
+    )));
+  }
+
+  /**
+   * Identifiers and times are stored unformatted, and are rendered when
+   * read as strings.
+   */
+
+  @Test
+  public void testTypedAttributes()
+  {
+    final var id = SErrorId.generate();
+    final var parentId = SErrorId.generate();
+    final var error =
+      SStructuredError.builder("error-x", "Failed.")
+        .withErrorId(id)
+        .withParentErrorId(parentId)
+        .build();
+
+    final var attributes =
+      assertInstanceOf(SAttributes.class, error.attributes());
+    assertEquals(
+      Optional.of(SAttributeKind.ERROR_ID),
+      attributes.kind(SErrorIds.ERROR_ID)
+    );
+    assertEquals(
+      Optional.of(SAttributeKind.INSTANT),
+      attributes.kind(SErrorIds.ERROR_TIME)
+    );
+    assertEquals(Optional.of(id), attributes.errorIdValue(SErrorIds.ERROR_ID));
+    assertEquals(
+      Optional.of(parentId),
+      attributes.errorIdValue(SErrorIds.PARENT_ERROR_ID)
+    );
+    assertEquals(
+      Optional.of(id.time()),
+      attributes.instantValue(SErrorIds.ERROR_TIME)
+    );
+    assertEquals(id.toString(), attributes.get(SErrorIds.ERROR_ID));
+    assertEquals(id.time().toString(), attributes.get(SErrorIds.ERROR_TIME));
+
+    final var identified = SErrorIds.identify(Map.of("A", "x"));
+    assertEquals(
+      Optional.of(SAttributeKind.ERROR_ID),
+      identified.kind(SErrorIds.ERROR_ID)
+    );
+    assertEquals(
+      Optional.of(SAttributeKind.INSTANT),
+      identified.kind(SErrorIds.ERROR_TIME)
+    );
+  }
+
+  /**
+   * Exceptions are linked to identified causes.
+   */
+
+  @Test
+  public void testIdentifyWithParent()
+  {
+    final var parent =
+      new SIOException(
+        "Failed.",
+        new IOException(),
+        "error-io",
+        SErrorIds.identify(Map.of())
+      );
+
+    final var child =
+      new SIOException(
+        "Failed again.",
+        parent,
+        "error-io-again",
+        SErrorIds.identify(Map.of(), parent)
+      );
+
+    assertEquals(SErrorIds.idOfException(parent), SErrorIds.parentIdOf(child));
+
+    final var orphan =
+      SErrorIds.identify(Map.of(), new IOException());
+    assertFalse(orphan.containsKey(SErrorIds.PARENT_ERROR_ID));
+  }
+
+  /**
+   * Errors without valid identifiers have none.
+   */
+
+  @Test
+  public void testMissing()
+  {
+    assertEquals(
+      Optional.empty(),
+      SErrorIds.idOf(SStructuredError.withMessageOnly("error-x", "X"))
+    );
+    assertEquals(
+      Optional.empty(),
+      SErrorIds.idOf(
+        SStructuredError.builder("error-x", "X")
+          .withAttribute(SErrorIds.ERROR_ID, "not an id")
+          .build())
+    );
+    assertEquals(Optional.empty(), SErrorIds.idOfException(new IOException()));
+  }
+}
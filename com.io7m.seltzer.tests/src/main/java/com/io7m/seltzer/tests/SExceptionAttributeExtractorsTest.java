@@ -0,0 +1,284 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SAttributes;
+import com.io7m.seltzer.api.SExceptionAttributeExtractorType;
+import com.io7m.seltzer.api.SExceptionAttributeExtractors;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.io.SIOErrorCodes;
+import com.io7m.seltzer.io.SIOException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.FileSystemException;
+import java.nio.file.NoSuchFileException;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SExceptionAttributeExtractorsTest
+{
+  /**
+   * An exception type used to test service loading.
+   */
+
+  public static final class QuotaException extends RuntimeException
+  {
+    private final long quota;
+
+    public QuotaException(
+      final long inQuota)
+    {
+      super("Quota exceeded.");
+      this.quota = inQuota;
+    }
+
+    public long quota()
+    {
+      return this.quota;
+    }
+  }
+
+  /**
+   * An extractor registered as a service.
+   */
+
+  public static final class QuotaExtractor
+    implements SExceptionAttributeExtractorType<QuotaException>
+  {
+    public QuotaExtractor()
+    {
+
+    }
+
+    @Override
+    public Class<QuotaException> exceptionClass()
+    {
+      return QuotaException.class;
+    }
+
+    @Override
+    public void extract(
+      final QuotaException exception,
+      final SAttributes.Builder target,
+      final SExceptionAttributeExtractors extractors)
+    {
+      target.withAttribute("Quota", exception.quota());
+    }
+  }
+
+  /**
+   * File system exceptions yield file attributes.
+   */
+
+  @Test
+  public void testFileSystem()
+  {
+    final var attributes =
+      SExceptionAttributeExtractors.standard()
+        .extract(new FileSystemException("/a", "/b", "Broken"));
+
+    assertEquals(
+      Map.of("File", "/a", "OtherFile", "/b", "Reason", "Broken"),
+      attributes
+    );
+    assertEquals(
+      Map.of("File", "/a"),
+      SExceptionAttributeExtractors.standard()
+        .extract(new NoSuchFileException("/a"))
+    );
+  }
+
+  /**
+   * Unchecked I/O exceptions yield the attributes of their causes.
+   */
+
+  @Test
+  public void testUncheckedIO()
+  {
+    final var attributes =
+      SExceptionAttributeExtractors.standard()
+        .extract(new UncheckedIOException(new NoSuchFileException("/a")));
+
+    assertEquals(Map.of("File", "/a", "Reason", "/a"), attributes);
+  }
+
+  /**
+   * Database exceptions yield states and vendor codes.
+   */
+
+  @Test
+  public void testSQL()
+  {
+    final var attributes =
+      SExceptionAttributeExtractors.standard()
+        .extract(new SQLException("Broken", "23505", 1062));
+
+    assertEquals(Map.of("SQLState", "23505", "SQLVendorCode", "1062"), attributes);
+    assertEquals(OptionalInt.of(1062), attributes.intValue("SQLVendorCode"));
+  }
+
+  /**
+   * HTTP timeouts yield reasons.
+   */
+
+  @Test
+  public void testHttpTimeout()
+  {
+    assertEquals(
+      Map.of("Reason", "Timed out"),
+      SExceptionAttributeExtractors.standard()
+        .extract(new HttpTimeoutException("Timed out"))
+    );
+  }
+
+  /**
+   * Extractors are discovered with ServiceLoader.
+   */
+
+  @Test
+  public void testServiceLoader()
+  {
+    final var attributes =
+      SExceptionAttributeExtractors.standard()
+        .extract(new QuotaException(100L));
+
+    assertEquals(OptionalLong.of(100L), attributes.longValue("Quota"));
+  }
+
+  /**
+   * Exceptions without extractors leave attributes untouched.
+   */
+
+  @Test
+  public void testEnrichNothing()
+  {
+    final var extractors = SExceptionAttributeExtractors.standard();
+    final var attributes = Map.of("A", "B");
+
+    assertFalse(extractors.hasExtractors(IOException.class));
+    assertTrue(extractors.hasExtractors(NoSuchFileException.class));
+    assertSame(attributes, extractors.enrich(new IOException(), attributes));
+  }
+
+  /**
+   * Explicit attributes take precedence over extracted attributes.
+   */
+
+  @Test
+  public void testEnrichPrecedence()
+  {
+    final var attributes =
+      SExceptionAttributeExtractors.standard()
+        .enrich(
+          new FileSystemException("/a", null, "Broken"),
+          Map.of("File", "/other")
+        );
+
+    assertEquals(Map.of("File", "/other", "Reason", "Broken"), attributes);
+  }
+
+  /**
+   * Enrichment does not inspect attributes that may render themselves
+   * lazily.
+   */
+
+  @Test
+  public void testEnrichLazy()
+  {
+    final var inspected = new AtomicBoolean();
+    final var lazy = new AbstractMap<String, String>()
+    {
+      @Override
+      public Set<Entry<String, String>> entrySet()
+      {
+        inspected.set(true);
+        return Map.of("File", "/other").entrySet();
+      }
+
+      @Override
+      public int size()
+      {
+        return 1;
+      }
+    };
+
+    final var attributes =
+      SExceptionAttributeExtractors.standard()
+        .enrich(new FileSystemException("/a", null, "Broken"), lazy);
+
+    assertFalse(inspected.get());
+    assertEquals(Map.of("File", "/other", "Reason", "Broken"), attributes);
+    assertTrue(inspected.get());
+  }
+
+  /**
+   * Builders and I/O exceptions are enriched.
+   */
+
+  @Test
+  public void testErrorsEnriched()
+  {
+    final var cause =
+      new NoSuchFileException("/a");
+
+    final var error =
+      SStructuredError.builder("error-x", "An error.")
+        .withAttribute("Extra", "x")
+        .withException(cause)
+        .build();
+    assertEquals(Map.of("File", "/a", "Extra", "x"), error.attributes());
+
+    final var ex =
+      new SIOException(cause, SIOErrorCodes.ERROR_IO, Map.of(), Optional.empty());
+    assertEquals(Map.of("File", "/a"), ex.attributes());
+    assertInstanceOf(SAttributes.class, ex.attributes());
+  }
+
+  /**
+   * Custom extractor sets can replace the standard extractors.
+   */
+
+  @Test
+  public void testCustom()
+  {
+    final var extractors =
+      SExceptionAttributeExtractors.builder()
+        .withoutExtractors()
+        .withExtractor(new QuotaExtractor())
+        .build();
+
+    assertEquals(1, extractors.extractors().size());
+    assertEquals(Map.of(), extractors.extract(new NoSuchFileException("/a")));
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorCompact;
+import com.io7m.seltzer.io.SEOFException;
+import com.io7m.seltzer.io.SIOException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Retained-size budgets for error values, measured with JOL. Each budget
+ * is a base size plus a size per attribute. Attribute names and values are
+ * eight-character strings, and the shared cause exception (if any) is not
+ * counted.</p>
+ *
+ * <p>The captured stack traces of exceptions are not counted, because their
+ * size depends on the depth of the stack at the point of construction
+ * rather than on the layout of the error types. They typically add a few
+ * kilobytes to each exception.</p>
+ *
+ * <p>Every measured size is printed to the test output as a line beginning
+ * with {@code footprint:}, so that caches can be sized from the numbers
+ * without rerunning the measurements by hand.</p>
+ */
+
+public final class SFootprintTest
+{
+  private static final int[] ATTRIBUTE_COUNTS = {0, 1, 2, 4, 8, 16, 32};
+  private static final IOException CAUSE = new IOException("Broken");
+  private static final String MAGIC_FIELD_OFFSET = "jol.magicFieldOffset";
+
+  private static String savedMagicFieldOffset;
+
+  private record Budget(
+    String name,
+    long base,
+    long perAttribute,
+    IntFunction<Object> create)
+  {
+
+  }
+
+  @BeforeAll
+  public static void setup()
+  {
+    /*
+     * JOL cannot obtain field offsets for record classes without this.
+     */
+
+    savedMagicFieldOffset = System.setProperty(MAGIC_FIELD_OFFSET, "true");
+  }
+
+  @AfterAll
+  public static void tearDown()
+  {
+    if (savedMagicFieldOffset == null) {
+      System.clearProperty(MAGIC_FIELD_OFFSET);
+    } else {
+      System.setProperty(MAGIC_FIELD_OFFSET, savedMagicFieldOffset);
+    }
+  }
+
+  private static SStructuredError<String> error(
+    final int count,
+    final Throwable exception)
+  {
+    final var builder =
+      SStructuredError.builder("error-x", "An error.");
+    for (int index = 0; index < count; ++index) {
+      builder.withAttribute("Name%04d".formatted(index), "Valu%04d".formatted(index));
+    }
+    if (exception != null) {
+      builder.withException(exception);
+    }
+    return builder.build();
+  }
+
+  private static Map<String, String> attributes(
+    final int count)
+  {
+    final var map = new HashMap<String, String>();
+    for (int index = 0; index < count; ++index) {
+      map.put("Name%04d".formatted(index), "Valu%04d".formatted(index));
+    }
+    return map;
+  }
+
+  private static long retained(
+    final Object value)
+  {
+    final var layout =
+      GraphLayout.parseInstance(value)
+        .subtract(GraphLayout.parseInstance(CAUSE));
+
+    long size = 0L;
+    for (final var address : layout.addresses()) {
+      final var record = layout.record(address.longValue());
+      if (!record.path().contains(".backtrace")) {
+        size += record.size();
+      }
+    }
+    return size;
+  }
+
+  private static Stream<DynamicTest> check(
+    final Budget budget)
+  {
+    return IntStream.of(ATTRIBUTE_COUNTS)
+      .mapToObj(count -> {
+        return DynamicTest.dynamicTest(
+          "%s (%d attributes)".formatted(budget.name, count),
+          () -> {
+            final var size = retained(budget.create.apply(count));
+            final var limit = budget.base + budget.perAttribute * count;
+            System.out.printf(
+              "footprint: %s attributes=%d retained=%d budget=%d%n",
+              budget.name,
+              Integer.valueOf(count),
+              Long.valueOf(size),
+              Long.valueOf(limit)
+            );
+            assertTrue(
+              size <= limit,
+              "%s with %d attributes retains %d bytes, exceeding %d"
+                .formatted(budget.name, count, size, limit)
+            );
+          }
+        );
+      });
+  }
+
+  /**
+   * The retained sizes of errors are within budget.
+   *
+   * @return The tests
+   */
+
+  @TestFactory
+  public Stream<DynamicTest> testRetainedSizes()
+  {
+    return Stream.of(
+      new Budget("SStructuredError", 288L, 144L, n -> error(n, null)),
+      new Budget("SStructuredError (exception)", 304L, 144L, n -> error(n, CAUSE)),
+      new Budget("SIOException", 256L, 120L, n -> {
+        return new SIOException("An error.", "error-x", attributes(n));
+      }),
+      new Budget("SIOException (exception)", 256L, 120L, n -> {
+        return new SIOException("An error.", CAUSE, "error-x", attributes(n));
+      }),
+      new Budget("SEOFException", 256L, 120L, n -> {
+        return new SEOFException("An error.", "error-x", attributes(n));
+      })
+    ).flatMap(SFootprintTest::check);
+  }
+
+  /**
+   * The shallow sizes of error instances are within budget.
+   */
+
+  @Test
+  public void testInstanceSizes()
+  {
+    assertTrue(
+      ClassLayout.parseClass(SStructuredError.class).instanceSize() <= 32L
+    );
+    assertTrue(
+      ClassLayout.parseClass(SIOException.class).instanceSize() <= 48L
+    );
+    assertTrue(
+      ClassLayout.parseClass(SEOFException.class).instanceSize() <= 48L
+    );
+  }
+
+  /**
+   * Compact errors retain exactly two {@link Optional} instances
+   * fewer than the equivalent records, allowing for the difference in the
+   * shallow sizes of the two classes (compact errors have an extra field
+   * for a cached fingerprint).
+   */
+
+  @Test
+  public void testCompactRetainsNoOptionals()
+  {
+    final var builder =
+      SStructuredError.builder("error-x", "An error.")
+        .withAttribute("Name", "Value")
+        .withRemediatingAction("Fix it.")
+        .withException(CAUSE);
+
+    final var record = retained(builder.build());
+    final var compact = retained(builder.buildCompact());
+    System.out.printf(
+      "footprint: SStructuredError retained=%d SStructuredErrorCompact retained=%d%n",
+      Long.valueOf(record),
+      Long.valueOf(compact)
+    );
+
+    final var optionalSize =
+      ClassLayout.parseClass(Optional.class).instanceSize();
+    final var shallowDifference =
+      ClassLayout.parseClass(SStructuredErrorCompact.class).instanceSize()
+      - ClassLayout.parseClass(SStructuredError.class).instanceSize();
+    assertEquals(record - 2L * optionalSize + shallowDifference, compact);
+  }
+}
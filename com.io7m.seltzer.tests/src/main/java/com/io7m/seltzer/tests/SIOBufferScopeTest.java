@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.io.SEOFException;
+import com.io7m.seltzer.io.SIOAttributeNames;
+import com.io7m.seltzer.io.SIOBufferScope;
+import com.io7m.seltzer.io.SIOException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SIOBufferScopeTest
+{
+  private static ByteBuffer buffer()
+  {
+    final var buffer = ByteBuffer.allocateDirect(32);
+    for (int index = 0; index < 32; ++index) {
+      buffer.put(index, (byte) index);
+    }
+    return buffer;
+  }
+
+  @Test
+  public void testWindowCopiedOnClose()
+  {
+    final var buffer = buffer();
+
+    final SEOFException ex;
+    try (var scope = SIOBufferScope.open(buffer, 1000L, 4)) {
+      ex = new SEOFException(
+        "Truncated.",
+        "error-truncated",
+        scope.attributes(10, Map.of("x", "y"))
+      );
+      buffer.put(10, (byte) 0xff);
+    }
+
+    buffer.put(9, (byte) 0xee);
+
+    assertEquals(
+      Map.ofEntries(
+        Map.entry("x", "y"),
+        Map.entry(SIOAttributeNames.OFFSET, "1010"),
+        Map.entry(SIOAttributeNames.BUFFER_WINDOW_OFFSET, "1008"),
+        Map.entry(SIOAttributeNames.BUFFER_WINDOW, "08 09 ff 0b")
+      ),
+      ex.attributes()
+    );
+  }
+
+  @Test
+  public void testWindowNotRenderedByEnrichment()
+  {
+    final var buffer = buffer();
+
+    final SIOException ex;
+    try (var scope = SIOBufferScope.open(buffer, 0L, 2)) {
+      ex = new SIOException(
+        new NoSuchFileException("/a"),
+        "error-io",
+        scope.attributes(10),
+        Optional.empty()
+      );
+      buffer.put(10, (byte) 0xff);
+    }
+
+    assertEquals("/a", ex.attributes().get("File"));
+    assertEquals("09 ff", ex.attributes().get(SIOAttributeNames.BUFFER_WINDOW));
+    assertEquals(4, ex.attributes().size());
+  }
+
+  @Test
+  public void testDiscardedAttributesIgnored()
+  {
+    final var buffer = buffer();
+    final var kept = new ArrayList<Map<String, String>>();
+
+    try (var scope = SIOBufferScope.open(buffer, 0L, 1)) {
+      for (int index = 0; index < 1000; ++index) {
+        final var attributes = scope.attributes(index % 32);
+        if (index % 100 == 0) {
+          kept.add(attributes);
+        }
+      }
+    }
+
+    for (int index = 0; index < 32; ++index) {
+      buffer.put(index, (byte) 0xff);
+    }
+
+    assertEquals(10, kept.size());
+    for (int index = 0; index < kept.size(); ++index) {
+      final var value = (index * 100) % 32;
+      assertEquals(
+        "%02x".formatted(Integer.valueOf(value)),
+        kept.get(index).get(SIOAttributeNames.BUFFER_WINDOW)
+      );
+    }
+  }
+
+  @Test
+  public void testWindowClamped()
+  {
+    final var buffer = buffer();
+
+    try (var scope = SIOBufferScope.open(buffer, 0L, 8)) {
+      final var start = scope.attributes(1);
+      assertEquals("0", start.get(SIOAttributeNames.BUFFER_WINDOW_OFFSET));
+      assertEquals(
+        "00 01 02 03 04 05 06 07",
+        start.get(SIOAttributeNames.BUFFER_WINDOW)
+      );
+
+      final var end = scope.attributes(32);
+      assertEquals("28", end.get(SIOAttributeNames.BUFFER_WINDOW_OFFSET));
+      assertEquals("1c 1d 1e 1f", end.get(SIOAttributeNames.BUFFER_WINDOW));
+      assertEquals(3, end.size());
+    }
+  }
+
+  @Test
+  public void testBaseOverwritten()
+  {
+    try (var scope = SIOBufferScope.open(buffer(), 100L, 2)) {
+      final var attributes =
+        scope.attributes(
+          4,
+          Map.of(SIOAttributeNames.OFFSET, "0", "x", "y")
+        );
+
+      assertEquals(4, attributes.size());
+      assertEquals("104", attributes.get(SIOAttributeNames.OFFSET));
+      assertEquals(attributes.entrySet().size(), attributes.size());
+      assertEquals(
+        Map.ofEntries(
+          Map.entry("x", "y"),
+          Map.entry(SIOAttributeNames.OFFSET, "104"),
+          Map.entry(SIOAttributeNames.BUFFER_WINDOW_OFFSET, "103"),
+          Map.entry(SIOAttributeNames.BUFFER_WINDOW, "03 04")
+        ),
+        attributes
+      );
+    }
+  }
+
+  @Test
+  public void testWindowEmpty()
+  {
+    try (var scope = SIOBufferScope.open(buffer(), 0L, 0)) {
+      assertEquals("", scope.attributes(3).get(SIOAttributeNames.BUFFER_WINDOW));
+    }
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SIOBufferScope.open(buffer(), 0L, -1);
+    });
+
+    try (var scope = SIOBufferScope.open(buffer(), 0L, 2)) {
+      assertThrows(IndexOutOfBoundsException.class, () -> {
+        scope.attributes(33);
+      });
+    }
+  }
+}
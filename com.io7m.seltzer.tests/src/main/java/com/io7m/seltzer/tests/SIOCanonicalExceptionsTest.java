@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.io.SClosedChannelException;
+import com.io7m.seltzer.io.SEOFException;
+import com.io7m.seltzer.io.SIOCanonicalExceptions;
+import com.io7m.seltzer.io.SIOException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SIOCanonicalExceptionsTest
+{
+  /**
+   * Canonical exceptions are registered once per error code.
+   */
+
+  @Test
+  public void testRegisterOnce()
+  {
+    final var e0 =
+      SIOCanonicalExceptions.eof(
+        "error-canonical-eof", "Unexpected EOF in header.", Optional.empty());
+    final var e1 =
+      SIOCanonicalExceptions.eof(
+        "error-canonical-eof", "Unexpected EOF in header.", Optional.empty());
+
+    assertSame(e0, e1);
+    assertSame(e0, SIOCanonicalExceptions.find("error-canonical-eof").orElseThrow());
+    assertInstanceOf(SEOFException.class, e0);
+    assertEquals("error-canonical-eof", e0.errorCode());
+    assertEquals(Map.of(), e0.attributes());
+    assertTrue(SIOCanonicalExceptions.isCanonical(e0));
+  }
+
+  /**
+   * Conflicting registrations are rejected.
+   */
+
+  @Test
+  public void testRegisterConflict()
+  {
+    SIOCanonicalExceptions.closedChannel(
+      "error-canonical-closed", "Stream closed.", Optional.empty());
+
+    assertThrows(IllegalStateException.class, () -> {
+      SIOCanonicalExceptions.closedChannel(
+        "error-canonical-closed", "Other.", Optional.empty());
+    });
+    assertThrows(IllegalStateException.class, () -> {
+      SIOCanonicalExceptions.ioException(
+        "error-canonical-closed", "Stream closed.", Optional.empty());
+    });
+  }
+
+  /**
+   * Canonical exceptions have no stack traces and reject causes.
+   */
+
+  @Test
+  public void testImmutable()
+  {
+    final var e =
+      SIOCanonicalExceptions.ioException(
+        "error-canonical-io", "Frame too large.", Optional.of("Send less."));
+
+    assertEquals(0, e.getStackTrace().length);
+    assertSame(e, e.fillInStackTrace());
+    assertEquals(0, e.getStackTrace().length);
+
+    assertThrows(IllegalStateException.class, () -> {
+      e.initCause(new IOException());
+    });
+    assertThrows(UnsupportedOperationException.class, () -> {
+      e.setStackTrace(new StackTraceElement[]{
+        new StackTraceElement("C", "m", "F.java", 1),
+      });
+    });
+    assertEquals(null, e.getCause());
+  }
+
+  /**
+   * Canonical exceptions can be thrown and caught as ordinary exceptions.
+   */
+
+  @Test
+  public void testThrow()
+  {
+    final SClosedChannelException e =
+      SIOCanonicalExceptions.closedChannel(
+        "error-canonical-thrown", "Stream closed.", Optional.empty());
+
+    final var caught =
+      assertThrows(SIOException.class, () -> {
+        throw e;
+      });
+    assertSame(e, caught);
+    assertFalse(SIOCanonicalExceptions.isCanonical(new IOException()));
+    assertEquals(
+      Optional.empty(),
+      SIOCanonicalExceptions.find("error-canonical-nonexistent")
+    );
+  }
+
+  /**
+   * Canonical exceptions ignore suppressed exceptions, including those added
+   * by try-with-resources statements.
+   */
+
+  @Test
+  public void testSuppressionDisabled()
+  {
+    final var e =
+      SIOCanonicalExceptions.eof(
+        "error-canonical-suppressed", "Truncated.", Optional.of("Retry."));
+
+    e.addSuppressed(new IOException("Other"));
+    assertEquals(0, e.getSuppressed().length);
+
+    final var caught =
+      assertThrows(SEOFException.class, () -> {
+        try (AutoCloseable c = () -> {
+          throw new IOException("Close failed");
+        }) {
+          throw e;
+        }
+      });
+    assertSame(e, caught);
+    assertEquals(0, e.getSuppressed().length);
+
+    assertEquals("error-canonical-suppressed", e.errorCode());
+    assertEquals("Truncated.", e.getMessage());
+    assertEquals(Optional.of("Retry."), e.remediatingAction());
+    assertEquals(Map.of(), e.attributes());
+    assertEquals(null, e.getCause());
+    assertEquals(0, e.getStackTrace().length);
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.io.SEOFException;
+import com.io7m.seltzer.io.SIOAttributeNames;
+import com.io7m.seltzer.io.SIOChannels;
+import com.io7m.seltzer.io.SIOErrorCodes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SIOChannelsTest
+{
+  private static byte[] bytes(
+    final int count)
+  {
+    final var data = new byte[count];
+    for (int index = 0; index < count; ++index) {
+      data[index] = (byte) index;
+    }
+    return data;
+  }
+
+  private static Map<String, String> eofAttributes(
+    final long expected,
+    final long received,
+    final long offset)
+  {
+    return Map.of(
+      SIOAttributeNames.BYTES_EXPECTED,
+      Long.toString(expected),
+      SIOAttributeNames.BYTES_RECEIVED,
+      Long.toString(received),
+      SIOAttributeNames.OFFSET,
+      Long.toString(offset)
+    );
+  }
+
+  @Test
+  public void testReadFully()
+    throws Exception
+  {
+    final var channel =
+      Channels.newChannel(new ByteArrayInputStream(bytes(100)));
+    final var buffer =
+      ByteBuffer.allocateDirect(100);
+
+    SIOChannels.readFully(channel, buffer);
+    assertFalse(buffer.hasRemaining());
+    assertEquals(99, buffer.get(99));
+  }
+
+  @Test
+  public void testReadFullyShort()
+  {
+    final var channel =
+      Channels.newChannel(new ByteArrayInputStream(bytes(60)));
+
+    final var ex =
+      assertThrows(SEOFException.class, () -> {
+        SIOChannels.readFully(channel, ByteBuffer.allocate(100));
+      });
+
+    assertEquals(SIOErrorCodes.ERROR_IO_EOF, ex.errorCode());
+    assertEquals(eofAttributes(100L, 60L, 60L), ex.attributes());
+  }
+
+  @Test
+  public void testReadFullyPositional(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("file.bin");
+    Files.write(file, bytes(100));
+
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final var buffer = ByteBuffer.allocateDirect(10);
+      SIOChannels.readFully(channel, buffer, 50L);
+      assertEquals(50, buffer.get(0));
+      assertEquals(0L, channel.position());
+
+      final var ex =
+        assertThrows(SEOFException.class, () -> {
+          SIOChannels.readFully(channel, ByteBuffer.allocate(20), 90L);
+        });
+      assertEquals(eofAttributes(20L, 10L, 100L), ex.attributes());
+    }
+  }
+
+  @Test
+  public void testReadFullyScattering(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("file.bin");
+    Files.write(file, bytes(30));
+
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final var buffers = new ByteBuffer[]{
+        ByteBuffer.allocate(10),
+        ByteBuffer.allocate(0),
+        ByteBuffer.allocateDirect(10),
+      };
+      SIOChannels.readFully(channel, buffers);
+      assertEquals(10, buffers[2].get(0));
+
+      final var ex =
+        assertThrows(SEOFException.class, () -> {
+          SIOChannels.readFully(channel, new ByteBuffer[]{
+            ByteBuffer.allocate(5),
+            ByteBuffer.allocate(10),
+          });
+        });
+      assertEquals(eofAttributes(15L, 10L, 10L), ex.attributes());
+    }
+  }
+
+  @Test
+  public void testWriteFully(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("file.bin");
+    try (var channel = FileChannel.open(
+      file,
+      StandardOpenOption.CREATE,
+      StandardOpenOption.WRITE)) {
+      SIOChannels.writeFully(channel, ByteBuffer.wrap(bytes(10)));
+      SIOChannels.writeFully(channel, new ByteBuffer[]{
+        ByteBuffer.wrap(bytes(5)),
+        ByteBuffer.allocate(0),
+        ByteBuffer.wrap(bytes(5)),
+      });
+      SIOChannels.writeFully(channel, ByteBuffer.wrap(bytes(2)), 30L);
+      assertEquals(20L, channel.position());
+    }
+
+    final var data = Files.readAllBytes(file);
+    assertEquals(32, data.length);
+    assertEquals(9, data[9]);
+    assertEquals(4, data[14]);
+    assertEquals(1, data[31]);
+  }
+
+  @Test
+  public void testTransferTo(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("file.bin");
+    Files.write(file, bytes(100));
+
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final var output = new ByteArrayOutputStream();
+      SIOChannels.transferFully(channel, 10L, 20L, Channels.newChannel(output));
+      assertEquals(20, output.size());
+      assertEquals(10, output.toByteArray()[0]);
+
+      final var ex =
+        assertThrows(SEOFException.class, () -> {
+          SIOChannels.transferFully(
+            channel, 90L, 20L, Channels.newChannel(output));
+        });
+      assertEquals(eofAttributes(20L, 10L, 100L), ex.attributes());
+    }
+  }
+
+  @Test
+  public void testTransferFrom(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("file.bin");
+    try (var channel = FileChannel.open(
+      file,
+      StandardOpenOption.CREATE,
+      StandardOpenOption.READ,
+      StandardOpenOption.WRITE)) {
+
+      SIOChannels.transferFully(
+        Channels.newChannel(new ByteArrayInputStream(bytes(50))),
+        channel,
+        0L,
+        50L
+      );
+      assertEquals(50L, channel.size());
+
+      final var ex =
+        assertThrows(SEOFException.class, () -> {
+          SIOChannels.transferFully(
+            Channels.newChannel(new ByteArrayInputStream(bytes(10))),
+            channel,
+            50L,
+            20L
+          );
+        });
+      assertEquals(eofAttributes(20L, 10L, 60L), ex.attributes());
+
+      assertThrows(IllegalArgumentException.class, () -> {
+        SIOChannels.transferFully(
+          Channels.newChannel(new ByteArrayInputStream(bytes(10))),
+          channel,
+          channel.size() + 1L,
+          10L
+        );
+      });
+    }
+
+    assertArrayEquals(bytes(10), Arrays.copyOf(Files.readAllBytes(file), 10));
+  }
+}
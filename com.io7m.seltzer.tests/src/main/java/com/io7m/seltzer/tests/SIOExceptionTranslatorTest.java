@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.io.SAccessDeniedException;
+import com.io7m.seltzer.io.SClosedChannelException;
+import com.io7m.seltzer.io.SEOFException;
+import com.io7m.seltzer.io.SIOAttributeNames;
+import com.io7m.seltzer.io.SIOErrorCodes;
+import com.io7m.seltzer.io.SIOException;
+import com.io7m.seltzer.io.SIOExceptionTranslator;
+import com.io7m.seltzer.io.SNoSuchFileException;
+import com.io7m.seltzer.io.STimeoutException;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.NoSuchFileException;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class SIOExceptionTranslatorTest
+{
+  @Test
+  public void testEOF()
+  {
+    final var cause = new EOFException("EOF!");
+    final var e = SIOExceptionTranslator.standard().translate(cause);
+    assertInstanceOf(SEOFException.class, e);
+    assertEquals(SIOErrorCodes.ERROR_IO_EOF, e.errorCode());
+    assertEquals("EOF!", e.getMessage());
+    assertSame(cause, e.getCause());
+  }
+
+  @Test
+  public void testClosed()
+  {
+    final var translator = SIOExceptionTranslator.standard();
+
+    final var e0 = translator.translate(new AsynchronousCloseException());
+    assertInstanceOf(SClosedChannelException.class, e0);
+    assertEquals(SIOErrorCodes.ERROR_IO_CLOSED, e0.errorCode());
+    assertEquals("AsynchronousCloseException", e0.getMessage());
+
+    final var e1 = translator.translate(new ClosedByInterruptException());
+    assertInstanceOf(SClosedChannelException.class, e1);
+    assertEquals(SIOErrorCodes.ERROR_IO_CLOSED, e1.errorCode());
+  }
+
+  @Test
+  public void testNoSuchFile()
+  {
+    final var e =
+      SIOExceptionTranslator.standard()
+        .translate(new NoSuchFileException("a.txt", "b.txt", "Missing"));
+
+    assertInstanceOf(SNoSuchFileException.class, e);
+    assertEquals(SIOErrorCodes.ERROR_IO_NOT_FOUND, e.errorCode());
+    assertEquals(
+      Map.ofEntries(
+        Map.entry(SIOAttributeNames.FILE, "a.txt"),
+        Map.entry(SIOAttributeNames.OTHER_FILE, "b.txt"),
+        Map.entry(SIOAttributeNames.REASON, "Missing")
+      ),
+      e.attributes()
+    );
+  }
+
+  @Test
+  public void testAccessDenied()
+  {
+    final var e =
+      SIOExceptionTranslator.standard()
+        .translate(new AccessDeniedException("a.txt"), Map.of("x", "y"));
+
+    assertInstanceOf(SAccessDeniedException.class, e);
+    assertEquals(SIOErrorCodes.ERROR_IO_ACCESS_DENIED, e.errorCode());
+    assertEquals(
+      Map.ofEntries(
+        Map.entry(SIOAttributeNames.FILE, "a.txt"),
+        Map.entry("x", "y")
+      ),
+      e.attributes()
+    );
+  }
+
+  @Test
+  public void testFileSystem()
+  {
+    final var e =
+      SIOExceptionTranslator.standard()
+        .translate(new FileSystemException("a.txt"));
+
+    assertEquals(SIOException.class, e.getClass());
+    assertEquals(SIOErrorCodes.ERROR_IO, e.errorCode());
+    assertEquals(Map.of(SIOAttributeNames.FILE, "a.txt"), e.attributes());
+  }
+
+  @Test
+  public void testTimeout()
+  {
+    final var e =
+      SIOExceptionTranslator.standard()
+        .translate(new SocketTimeoutException());
+
+    assertInstanceOf(STimeoutException.class, e);
+    assertEquals(SIOErrorCodes.ERROR_IO_TIMEOUT, e.errorCode());
+  }
+
+  @Test
+  public void testGeneric()
+  {
+    final var e =
+      SIOExceptionTranslator.standard()
+        .translate(new IllegalStateException("Bad"));
+
+    assertEquals(SIOException.class, e.getClass());
+    assertEquals(SIOErrorCodes.ERROR_IO, e.errorCode());
+    assertEquals("Bad", e.getMessage());
+  }
+
+  @Test
+  public void testIdentity()
+  {
+    final var x =
+      new SIOException("X", "error-x", Optional.empty());
+
+    assertSame(x, SIOExceptionTranslator.standard().translate(x));
+  }
+
+  @Test
+  public void testCustomRule()
+  {
+    final var translator =
+      SIOExceptionTranslator.builder()
+        .withRule(EOFException.class, (ex, attributes) -> {
+          attributes.put("Custom", "true");
+          return new SEOFException(ex, "error-custom", attributes, Optional.empty());
+        })
+        .build();
+
+    final var e0 = translator.translate(new EOFException());
+    assertEquals("error-custom", e0.errorCode());
+    assertEquals(Map.of("Custom", "true"), e0.attributes());
+
+    final var e1 = translator.translate(new IOException("x"));
+    assertEquals(SIOErrorCodes.ERROR_IO, e1.errorCode());
+  }
+}
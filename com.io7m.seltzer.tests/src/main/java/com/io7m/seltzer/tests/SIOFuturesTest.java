@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.io.SClosedChannelException;
+import com.io7m.seltzer.io.SEOFException;
+import com.io7m.seltzer.io.SIOAttributeNames;
+import com.io7m.seltzer.io.SIOCompletionHandler;
+import com.io7m.seltzer.io.SIOErrorCodes;
+import com.io7m.seltzer.io.SIOExceptionTranslator;
+import com.io7m.seltzer.io.SIOFutures;
+import com.io7m.seltzer.io.SNoSuchFileException;
+import com.io7m.seltzer.io.STimeoutException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SIOFuturesTest
+{
+  @Test
+  public void testUnwrap()
+  {
+    final var cause = new EOFException();
+    assertSame(cause, SIOFutures.unwrap(new CompletionException(cause)));
+    assertSame(cause, SIOFutures.unwrap(new ExecutionException(cause)));
+    assertSame(cause, SIOFutures.unwrap(cause));
+
+    final var twice =
+      new CompletionException(new ExecutionException(cause));
+    assertSame(twice.getCause(), SIOFutures.unwrap(twice));
+  }
+
+  @Test
+  public void testFileReadWrite(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("file.bin");
+    try (var channel = AsynchronousFileChannel.open(
+      file,
+      StandardOpenOption.CREATE,
+      StandardOpenOption.READ,
+      StandardOpenOption.WRITE)) {
+
+      final var written =
+        SIOFutures.write(channel, ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), 0L);
+      assertEquals(4, SIOFutures.await(written));
+
+      final var buffer = ByteBuffer.allocate(4);
+      assertEquals(4, SIOFutures.await(SIOFutures.read(channel, buffer, 0L)));
+      assertArrayEquals(new byte[]{1, 2, 3, 4}, buffer.array());
+    }
+  }
+
+  @Test
+  public void testFileReadClosed(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("file.bin");
+    Files.write(file, new byte[16]);
+
+    final var channel =
+      AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+    channel.close();
+
+    final var future =
+      SIOFutures.read(channel, ByteBuffer.allocate(8), 4L);
+
+    final var ex =
+      assertThrows(SClosedChannelException.class, () -> {
+        SIOFutures.await(future);
+      });
+
+    assertEquals(SIOErrorCodes.ERROR_IO_CLOSED, ex.errorCode());
+    assertEquals("4", ex.attributes().get(SIOAttributeNames.POSITION));
+    assertEquals("8", ex.attributes().get(SIOAttributeNames.BYTES_REQUESTED));
+    assertEquals("0", ex.attributes().get(SIOAttributeNames.BYTES_TRANSFERRED));
+    assertEquals(
+      channel.toString(),
+      ex.attributes().get(SIOAttributeNames.CHANNEL)
+    );
+  }
+
+  @Test
+  public void testStructured()
+  {
+    final var source = new CompletableFuture<Integer>();
+    final var future = SIOFutures.structured(source, Map.of("x", "y"));
+    source.completeExceptionally(new CompletionException(new EOFException()));
+
+    final var ex =
+      assertThrows(ExecutionException.class, future::get);
+    final var cause =
+      assertInstanceOf(SEOFException.class, ex.getCause());
+    assertEquals(Map.of("x", "y"), cause.attributes());
+  }
+
+  @Test
+  public void testStructuredTranslationFails()
+  {
+    final var attributes = new HashMap<String, String>();
+    attributes.put("x", null);
+
+    final var source = new CompletableFuture<Integer>();
+    final var future = SIOFutures.structured(source, attributes);
+    source.completeExceptionally(new EOFException());
+
+    final var ex =
+      assertThrows(ExecutionException.class, () -> {
+        future.get(1L, TimeUnit.SECONDS);
+      });
+    assertInstanceOf(NullPointerException.class, ex.getCause());
+  }
+
+  @Test
+  public void testHandlerTranslationFails()
+  {
+    final var failure = new IllegalStateException("Broken translator.");
+    final var translator =
+      SIOExceptionTranslator.builder()
+        .withRule(EOFException.class, (exception, attributes) -> {
+          throw failure;
+        })
+        .build();
+
+    final var handler =
+      SIOCompletionHandler.<Integer>create(translator, "channel");
+    handler.failed(new EOFException(), null);
+
+    final var ex =
+      assertThrows(ExecutionException.class, () -> {
+        handler.future().get(1L, TimeUnit.SECONDS);
+      });
+    assertSame(failure, ex.getCause());
+  }
+
+  @Test
+  public void testStructuredSuccess()
+    throws Exception
+  {
+    final var future =
+      SIOFutures.structured(CompletableFuture.completedFuture(23), Map.of());
+    assertEquals(23, future.get());
+  }
+
+  @Test
+  public void testAwaitFailed()
+  {
+    final var future =
+      CompletableFuture.failedFuture(new NoSuchFileException("x.txt"));
+
+    final var ex =
+      assertThrows(SNoSuchFileException.class, () -> {
+        SIOFutures.await(future);
+      });
+    assertEquals("x.txt", ex.attributes().get(SIOAttributeNames.FILE));
+  }
+
+  @Test
+  public void testAwaitTimeout()
+  {
+    final var future = new CompletableFuture<Integer>();
+
+    assertThrows(STimeoutException.class, () -> {
+      SIOFutures.await(future, 1L, TimeUnit.MILLISECONDS);
+    });
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.io.SEOFException;
+import com.io7m.seltzer.io.SIOAttributeNames;
+import com.io7m.seltzer.io.SIOErrorCodes;
+import com.io7m.seltzer.io.SIOException;
+import com.io7m.seltzer.io.SIOReadableByteChannel;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SIOReadableByteChannelTest
+{
+  private static final class FailingStream extends InputStream
+  {
+    @Override
+    public int read()
+      throws IOException
+    {
+      throw new EOFException("Truncated!");
+    }
+  }
+
+  @Test
+  public void testReadFailure()
+    throws Exception
+  {
+    final var stream =
+      new SequenceInputStream(
+        new ByteArrayInputStream(new byte[10]),
+        new FailingStream()
+      );
+
+    try (var channel = SIOReadableByteChannel.wrap(Channels.newChannel(stream))) {
+      assertEquals(10, channel.read(ByteBuffer.allocate(10)));
+
+      final var ex =
+        assertThrows(SEOFException.class, () -> {
+          channel.read(ByteBuffer.allocate(4));
+        });
+
+      assertEquals(SIOErrorCodes.ERROR_IO_EOF, ex.errorCode());
+      assertEquals("Truncated!", ex.getMessage());
+      assertEquals("10", ex.attributes().get(SIOAttributeNames.POSITION));
+      assertEquals("4", ex.attributes().get(SIOAttributeNames.BYTES_REQUESTED));
+      assertEquals(
+        channel.delegate().toString(),
+        ex.attributes().get(SIOAttributeNames.CHANNEL)
+      );
+    }
+  }
+
+  @Test
+  public void testCloseFailure()
+  {
+    final var stream = new ByteArrayInputStream(new byte[10])
+    {
+      @Override
+      public void close()
+        throws IOException
+      {
+        throw new IOException("Close failed.");
+      }
+    };
+
+    final var channel =
+      SIOReadableByteChannel.wrap(Channels.newChannel(stream));
+
+    final var ex = assertThrows(SIOException.class, channel::close);
+    assertEquals(SIOErrorCodes.ERROR_IO, ex.errorCode());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SResultType;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.io.SEOFException;
+import com.io7m.seltzer.io.SIOException;
+import com.io7m.seltzer.io.SIOResults;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SIOResultsTest
+{
+  @Test
+  public void testSuccess()
+    throws Exception
+  {
+    assertEquals(
+      "x",
+      SIOResults.orElseThrow(SResultType.<String, String>success("x"))
+    );
+  }
+
+  @Test
+  public void testFailureIOException()
+  {
+    final var error =
+      new SEOFException("EOF", "error-io-eof", Map.of("A", "B"));
+
+    final var ex = assertThrows(SIOException.class, () -> {
+      SIOResults.orElseThrow(SResultType.<String, String>failure(error));
+    });
+    assertSame(error, ex);
+  }
+
+  @Test
+  public void testFailureConverted()
+  {
+    final var cause =
+      new IOException("Broken");
+    final var error =
+      new SStructuredError<>(
+        "error-x",
+        "Failed.",
+        Map.of("A", "B"),
+        Optional.of("Fix it."),
+        Optional.of(cause)
+      );
+
+    final var ex = assertThrows(SIOException.class, () -> {
+      SIOResults.orElseThrow(SResultType.<String, String>failure(error));
+    });
+    assertEquals("error-x", ex.errorCode());
+    assertEquals("Failed.", ex.getMessage());
+    assertEquals(Map.of("A", "B"), ex.attributes());
+    assertEquals(Optional.of("Fix it."), ex.remediatingAction());
+    assertSame(cause, ex.getCause());
+  }
+
+  @Test
+  public void testFailureConvertedNoCause()
+  {
+    final var ex =
+      SIOResults.toException(
+        SStructuredError.withMessageOnly(Integer.valueOf(23), "Failed."));
+
+    assertEquals("23", ex.errorCode());
+    assertNull(ex.getCause());
+  }
+}
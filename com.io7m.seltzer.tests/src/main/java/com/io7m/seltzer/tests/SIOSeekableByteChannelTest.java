@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.io.SClosedChannelException;
+import com.io7m.seltzer.io.SIOAttributeNames;
+import com.io7m.seltzer.io.SIOErrorCodes;
+import com.io7m.seltzer.io.SIOExceptionTranslator;
+import com.io7m.seltzer.io.SIOSeekableByteChannel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SIOSeekableByteChannelTest
+{
+  @Test
+  public void testReadWrite(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("file.bin");
+    try (var channel = SIOSeekableByteChannel.wrap(
+      FileChannel.open(
+        file,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE),
+      SIOExceptionTranslator.standard(),
+      file)) {
+
+      assertTrue(channel.isOpen());
+      assertEquals(4, channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4})));
+      assertEquals(4L, channel.position());
+      assertEquals(4L, channel.size());
+
+      final var buffer = ByteBuffer.allocate(2);
+      assertEquals(2, channel.position(1L).read(buffer));
+      assertArrayEquals(new byte[]{2, 3}, buffer.array());
+
+      channel.truncate(2L);
+      assertEquals(2L, channel.size());
+    }
+  }
+
+  @Test
+  public void testReadClosed(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("file.bin");
+    final var channel =
+      SIOSeekableByteChannel.wrap(
+        FileChannel.open(
+          file,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.READ,
+          StandardOpenOption.WRITE),
+        SIOExceptionTranslator.standard(),
+        file);
+
+    channel.close();
+    assertFalse(channel.isOpen());
+
+    final var ex =
+      assertThrows(SClosedChannelException.class, () -> {
+        channel.read(ByteBuffer.allocate(10));
+      });
+
+    assertEquals(SIOErrorCodes.ERROR_IO_CLOSED, ex.errorCode());
+    assertEquals(file.toString(), ex.attributes().get(SIOAttributeNames.FILE));
+    assertEquals("10", ex.attributes().get(SIOAttributeNames.BYTES_REQUESTED));
+    assertEquals("0", ex.attributes().get(SIOAttributeNames.BYTES_TRANSFERRED));
+    assertEquals(
+      channel.delegate().toString(),
+      ex.attributes().get(SIOAttributeNames.CHANNEL)
+    );
+
+    final var ex1 =
+      assertThrows(SClosedChannelException.class, () -> {
+        channel.position(100L);
+      });
+    assertEquals("100", ex1.attributes().get(SIOAttributeNames.POSITION));
+
+    assertThrows(SClosedChannelException.class, channel::size);
+    assertThrows(SClosedChannelException.class, channel::position);
+    assertThrows(SClosedChannelException.class, () -> channel.truncate(0L));
+    assertThrows(SClosedChannelException.class, () -> {
+      channel.write(ByteBuffer.allocate(1));
+    });
+  }
+}
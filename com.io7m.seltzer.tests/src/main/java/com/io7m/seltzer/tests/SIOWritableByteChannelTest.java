@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.io.SClosedChannelException;
+import com.io7m.seltzer.io.SIOAttributeNames;
+import com.io7m.seltzer.io.SIOExceptionTranslator;
+import com.io7m.seltzer.io.SIOWritableByteChannel;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SIOWritableByteChannelTest
+{
+  @Test
+  public void testWriteClosed()
+    throws Exception
+  {
+    final var output =
+      new ByteArrayOutputStream();
+    final var channel =
+      SIOWritableByteChannel.wrap(
+        Channels.newChannel(output),
+        SIOExceptionTranslator.standard(),
+        Paths.get("out.bin")
+      );
+
+    assertEquals(3, channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3})));
+    assertEquals(3, output.size());
+    channel.close();
+
+    final var ex =
+      assertThrows(SClosedChannelException.class, () -> {
+        channel.write(ByteBuffer.allocate(5));
+      });
+
+    assertEquals("out.bin", ex.attributes().get(SIOAttributeNames.FILE));
+    assertEquals("3", ex.attributes().get(SIOAttributeNames.POSITION));
+    assertEquals("5", ex.attributes().get(SIOAttributeNames.BYTES_REQUESTED));
+  }
+}
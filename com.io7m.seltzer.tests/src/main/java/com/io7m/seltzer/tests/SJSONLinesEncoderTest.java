@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.json.SJSONLinesEncoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SJSONLinesEncoderTest
+{
+  /**
+   * Errors are encoded as single lines.
+   */
+
+  @Test
+  public void testEncode()
+  {
+    final var error =
+      new SStructuredError<>(
+        "error-x",
+        "An error.",
+        new TreeMap<>(Map.of("A", "1", "B", "2")),
+        Optional.of("Fix it."),
+        Optional.of(new IOException("Broken"))
+      );
+
+    assertEquals(
+      "{\"errorCode\":\"error-x\",\"message\":\"An error.\","
+      + "\"attributes\":{\"A\":\"1\",\"B\":\"2\"},"
+      + "\"remediatingAction\":\"Fix it.\","
+      + "\"exception\":{\"type\":\"java.io.IOException\",\"message\":\"Broken\"}}\n",
+      SJSONLinesEncoder.encodeLine(error)
+    );
+  }
+
+  /**
+   * Absent values are omitted.
+   */
+
+  @Test
+  public void testEncodeMinimal()
+  {
+    assertEquals(
+      "{\"errorCode\":\"error-x\",\"message\":\"An error.\",\"attributes\":{},"
+      + "\"exception\":{\"type\":\"java.io.IOException\"}}\n",
+      SJSONLinesEncoder.encodeLine(
+        SStructuredError.builder("error-x", "An error.")
+          .withException(new IOException())
+          .build()
+      )
+    );
+  }
+
+  /**
+   * Strings are escaped.
+   */
+
+  @Test
+  public void testEscape()
+  {
+    final var text = new StringBuilder();
+    SJSONLinesEncoder.encodeString("a\"b\\c\nd\re\tf\bg\fh\u0001ié", text);
+    assertEquals(
+      "\"a\\\"b\\\\c\\nd\\re\\tf\\bg\\fh\\u0001ié\"",
+      text.toString()
+    );
+  }
+
+  /**
+   * Encoding to bytes produces exactly the UTF-8 encoding of the text
+   * encoding, for every ASCII character and beyond.
+   */
+
+  @Test
+  public void testEncodeBytesAgrees()
+  {
+    final var text = new StringBuilder();
+    for (char c = 0; c < 0x100; ++c) {
+      text.append(c);
+    }
+    text.append("\u20ac\ud83d\ude00");
+
+    final var error =
+      SStructuredError.builder("error-x", text.toString())
+        .withAttribute(text.toString(), text.toString())
+        .withRemediatingAction(text.toString())
+        .withException(new IOException(text.toString()))
+        .build();
+
+    final var buffer = ByteBuffer.allocate(8192);
+    buffer.put((byte) 'x');
+    final var size = SJSONLinesEncoder.encodeLine(error, buffer);
+    buffer.flip();
+    buffer.get();
+
+    final var bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    assertEquals(size, bytes.length);
+    assertEquals(
+      SJSONLinesEncoder.encodeLine(error),
+      new String(bytes, StandardCharsets.UTF_8)
+    );
+  }
+
+  /**
+   * Encoding into a buffer that is too small leaves the buffer position
+   * unchanged.
+   */
+
+  @Test
+  public void testEncodeBytesOverflow()
+  {
+    final var buffer = ByteBuffer.allocate(16);
+    buffer.put((byte) 'x');
+
+    assertThrows(BufferOverflowException.class, () -> {
+      SJSONLinesEncoder.encodeLine(
+        SStructuredError.withMessageOnly("error-x", "An error."),
+        buffer
+      );
+    });
+    assertEquals(1, buffer.position());
+  }
+}
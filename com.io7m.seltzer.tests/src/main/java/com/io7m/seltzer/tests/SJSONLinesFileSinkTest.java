@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.json.SJSONLinesEncoder;
+import com.io7m.seltzer.json.SJSONLinesFileSink;
+import com.io7m.seltzer.json.SJSONLinesFileSinkConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(value = 60L, unit = TimeUnit.SECONDS)
+public final class SJSONLinesFileSinkTest
+{
+  private static final class MutableClock extends Clock
+  {
+    private volatile Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    private volatile boolean failing;
+
+    @Override
+    public ZoneId getZone()
+    {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(
+      final ZoneId zone)
+    {
+      return this;
+    }
+
+    @Override
+    public Instant instant()
+    {
+      if (this.failing) {
+        throw new IllegalStateException("Clock failed.");
+      }
+      return this.now;
+    }
+  }
+
+  private static SJSONLinesFileSinkConfiguration configuration(
+    final Path file,
+    final long maximumSize,
+    final Clock clock)
+  {
+    return new SJSONLinesFileSinkConfiguration(
+      file,
+      maximumSize,
+      Duration.ofHours(1L),
+      false,
+      128,
+      clock
+    );
+  }
+
+  /**
+   * Unchecked exceptions raised while writing a batch fail the batch, and
+   * the sink.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testUncheckedFailure(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("errors.jsonl");
+    final var clock = new MutableClock();
+
+    final var sink =
+      SJSONLinesFileSink.open(configuration(file, Long.MAX_VALUE, clock));
+
+    sink.write(SStructuredError.withMessageOnly("error-a", "A"));
+    clock.failing = true;
+
+    final var ex = assertThrows(IOException.class, () -> {
+      sink.write(SStructuredError.withMessageOnly("error-b", "B"));
+    });
+    assertTrue(ex.getCause() instanceof IllegalStateException, ex.toString());
+    assertEquals(1L, sink.lineCount());
+
+    assertThrows(IOException.class, () -> {
+      sink.write(SStructuredError.withMessageOnly("error-c", "C"));
+    });
+    assertThrows(IOException.class, sink::close);
+
+    final var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    assertEquals(1, lines.size());
+    assertTrue(lines.get(0).contains("error-a"), lines.get(0));
+  }
+
+  /**
+   * Concurrent writers are batched, and every line is written exactly once.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConcurrentWriters(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("errors.jsonl");
+    final var threads = 8;
+    final var perThread = 2_000;
+    final var start = new CountDownLatch(1);
+
+    try (var sink = SJSONLinesFileSink.open(
+      configuration(file, Long.MAX_VALUE, Clock.systemUTC()))) {
+      final var executor = Executors.newFixedThreadPool(threads);
+      try {
+        final var futures = new ArrayList<Future<?>>();
+        for (int t = 0; t < threads; ++t) {
+          final var thread = t;
+          futures.add(executor.submit(() -> {
+            start.await();
+            for (int index = 0; index < perThread; ++index) {
+              sink.write(SStructuredError.withMessageOnly(
+                "error-%d-%d".formatted(thread, index),
+                "An error with a message that is longer than one buffer? "
+                + "é".repeat(100)
+              ));
+            }
+            return null;
+          }));
+        }
+        start.countDown();
+        for (final var future : futures) {
+          future.get();
+        }
+      } finally {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+      }
+
+      assertEquals((long) threads * perThread, sink.lineCount());
+      assertTrue(sink.batchCount() <= sink.lineCount());
+    }
+
+    final var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    assertEquals(threads * perThread, lines.size());
+    assertEquals(threads * perThread, new HashSet<>(lines).size());
+    for (final var line : lines) {
+      assertTrue(line.startsWith("{\"errorCode\":\"error-"), line);
+      assertTrue(line.endsWith("}"), line);
+    }
+  }
+
+  /**
+   * Files are rotated when they become too large.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRotateSize(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("errors.jsonl");
+    try (var sink = SJSONLinesFileSink.open(
+      configuration(file, 50L, Clock.systemUTC()))) {
+      for (int index = 0; index < 4; ++index) {
+        sink.write(SStructuredError.withMessageOnly("error-x", "An error long enough to rotate."));
+      }
+    }
+
+    assertTrue(Files.isRegularFile(directory.resolve("errors.jsonl.1")));
+    assertTrue(Files.isRegularFile(directory.resolve("errors.jsonl.2")));
+    assertTrue(Files.isRegularFile(directory.resolve("errors.jsonl.3")));
+    assertFalse(Files.exists(directory.resolve("errors.jsonl.4")));
+    assertEquals(1, Files.readAllLines(file).size());
+  }
+
+  /**
+   * Files are rotated when they become too old.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRotateAge(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var clock = new MutableClock();
+    final var file = directory.resolve("errors.jsonl");
+    Files.writeString(directory.resolve("errors.jsonl.1"), "");
+
+    try (var sink = SJSONLinesFileSink.open(
+      configuration(file, Long.MAX_VALUE, clock))) {
+      sink.write(SStructuredError.withMessageOnly("error-x", "An error."));
+      sink.write(SStructuredError.withMessageOnly("error-x", "An error."));
+      clock.now = clock.now.plus(Duration.ofHours(2L));
+      sink.write(SStructuredError.withMessageOnly("error-y", "An error."));
+    }
+
+    assertEquals(2, Files.readAllLines(directory.resolve("errors.jsonl.2")).size());
+    assertEquals(1, Files.readAllLines(file).size());
+  }
+
+  /**
+   * Lines larger than the direct buffer are written intact, between lines
+   * that fit.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testLineLargerThanBuffer(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var file = directory.resolve("errors.jsonl");
+    final var large =
+      SStructuredError.withMessageOnly(
+        "error-large",
+        "é\"\n\u0001".repeat(200)
+      );
+
+    try (var sink = SJSONLinesFileSink.open(
+      configuration(file, Long.MAX_VALUE, Clock.systemUTC()))) {
+      sink.write(SStructuredError.withMessageOnly("error-a", "A"));
+      sink.write(large);
+      sink.write(SStructuredError.withMessageOnly("error-b", "B"));
+    }
+
+    assertEquals(
+      SJSONLinesEncoder.encodeLine(SStructuredError.withMessageOnly("error-a", "A"))
+      + SJSONLinesEncoder.encodeLine(large)
+      + SJSONLinesEncoder.encodeLine(SStructuredError.withMessageOnly("error-b", "B")),
+      Files.readString(file, StandardCharsets.UTF_8)
+    );
+  }
+
+  /**
+   * Closed sinks reject writes.
+   *
+   * @param directory A temporary directory
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testClosed(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final var sink =
+      SJSONLinesFileSink.open(
+        SJSONLinesFileSinkConfiguration.ofFile(directory.resolve("errors.jsonl")));
+
+    sink.close();
+    sink.close();
+
+    assertThrows(IOException.class, () -> {
+      sink.write(SStructuredError.withMessageOnly("error-x", "An error."));
+    });
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.json.SProblemDetailsRenderer;
+import com.io7m.seltzer.json.SProblemType;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SProblemDetailsRendererTest
+{
+  private static final SProblemDetailsRenderer RENDERER =
+    SProblemDetailsRenderer.builder()
+      .withProblemType(
+        "error-not-found",
+        new SProblemType(URI.create("https://example.com/not-found"), "Not Found", 404))
+      .build();
+
+  /**
+   * Errors with registered codes use their problem types.
+   */
+
+  @Test
+  public void testRegistered()
+  {
+    final var error =
+      new SStructuredError<>(
+        "error-not-found",
+        "No such file \"x\".",
+        new TreeMap<>(Map.of("File", "x", "Size", "23")),
+        Optional.of("Check the name."),
+        Optional.empty()
+      );
+
+    final var expected =
+      "{\"type\":\"https://example.com/not-found\",\"title\":\"Not Found\","
+      + "\"status\":404,\"errorCode\":\"error-not-found\","
+      + "\"detail\":\"No such file \\\"x\\\".\","
+      + "\"remediatingAction\":\"Check the name.\","
+      + "\"attributes\":{\"File\":\"x\",\"Size\":\"23\"}}";
+
+    assertEquals(404, RENDERER.status(error));
+    assertEquals(expected, new String(RENDERER.render(error), StandardCharsets.UTF_8));
+    assertEquals(expected, new String(RENDERER.render(error), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Errors with other codes use the default problem type.
+   */
+
+  @Test
+  public void testDefault()
+  {
+    final var error =
+      SStructuredError.withMessageOnly("error-other", "Héllo 😀 \uD800\u0001");
+
+    assertEquals(500, RENDERER.status(error));
+    assertEquals(
+      "{\"type\":\"about:blank\",\"title\":\"Internal Server Error\","
+      + "\"status\":500,\"errorCode\":\"error-other\","
+      + "\"detail\":\"Héllo 😀 �\\u0001\",\"attributes\":{}}",
+      new String(RENDERER.render(error), StandardCharsets.UTF_8)
+    );
+  }
+
+  /**
+   * Rendering into a direct buffer appends at the current position.
+   */
+
+  @Test
+  public void testDirectBuffer()
+  {
+    final var error =
+      SStructuredError.withMessageOnly("error-not-found", "Missing.");
+    final var expected = RENDERER.render(error);
+
+    final var buffer = ByteBuffer.allocateDirect(1024);
+    buffer.put((byte) 'x');
+    assertEquals(expected.length, RENDERER.render(error, buffer));
+    assertEquals(expected.length + 1, buffer.position());
+
+    final var bytes = new byte[expected.length];
+    buffer.flip();
+    buffer.get();
+    buffer.get(bytes);
+    assertEquals(
+      new String(expected, StandardCharsets.UTF_8),
+      new String(bytes, StandardCharsets.UTF_8)
+    );
+  }
+
+  /**
+   * Overflowing buffers are left unchanged.
+   */
+
+  @Test
+  public void testOverflow()
+  {
+    final var buffer = ByteBuffer.allocate(64);
+    buffer.put((byte) 'x');
+
+    assertThrows(BufferOverflowException.class, () -> {
+      RENDERER.render(
+        SStructuredError.withMessageOnly("error-not-found", "x".repeat(100)),
+        buffer
+      );
+    });
+    assertEquals(1, buffer.position());
+  }
+
+  /**
+   * Invalid problem types are rejected.
+   */
+
+  @Test
+  public void testInvalidStatus()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SProblemType(URI.create("about:blank"), "Bad", 99);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SProblemType(URI.create("about:blank"), "Bad", 600);
+    });
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SResultType;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorType;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SResultTypeTest
+{
+  private static final SStructuredError<String> ERROR =
+    SStructuredError.withMessageOnly("error-parse", "Not a number.");
+
+  private static SResultType<Integer, String> parse(
+    final String text)
+  {
+    try {
+      return SResultType.success(Integer.valueOf(text));
+    } catch (final NumberFormatException e) {
+      return SResultType.failure(ERROR);
+    }
+  }
+
+  /**
+   * Successful results obey the monad laws for map and flatMap.
+   *
+   * @param x An integer
+   */
+
+  @Property
+  public void testSuccess(
+    @ForAll final int x)
+  {
+    final var r = SResultType.<Integer, String>success(Integer.valueOf(x));
+    assertTrue(r.isSuccess());
+    assertEquals(Optional.of(Integer.valueOf(x)), r.value());
+    assertEquals(Optional.empty(), r.error());
+
+    assertEquals(
+      SResultType.success(Long.valueOf((long) x + 1L)),
+      r.map(v -> Long.valueOf(v.longValue() + 1L))
+    );
+    assertEquals(
+      parse(Integer.toString(x)),
+      r.flatMap(v -> parse(v.toString()))
+    );
+    assertSame(r, r.recover(e -> Integer.valueOf(0)));
+    assertEquals(Integer.valueOf(x), r.orElse(Integer.valueOf(0)));
+    assertEquals(
+      Integer.valueOf(x),
+      r.orElseThrow(e -> new IllegalStateException(e.message()))
+    );
+  }
+
+  /**
+   * Failed results propagate the original failure.
+   */
+
+  @Test
+  public void testFailure()
+  {
+    final var r = parse("x");
+    assertFalse(r.isSuccess());
+    assertEquals(Optional.empty(), r.value());
+    assertEquals(Optional.of(ERROR), r.error());
+
+    final SResultType<Long, String> m =
+      r.map(v -> Long.valueOf(v.longValue()));
+    assertSame(r, m);
+    assertSame(r, r.flatMap(v -> parse(v.toString())));
+    assertEquals(Integer.valueOf(23), r.orElse(Integer.valueOf(23)));
+    assertEquals(
+      SResultType.success(Integer.valueOf(13)),
+      r.recover(e -> Integer.valueOf(e.message().length()))
+    );
+
+    final var ex = assertThrows(IllegalStateException.class, () -> {
+      r.orElseThrow(e -> new IllegalStateException(e.errorCode()));
+    });
+    assertEquals("error-parse", ex.getMessage());
+  }
+
+  /**
+   * A flatMap that fails produces the new failure.
+   */
+
+  @Test
+  public void testFlatMapFails()
+  {
+    final SStructuredErrorType<String> e =
+      SResultType.<Integer, String>success(Integer.valueOf(1))
+        .flatMap(v -> parse("y"))
+        .error()
+        .orElseThrow();
+
+    assertEquals(ERROR, e);
+  }
+
+  /**
+   * Functions that return null are rejected with a descriptive message.
+   */
+
+  @Test
+  public void testNullResults()
+  {
+    final var ok = SResultType.<Integer, String>success(Integer.valueOf(1));
+    final var bad = parse("x");
+
+    final var e0 = assertThrows(NullPointerException.class, () -> {
+      ok.map(v -> null);
+    });
+    assertTrue(e0.getMessage().contains("map()"), e0.getMessage());
+
+    final var e1 = assertThrows(NullPointerException.class, () -> {
+      ok.flatMap(v -> null);
+    });
+    assertTrue(e1.getMessage().contains("flatMap()"), e1.getMessage());
+
+    final var e2 = assertThrows(NullPointerException.class, () -> {
+      bad.recover(e -> null);
+    });
+    assertTrue(e2.getMessage().contains("recover()"), e2.getMessage());
+  }
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.io.SClosedChannelException;
+import com.io7m.seltzer.io.SIOException;
+import com.io7m.seltzer.retry.SCircuitBreakerState;
+import com.io7m.seltzer.retry.SRetryClass;
+import com.io7m.seltzer.retry.SRetryConfiguration;
+import com.io7m.seltzer.retry.SRetryPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SRetryPolicyTest
+{
+  private static final class MutableClock extends Clock
+  {
+    private volatile Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Override
+    public ZoneId getZone()
+    {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(
+      final ZoneId zone)
+    {
+      return this;
+    }
+
+    @Override
+    public Instant instant()
+    {
+      return this.now;
+    }
+  }
+
+  private static SRetryPolicy policy(
+    final int attempts,
+    final Clock clock)
+  {
+    return SRetryPolicy.builder(
+        new SRetryConfiguration(
+          attempts,
+          Duration.ofNanos(1000L),
+          Duration.ofMillis(1L),
+          2,
+          Duration.ofSeconds(10L),
+          clock
+        ))
+      .withPrefix("error-io-", SRetryClass.RETRYABLE)
+      .withExact("error-io-closed", SRetryClass.TRIP_BREAKER)
+      .withPrefix("error-validation-", SRetryClass.NON_RETRYABLE)
+      .withUnstructured(SRetryClass.RETRYABLE)
+      .build();
+  }
+
+  private static SClosedChannelException closed()
+  {
+    return new SClosedChannelException("Closed.", new IOException(), "error-io-closed");
+  }
+
+  private static SIOException invalid()
+  {
+    return new SIOException("Invalid.", new IOException(), "error-validation-x");
+  }
+
+  /**
+   * Failures are classified by error code.
+   */
+
+  @Test
+  public void testClassify()
+  {
+    final var policy = policy(3, Clock.systemUTC());
+
+    assertEquals(SRetryClass.TRIP_BREAKER, policy.classify(closed()));
+    assertEquals(SRetryClass.NON_RETRYABLE, policy.classify(invalid()));
+    assertEquals(
+      SRetryClass.RETRYABLE,
+      policy.classify(new SIOException("Timeout.", new IOException(), "error-io-timeout"))
+    );
+    assertEquals(
+      SRetryClass.NON_RETRYABLE,
+      policy.classify(new SIOException("Other.", new IOException(), "error-other"))
+    );
+    assertEquals(SRetryClass.RETRYABLE, policy.classify(new IOException()));
+    assertEquals(
+      SRetryClass.NON_RETRYABLE,
+      policy.classify(new InterruptedException())
+    );
+  }
+
+  /**
+   * Retryable failures are retried until the operation succeeds.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testRetrySucceeds()
+    throws Exception
+  {
+    final var policy = policy(3, Clock.systemUTC());
+    final var result = policy.execute(attempt -> {
+      if (attempt < 3) {
+        throw new SIOException("Timeout.", new IOException(), "error-io-timeout");
+      }
+      return Integer.valueOf(attempt);
+    });
+
+    assertEquals(Integer.valueOf(3), result);
+    assertEquals(3L, policy.attemptCount());
+    assertEquals(2L, policy.retryCount());
+    assertEquals(0L, policy.failureCount());
+  }
+
+  /**
+   * Non-retryable failures are not retried.
+   */
+
+  @Test
+  public void testNonRetryable()
+  {
+    final var policy = policy(3, Clock.systemUTC());
+    final var error = invalid();
+    final var calls = new AtomicInteger();
+
+    final var ex = assertThrows(SIOException.class, () -> {
+      policy.execute(attempt -> {
+        calls.incrementAndGet();
+        throw error;
+      });
+    });
+
+    assertSame(error, ex);
+    assertEquals(1, calls.get());
+    assertEquals(1L, policy.failureCount());
+    assertEquals(Map.of(), policy.breakerStates());
+  }
+
+  /**
+   * Retries stop after the maximum number of attempts.
+   */
+
+  @Test
+  public void testAttemptsExhausted()
+  {
+    final var policy = policy(4, Clock.systemUTC());
+    final var calls = new AtomicInteger();
+
+    assertThrows(IOException.class, () -> {
+      policy.execute(attempt -> {
+        calls.incrementAndGet();
+        throw new IOException();
+      });
+    });
+
+    assertEquals(4, calls.get());
+    assertEquals(3L, policy.retryCount());
+    assertEquals(1L, policy.failureCount());
+  }
+
+  /**
+   * Retries of breaker-tripping failures stop once the breaker opens, and
+   * resume with a single trial once the breaker's open duration elapses.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testBreaker()
+    throws Exception
+  {
+    final var clock = new MutableClock();
+    final var policy = policy(10, clock);
+    final var calls = new AtomicInteger();
+
+    assertThrows(SClosedChannelException.class, () -> {
+      policy.execute(attempt -> {
+        calls.incrementAndGet();
+        throw closed();
+      });
+    });
+
+    assertEquals(2, calls.get());
+    assertEquals(1L, policy.rejectedRetryCount());
+    assertEquals(
+      Map.of("error-io-closed", SCircuitBreakerState.OPEN),
+      policy.breakerStates()
+    );
+
+    calls.set(0);
+    assertThrows(SClosedChannelException.class, () -> {
+      policy.execute(attempt -> {
+        calls.incrementAndGet();
+        throw closed();
+      });
+    });
+    assertEquals(1, calls.get());
+
+    clock.now = clock.now.plusSeconds(10L);
+    final var result = policy.execute(attempt -> {
+      if (attempt == 1) {
+        throw closed();
+      }
+      return "OK";
+    });
+
+    assertEquals("OK", result);
+    assertEquals(
+      Map.of("error-io-closed", SCircuitBreakerState.CLOSED),
+      policy.breakerStates()
+    );
+    assertEquals(1L, policy.breaker("error-io-closed").orElseThrow().tripCount());
+  }
+
+  /**
+   * A trial retry that fails for an unrelated reason reopens the breaker.
+   */
+
+  @Test
+  public void testBreakerTrialAbandoned()
+  {
+    final var clock = new MutableClock();
+    final var policy = policy(10, clock);
+
+    assertThrows(SClosedChannelException.class, () -> {
+      policy.execute(attempt -> {
+        throw closed();
+      });
+    });
+
+    clock.now = clock.now.plusSeconds(10L);
+    assertThrows(SIOException.class, () -> {
+      policy.execute(attempt -> {
+        if (attempt == 1) {
+          throw closed();
+        }
+        throw invalid();
+      });
+    });
+
+    assertEquals(
+      Map.of("error-io-closed", SCircuitBreakerState.OPEN),
+      policy.breakerStates()
+    );
+  }
+
+  private static SRetryPolicy trialPolicy(
+    final Duration delay,
+    final MutableClock clock)
+    throws Exception
+  {
+    final var policy =
+      SRetryPolicy.builder(
+          new SRetryConfiguration(10, delay, delay, 1, Duration.ofSeconds(10L), clock))
+        .withExact("error-io-closed", SRetryClass.TRIP_BREAKER)
+        .build();
+
+    assertThrows(SClosedChannelException.class, () -> {
+      policy.execute(attempt -> {
+        throw closed();
+      });
+    });
+
+    clock.now = clock.now.plusSeconds(10L);
+    return policy;
+  }
+
+  /**
+   * A trial retry interrupted during its backoff reopens the breaker rather
+   * than leaving it half-open.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testBreakerTrialInterrupted()
+    throws Exception
+  {
+    final var clock = new MutableClock();
+    final var policy = trialPolicy(Duration.ofHours(1L), clock);
+
+    try {
+      final var ex = assertThrows(InterruptedException.class, () -> {
+        policy.execute(attempt -> {
+          Thread.currentThread().interrupt();
+          throw closed();
+        });
+      });
+      assertSame(
+        SClosedChannelException.class,
+        ex.getSuppressed()[0].getClass()
+      );
+    } finally {
+      Thread.interrupted();
+    }
+
+    assertEquals(
+      Map.of("error-io-closed", SCircuitBreakerState.OPEN),
+      policy.breakerStates()
+    );
+
+    clock.now = clock.now.plusSeconds(10L);
+    assertTrue(policy.breaker("error-io-closed").orElseThrow().tryAcquire());
+  }
+
+  /**
+   * A trial retry ended by an error raised by the operation reopens the
+   * breaker rather than leaving it half-open.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testBreakerTrialError()
+    throws Exception
+  {
+    final var clock = new MutableClock();
+    final var policy = trialPolicy(Duration.ofNanos(1000L), clock);
+
+    assertThrows(OutOfMemoryError.class, () -> {
+      policy.execute(attempt -> {
+        if (attempt == 1) {
+          throw closed();
+        }
+        throw new OutOfMemoryError("Simulated.");
+      });
+    });
+
+    assertEquals(
+      Map.of("error-io-closed", SCircuitBreakerState.OPEN),
+      policy.breakerStates()
+    );
+
+    clock.now = clock.now.plusSeconds(10L);
+    assertTrue(policy.breaker("error-io-closed").orElseThrow().tryAcquire());
+  }
+
+  /**
+   * Delays are bounded by exponentially increasing limits.
+   */
+
+  @Test
+  public void testDelays()
+  {
+    final var policy =
+      SRetryPolicy.builder(
+        new SRetryConfiguration(
+          100,
+          Duration.ofMillis(100L),
+          Duration.ofSeconds(1L),
+          1,
+          Duration.ofSeconds(1L),
+          Clock.systemUTC()
+        )).build();
+
+    for (int index = 0; index < 1000; ++index) {
+      assertTrue(policy.delayFor(1).compareTo(Duration.ofMillis(100L)) <= 0);
+      assertTrue(policy.delayFor(2).compareTo(Duration.ofMillis(200L)) <= 0);
+      assertTrue(policy.delayFor(100).compareTo(Duration.ofSeconds(1L)) <= 0);
+      assertTrue(!policy.delayFor(100).isNegative());
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> policy.delayFor(0));
+  }
+
+  /**
+   * Invalid configurations and duplicate rules are rejected.
+   */
+
+  @Test
+  public void testInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SRetryConfiguration(
+        0, Duration.ZERO, Duration.ZERO, 1, Duration.ofSeconds(1L), Clock.systemUTC());
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SRetryConfiguration(
+        1, Duration.ofSeconds(2L), Duration.ofSeconds(1L), 1, Duration.ofSeconds(1L), Clock.systemUTC());
+    });
+
+    final var builder =
+      SRetryPolicy.builder(SRetryConfiguration.ofDefaults())
+        .withPrefix("error-", SRetryClass.RETRYABLE);
+    assertThrows(IllegalArgumentException.class, () -> {
+      builder.withPrefix("error-", SRetryClass.NON_RETRYABLE);
+    });
+  }
+}
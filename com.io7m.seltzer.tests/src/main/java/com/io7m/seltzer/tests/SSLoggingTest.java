@@ -17,9 +17,13 @@
 
 package com.io7m.seltzer.tests;
 
+import com.io7m.seltzer.api.SErrorId;
+import com.io7m.seltzer.api.SErrorIds;
 import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.io.SIOException;
 import com.io7m.seltzer.slf4j.SSLogging;
 import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.slf4j.Marker;
 import org.slf4j.event.Level;
@@ -32,6 +36,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public final class SSLoggingTest
@@ -323,4 +328,62 @@ public final class SSLoggingTest
           });
       });
   }
+
+  /**
+   * Errors caused by identified errors are linked to them.
+   */
+
+  @Test
+  public void testParentErrorId()
+  {
+    final var logger = new CapturingLogger();
+
+    final var cause =
+      new SIOException(
+        "Printer on fire.",
+        new IOException(),
+        "error-io",
+        SErrorIds.identify(Map.of())
+      );
+    final var causeId =
+      SErrorIds.idOfException(cause).orElseThrow();
+
+    final var error =
+      SStructuredError.builder("error-wrapped", "A message.")
+        .withErrorId()
+        .withException(cause)
+        .build();
+
+    SSLogging.logMDC(logger, Level.ERROR, error);
+    final var event = logger.events.remove();
+    assertTrue(
+      event.messagePattern.contains("ParentErrorId=" + causeId),
+      event.messagePattern
+    );
+    assertTrue(
+      event.messagePattern.contains(
+        "ErrorId=" + SErrorIds.idOf(error).orElseThrow()),
+      event.messagePattern
+    );
+
+    final var explicit = SErrorId.generate();
+    SSLogging.logMDC(
+      logger,
+      Level.ERROR,
+      SStructuredError.builder("error-wrapped", "A message.")
+        .withParentErrorId(explicit)
+        .withException(cause)
+        .build()
+    );
+
+    final var explicitEvent = logger.events.remove();
+    assertTrue(
+      explicitEvent.messagePattern.contains("ParentErrorId=" + explicit),
+      explicitEvent.messagePattern
+    );
+    assertFalse(
+      explicitEvent.messagePattern.contains(causeId.toString()),
+      explicitEvent.messagePattern
+    );
+  }
 }
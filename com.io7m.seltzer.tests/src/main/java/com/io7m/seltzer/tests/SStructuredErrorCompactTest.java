@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorCompact;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SStructuredErrorCompactTest
+{
+  @Provide
+  Arbitrary<Throwable> throwables()
+  {
+    return Arbitraries.strings()
+      .map(IllegalStateException::new);
+  }
+
+  /**
+   * Compact errors built with builders match record errors.
+   *
+   * @param errorCode  The error code
+   * @param message    A message
+   * @param action     An action
+   * @param attributes A set of attributes
+   * @param exception  An exception
+   */
+
+  @Property
+  public void testBuilderCompact(
+    final @ForAll String errorCode,
+    final @ForAll String message,
+    final @ForAll String action,
+    final @ForAll Map<String, String> attributes,
+    final @ForAll("throwables") Throwable exception)
+  {
+    final var builder =
+      SStructuredError.builder(errorCode, message)
+        .withAttributes(attributes)
+        .withRemediatingAction(action)
+        .withException(exception);
+
+    final var compact = builder.buildCompact();
+    final var record = builder.build();
+
+    assertEquals(errorCode, compact.errorCode());
+    assertEquals(message, compact.message());
+    assertEquals(attributes, compact.attributes());
+    assertEquals(Optional.of(action), compact.remediatingAction());
+    assertEquals(Optional.of(exception), compact.exception());
+    assertEquals(record, compact.toRecord());
+    assertEquals(compact, SStructuredErrorCompact.of(record));
+    assertEquals(compact.hashCode(), SStructuredErrorCompact.of(record).hashCode());
+  }
+
+  /**
+   * Absent values are exposed as empty optionals.
+   */
+
+  @Test
+  public void testAbsent()
+  {
+    final var compact =
+      SStructuredError.builder("error-x", "An error.")
+        .buildCompact();
+
+    assertEquals(Optional.empty(), compact.remediatingAction());
+    assertEquals(Optional.empty(), compact.exception());
+    assertEquals(
+      SStructuredError.withMessageOnly("error-x", "An error."),
+      compact.toRecord()
+    );
+    assertTrue(compact.toString().contains("error-x"));
+  }
+
+  /**
+   * Nullable constructors receive nulls for absent values.
+   */
+
+  @Test
+  public void testBuildNullable()
+  {
+    final var exception = new IOException("Broken");
+
+    final var built =
+      SStructuredError.builder("error-x", "An error.")
+        .withException(exception)
+        .buildNullable((code, message, attributes, action, ex) -> {
+          return new Object[]{action, ex};
+        });
+
+    assertEquals(null, built[0]);
+    assertSame(exception, built[1]);
+  }
+
+  /**
+   * Compact errors are not equal to errors with different fields.
+   */
+
+  @Test
+  public void testEquality()
+  {
+    final var compact0 =
+      new SStructuredErrorCompact<>("error-x", "An error.", Map.of(), null, null);
+    final var compact1 =
+      new SStructuredErrorCompact<>("error-x", "An error.", Map.of(), "Fix.", null);
+
+    assertEquals(compact0, compact0);
+    assertNotEquals(compact0, compact1);
+    assertNotEquals(compact0, compact0.toRecord());
+    assertSame(compact1, SStructuredErrorCompact.of(compact1));
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorCompact;
+import com.io7m.seltzer.api.SStructuredErrorFingerprint;
+import com.io7m.seltzer.api.SStructuredErrorFingerprinter;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SStructuredErrorFingerprinterTest
+{
+  private static SStructuredError<String> error(
+    final String message,
+    final Map<String, String> attributes,
+    final Optional<Throwable> exception)
+  {
+    return new SStructuredError<>(
+      "error-x",
+      message,
+      attributes,
+      Optional.empty(),
+      exception
+    );
+  }
+
+  /**
+   * Fingerprints ignore exceptions and attribute ordering.
+   *
+   * @param message    A message
+   * @param attributes A set of attributes
+   */
+
+  @Property
+  public void testIgnoresExceptionsAndOrder(
+    final @ForAll String message,
+    final @ForAll Map<String, String> attributes)
+  {
+    final var f = SStructuredErrorFingerprinter.standard();
+
+    final var e0 =
+      error(message, new TreeMap<>(attributes), Optional.empty());
+    final var e1 =
+      error(message, new LinkedHashMap<>(attributes), Optional.of(new IOException()));
+
+    assertEquals(f.fingerprint(e0), f.fingerprint(e1));
+  }
+
+  @Test
+  public void testStable()
+  {
+    final var f = SStructuredErrorFingerprinter.standard();
+    final var e =
+      error("Hello.", Map.of("a", "x", "b", "y"), Optional.empty());
+
+    assertEquals(
+      new SStructuredErrorFingerprint(0x70369b42d2d1c67cL),
+      f.fingerprint(e)
+    );
+  }
+
+  @Test
+  public void testAttributeValues()
+  {
+    final var e0 =
+      error("Hello.", Map.of("a", "x", "b", "y"), Optional.empty());
+    final var e1 =
+      error("Hello.", Map.of("a", "x", "b", "z"), Optional.empty());
+    final var e2 =
+      error("Hello.", Map.of("a", "w", "b", "y"), Optional.empty());
+
+    final var standard = SStructuredErrorFingerprinter.standard();
+    assertEquals(standard.fingerprint(e0), standard.fingerprint(e1));
+
+    final var selected =
+      SStructuredErrorFingerprinter.builder()
+        .withAttributeValue("b")
+        .build();
+
+    assertNotEquals(selected.fingerprint(e0), selected.fingerprint(e1));
+    assertEquals(selected.fingerprint(e0), selected.fingerprint(e2));
+  }
+
+  @Test
+  public void testMessages()
+  {
+    final var e0 =
+      error("Hello.", Map.of(), Optional.empty());
+    final var e1 =
+      error("Goodbye.", Map.of(), Optional.empty());
+
+    final var standard = SStructuredErrorFingerprinter.standard();
+    assertNotEquals(standard.fingerprint(e0), standard.fingerprint(e1));
+
+    final var noMessage =
+      SStructuredErrorFingerprinter.builder()
+        .withMessageIncluded(false)
+        .build();
+
+    assertEquals(noMessage.fingerprint(e0), noMessage.fingerprint(e1));
+  }
+
+  @Test
+  public void testSeeds()
+  {
+    final var e =
+      error("Hello.", Map.of(), Optional.empty());
+
+    final var f0 =
+      SStructuredErrorFingerprinter.builder().withSeed(1L).build();
+    final var f1 =
+      SStructuredErrorFingerprinter.builder().withSeed(2L).build();
+
+    assertNotEquals(f0.fingerprint(e), f1.fingerprint(e));
+  }
+
+  @Test
+  public void testCodes()
+  {
+    final var f = SStructuredErrorFingerprinter.standard();
+    assertNotEquals(
+      f.fingerprint(SStructuredError.withMessageOnly("error-a", "x")),
+      f.fingerprint(SStructuredError.withMessageOnly("error-b", "x"))
+    );
+    assertEquals(
+      16,
+      f.fingerprint(SStructuredError.withMessageOnly("error-a", "x"))
+        .toString()
+        .length()
+    );
+  }
+
+  /**
+   * Fingerprints of compact errors are computed once per fingerprinter and
+   * cached.
+   */
+
+  @Test
+  public void testCompactCached()
+  {
+    final var record =
+      error("A", Map.of("x", "y"), Optional.empty());
+    final var compact =
+      SStructuredErrorCompact.of(record);
+
+    final var f0 =
+      SStructuredErrorFingerprinter.standard();
+    final var f1 =
+      SStructuredErrorFingerprinter.builder()
+        .withSeed(23L)
+        .build();
+
+    final var a = f0.fingerprint(compact);
+    assertEquals(f0.fingerprint(record), a);
+    assertSame(a, f0.fingerprint(compact));
+    assertEquals(a.value(), f0.fingerprintValue(compact));
+
+    final var b = f1.fingerprint(compact);
+    assertEquals(f1.fingerprint(record), b);
+    assertNotEquals(a, b);
+    assertSame(b, f1.fingerprint(compact));
+
+    assertEquals(a, f0.fingerprint(compact));
+    assertNotSame(a, f0.fingerprint(record));
+  }
+
+  /**
+   * Excluded attributes do not affect fingerprints, and excluding nothing
+   * leaves fingerprints unchanged.
+   */
+
+  @Test
+  public void testExcluded()
+  {
+    final var f0 =
+      SStructuredErrorFingerprinter.builder()
+        .withAllAttributeValues()
+        .build();
+    final var f1 =
+      SStructuredErrorFingerprinter.builder()
+        .withAllAttributeValues()
+        .withExcludedAttribute("y")
+        .build();
+
+    final var a = error("A", Map.of("x", "1"), Optional.empty());
+    final var b = error("A", Map.of("x", "1", "y", "2"), Optional.empty());
+    final var c = error("A", Map.of("x", "1", "y", "3"), Optional.empty());
+
+    assertEquals(f0.fingerprint(a), f1.fingerprint(a));
+    assertEquals(f1.fingerprint(a), f1.fingerprint(b));
+    assertEquals(f1.fingerprint(b), f1.fingerprint(c));
+    assertNotEquals(f0.fingerprint(b), f0.fingerprint(c));
+    assertTrue(f1.isAttributeExcluded("y"));
+    assertFalse(f1.isAttributeExcluded("x"));
+  }
+}
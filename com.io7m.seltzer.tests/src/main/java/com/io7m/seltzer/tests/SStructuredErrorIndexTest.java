@@ -0,0 +1,301 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorType;
+import com.io7m.seltzer.store.SStructuredErrorIndex;
+import com.io7m.seltzer.store.SStructuredErrorQuery;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SStructuredErrorIndexTest
+{
+  private static final String MAGIC_FIELD_OFFSET = "jol.magicFieldOffset";
+
+  private static String savedMagicFieldOffset;
+
+  @BeforeAll
+  public static void setup()
+  {
+    /*
+     * JOL cannot obtain field offsets for record classes without this.
+     */
+
+    savedMagicFieldOffset = System.setProperty(MAGIC_FIELD_OFFSET, "true");
+  }
+
+  @AfterAll
+  public static void tearDown()
+  {
+    if (savedMagicFieldOffset == null) {
+      System.clearProperty(MAGIC_FIELD_OFFSET);
+    } else {
+      System.setProperty(MAGIC_FIELD_OFFSET, savedMagicFieldOffset);
+    }
+  }
+
+  private static SStructuredErrorType<String> error(
+    final int index)
+  {
+    final var attributes = new HashMap<String, String>();
+    attributes.put("Host", "host-" + (index % 7));
+    if (index % 3 == 0) {
+      attributes.put("File", "/tmp/" + (index % 5));
+    }
+
+    return new SStructuredError<>(
+      "error-" + ((index % 2 == 0) ? "io-" : "net-") + (index % 11),
+      "Error " + index,
+      attributes,
+      Optional.empty(),
+      Optional.empty()
+    );
+  }
+
+  private static void checkAgainstScan(
+    final SStructuredErrorIndex index,
+    final List<SStructuredErrorType<?>> errors,
+    final SStructuredErrorQuery query,
+    final Predicate<SStructuredErrorType<?>> predicate)
+  {
+    final var expected =
+      errors.stream()
+        .filter(predicate)
+        .toList();
+
+    assertEquals(expected.size(), index.count(query));
+    assertEquals(
+      expected.subList(0, Math.min(10, expected.size())),
+      index.find(query, 10)
+    );
+    assertEquals(
+      expected.stream()
+        .collect(Collectors.groupingBy(
+          e -> e.errorCode().toString(),
+          Collectors.counting()
+        )),
+      index.countByCode(query)
+    );
+    assertEquals(
+      expected.stream()
+        .collect(Collectors.groupingBy(
+          e -> e.attributes().get("Host"),
+          Collectors.counting()
+        )),
+      index.countByAttribute(query, "Host")
+    );
+  }
+
+  /**
+   * Queries agree with a linear scan.
+   *
+   * @param count The number of errors
+   */
+
+  @Property(tries = 50)
+  public void testQueriesMatchScan(
+    @ForAll @IntRange(min = 0, max = 5000) final int count)
+  {
+    final var index = SStructuredErrorIndex.create();
+    final var errors = new ArrayList<SStructuredErrorType<?>>();
+    for (int i = 0; i < count; ++i) {
+      final var e = error(i);
+      errors.add(e);
+      assertEquals(i, index.add(e));
+    }
+
+    checkAgainstScan(index, errors, SStructuredErrorQuery.all(), e -> true);
+
+    checkAgainstScan(
+      index,
+      errors,
+      SStructuredErrorQuery.builder()
+        .withCode("error-io-4")
+        .withCode("error-net-3")
+        .build(),
+      e -> e.errorCode().equals("error-io-4")
+        || e.errorCode().equals("error-net-3")
+    );
+
+    checkAgainstScan(
+      index,
+      errors,
+      SStructuredErrorQuery.builder()
+        .withCodePrefix("error-io-")
+        .withAttributePresent("File")
+        .build(),
+      e -> e.errorCode().toString().startsWith("error-io-")
+        && e.attributes().containsKey("File")
+    );
+
+    checkAgainstScan(
+      index,
+      errors,
+      SStructuredErrorQuery.builder()
+        .withAttribute("Host", "host-2")
+        .withAttribute("File", "/tmp/1")
+        .build(),
+      e -> "host-2".equals(e.attributes().get("Host"))
+        && "/tmp/1".equals(e.attributes().get("File"))
+    );
+
+    checkAgainstScan(
+      index,
+      errors,
+      SStructuredErrorQuery.builder()
+        .withAttribute("Host", "nonexistent")
+        .build(),
+      e -> false
+    );
+  }
+
+  /**
+   * Removed errors no longer match queries.
+   *
+   * @param removals The identifiers to remove
+   */
+
+  @Property(tries = 50)
+  public void testRemove(
+    @ForAll @Size(max = 200) final List<@IntRange(min = 0, max = 999) Integer> removals)
+  {
+    final var index = SStructuredErrorIndex.create();
+    final var errors = new ArrayList<SStructuredErrorType<?>>();
+    for (int i = 0; i < 1000; ++i) {
+      final var e = error(i);
+      errors.add(e);
+      index.add(e);
+    }
+
+    for (final var id : removals) {
+      index.remove(id.intValue());
+      index.remove(id.intValue());
+      errors.set(id.intValue(), null);
+      assertEquals(Optional.empty(), index.get(id.intValue()));
+    }
+
+    final var remaining =
+      errors.stream()
+        .filter(e -> e != null)
+        .toList();
+
+    checkAgainstScan(index, remaining, SStructuredErrorQuery.all(), e -> true);
+    checkAgainstScan(
+      index,
+      remaining,
+      SStructuredErrorQuery.builder()
+        .withCodePrefix("error-net")
+        .build(),
+      e -> e.errorCode().toString().startsWith("error-net")
+    );
+  }
+
+  /**
+   * Large indexes with dense bitmaps produce correct grouped counts.
+   */
+
+  @Test
+  public void testLarge()
+  {
+    final var index = SStructuredErrorIndex.create();
+    final var errors = new ArrayList<SStructuredErrorType<?>>();
+    for (int i = 0; i < 300_000; ++i) {
+      final var e = error(i);
+      errors.add(e);
+      index.add(e);
+    }
+
+    assertEquals(300_000L, index.size());
+    checkAgainstScan(index, errors, SStructuredErrorQuery.all(), e -> true);
+    checkAgainstScan(
+      index,
+      errors,
+      SStructuredErrorQuery.builder()
+        .withCodePrefix("error-io-")
+        .withAttribute("Host", "host-1")
+        .build(),
+      e -> e.errorCode().toString().startsWith("error-io-")
+        && "host-1".equals(e.attributes().get("Host"))
+    );
+    assertEquals(Map.of(), index.countByAttribute(SStructuredErrorQuery.all(), "Nope"));
+  }
+
+  /**
+   * Removed identifiers are reused, so an index that holds a bounded number
+   * of errors at any one time uses bounded memory, however many errors pass
+   * through it.
+   */
+
+  @Test
+  public void testBoundedMemory()
+  {
+    final var window = 1000;
+    final var index = SStructuredErrorIndex.create();
+    final var ids = new int[window];
+
+    var added = 0;
+    for (; added < 2 * window; ++added) {
+      if (added >= window) {
+        index.remove(ids[added % window]);
+      }
+      ids[added % window] = index.add(error(added % window));
+    }
+    final var before = GraphLayout.parseInstance(index).totalSize();
+
+    for (; added < 100 * window; ++added) {
+      index.remove(ids[added % window]);
+      final var id = index.add(error(added % window));
+      assertTrue(id < window, "Identifier " + id + " must be reused");
+      ids[added % window] = id;
+    }
+    final var after = GraphLayout.parseInstance(index).totalSize();
+
+    System.out.printf(
+      "footprint: SStructuredErrorIndex window=%d before=%d after=%d%n",
+      Integer.valueOf(window),
+      Long.valueOf(before),
+      Long.valueOf(after)
+    );
+
+    assertEquals(window, index.size());
+    assertTrue(
+      after <= before,
+      "Retained size %d must not exceed %d".formatted(
+        Long.valueOf(after), Long.valueOf(before))
+    );
+  }
+}
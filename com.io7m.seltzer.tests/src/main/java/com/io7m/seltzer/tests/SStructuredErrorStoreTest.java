@@ -0,0 +1,561 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SErrorIds;
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.api.SStructuredErrorFingerprinter;
+import com.io7m.seltzer.store.SStructuredErrorIndex;
+import com.io7m.seltzer.store.SStructuredErrorQuery;
+import com.io7m.seltzer.store.SStructuredErrorStore;
+import com.io7m.seltzer.store.SStructuredErrorStoreConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SStructuredErrorStoreTest
+{
+  private static SStructuredError<String> error(
+    final String code,
+    final String message)
+  {
+    return new SStructuredError<>(
+      code,
+      message,
+      Map.of(),
+      Optional.empty(),
+      Optional.empty()
+    );
+  }
+
+  private static SStructuredErrorStore store(
+    final int entries,
+    final long bytes,
+    final Duration age,
+    final Clock clock)
+  {
+    return SStructuredErrorStore.create(
+      new SStructuredErrorStoreConfiguration(
+        entries,
+        bytes,
+        age,
+        clock,
+        SStructuredErrorFingerprinter.standard()
+      )
+    );
+  }
+
+  /**
+   * Identical errors are counted rather than stored twice.
+   */
+
+  @Test
+  public void testDuplicatesCounted()
+  {
+    final var clock = new MutableClock();
+    final var store = store(8, Long.MAX_VALUE, Duration.ofHours(1L), clock);
+
+    store.record(error("error-a", "A"));
+    clock.advance(10L);
+    store.record(error("error-a", "A"));
+    clock.advance(10L);
+    store.record(error("error-a", "A"));
+
+    final var entries = store.snapshot();
+    assertEquals(1, entries.size());
+
+    final var entry = entries.get(0);
+    assertEquals(3L, entry.occurrences());
+    assertEquals(Instant.ofEpochMilli(0L), entry.firstSeen());
+    assertEquals(Instant.ofEpochMilli(20L), entry.lastSeen());
+  }
+
+  /**
+   * Errors that differ only in attribute values are not merged by the
+   * default configuration.
+   */
+
+  @Test
+  public void testDefaultIncludesValues()
+  {
+    final var store =
+      SStructuredErrorStore.create(
+        SStructuredErrorStoreConfiguration.ofEntries(8));
+
+    final var e0 =
+      new SStructuredError<>(
+        "error-io", "I/O error.", Map.of("File", "/a"),
+        Optional.empty(), Optional.empty());
+    final var e1 =
+      new SStructuredError<>(
+        "error-io", "I/O error.", Map.of("File", "/b"),
+        Optional.empty(), Optional.empty());
+
+    store.record(e0);
+    store.record(e1);
+    store.record(e1);
+
+    final var entries = store.snapshot();
+    assertEquals(2, entries.size());
+    assertEquals(2L, entries.get(0).occurrences());
+    assertEquals(e1, entries.get(0).error());
+    assertEquals(1L, entries.get(1).occurrences());
+    assertEquals(e0, entries.get(1).error());
+  }
+
+  /**
+   * Errors that differ only in the identifiers added by SErrorIds are
+   * counted as duplicates by the default configuration, and the first
+   * occurrence is retained.
+   */
+
+  @Test
+  public void testIdentifiedDuplicatesCounted()
+  {
+    final var store =
+      SStructuredErrorStore.create(
+        SStructuredErrorStoreConfiguration.ofEntries(8));
+
+    final var e0 =
+      SStructuredError.builder("error-io", "I/O error.")
+        .withAttribute("File", "/a")
+        .withErrorId()
+        .build();
+    final var e1 =
+      SStructuredError.builder("error-io", "I/O error.")
+        .withAttribute("File", "/a")
+        .withErrorId()
+        .withParentErrorId(SErrorIds.idOf(e0).orElseThrow())
+        .build();
+    final var e2 =
+      SStructuredError.builder("error-io", "I/O error.")
+        .withAttribute("File", "/b")
+        .withErrorId()
+        .build();
+
+    assertNotEquals(e0.attributes(), e1.attributes());
+    assertEquals(store.record(e0), store.record(e1));
+    store.record(e2);
+
+    final var entries = store.snapshot();
+    assertEquals(2, entries.size());
+    assertEquals(e2, entries.get(0).error());
+    assertEquals(1L, entries.get(0).occurrences());
+    assertEquals(e0, entries.get(1).error());
+    assertEquals(2L, entries.get(1).occurrences());
+  }
+
+  /**
+   * Errors with equal fingerprints that are not identical are stored
+   * separately.
+   */
+
+  @Test
+  public void testCollisionsNotMerged()
+  {
+    final var clock = new MutableClock();
+    final var fingerprinter =
+      SStructuredErrorFingerprinter.builder()
+        .withMessageIncluded(false)
+        .build();
+    final var store =
+      SStructuredErrorStore.create(
+        new SStructuredErrorStoreConfiguration(
+          8,
+          Long.MAX_VALUE,
+          Duration.ofHours(1L),
+          clock,
+          fingerprinter
+        )
+      );
+
+    final var f0 = store.record(error("error-a", "A"));
+    clock.advance(1L);
+    final var f1 = store.record(error("error-a", "B"));
+    clock.advance(1L);
+    store.record(error("error-a", "A"));
+    assertEquals(f0, f1);
+
+    final var entries = store.snapshot();
+    assertEquals(2, entries.size());
+    assertEquals("A", entries.get(0).error().message());
+    assertEquals(2L, entries.get(0).occurrences());
+    assertEquals("B", entries.get(1).error().message());
+    assertEquals(1L, entries.get(1).occurrences());
+  }
+
+  /**
+   * The ring retains only the most recent errors.
+   */
+
+  @Test
+  public void testRingEvicts()
+  {
+    final var clock = new MutableClock();
+    final var store = store(3, Long.MAX_VALUE, Duration.ofHours(1L), clock);
+
+    for (int index = 0; index < 10; ++index) {
+      clock.advance(1L);
+      store.record(error("error-a", "A" + index));
+    }
+
+    final var entries = store.snapshot();
+    assertEquals(3, entries.size());
+    assertEquals("A9", entries.get(0).error().message());
+    assertEquals("A8", entries.get(1).error().message());
+    assertEquals("A7", entries.get(2).error().message());
+  }
+
+  /**
+   * An attached index holds exactly the retained errors.
+   */
+
+  @Test
+  public void testIndexFollowsEviction()
+  {
+    final var clock = new MutableClock();
+    final var index = SStructuredErrorIndex.create();
+    final var store =
+      SStructuredErrorStore.create(
+        new SStructuredErrorStoreConfiguration(
+          3,
+          Long.MAX_VALUE,
+          Duration.ofMillis(100L),
+          clock,
+          SStructuredErrorFingerprinter.standard()
+        ),
+        index
+      );
+
+    assertEquals(Optional.of(index), store.index());
+
+    for (int i = 0; i < 1000; ++i) {
+      clock.advance(1L);
+      store.record(error("error-" + (i % 2), "A" + i));
+      store.record(error("error-" + (i % 2), "A" + i));
+    }
+
+    assertEquals(3L, index.size());
+    assertEquals(
+      Map.of("error-0", Long.valueOf(1L), "error-1", Long.valueOf(2L)),
+      index.countByCode(SStructuredErrorQuery.all())
+    );
+    assertEquals(
+      store.snapshot()
+        .stream()
+        .map(e -> e.error().message())
+        .sorted()
+        .toList(),
+      index.find(SStructuredErrorQuery.all(), 10)
+        .stream()
+        .map(e -> e.message())
+        .sorted()
+        .toList()
+    );
+
+    clock.advance(1000L);
+    store.evictExpired();
+    assertEquals(0L, index.size());
+  }
+
+  /**
+   * An evicted error is stored again when it recurs.
+   */
+
+  @Test
+  public void testEvictedRecurs()
+  {
+    final var clock = new MutableClock();
+    final var store = store(2, Long.MAX_VALUE, Duration.ofHours(1L), clock);
+
+    store.record(error("error-a", "A"));
+    store.record(error("error-b", "B"));
+    store.record(error("error-c", "C"));
+    store.record(error("error-a", "A"));
+
+    final var entries = store.snapshot();
+    assertEquals(2, entries.size());
+    assertTrue(
+      entries.stream()
+        .anyMatch(e -> e.error().message().equals("A") && e.occurrences() == 1L)
+    );
+  }
+
+  /**
+   * The byte budget evicts the oldest errors.
+   */
+
+  @Test
+  public void testBytesEvict()
+  {
+    final var clock = new MutableClock();
+    final var store = store(100, 1000L, Duration.ofHours(1L), clock);
+
+    for (int index = 0; index < 50; ++index) {
+      clock.advance(1L);
+      store.record(error("error-a", "A" + index));
+    }
+
+    assertTrue(store.estimatedBytes() <= 1000L);
+
+    final var entries = store.snapshot();
+    assertTrue(entries.size() < 50);
+    assertTrue(!entries.isEmpty());
+    assertEquals("A49", entries.get(0).error().message());
+  }
+
+  /**
+   * Errors not seen within the maximum age are evicted.
+   */
+
+  @Test
+  public void testAgeEvicts()
+  {
+    final var clock = new MutableClock();
+    final var store = store(8, Long.MAX_VALUE, Duration.ofMillis(100L), clock);
+
+    store.record(error("error-a", "A"));
+    clock.advance(50L);
+    store.record(error("error-b", "B"));
+    clock.advance(60L);
+
+    final var entries = store.snapshot();
+    assertEquals(1, entries.size());
+    assertEquals("B", entries.get(0).error().message());
+
+    clock.advance(100L);
+    store.evictExpired();
+    assertEquals(0, store.snapshot().size());
+    assertEquals(0L, store.estimatedBytes());
+  }
+
+  /**
+   * Last-seen times are kept per code while errors with the code are
+   * retained.
+   */
+
+  @Test
+  public void testLastSeenByCode()
+  {
+    final var clock = new MutableClock();
+    final var store = store(1, Long.MAX_VALUE, Duration.ofHours(1L), clock);
+
+    store.record(error("error-a", "A"));
+    clock.advance(5L);
+    store.record(error("error-b", "B"));
+    clock.advance(5L);
+    store.record(error("error-b", "C"));
+
+    assertEquals(Optional.empty(), store.lastSeen("error-a"));
+    assertEquals(Optional.of(Instant.ofEpochMilli(10L)), store.lastSeen("error-b"));
+    assertEquals(Optional.empty(), store.lastSeen("error-c"));
+    assertEquals(1, store.lastSeenByCode().size());
+  }
+
+  /**
+   * Concurrent writers lose no occurrences of retained errors.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConcurrentWriters()
+    throws Exception
+  {
+    final var store =
+      store(16, Long.MAX_VALUE, Duration.ofHours(1L), Clock.systemUTC());
+    final var executor =
+      Executors.newFixedThreadPool(4);
+
+    try {
+      final var futures = new ArrayList<Future<?>>();
+      for (int thread = 0; thread < 4; ++thread) {
+        futures.add(executor.submit(() -> {
+          for (int index = 0; index < 10_000; ++index) {
+            store.record(error("error-a", "A" + (index % 8)));
+            store.snapshot();
+          }
+        }));
+      }
+      for (final var future : futures) {
+        future.get(30L, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    final var entries = store.snapshot();
+    assertEquals(8, entries.size());
+    assertEquals(
+      40_000L,
+      entries.stream().mapToLong(e -> e.occurrences()).sum()
+    );
+  }
+
+  /**
+   * Concurrent writers evicting each other's errors, with an index being
+   * queried at the same time, leave the byte count, the index, and the
+   * last-seen times consistent with the retained errors.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testConcurrentEviction()
+    throws Exception
+  {
+    final var clock = new MutableClock();
+    final var index = SStructuredErrorIndex.create();
+    final var store =
+      SStructuredErrorStore.create(
+        new SStructuredErrorStoreConfiguration(
+          4,
+          300L,
+          Duration.ofMillis(100L),
+          clock,
+          SStructuredErrorFingerprinter.standard()
+        ),
+        index
+      );
+    final var executor =
+      Executors.newFixedThreadPool(5);
+
+    try {
+      final var futures = new ArrayList<Future<?>>();
+      for (int thread = 0; thread < 4; ++thread) {
+        final var name = "T" + thread;
+        futures.add(executor.submit(() -> {
+          for (int count = 0; count < 20_000; ++count) {
+            store.record(error("error-" + (count % 32), name + count));
+          }
+        }));
+      }
+      futures.add(executor.submit(() -> {
+        for (int count = 0; count < 2_000; ++count) {
+          index.countByCode(SStructuredErrorQuery.all());
+        }
+      }));
+      for (final var future : futures) {
+        future.get(30L, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    final var entries = store.snapshot();
+    assertTrue(entries.size() <= 4);
+    assertEquals(entries.size(), index.size());
+    assertEquals(
+      entries.stream().map(e -> e.error().errorCode()).distinct().count(),
+      store.lastSeenByCode().size()
+    );
+
+    clock.advance(101L);
+    store.evictExpired();
+    assertEquals(0L, store.estimatedBytes());
+    assertEquals(0L, index.size());
+    assertEquals(Map.of(), store.lastSeenByCode());
+  }
+
+  /**
+   * Invalid configurations are rejected.
+   */
+
+  @Test
+  public void testConfigurationInvalid()
+  {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SStructuredErrorStoreConfiguration.ofEntries(0);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SStructuredErrorStoreConfiguration(
+        1,
+        0L,
+        Duration.ofSeconds(1L),
+        Clock.systemUTC(),
+        SStructuredErrorFingerprinter.standard()
+      );
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      new SStructuredErrorStoreConfiguration(
+        1,
+        1L,
+        Duration.ZERO,
+        Clock.systemUTC(),
+        SStructuredErrorFingerprinter.standard()
+      );
+    });
+  }
+
+  private static final class MutableClock extends Clock
+  {
+    private long time;
+
+    MutableClock()
+    {
+
+    }
+
+    void advance(
+      final long millis)
+    {
+      this.time += millis;
+    }
+
+    @Override
+    public ZoneId getZone()
+    {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(
+      final ZoneId zone)
+    {
+      return this;
+    }
+
+    @Override
+    public long millis()
+    {
+      return this.time;
+    }
+
+    @Override
+    public Instant instant()
+    {
+      return Instant.ofEpochMilli(this.time);
+    }
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+
+package com.io7m.seltzer.tests;
+
+import com.io7m.seltzer.api.SStructuredError;
+import com.io7m.seltzer.validation.SValidationContextType;
+import com.io7m.seltzer.validation.SValidationRunner;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class SValidationRunnerTest
+{
+  private static void checkEven(
+    final Integer item,
+    final SValidationContextType<String> context)
+  {
+    if (item.intValue() % 2 != 0) {
+      context.report(SStructuredError.withMessageOnly("error-odd", "Odd " + item));
+    }
+  }
+
+  private static void checkSmall(
+    final Integer item,
+    final SValidationContextType<String> context)
+  {
+    for (int index = 0; index < item.intValue() % 5; ++index) {
+      if (!context.report(SStructuredError.withMessageOnly("error-large", "Large"))) {
+        return;
+      }
+    }
+  }
+
+  private static List<Integer> items(
+    final int count)
+  {
+    return IntStream.range(0, count).boxed().toList();
+  }
+
+  /**
+   * Parallel validation reports failures in item order, with the per-item
+   * limit applied.
+   *
+   * @param count     The number of items
+   * @param batchSize The batch size
+   * @param limit     The per-item error limit
+   *
+   * @throws Exception On errors
+   */
+
+  @Property(tries = 100)
+  public void testForkJoin(
+    @ForAll @IntRange(min = 0, max = 10000) final int count,
+    @ForAll @IntRange(min = 1, max = 500) final int batchSize,
+    @ForAll @IntRange(min = 1, max = 6) final int limit)
+    throws Exception
+  {
+    final var runner =
+      SValidationRunner.<Integer, String>builder()
+        .withValidator(SValidationRunnerTest::checkEven)
+        .withValidator(SValidationRunnerTest::checkSmall)
+        .withBatchSize(batchSize)
+        .withErrorLimitPerItem(limit)
+        .build();
+
+    final var report = runner.validate(items(count));
+    assertEquals(count, report.itemsValidated());
+
+    var expectedIndex = 0L;
+    var expectedErrors = 0L;
+    var failureIndex = 0;
+    for (int item = 0; item < count; ++item) {
+      final var total = (item % 2) + (item % 5);
+      if (total == 0) {
+        continue;
+      }
+      final var failure = report.failures().get(failureIndex);
+      ++failureIndex;
+      expectedIndex = item;
+      expectedErrors += Math.min(limit, total);
+      assertEquals(expectedIndex, failure.index());
+      assertEquals(Math.min(limit, total), failure.errors().size());
+      assertFalse(failure.truncated());
+    }
+    assertEquals(failureIndex, report.failures().size());
+    assertEquals(expectedErrors, report.errorCount());
+  }
+
+  /**
+   * Validation with an executor produces the same results as fork-join.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testExecutor()
+    throws Exception
+  {
+    final var executor = Executors.newFixedThreadPool(4);
+    try {
+      final var builder =
+        SValidationRunner.<Integer, String>builder()
+          .withValidator(SValidationRunnerTest::checkEven)
+          .withValidator(SValidationRunnerTest::checkSmall)
+          .withBatchSize(100);
+
+      final var expected =
+        builder.withForkJoinPool(new ForkJoinPool(2))
+          .build()
+          .validate(items(10_000));
+      final var received =
+        builder.withExecutor(executor)
+          .build()
+          .validate(items(10_000));
+
+      assertEquals(expected, received);
+      assertFalse(received.isSuccessful());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Validators stop being applied to an item once the limit is reached.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testShortCircuit()
+    throws Exception
+  {
+    final var calls = new AtomicInteger();
+    final var runner =
+      SValidationRunner.<Integer, String>builder()
+        .withValidator((item, context) -> {
+          context.report(SStructuredError.withMessageOnly("error-a", "A"));
+        })
+        .withValidator((item, context) -> {
+          calls.incrementAndGet();
+        })
+        .withErrorLimitPerItem(1)
+        .build();
+
+    final var report = runner.validate(items(1000));
+    assertEquals(0, calls.get());
+    assertEquals(1000, report.failures().size());
+    assertFalse(report.failures().get(0).truncated());
+  }
+
+  /**
+   * Failures are marked as truncated only if a report was discarded.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testTruncated()
+    throws Exception
+  {
+    final var runner =
+      SValidationRunner.<Integer, String>builder()
+        .withValidator((item, context) -> {
+          for (int index = 0; index < item.intValue(); ++index) {
+            context.report(SStructuredError.withMessageOnly("error-a", "A"));
+          }
+        })
+        .withErrorLimitPerItem(2)
+        .build();
+
+    final var failures = runner.validate(items(4)).failures();
+    assertEquals(3, failures.size());
+    assertEquals(1, failures.get(0).errors().size());
+    assertFalse(failures.get(0).truncated());
+    assertEquals(2, failures.get(1).errors().size());
+    assertFalse(failures.get(1).truncated());
+    assertEquals(2, failures.get(2).errors().size());
+    assertTrue(failures.get(2).truncated());
+  }
+
+  /**
+   * Exceptions raised by validators are propagated.
+   */
+
+  @Test
+  public void testValidatorFails()
+  {
+    final var runner =
+      SValidationRunner.<Integer, String>builder()
+        .withValidator((item, context) -> {
+          throw new IllegalStateException("Broken");
+        })
+        .build();
+
+    assertThrows(IllegalStateException.class, () -> {
+      runner.validate(items(10));
+    });
+
+    final var executor = Executors.newSingleThreadExecutor();
+    try {
+      final var other =
+        SValidationRunner.<Integer, String>builder()
+          .withValidator((item, context) -> {
+            throw new IllegalStateException("Broken");
+          })
+          .withExecutor(executor)
+          .build();
+
+      assertThrows(IllegalStateException.class, () -> {
+        other.validate(items(10));
+      });
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * An empty list is trivially valid.
+   *
+   * @throws Exception On errors
+   */
+
+  @Test
+  public void testEmpty()
+    throws Exception
+  {
+    final var report =
+      SValidationRunner.<Integer, String>builder()
+        .withValidator(SValidationRunnerTest::checkEven)
+        .build()
+        .validate(List.of());
+
+    assertTrue(report.isSuccessful());
+    assertEquals(0L, report.itemsValidated());
+  }
+}
@@ -23,10 +23,21 @@ open module com.io7m.seltzer.tests
   requires static org.osgi.annotation.bundle;
   requires static org.osgi.annotation.versioning;
 
+  requires com.io7m.seltzer.analyze;
   requires com.io7m.seltzer.api;
+  requires com.io7m.seltzer.bus;
   requires com.io7m.seltzer.io;
+  requires com.io7m.seltzer.json;
+  requires com.io7m.seltzer.processor;
+  requires com.io7m.seltzer.retry;
   requires com.io7m.seltzer.slf4j;
+  requires com.io7m.seltzer.store;
+  requires com.io7m.seltzer.validation;
 
+  requires java.compiler;
+  requires java.net.http;
+  requires java.sql;
+  requires jdk.management;
   requires net.jqwik.api;
   requires org.junit.jupiter.api;
   requires org.junit.jupiter.engine;
@@ -35,5 +46,8 @@ open module com.io7m.seltzer.tests
   requires org.junit.platform.launcher;
   requires org.slf4j;
 
+  provides com.io7m.seltzer.api.SExceptionAttributeExtractorType
+    with com.io7m.seltzer.tests.SExceptionAttributeExtractorsTest.QuotaExtractor;
+
   exports com.io7m.seltzer.tests;
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.validation;
+
+import com.io7m.seltzer.api.SStructuredError;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * A reusable validation context. Instances are confined to a single thread.
+ *
+ * @param <C> The type of error codes
+ */
+
+final class SValidationContext<C> implements SValidationContextType<C>
+{
+  private final int limit;
+  private final ArrayList<SStructuredError<C>> errors;
+  private long index;
+  private boolean discarded;
+
+  SValidationContext(
+    final int inLimit)
+  {
+    this.limit = inLimit;
+    this.errors = new ArrayList<>();
+  }
+
+  void reset(
+    final long newIndex)
+  {
+    this.index = newIndex;
+    this.errors.clear();
+    this.discarded = false;
+  }
+
+  SValidationFailure<C> failure()
+  {
+    if (this.errors.isEmpty()) {
+      return null;
+    }
+    return new SValidationFailure<>(
+      this.index,
+      this.errors,
+      this.discarded
+    );
+  }
+
+  @Override
+  public long index()
+  {
+    return this.index;
+  }
+
+  @Override
+  public boolean report(
+    final SStructuredError<C> error)
+  {
+    Objects.requireNonNull(error, "error");
+
+    if (this.isLimitReached()) {
+      this.discarded = true;
+      return false;
+    }
+    this.errors.add(error);
+    return !this.isLimitReached();
+  }
+
+  @Override
+  public boolean isLimitReached()
+  {
+    return this.errors.size() >= this.limit;
+  }
+}
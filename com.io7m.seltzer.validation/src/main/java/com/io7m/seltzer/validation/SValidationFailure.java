@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.validation;
+
+import com.io7m.seltzer.api.SStructuredError;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The errors reported for a single item that failed validation.
+ *
+ * @param index     The index of the item
+ * @param errors    The errors
+ * @param truncated {@code true} if errors reported after the per-item error
+ *                  limit was reached were discarded
+ * @param <C>       The type of error codes
+ *
+ * @since 1.4.0
+ */
+
+public record SValidationFailure<C>(
+  long index,
+  List<SStructuredError<C>> errors,
+  boolean truncated)
+{
+  /**
+   * The errors reported for a single item that failed validation.
+   *
+   * @param index     The index of the item
+   * @param errors    The errors
+   * @param truncated {@code true} if errors reported after the per-item error
+ *                  limit was reached were discarded
+   */
+
+  public SValidationFailure
+  {
+    Objects.requireNonNull(errors, "errors");
+    errors = List.copyOf(errors);
+  }
+}
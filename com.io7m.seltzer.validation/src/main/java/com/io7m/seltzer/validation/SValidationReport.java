@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.validation;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The result of validating a sequence of items.
+ *
+ * @param itemsValidated The number of items validated
+ * @param failures       The items that failed validation, in item order
+ * @param <C>            The type of error codes
+ *
+ * @since 1.4.0
+ */
+
+public record SValidationReport<C>(
+  long itemsValidated,
+  List<SValidationFailure<C>> failures)
+{
+  /**
+   * The result of validating a sequence of items.
+   *
+   * @param itemsValidated The number of items validated
+   * @param failures       The items that failed validation, in item order
+   */
+
+  public SValidationReport
+  {
+    Objects.requireNonNull(failures, "failures");
+    failures = List.copyOf(failures);
+  }
+
+  /**
+   * @return {@code true} if no item failed validation
+   */
+
+  public boolean isSuccessful()
+  {
+    return this.failures.isEmpty();
+  }
+
+  /**
+   * @return The total number of errors reported
+   */
+
+  public long errorCount()
+  {
+    long count = 0L;
+    for (final var failure : this.failures) {
+      count += failure.errors().size();
+    }
+    return count;
+  }
+}
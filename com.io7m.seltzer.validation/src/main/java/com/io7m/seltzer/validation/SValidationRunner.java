@@ -0,0 +1,362 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>A runner that applies a set of validators to a list of items in
+ * parallel.</p>
+ *
+ * <p>Items are split into batches. By default, batches are validated as
+ * tasks in a {@link ForkJoinPool}; alternatively, an
+ * {@link ExecutorService} (such as a virtual thread executor) can be
+ * supplied. Each batch collects its failures into its own list, and the
+ * lists are concatenated in item order when the batches complete, so no
+ * shared state is written during validation.</p>
+ *
+ * <p>For each item, validators are applied in the order they were given,
+ * and validation of the item stops once the per-item error limit is
+ * reached.</p>
+ *
+ * @param <T> The type of items
+ * @param <C> The type of error codes
+ *
+ * @since 1.4.0
+ */
+
+public final class SValidationRunner<T, C>
+{
+  private final List<SValidatorType<T, C>> validators;
+  private final int errorLimit;
+  private final int batchSize;
+  private final ForkJoinPool pool;
+  private final Optional<ExecutorService> executor;
+
+  private SValidationRunner(
+    final List<SValidatorType<T, C>> inValidators,
+    final int inErrorLimit,
+    final int inBatchSize,
+    final ForkJoinPool inPool,
+    final Optional<ExecutorService> inExecutor)
+  {
+    this.validators =
+      List.copyOf(inValidators);
+    this.errorLimit =
+      inErrorLimit;
+    this.batchSize =
+      inBatchSize;
+    this.pool =
+      inPool;
+    this.executor =
+      inExecutor;
+  }
+
+  /**
+   * @param <T> The type of items
+   * @param <C> The type of error codes
+   *
+   * @return A new runner builder
+   */
+
+  public static <T, C> Builder<T, C> builder()
+  {
+    return new Builder<>();
+  }
+
+  /**
+   * Validate all the given items.
+   *
+   * @param items The items
+   *
+   * @return A validation report
+   *
+   * @throws InterruptedException If the calling thread is interrupted while
+   *                              waiting for an executor
+   */
+
+  public SValidationReport<C> validate(
+    final List<? extends T> items)
+    throws InterruptedException
+  {
+    Objects.requireNonNull(items, "items");
+
+    final List<SValidationFailure<C>> failures;
+    if (this.executor.isPresent()) {
+      failures = this.validateWithExecutor(this.executor.get(), items);
+    } else {
+      failures = this.pool.invoke(new BatchTask(items, 0, items.size()));
+    }
+    return new SValidationReport<>((long) items.size(), failures);
+  }
+
+  private List<SValidationFailure<C>> validateWithExecutor(
+    final ExecutorService service,
+    final List<? extends T> items)
+    throws InterruptedException
+  {
+    final var futures = new ArrayList<Future<List<SValidationFailure<C>>>>();
+    for (int start = 0; start < items.size(); start += this.batchSize) {
+      final var begin = start;
+      final var end = Math.min(items.size(), start + this.batchSize);
+      futures.add(service.submit(() -> this.validateBatch(items, begin, end)));
+    }
+
+    final var failures = new ArrayList<SValidationFailure<C>>();
+    try {
+      for (final var future : futures) {
+        failures.addAll(future.get());
+      }
+    } catch (final ExecutionException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw rethrow(e.getCause());
+    } catch (final InterruptedException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw e;
+    }
+    return failures;
+  }
+
+  private static RuntimeException rethrow(
+    final Throwable cause)
+  {
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return new IllegalStateException(cause);
+  }
+
+  private ArrayList<SValidationFailure<C>> validateBatch(
+    final List<? extends T> items,
+    final int start,
+    final int end)
+  {
+    final var failures = new ArrayList<SValidationFailure<C>>();
+    final var context = new SValidationContext<C>(this.errorLimit);
+
+    for (int index = start; index < end; ++index) {
+      final T item = items.get(index);
+      context.reset((long) index);
+
+      for (final var validator : this.validators) {
+        validator.validate(item, context);
+        if (context.isLimitReached()) {
+          break;
+        }
+      }
+
+      final var failure = context.failure();
+      if (failure != null) {
+        failures.add(failure);
+      }
+    }
+    return failures;
+  }
+
+  private final class BatchTask
+    extends RecursiveTask<List<SValidationFailure<C>>>
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<? extends T> items;
+    private final int start;
+    private final int end;
+
+    BatchTask(
+      final List<? extends T> inItems,
+      final int inStart,
+      final int inEnd)
+    {
+      this.items = inItems;
+      this.start = inStart;
+      this.end = inEnd;
+    }
+
+    @Override
+    protected List<SValidationFailure<C>> compute()
+    {
+      final var count = this.end - this.start;
+      if (count <= SValidationRunner.this.batchSize) {
+        return SValidationRunner.this.validateBatch(
+          this.items,
+          this.start,
+          this.end
+        );
+      }
+
+      final var middle = this.start + (count >>> 1);
+      final var left = new BatchTask(this.items, this.start, middle);
+      left.fork();
+      final var right =
+        new BatchTask(this.items, middle, this.end).compute();
+      final var result = left.join();
+      if (result.isEmpty()) {
+        return right;
+      }
+      if (!right.isEmpty()) {
+        final var merged = new ArrayList<SValidationFailure<C>>(
+          result.size() + right.size()
+        );
+        merged.addAll(result);
+        merged.addAll(right);
+        return merged;
+      }
+      return result;
+    }
+  }
+
+  /**
+   * A mutable runner builder.
+   *
+   * @param <T> The type of items
+   * @param <C> The type of error codes
+   */
+
+  public static final class Builder<T, C>
+  {
+    private final ArrayList<SValidatorType<T, C>> validators;
+    private int errorLimit;
+    private int batchSize;
+    private ForkJoinPool pool;
+    private Optional<ExecutorService> executor;
+
+    private Builder()
+    {
+      this.validators = new ArrayList<>();
+      this.errorLimit = Integer.MAX_VALUE;
+      this.batchSize = 1024;
+      this.pool = ForkJoinPool.commonPool();
+      this.executor = Optional.empty();
+    }
+
+    /**
+     * Add a validator.
+     *
+     * @param validator The validator
+     *
+     * @return this
+     */
+
+    public Builder<T, C> withValidator(
+      final SValidatorType<T, C> validator)
+    {
+      this.validators.add(Objects.requireNonNull(validator, "validator"));
+      return this;
+    }
+
+    /**
+     * Set the maximum number of errors collected for a single item.
+     *
+     * @param limit The limit
+     *
+     * @return this
+     */
+
+    public Builder<T, C> withErrorLimitPerItem(
+      final int limit)
+    {
+      if (limit <= 0) {
+        throw new IllegalArgumentException(
+          "Error limit %d must be positive".formatted(limit)
+        );
+      }
+      this.errorLimit = limit;
+      return this;
+    }
+
+    /**
+     * Set the number of items validated sequentially in a single task.
+     *
+     * @param size The batch size
+     *
+     * @return this
+     */
+
+    public Builder<T, C> withBatchSize(
+      final int size)
+    {
+      if (size <= 0) {
+        throw new IllegalArgumentException(
+          "Batch size %d must be positive".formatted(size)
+        );
+      }
+      this.batchSize = size;
+      return this;
+    }
+
+    /**
+     * Validate using the given fork-join pool. This is the default, using
+     * the common pool.
+     *
+     * @param newPool The pool
+     *
+     * @return this
+     */
+
+    public Builder<T, C> withForkJoinPool(
+      final ForkJoinPool newPool)
+    {
+      this.pool = Objects.requireNonNull(newPool, "pool");
+      this.executor = Optional.empty();
+      return this;
+    }
+
+    /**
+     * Validate using the given executor, submitting one task per batch.
+     * The executor is not shut down by the runner.
+     *
+     * @param newExecutor The executor
+     *
+     * @return this
+     */
+
+    public Builder<T, C> withExecutor(
+      final ExecutorService newExecutor)
+    {
+      this.executor = Optional.of(
+        Objects.requireNonNull(newExecutor, "executor"));
+      return this;
+    }
+
+    /**
+     * @return A runner based on all the given values
+     */
+
+    public SValidationRunner<T, C> build()
+    {
+      return new SValidationRunner<>(
+        this.validators,
+        this.errorLimit,
+        this.batchSize,
+        this.pool,
+        this.executor
+      );
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.seltzer.validation;
+
+import org.osgi.annotation.versioning.ConsumerType;
+
+/**
+ * A validator that checks a single item and reports zero or more errors.
+ *
+ * @param <T> The type of items
+ * @param <C> The type of error codes
+ *
+ * @since 1.4.0
+ */
+
+@ConsumerType
+@FunctionalInterface
+public interface SValidatorType<T, C>
+{
+  /**
+   * Validate an item. Validators should stop checking the item once
+   * {@link SValidationContextType#report(com.io7m.seltzer.api.SStructuredError)}
+   * returns {@code false}.
+   *
+   * @param item    The item
+   * @param context The validation context
+   */
+
+  void validate(
+    T item,
+    SValidationContextType<C> context);
+}